@@ -0,0 +1,81 @@
+-- V20261016_01__add_course_stats.sql
+-- 과정(Course) 테이블에 집계 통계 컬럼 추가 (찜 수, 승인 리뷰 수, 평점 합계, 섹션별 점수)
+-- 목적: 목록/메인 응답에서 리뷰 컬렉션을 로딩하지 않고 평점·리뷰 수를 O(1)로 조회
+-- 이후 값은 애플리케이션(CourseStatsService)에서 트랜잭션 단위로 증감 갱신됨
+-- 아래 2~4번 UPDATE 는 재실행 가능하므로 통계 보정(재집계) 용도로도 사용할 수 있음
+
+-- 1. 컬럼 추가
+ALTER TABLE course
+ADD COLUMN favorite_count BIGINT NOT NULL DEFAULT 0 COMMENT '찜 수',
+ADD COLUMN approved_review_count BIGINT NOT NULL DEFAULT 0 COMMENT '승인된 리뷰 수 (삭제 제외)',
+ADD COLUMN rating_sum DOUBLE NOT NULL DEFAULT 0 COMMENT '승인 리뷰별 평균 점수 합계',
+ADD COLUMN curriculum_score_sum BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN curriculum_score_count BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN courseware_score_sum BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN courseware_score_count BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN instructor_score_sum BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN instructor_score_count BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN equipment_score_sum BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN equipment_score_count BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN other_score_sum BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN other_score_count BIGINT NOT NULL DEFAULT 0;
+
+-- 2. 찜 수 집계
+UPDATE course c
+LEFT JOIN (
+    SELECT course_id, COUNT(*) AS cnt
+    FROM course_favorite
+    GROUP BY course_id
+) f ON f.course_id = c.id
+SET c.favorite_count = COALESCE(f.cnt, 0);
+
+-- 3. 승인 리뷰 수 / 평점 합계 집계 (리뷰별 섹션 평균의 합, 섹션이 없는 리뷰는 0점)
+UPDATE course c
+LEFT JOIN (
+    SELECT r.course_id,
+           COUNT(*) AS cnt,
+           SUM(COALESCE(s.avg_score, 0)) AS rating_sum
+    FROM course_review r
+    LEFT JOIN (
+        SELECT review_id, AVG(score) AS avg_score
+        FROM review_section
+        WHERE is_deleted = 0
+        GROUP BY review_id
+    ) s ON s.review_id = r.id
+    WHERE r.is_deleted = 0
+      AND r.approval_status = 'APPROVED'
+    GROUP BY r.course_id
+) rs ON rs.course_id = c.id
+SET c.approved_review_count = COALESCE(rs.cnt, 0),
+    c.rating_sum = COALESCE(rs.rating_sum, 0);
+
+-- 4. 섹션별 점수 합계/개수 집계 (삭제되지 않은 섹션만)
+UPDATE course c
+LEFT JOIN (
+    SELECT r.course_id,
+           SUM(CASE WHEN s.section_type = 'CURRICULUM' THEN s.score ELSE 0 END) AS curriculum_sum,
+           SUM(CASE WHEN s.section_type = 'CURRICULUM' THEN 1 ELSE 0 END) AS curriculum_cnt,
+           SUM(CASE WHEN s.section_type = 'COURSEWARE' THEN s.score ELSE 0 END) AS courseware_sum,
+           SUM(CASE WHEN s.section_type = 'COURSEWARE' THEN 1 ELSE 0 END) AS courseware_cnt,
+           SUM(CASE WHEN s.section_type = 'INSTRUCTOR' THEN s.score ELSE 0 END) AS instructor_sum,
+           SUM(CASE WHEN s.section_type = 'INSTRUCTOR' THEN 1 ELSE 0 END) AS instructor_cnt,
+           SUM(CASE WHEN s.section_type = 'EQUIPMENT' THEN s.score ELSE 0 END) AS equipment_sum,
+           SUM(CASE WHEN s.section_type = 'EQUIPMENT' THEN 1 ELSE 0 END) AS equipment_cnt,
+           SUM(CASE WHEN s.section_type = 'OTHER' THEN s.score ELSE 0 END) AS other_sum,
+           SUM(CASE WHEN s.section_type = 'OTHER' THEN 1 ELSE 0 END) AS other_cnt
+    FROM course_review r
+    JOIN review_section s ON s.review_id = r.id AND s.is_deleted = 0
+    WHERE r.is_deleted = 0
+      AND r.approval_status = 'APPROVED'
+    GROUP BY r.course_id
+) ss ON ss.course_id = c.id
+SET c.curriculum_score_sum = COALESCE(ss.curriculum_sum, 0),
+    c.curriculum_score_count = COALESCE(ss.curriculum_cnt, 0),
+    c.courseware_score_sum = COALESCE(ss.courseware_sum, 0),
+    c.courseware_score_count = COALESCE(ss.courseware_cnt, 0),
+    c.instructor_score_sum = COALESCE(ss.instructor_sum, 0),
+    c.instructor_score_count = COALESCE(ss.instructor_cnt, 0),
+    c.equipment_score_sum = COALESCE(ss.equipment_sum, 0),
+    c.equipment_score_count = COALESCE(ss.equipment_cnt, 0),
+    c.other_score_sum = COALESCE(ss.other_sum, 0),
+    c.other_score_count = COALESCE(ss.other_cnt, 0);
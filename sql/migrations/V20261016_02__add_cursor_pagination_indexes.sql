@@ -0,0 +1,17 @@
+-- V20261016_02__add_cursor_pagination_indexes.sql
+-- 커서(keyset) 페이지네이션용 복합 인덱스 추가
+-- 목적: (정렬 키, id) 기준 "이전 페이지 마지막 행 이후" 조건을 인덱스 범위 스캔으로 처리 (OFFSET 스캔 제거)
+-- 과정 목록(course)은 PK(id) 순 조회이므로 별도 인덱스 불필요
+
+-- 게시판: 최신순 / 카테고리별 최신순 / 조회순 / 카테고리별 조회순
+-- (목록은 항상 카테고리 조건과 함께 조회되므로 카테고리 접두 인덱스, 전체 보기는 접두 없는 인덱스 사용)
+CREATE INDEX idx_board_created_at_id ON board (created_at, id);
+CREATE INDEX idx_board_category_created_at_id ON board (category, created_at, id);
+CREATE INDEX idx_board_hits_id ON board (hits, id);
+CREATE INDEX idx_board_category_hits_id ON board (category, hits, id);
+
+-- 과정 리뷰: 과정별 작성일 순
+CREATE INDEX idx_course_review_course_created_at_id ON course_review (course_id, created_at, id);
+
+-- 과정 Q&A: 과정별 최신순
+CREATE INDEX idx_course_qna_course_created_at_id ON course_qna (course_id, created_at, id);
@@ -0,0 +1,19 @@
+-- V20261016_03__add_board_counters.sql
+-- 게시글 댓글 수 / 추천 수 컬럼 추가
+-- 목적: 게시판 목록 조회 시 댓글/추천 테이블 JOIN + GROUP BY 집계 제거 (추천순/댓글순 정렬을 인덱스로 처리)
+-- 값은 BoardServiceImpl 의 댓글 작성/삭제, 추천/추천 취소 시 증감 UPDATE 로 유지
+
+ALTER TABLE board
+    ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN recommend_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 반영 (삭제되지 않은 댓글만 집계)
+UPDATE board b
+SET b.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.board_id = b.id AND c.is_deleted = false),
+    b.recommend_count = (SELECT COUNT(*) FROM board_recommend r WHERE r.board_id = b.id);
+
+-- 추천순 / 댓글순 정렬 및 커서 페이지네이션 (카테고리별 목록 + 전체 보기)
+CREATE INDEX idx_board_category_recommend_count_id ON board (category, recommend_count, id);
+CREATE INDEX idx_board_category_comment_count_id ON board (category, comment_count, id);
+CREATE INDEX idx_board_recommend_count_id ON board (recommend_count, id);
+CREATE INDEX idx_board_comment_count_id ON board (comment_count, id);
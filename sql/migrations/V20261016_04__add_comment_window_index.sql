@@ -0,0 +1,6 @@
+-- V20261016_04__add_comment_window_index.sql
+-- 게시글 댓글 커서 조회용 인덱스 추가
+-- 목적: 게시글별 원댓글(comment_id IS NULL)을 ID 순으로 구간 조회 (댓글 전체 로딩 제거)
+-- 대댓글 조회/집계는 FK 인덱스(comment_id) 사용
+
+CREATE INDEX idx_comment_board_parent_id ON comment (board_id, comment_id, id);
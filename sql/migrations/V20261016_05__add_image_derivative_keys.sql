@@ -0,0 +1,20 @@
+-- V20261016_05__add_image_derivative_keys.sql
+-- 이미지 축소본(파생본) S3 키 컬럼 추가
+-- 목적: 목록/카드 화면에서 원본(최대 10MB) 대신 너비 200px / 800px 축소본을 내려받도록 키를 엔티티에 기록
+-- 값은 업로드 커밋 이후 ImageDerivativeProcessor 가 비동기로 채우며, 생성 전에는 NULL (원본 키 사용)
+
+ALTER TABLE course_image
+    ADD COLUMN image_small_key VARCHAR(1000) NULL,
+    ADD COLUMN image_medium_key VARCHAR(1000) NULL;
+
+ALTER TABLE academy
+    ADD COLUMN image_small_key VARCHAR(1000) NULL,
+    ADD COLUMN image_medium_key VARCHAR(1000) NULL;
+
+ALTER TABLE banner
+    ADD COLUMN image_small_key VARCHAR(1000) NULL,
+    ADD COLUMN image_medium_key VARCHAR(1000) NULL;
+
+ALTER TABLE account
+    ADD COLUMN image_small_key VARCHAR(1000) NULL,
+    ADD COLUMN image_medium_key VARCHAR(1000) NULL;
@@ -0,0 +1,21 @@
+-- V20261016_06__add_file_cleanup_run.sql
+-- 파일 정리 스케줄러 실행 기록/체크포인트 테이블 추가
+-- 목적: 청크마다 단계(phase)와 마지막 처리 ID(last_id)를 저장하여 중단된 정리 작업을 이어서 처리하고, 실행별 처리 건수를 남김
+-- 재개 시 같은 기준으로 처리하도록 삭제 기준 시각(deleted_before, orphan_created_before)도 함께 저장
+
+CREATE TABLE file_cleanup_run (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    status VARCHAR(20) NOT NULL,
+    started_at DATETIME(6) NOT NULL,
+    finished_at DATETIME(6) NULL,
+    deleted_before DATETIME(6) NOT NULL,
+    orphan_created_before DATETIME(6) NOT NULL,
+    phase VARCHAR(50) NULL,
+    last_id BIGINT NOT NULL DEFAULT 0,
+    deleted_rows BIGINT NOT NULL DEFAULT 0,
+    deleted_objects BIGINT NOT NULL DEFAULT 0,
+    failed_objects BIGINT NOT NULL DEFAULT 0,
+    chunks BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    INDEX idx_file_cleanup_run_status (status, id)
+);
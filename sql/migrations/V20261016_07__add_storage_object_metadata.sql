@@ -0,0 +1,16 @@
+-- V20261016_07__add_storage_object_metadata.sql
+-- 스토리지 객체 메타데이터 테이블 추가
+-- 목적: 업로드 시점에 크기/Content-Type/체크섬(ETag)/업로더를 기록하여 파일 크기 조회 시 R2 HEAD 요청을 생략
+-- 기존 객체는 최초 조회 시 HEAD 결과로 채워지며, 객체 삭제 시 함께 삭제됨 (StorageMetadataRegistry)
+
+CREATE TABLE storage_object_metadata (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    object_key VARCHAR(512) NOT NULL,
+    size BIGINT NOT NULL,
+    content_type VARCHAR(255) NULL,
+    checksum VARCHAR(100) NULL,
+    uploader_id BIGINT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_storage_object_metadata_key UNIQUE (object_key)
+);
@@ -0,0 +1,12 @@
+-- V20261016_08__add_storage_object_dedup.sql
+-- 스토리지 객체 메타데이터에 내용 해시/폴더/참조 수 컬럼 추가
+-- 목적: 같은 폴더에 같은 내용으로 반복 업로드된 파일(수료증 이미지, 재게시 첨부 등)이 객체 하나를 공유하도록 하고,
+--       마지막 참조가 해제될 때만 실제 객체를 삭제 (file.dedup.enabled)
+-- ref_count 가 NULL 인 행은 중복 제거 대상이 아닌 기존 방식의 객체
+-- 선행: V20261016_07__add_storage_object_metadata.sql (storage_object_metadata 테이블 생성)
+
+ALTER TABLE storage_object_metadata
+    ADD COLUMN content_hash VARCHAR(64) NULL,
+    ADD COLUMN folder VARCHAR(255) NULL,
+    ADD COLUMN ref_count INT NULL,
+    ADD INDEX idx_storage_object_metadata_hash (content_hash, folder);
@@ -0,0 +1,27 @@
+-- V20261016_09__add_storage_key_reference_indexes.sql
+-- 파일 테이블 S3 키 컬럼 인덱스 추가
+-- 목적: 버킷-DB 대조(StorageReconcileScheduler)가 목록 페이지의 키 묶음(최대 1000개)을 각 테이블에 IN 조회할 때 전체 스캔을 피함
+-- 키는 "폴더/UUID.확장자" 형식이므로 긴 컬럼(VARCHAR 500/1000)은 앞 255자 prefix 인덱스로 충분
+
+CREATE INDEX idx_board_attach_real_filename ON board_attach (real_filename);
+CREATE INDEX idx_file_filename ON file (filename);
+CREATE INDEX idx_course_review_file_file_url ON course_review_file (file_url);
+CREATE INDEX idx_course_review_attachment_file_url ON course_review_attachment (file_url);
+CREATE INDEX idx_academy_files_s3_key ON academy_files (s3_key(255));
+
+-- 이미지 원본/축소본 키
+CREATE INDEX idx_course_image_image_url ON course_image (image_url(255));
+CREATE INDEX idx_course_image_small_key ON course_image (image_small_key(255));
+CREATE INDEX idx_course_image_medium_key ON course_image (image_medium_key(255));
+
+CREATE INDEX idx_academy_logo_url ON academy (logo_url(255));
+CREATE INDEX idx_academy_image_small_key ON academy (image_small_key(255));
+CREATE INDEX idx_academy_image_medium_key ON academy (image_medium_key(255));
+
+CREATE INDEX idx_banner_image_url ON banner (image_url);
+CREATE INDEX idx_banner_image_small_key ON banner (image_small_key(255));
+CREATE INDEX idx_banner_image_medium_key ON banner (image_medium_key(255));
+
+CREATE INDEX idx_account_profile_image ON account (profile_image(255));
+CREATE INDEX idx_account_image_small_key ON account (image_small_key(255));
+CREATE INDEX idx_account_image_medium_key ON account (image_medium_key(255));
@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.softwarecampus.backend.infrastructure.redis.RetryingMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -13,6 +15,7 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -22,6 +25,7 @@ import java.time.Duration;
 /**
  * Redis 설정
  * Phase 12.5: UserDetails 캐싱, Refresh Token 저장, Rate Limiting
+ * 2026-10-17: 인스턴스 간 캐시 무효화용 Pub/Sub 리스너 컨테이너 추가
  *
  * Redis가 없는 환경(테스트/로컬)에서는 자동으로 비활성화됨
  * 
@@ -91,4 +95,18 @@ public class RedisConfig {
                                 .cacheDefaults(config)
                                 .build();
         }
+
+        /**
+         * Redis Pub/Sub 리스너 컨테이너
+         * 각 구독자(UserDetailsCache 등)가 기동 시 채널을 등록함
+         * 기동 시 Redis 에 연결할 수 없으면 기동을 막지 않고 백그라운드에서 구독을 재시도
+         */
+        @Bean
+        @ConditionalOnProperty(name = "spring.data.redis.host")
+        public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                        @Value("${redis.listener.retry-interval-ms:5000}") long retryIntervalMillis) {
+                RedisMessageListenerContainer container = new RetryingMessageListenerContainer(retryIntervalMillis);
+                container.setConnectionFactory(connectionFactory);
+                return container;
+        }
 }
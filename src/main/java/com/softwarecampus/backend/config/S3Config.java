@@ -11,13 +11,17 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.util.StringUtils;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
+import java.time.Duration;
 
 @Configuration
 public class S3Config {
@@ -37,6 +41,12 @@ public class S3Config {
     @Value("${storage.object.path-style-access-enabled:true}")
     private boolean pathStyleAccessEnabled;
 
+    @Value("${storage.object.async.max-concurrency:64}")
+    private int asyncMaxConcurrency;
+
+    @Value("${storage.object.async.connection-acquisition-timeout:PT10S}")
+    private Duration asyncConnectionAcquisitionTimeout;
+
     /**
      * S3 호환 클라이언트 빈 생성
      * Cloudflare R2 엔드포인트 및 정적 자격증명을 사용합니다.
@@ -59,6 +69,31 @@ public class S3Config {
         return builder.build();
     }
 
+    /**
+     * 비동기 S3 호환 클라이언트 빈 생성
+     * Netty 기반 커넥션 풀을 사용하며, 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다. (S3AsyncService)
+     *
+     * @return S3AsyncClient 인스턴스
+     */
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+        S3Configuration serviceConfig = S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyleAccessEnabled)
+                .build();
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .serviceConfiguration(serviceConfig)
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(asyncMaxConcurrency)
+                        .connectionAcquisitionTimeout(asyncConnectionAcquisitionTimeout));
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
     /**
      * S3 Presigner 빈 생성
      * Presigned URL 생성을 위한 전용 클라이언트 (기관 파일 임시 다운로드 링크 발급용)
@@ -47,6 +47,23 @@ public class AcademyQAController {
         return ResponseEntity.ok(fileDetails);
     }
 
+    /**
+     * Q/A 첨부파일 직접 업로드 확정
+     * POST /api/files/upload-url (folder=academy, fileType=BOARD_ATTACH) 로 업로드한 파일을 임시 저장
+     */
+    @PostMapping("/files/confirm")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<QAFileDetail> confirmQnaFile(
+            @PathVariable Long academyId,
+            @RequestParam("key") String key,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        log.info("Q/A 첨부파일 직접 업로드 확정 요청 수신. academyId={}, userId={}", academyId, userDetails.getId());
+        QAFileDetail fileDetail = attachmentService.confirmUploadedFile(key, userDetails.getId());
+
+        return ResponseEntity.ok(fileDetail);
+    }
+
     private static final int MAX_PAGE_SIZE = 100;
 
     /**
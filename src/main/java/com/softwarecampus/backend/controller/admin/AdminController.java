@@ -50,6 +50,7 @@ public class AdminController {
     private final CourseService courseService;
     private final CourseReviewService reviewService;
     private final com.softwarecampus.backend.scheduler.FileCleanupScheduler fileCleanupScheduler;
+    private final com.softwarecampus.backend.scheduler.StorageReconcileScheduler storageReconcileScheduler;
 
     /**
      * 회원 승인
@@ -114,8 +115,29 @@ public class AdminController {
     @PostMapping("/files/cleanup")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<String> triggerFileCleanup() {
-        fileCleanupScheduler.cleanupDeletedFiles();
-        return ResponseEntity.ok("파일 정리 스케줄러가 수동으로 실행되었습니다.");
+        var run = fileCleanupScheduler.runCleanup();
+        if (run == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("파일 정리 스케줄러가 이미 실행 중입니다.");
+        }
+        return ResponseEntity.ok(String.format(
+                "파일 정리 스케줄러가 수동으로 실행되었습니다. (상태: %s, 삭제 행: %d, 삭제 객체: %d, 실패 객체: %d)",
+                run.getStatus(), run.getDeletedRows(), run.getDeletedObjects(), run.getFailedObjects()));
+    }
+
+    /**
+     * 버킷-DB 대조(고아 객체 정리) 수동 실행
+     * dryRun=true(기본)이면 삭제하지 않고 고아 객체 건수/크기와 일부 키만 보고
+     * 작성일: 2026-10-16
+     */
+    @PostMapping("/files/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<com.softwarecampus.backend.dto.common.StorageReconcileResponse> triggerStorageReconcile(
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+        var result = storageReconcileScheduler.runReconcile(dryRun);
+        if (result == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok(result);
     }
 
     /**
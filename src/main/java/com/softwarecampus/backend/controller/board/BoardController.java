@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.softwarecampus.backend.domain.board.BoardCategory;
 import com.softwarecampus.backend.dto.board.*;
+import com.softwarecampus.backend.dto.common.CursorPageResponse;
 import com.softwarecampus.backend.exception.board.BoardException;
 import com.softwarecampus.backend.security.CustomUserDetails;
 import com.softwarecampus.backend.service.board.BoardService;
@@ -48,6 +49,15 @@ public class BoardController {
         return ResponseEntity.ok(boards);
     }
 
+    // 게시글 목록 조회 - 커서 페이지네이션 (무한 스크롤용, 전체 개수 미제공, 검색은 목록 API 사용)
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponse<BoardListResponseDTO>> getBoardsByCursor(BoardCategory category,
+            @RequestParam(required = false, defaultValue = "latest") String sortType,
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+
+        return ResponseEntity.ok(boardService.getBoardsByCursor(category, sortType, cursor, size));
+    }
+
     // 게시글 하나 조회 with 댓글
     @GetMapping("/{boardId:\\d+}")
     public ResponseEntity<?> getBoard(@PathVariable Long boardId,
@@ -62,6 +72,26 @@ public class BoardController {
         return ResponseEntity.ok(board);
     }
 
+    // 원댓글 조회 - 커서 페이지네이션 (작성순, 대댓글은 replyCount 만 포함)
+    @GetMapping("/{boardId:\\d+}/comments")
+    public ResponseEntity<CursorPageResponse<CommentResponseDTO>> getComments(@PathVariable Long boardId,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+
+        Long userId = userDetails != null ? userDetails.getId() : null;
+        return ResponseEntity.ok(boardService.getComments(boardId, userId, cursor, size));
+    }
+
+    // 대댓글 조회 - 커서 페이지네이션 (상위 댓글의 직계 대댓글, 작성순)
+    @GetMapping("/{boardId:\\d+}/comments/{commentId:\\d+}/replies")
+    public ResponseEntity<CursorPageResponse<CommentResponseDTO>> getReplies(@PathVariable Long boardId,
+            @PathVariable Long commentId, @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+
+        Long userId = userDetails != null ? userDetails.getId() : null;
+        return ResponseEntity.ok(boardService.getReplies(boardId, commentId, userId, cursor, size));
+    }
+
     // 게시글 생성 with 첨부파일
 
     @PreAuthorize("isAuthenticated()")
@@ -110,6 +140,18 @@ public class BoardController {
         return ResponseEntity.noContent().build();
     }
 
+    // 게시글 첨부파일 추가 (POST /api/files/upload-url 로 직접 업로드한 파일 확정)
+    @PreAuthorize("hasRole('ROLE_ADMIN') or @boardAuthorizeService.canManipulateBoard(#boardId,principal.id)")
+    @PostMapping("/{boardId:\\d+}/boardAttachs")
+    public ResponseEntity<?> confirmBoardAttach(@PathVariable Long boardId, @RequestParam("key") String key,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        Long boardAttachId = boardService.confirmBoardAttach(boardId, key, userDetails.getId());
+        return ResponseEntity
+                .created(URI.create("/api/boards/" + boardId + "/boardAttachs/" + boardAttachId + "/download"))
+                .build();
+    }
+
     // 게시글 첨부파일 다운로드
     @GetMapping("/{boardId:\\d+}/boardAttachs/{boardAttachId:\\d+}/download")
     public ResponseEntity<?> downloadBoardAttach(@PathVariable Long boardId, @PathVariable Long boardAttachId,
@@ -5,26 +5,45 @@
  *
  * 파일 접근 방식:
  * - 공개 파일: GET /api/files/public?key= (인증 불필요, 백엔드 프록시)
+ * - 직접 업로드: POST /api/files/upload-url 로 Presigned PUT URL 발급 → 스토리지에 PUT → 확정 API 호출
  * - 민감 파일: AcademyFileService.getFileUrl() Presigned URL (인증 필요)
  */
 package com.softwarecampus.backend.controller.common;
 
 import com.softwarecampus.backend.dto.common.FileDeleteResponse;
 import com.softwarecampus.backend.dto.common.FileUploadResponse;
+import com.softwarecampus.backend.dto.common.PresignedUploadRequest;
+import com.softwarecampus.backend.dto.common.PresignedUploadResponse;
+import com.softwarecampus.backend.exception.S3UploadException;
+import com.softwarecampus.backend.dto.common.FileCacheStatsResponse;
+import com.softwarecampus.backend.dto.common.MultipartUploadStatsResponse;
+import com.softwarecampus.backend.security.CustomUserDetails;
 import com.softwarecampus.backend.service.common.FileType;
+import com.softwarecampus.backend.service.common.ImageVariant;
+import com.softwarecampus.backend.service.common.PublicFileCache;
+import com.softwarecampus.backend.service.common.S3MultipartUploader;
 import com.softwarecampus.backend.service.common.S3Service;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -34,6 +53,8 @@ import java.util.concurrent.TimeUnit;
 public class FileController {
 
     private final S3Service s3Service;
+    private final PublicFileCache publicFileCache;
+    private final S3MultipartUploader multipartUploader;
 
     /**
      * 파일 업로드
@@ -84,23 +105,185 @@ public class FileController {
         return ResponseEntity.ok(FileUploadResponse.success(key));
     }
 
+    /**
+     * 직접 업로드 URL 발급
+     * 파일 바이트가 애플리케이션 서버를 거치지 않도록 스토리지 Presigned PUT URL 을 발급합니다.
+     * 폴더와 파일 정책(확장자/Content-Type/크기)은 발급 시점에 검증하며, key 는 서버에서 생성합니다.
+     *
+     * 업로드 후 확정 API:
+     *         - 일반(프로필/에디터 이미지 등): POST /api/files/upload-url/confirm?key=&fileType=
+     *         - 게시판 첨부파일: POST /api/boards/{boardId}/boardAttachs?key=
+     *         - Q/A 첨부파일: POST /api/academies/{academyId}/qna/files/confirm?key=
+     *         - 과정 이미지: POST /api/{type}/courses/{courseId}/images/confirm?key=
+     *
+     * @param request 폴더, 파일 타입, 파일명, Content-Type, 크기
+     * @return 업로드 key, PUT URL, 필수 요청 헤더, 만료 시각
+     */
+    @PostMapping("/files/upload-url")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<PresignedUploadResponse> createUploadUrl(
+            @Valid @RequestBody PresignedUploadRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        log.info("Direct upload request by {} - folder: {}, fileType: {}, size: {}",
+                userDetails.getId(), request.folderOrRoot(), request.fileType(), request.contentLength());
+
+        S3Service.PresignedUpload upload = s3Service.presignUpload(request.folderOrRoot(), request.fileType(),
+                request.filename(), request.contentType(), request.contentLength(), userDetails.getId());
+
+        return ResponseEntity.ok(PresignedUploadResponse.from(upload));
+    }
+
+    /**
+     * 직접 업로드 확정 (DB 레코드가 없는 일반 업로드)
+     * 업로드된 객체를 HEAD 로 검증한 뒤 key 를 반환합니다. 반환된 key 는 기존 업로드 API 의 결과와 동일하게 사용합니다.
+     *
+     * @param key      발급 시 받은 S3 키
+     * @param fileType 발급 시 지정한 파일 타입
+     * @return 검증된 파일의 key
+     */
+    @PostMapping("/files/upload-url/confirm")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<FileUploadResponse> confirmUpload(
+            @RequestParam("key") String key,
+            @RequestParam("fileType") FileType.FileTypeEnum fileType,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        String folder = key.contains("/") ? key.substring(0, key.lastIndexOf('/')) : "";
+        S3Service.UploadedObject uploaded = s3Service.confirmUpload(key, folder, fileType, userDetails.getId());
+
+        return ResponseEntity.ok(FileUploadResponse.success(uploaded.key()));
+    }
+
     /**
      * 공개 파일 서빙 (인증 불필요)
      * R2 버킷은 비공개이므로 백엔드가 프록시 역할을 합니다.
      * SecurityConfig에서 GET /api/files/public 을 permitAll 처리합니다.
      *
-     * @param key S3 키 (예: "profile/uuid.jpg")
-     * @return 파일 바이트와 적절한 Content-Type 헤더 (30일 캐시)
+     * 자주 요청되는 객체는 PublicFileCache(메모리/디스크)에서 제공하며, Range(206)와
+     * If-None-Match(304)는 스프링의 Resource 처리로 응답합니다.
+     * Range 요청은 캐시 적중 시에만 캐시에서 제공하고, 미적중이면 전체 객체를 적재하지 않고 스토리지에 범위를 요청합니다.
+     * 캐시 대상이 아닌 큰 객체는 스토리지 응답 스트림을 그대로 전달하므로 파일 크기만큼 힙을 사용하지 않으며,
+     * Range 와 If-None-Match 를 스토리지에 그대로 전달합니다.
+     *
+     * size 힌트(small/medium)가 있으면 해당 규격의 이미지 축소본을 제공하며,
+     * 축소본이 아직 없거나 이미지가 아닌 경우 원본을 제공합니다.
+     *
+     * @param key         S3 키 (예: "profile/uuid.jpg")
+     * @param size        이미지 크기 힌트 (선택, small=200px / medium=800px)
+     * @param range       Range 요청 헤더 (선택)
+     * @param ifNoneMatch If-None-Match 요청 헤더 (선택)
+     * @return 파일 스트림과 Content-Type/Content-Length/ETag 헤더 (30일 캐시)
      */
     @GetMapping("/files/public")
-    public ResponseEntity<byte[]> getPublicFile(@RequestParam("key") String key) {
-        byte[] bytes = s3Service.downloadFile(key);
-        String contentType = s3Service.getContentType(key);
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CACHE_CONTROL,
-                        CacheControl.maxAge(30, TimeUnit.DAYS).cachePublic().getHeaderValue())
-                .contentType(MediaType.parseMediaType(contentType))
-                .body(bytes);
+    public ResponseEntity<?> getPublicFile(
+            @RequestParam("key") String key,
+            @RequestParam(value = "size", required = false) String size,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        if (size != null) {
+            String derivativeKey = ImageVariant.fromHint(size).derivativeKey(key);
+            if (derivativeKey != null) {
+                try {
+                    return serveObject(derivativeKey, range, ifNoneMatch);
+                } catch (S3UploadException e) {
+                    if (e.getReason() != S3UploadException.FailureReason.RESOURCE_NOT_FOUND) {
+                        throw e;
+                    }
+                    log.debug("Derivative not found, serving original: {}", derivativeKey);
+                }
+            }
+        }
+        return serveObject(key, range, ifNoneMatch);
+    }
+
+    /**
+     * 객체 응답 (캐시 적중 시 Resource, 미적중/캐시 제외 시 스토리지 스트림)
+     */
+    private ResponseEntity<?> serveObject(String key, String range, String ifNoneMatch) {
+        CacheControl cacheControl = CacheControl.maxAge(30, TimeUnit.DAYS).cachePublic();
+
+        // Range 요청 미적중 시 전체 객체를 받은 뒤 응답하지 않도록 적재 없이 조회
+        Optional<PublicFileCache.CachedFile> cached = range == null
+                ? publicFileCache.get(key)
+                : publicFileCache.getCached(key);
+        if (cached.isPresent()) {
+            PublicFileCache.CachedFile file = cached.get();
+            if (!file.inMemory()) {
+                // 디스크 캐시 파일은 응답 전송(요청 완료)까지 삭제되지 않도록 고정되어 있으므로 완료 시 해제
+                RequestContextHolder.currentRequestAttributes().registerDestructionCallback(
+                        PublicFileCache.class.getName() + ".release." + key,
+                        () -> publicFileCache.release(file), RequestAttributes.SCOPE_REQUEST);
+            }
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .cacheControl(cacheControl)
+                    .contentType(file.contentType() != null
+                            ? MediaType.parseMediaType(file.contentType())
+                            : MediaType.APPLICATION_OCTET_STREAM);
+            if (file.eTag() != null) {
+                builder.eTag(file.eTag());
+            }
+            if (file.lastModified() != null) {
+                builder.lastModified(file.lastModified());
+            }
+            return builder.body(file.toResource());
+        }
+
+        Optional<ResponseInputStream<GetObjectResponse>> opened;
+        try {
+            opened = s3Service.openDownloadStream(key, range, ifNoneMatch);
+        } catch (S3UploadException e) {
+            if (e.getReason() != S3UploadException.FailureReason.RANGE_NOT_SATISFIABLE) {
+                throw e;
+            }
+            // 범위 초과는 416 과 함께 현재 크기를 알려 클라이언트가 범위를 다시 계산할 수 있게 함
+            // (크기를 확인하지 못하면 잘못된 크기 대신 Content-Range 를 생략)
+            ResponseEntity.BodyBuilder notSatisfiable = ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+            s3Service.findFileSize(key)
+                    .ifPresent(fileSize -> notSatisfiable.header(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize));
+            return notSatisfiable.build();
+        }
+
+        if (opened.isEmpty()) {
+            // 단일 ETag 로 재검증한 경우에만 그대로 돌려준다 (목록/와일드카드는 생략)
+            ResponseEntity.HeadersBuilder<?> notModified = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl);
+            if (!ifNoneMatch.contains(",") && !ifNoneMatch.contains("*")) {
+                notModified.eTag(ifNoneMatch.trim());
+            }
+            return notModified.build();
+        }
+
+        ResponseInputStream<GetObjectResponse> in = opened.get();
+        GetObjectResponse object = in.response();
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity
+                .status(object.contentRange() != null ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(object.contentType() != null
+                        ? MediaType.parseMediaType(object.contentType())
+                        : MediaType.APPLICATION_OCTET_STREAM);
+        if (object.contentLength() != null) {
+            builder.contentLength(object.contentLength());
+        }
+        if (object.eTag() != null) {
+            builder.eTag(object.eTag());
+        }
+        if (object.contentRange() != null) {
+            builder.header(HttpHeaders.CONTENT_RANGE, object.contentRange());
+        }
+        if (object.lastModified() != null) {
+            builder.lastModified(object.lastModified());
+        }
+
+        StreamingResponseBody body = out -> {
+            try (in) {
+                in.transferTo(out);
+            }
+        };
+        return builder.body(body);
     }
 
     /**
@@ -131,4 +314,28 @@ public class FileController {
 
         return ResponseEntity.ok(FileDeleteResponse.success());
     }
+
+    /**
+     * 공개 파일 캐시 통계 조회 (관리자 전용)
+     * 계층별 적중/미적중 수와 사용량을 확인합니다.
+     *
+     * @return 캐시 통계
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/admin/files/cache/stats")
+    public ResponseEntity<FileCacheStatsResponse> getFileCacheStats() {
+        return ResponseEntity.ok(publicFileCache.getStats());
+    }
+
+    /**
+     * 멀티파트 업로드 통계 조회 (관리자 전용)
+     * 대용량 파일 업로드 건수, 파트/재시도 수, 평균 처리량을 확인합니다.
+     *
+     * @return 멀티파트 업로드 통계
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/admin/files/multipart/stats")
+    public ResponseEntity<MultipartUploadStatsResponse> getMultipartUploadStats() {
+        return ResponseEntity.ok(multipartUploader.getStats());
+    }
 }
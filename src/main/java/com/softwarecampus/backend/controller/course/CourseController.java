@@ -1,6 +1,7 @@
 package com.softwarecampus.backend.controller.course;
 
 import com.softwarecampus.backend.domain.course.CategoryType;
+import com.softwarecampus.backend.dto.common.CursorPageResponse;
 import com.softwarecampus.backend.dto.course.CourseCategoryDTO;
 import com.softwarecampus.backend.dto.course.CourseDetailResponseDTO;
 import com.softwarecampus.backend.dto.course.CourseRequestDTO;
@@ -51,7 +52,7 @@ public class CourseController {
      * @param isOffline    온/오프라인 필터
      * @param keyword      검색 키워드
      * @param status       과정 상태 (RECRUITING, IN_PROGRESS, ENDED)
-     * @param pageable     페이지 정보 (page, size, sort)
+     * @param pageable     페이지 정보 (page, size, sort) - 정렬 미지정 시 ID 순, 키워드 검색은 검색 순위순
      */
 
     @GetMapping
@@ -61,11 +62,29 @@ public class CourseController {
             @RequestParam(required = false) Boolean isOffline,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) CourseStatus status,
-            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable) {
         return ResponseEntity
                 .ok(courseService.getCourses(categoryId, categoryType, isOffline, keyword, status, pageable));
     }
 
+    /**
+     * 과정 목록 조회 - 커서 페이지네이션 (무한 스크롤용, 전체 개수 미제공)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param size   페이지 크기 (최대 100)
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponse<CourseResponseDTO>> getCoursesByCursor(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) CategoryType categoryType,
+            @RequestParam(required = false) Boolean isOffline,
+            @RequestParam(required = false) CourseStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity
+                .ok(courseService.getCoursesByCursor(categoryId, categoryType, isOffline, status, cursor, size));
+    }
+
     /** 과정 상세 조회 */
     @GetMapping("/{courseId}")
     public ResponseEntity<CourseDetailResponseDTO> getCourseDetail(
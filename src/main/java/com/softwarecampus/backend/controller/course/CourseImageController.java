@@ -3,10 +3,12 @@ package com.softwarecampus.backend.controller.course;
 import com.softwarecampus.backend.domain.course.CategoryType;
 import com.softwarecampus.backend.domain.course.CourseImageType;
 import com.softwarecampus.backend.dto.course.CourseImageResponse;
+import com.softwarecampus.backend.security.CustomUserDetails;
 import com.softwarecampus.backend.service.course.CourseImageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -46,6 +48,27 @@ public class CourseImageController {
         return ResponseEntity.ok(saved);
     }
 
+    /**
+     * 이미지 직접 업로드 확정 (POST /api/files/upload-url 로 folder=course, fileType=COURSE_IMAGE 업로드 후 호출)
+     * @param type 카테고리 타입 (EMPLOYEE/JOB_SEEKER)
+     * @param courseId 과정 ID
+     * @param key 발급 시 받은 S3 키
+     * @param imageType 이미지 타입 (THUMBNAIL, HEADER, CONTENT) - 기본값: CONTENT
+     */
+    @PostMapping("/{courseId}/images/confirm")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CourseImageResponse> confirmCourseImage(
+            @PathVariable("type") CategoryType type,
+            @PathVariable Long courseId,
+            @RequestParam("key") String key,
+            @RequestParam(value = "imageType", defaultValue = "CONTENT") CourseImageType imageType,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        CourseImageResponse saved = courseImageService.confirmCourseImage(type, courseId, key, imageType,
+                userDetails.getId());
+        return ResponseEntity.ok(saved);
+    }
+
     // 이미지 조회
     @GetMapping("/{courseId}/images")
     public ResponseEntity<List<CourseImageResponse>> getCourseImages(
@@ -1,5 +1,6 @@
 package com.softwarecampus.backend.controller.course;
 
+import com.softwarecampus.backend.dto.common.CursorPageResponse;
 import com.softwarecampus.backend.dto.course.QnaAnswerRequest;
 import com.softwarecampus.backend.dto.course.QnaFileDetail;
 import com.softwarecampus.backend.dto.course.QnaRequest;
@@ -91,6 +92,15 @@ public class CourseQnaController {
         return ResponseEntity.ok(response);
     }
 
+    /** Q&A 목록 조회 - 커서 페이지네이션 (무한 스크롤용, 전체 개수 미제공, 검색은 목록 API 사용) */
+    @GetMapping("/{courseId}/qna/scroll")
+    public ResponseEntity<CursorPageResponse<QnaResponse>> getQnaListByCursor(
+            @PathVariable Long courseId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(qnaService.getQnaListByCursor(courseId, cursor, size));
+    }
+
     /** Q&A 상세 조회 */
     @GetMapping("/qna/{qnaId}")
     public ResponseEntity<QnaResponse> getQnaDetail(
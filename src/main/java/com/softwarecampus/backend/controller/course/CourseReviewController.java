@@ -1,6 +1,7 @@
 package com.softwarecampus.backend.controller.course;
 
 import com.softwarecampus.backend.domain.course.CategoryType;
+import com.softwarecampus.backend.dto.common.CursorPageResponse;
 import com.softwarecampus.backend.dto.course.CourseReviewRequest;
 import com.softwarecampus.backend.dto.course.CourseReviewResponse;
 import com.softwarecampus.backend.dto.course.ReviewFileResponse;
@@ -51,6 +52,24 @@ public class CourseReviewController {
                 return ResponseEntity.ok(reviewService.getReviews(courseId, pageable, accountId));
         }
 
+        // -------------------------------
+        // 1-1. 리뷰 리스트 조회 (커서, 무한 스크롤용)
+        // GET /api/courses/{courseId}/reviews/scroll
+        // -------------------------------
+        @GetMapping("/scroll")
+        public ResponseEntity<CursorPageResponse<CourseReviewResponse>> getReviewsByCursor(
+                        @PathVariable Long courseId,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "10") int size,
+                        @AuthenticationPrincipal UserDetails userDetails) {
+                Long accountId = null;
+                if (userDetails != null) {
+                        AccountCacheDto account = customUserDetailsService.getAccountByEmail(userDetails.getUsername());
+                        accountId = account.getId();
+                }
+                return ResponseEntity.ok(reviewService.getReviewsByCursor(courseId, cursor, size, accountId));
+        }
+
         // -------------------------------
         // 2. 리뷰 상세 조회
         // GET /api/courses/{courseId}/reviews/{reviewId}
@@ -1,6 +1,7 @@
 package com.softwarecampus.backend.domain.academy;
 
 import com.softwarecampus.backend.domain.common.BaseSoftDeleteSupportEntity;
+import com.softwarecampus.backend.domain.common.ImageDerivatives;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
@@ -32,6 +33,10 @@ public class Academy extends BaseSoftDeleteSupportEntity {
     // 기관 로고 URL (작성일: 2025-12-02)
     @Column(length = 500) private String logoUrl;
 
+    // 기관 로고 축소 이미지 키 (업로드 후 비동기 생성, 생성 전에는 null)
+    @Embedded
+    private ImageDerivatives imageDerivatives;
+
     // 기관 웹사이트 URL (작성일: 2025-12-02)
     @Column(length = 500) private String website;
 
@@ -1,6 +1,7 @@
 package com.softwarecampus.backend.domain.banner;
 
 import com.softwarecampus.backend.domain.common.BaseSoftDeleteSupportEntity;
+import com.softwarecampus.backend.domain.common.ImageDerivatives;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -37,6 +38,10 @@ public class Banner extends BaseSoftDeleteSupportEntity {
     @Column(nullable = false)
     private Boolean isActivated;
 
+    /** 배너 이미지 축소본 키 (업로드 후 비동기 생성, 생성 전에는 null) */
+    @Embedded
+    private ImageDerivatives imageDerivatives;
+
     /**
      * 배너 정보 업데이트 (전체 필드)
      */
@@ -45,8 +50,9 @@ public class Banner extends BaseSoftDeleteSupportEntity {
         if (title != null) {
             this.title = title;
         }
-        if (imageUrl != null) {
+        if (imageUrl != null && !imageUrl.equals(this.imageUrl)) {
             this.imageUrl = imageUrl;
+            this.imageDerivatives = null; // 새 원본 기준으로 다시 생성됨
         }
         if (linkUrl != null) {
             this.linkUrl = linkUrl;
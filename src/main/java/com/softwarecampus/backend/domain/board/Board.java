@@ -32,10 +32,20 @@ public class Board extends BaseSoftDeleteSupportEntity {
     @Column(nullable = false, columnDefinition = "text")
     private String text;
 
-    @Column(nullable = false)
+    // ViewCountService 일괄 UPDATE 로만 증가 (엔티티 수정 시 덮어쓰지 않도록 updatable = false)
+    @Column(nullable = false, updatable = false)
     @ColumnDefault("0")
     private long hits;
 
+    // 삭제되지 않은 댓글 수 / 추천 수 - 목록 정렬·표시용 (BoardRepository 증감 UPDATE 로만 변경)
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long commentCount;
+
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long recommendCount;
+
     @Column(name = "is_secret", nullable = false)
     private boolean secret;
 
@@ -0,0 +1,111 @@
+package com.softwarecampus.backend.domain.common;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파일 정리 작업 실행 기록 및 체크포인트 (FileCleanupScheduler)
+ * - 청크마다 현재 단계(phase)와 마지막 처리 ID(lastId)를 저장하여, 중단된 실행은 다음 실행에서 이어서 처리
+ * - 삭제 기준 시각도 함께 저장하여 재개 시 같은 기준으로 처리
+ * - 실행별 처리 건수(삭제 행/객체, 실패 객체, 청크 수)를 남김
+ */
+@Entity
+@Table(
+    name = "file_cleanup_run",
+    indexes = {
+        @Index(name = "idx_file_cleanup_run_status", columnList = "status, id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FileCleanupRun {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /** Soft-Delete 파일 삭제 기준 시각 (이 시각 이전에 삭제된 행) */
+    @Column(name = "deleted_before", nullable = false)
+    private LocalDateTime deletedBefore;
+
+    /** 고아 파일 삭제 기준 시각 (이 시각 이전에 생성된 미확정 행) */
+    @Column(name = "orphan_created_before", nullable = false)
+    private LocalDateTime orphanCreatedBefore;
+
+    /** 체크포인트: 진행 중인 단계 (엔티티 타입명) */
+    @Column(length = 50)
+    private String phase;
+
+    /** 체크포인트: 현재 단계에서 마지막으로 처리한 행 ID */
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    @Column(name = "deleted_rows", nullable = false)
+    private long deletedRows;
+
+    @Column(name = "deleted_objects", nullable = false)
+    private long deletedObjects;
+
+    @Column(name = "failed_objects", nullable = false)
+    private long failedObjects;
+
+    @Column(nullable = false)
+    private long chunks;
+
+    public static FileCleanupRun start(LocalDateTime deletedBefore, LocalDateTime orphanCreatedBefore) {
+        FileCleanupRun run = new FileCleanupRun();
+        run.status = Status.RUNNING;
+        run.startedAt = LocalDateTime.now();
+        run.deletedBefore = deletedBefore;
+        run.orphanCreatedBefore = orphanCreatedBefore;
+        return run;
+    }
+
+    /**
+     * 다음 단계로 체크포인트 이동
+     */
+    public void enterPhase(String phase) {
+        this.phase = phase;
+        this.lastId = 0L;
+    }
+
+    /**
+     * 청크 처리 결과 반영 및 체크포인트 갱신
+     */
+    public void recordChunk(long lastId, int deletedRows, int deletedObjects, int failedObjects) {
+        this.lastId = lastId;
+        this.deletedRows += deletedRows;
+        this.deletedObjects += deletedObjects;
+        this.failedObjects += failedObjects;
+        this.chunks++;
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+        this.phase = null;
+    }
+
+    public void fail() {
+        this.status = Status.FAILED;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,47 @@
+package com.softwarecampus.backend.domain.common;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 이미지 파생본(축소 이미지) S3 키
+ *
+ * 원본 업로드 후 ImageDerivativeProcessor 가 비동기로 생성하여 기록한다.
+ * 생성 전이거나 이미지로 해석할 수 없는 파일이면 null 이며, 이 경우 원본 키를 사용한다.
+ * 원본이 교체되면 null 로 초기화한 뒤 새 원본 기준으로 다시 생성된다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageDerivatives implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** 너비 200px 이하 축소본 (목록 썸네일) */
+    @Column(name = "image_small_key", length = 1000)
+    private String smallKey;
+
+    /** 너비 800px 이하 축소본 (카드/상세 본문) */
+    @Column(name = "image_medium_key", length = 1000)
+    private String mediumKey;
+
+    /**
+     * 소형 축소본 키 (파생본이 없으면 null)
+     */
+    public static String smallKeyOf(ImageDerivatives derivatives) {
+        return derivatives != null ? derivatives.smallKey : null;
+    }
+
+    /**
+     * 중형 축소본 키 (파생본이 없으면 null)
+     */
+    public static String mediumKeyOf(ImageDerivatives derivatives) {
+        return derivatives != null ? derivatives.mediumKey : null;
+    }
+}
@@ -0,0 +1,67 @@
+package com.softwarecampus.backend.domain.common;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스토리지 객체 메타데이터 (S3 키 기준)
+ * - 업로드 시점에 크기/Content-Type/체크섬(ETag)/업로더를 기록하여, 크기 조회 등에서 HEAD 요청을 생략
+ * - 기록이 없는 키(이전에 업로드된 객체 등)는 HEAD 로 조회한 뒤 채움 (StorageMetadataRegistry)
+ * - 객체 삭제 시 함께 삭제
+ * - 중복 제거(file.dedup.enabled) 대상 객체는 내용 해시/폴더/참조 수를 함께 기록하여,
+ *   같은 내용의 업로드는 기존 객체를 공유하고 마지막 참조가 해제될 때만 실제로 삭제
+ */
+@Entity
+@Table(
+    name = "storage_object_metadata",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_storage_object_metadata_key", columnNames = "object_key")
+    },
+    indexes = {
+        @Index(name = "idx_storage_object_metadata_hash", columnList = "content_hash, folder")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StorageObjectMetadata {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 512)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(name = "content_type", length = 255)
+    private String contentType;
+
+    /** 업로드 응답 ETag (단일 업로드는 MD5, 멀티파트 업로드는 "MD5-파트수" 형식) */
+    @Column(length = 100)
+    private String checksum;
+
+    /** 업로더 계정 ID (서버에서 생성한 객체이거나 알 수 없으면 null) */
+    @Column(name = "uploader_id")
+    private Long uploaderId;
+
+    /** 내용 SHA-256 (hex, 중복 제거 대상이 아니면 null) */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /** 업로드 폴더 (같은 폴더 정책 안에서만 공유) */
+    @Column(length = 255)
+    private String folder;
+
+    /** 이 객체를 참조하는 DB 행 수 (중복 제거 대상이 아니면 null, 0 이하이면 삭제 대상) */
+    @Column(name = "ref_count")
+    private Integer refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
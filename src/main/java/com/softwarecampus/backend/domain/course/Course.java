@@ -64,18 +64,19 @@ public class Course extends BaseSoftDeleteSupportEntity {
 
     /**
      * 조회수 - 필드 레벨 초기화로 JPA no-args 생성자에서도 null 방지
+     * ViewCountService 일괄 UPDATE 로만 증가하므로 엔티티 수정 시 덮어쓰지 않도록 updatable = false
      */
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private long viewCount = 0L;
 
     /**
-     * 조회수 증가
-     * primitive long 타입 사용으로 null 검사 불필요
+     * 집계 통계 (찜 수, 승인 리뷰 수, 평점 합계, 섹션별 점수)
+     * 컬럼은 읽기 전용 매핑이며 CourseStatsService 를 통해서만 갱신
      */
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
+    @Embedded
+    @Builder.Default
+    private CourseStats stats = new CourseStats();
 
     /** 승인 관련 */
     @Enumerated(EnumType.STRING)
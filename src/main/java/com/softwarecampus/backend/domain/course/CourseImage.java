@@ -1,6 +1,7 @@
 package com.softwarecampus.backend.domain.course;
 
 import com.softwarecampus.backend.domain.common.BaseSoftDeleteSupportEntity;
+import com.softwarecampus.backend.domain.common.ImageDerivatives;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -22,6 +23,10 @@ public class CourseImage extends BaseSoftDeleteSupportEntity {
     @Column(length = 1000, nullable = false)
     private String imageUrl;
 
+    /** 축소 이미지 키 (업로드 후 비동기 생성, 생성 전에는 null) */
+    @Embedded
+    private ImageDerivatives imageDerivatives;
+
     /** @deprecated isThumbnail 대신 imageType 사용 권장 */
     @Deprecated
     private boolean isThumbnail;
@@ -0,0 +1,185 @@
+package com.softwarecampus.backend.domain.course;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 과정 집계 통계 (비정규화 카운터)
+ *
+ * 목록/메인 DTO에서 리뷰 컬렉션을 순회하지 않고 O(1)로 평점·리뷰 수를 읽기 위한 값
+ * - 유효 리뷰: 삭제되지 않고 승인(APPROVED)된 리뷰
+ * - ratingSum: 유효 리뷰별 평균 점수(CourseReview#calculateAverageScore)의 합
+ * - 섹션별 합계/개수: 유효 리뷰의 섹션 점수 집계 (과정 상세의 항목별 평균, CourseDetailResponseDTO.sectionRatings)
+ *
+ * 모든 컬럼은 insertable/updatable = false 로 매핑하여 엔티티 dirty checking 으로 덮어쓰지 않으며,
+ * CourseRepository#addStats 증감(bulk update) 쿼리로만 갱신된다 (CourseStatsService).
+ * 같은 타입을 증감분(delta) 표현에도 사용한다 (ofFavorite, ofReview, negate).
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CourseStats {
+
+    @Column(name = "favorite_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long favoriteCount;
+
+    @Column(name = "approved_review_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long approvedReviewCount;
+
+    @Column(name = "rating_sum", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private double ratingSum;
+
+    @Column(name = "curriculum_score_sum", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long curriculumScoreSum;
+
+    @Column(name = "curriculum_score_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long curriculumScoreCount;
+
+    @Column(name = "courseware_score_sum", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long coursewareScoreSum;
+
+    @Column(name = "courseware_score_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long coursewareScoreCount;
+
+    @Column(name = "instructor_score_sum", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long instructorScoreSum;
+
+    @Column(name = "instructor_score_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long instructorScoreCount;
+
+    @Column(name = "equipment_score_sum", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long equipmentScoreSum;
+
+    @Column(name = "equipment_score_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long equipmentScoreCount;
+
+    @Column(name = "other_score_sum", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long otherScoreSum;
+
+    @Column(name = "other_score_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long otherScoreCount;
+
+    /**
+     * 찜 수 증감분
+     */
+    public static CourseStats ofFavorite(long delta) {
+        CourseStats stats = new CourseStats();
+        stats.favoriteCount = delta;
+        return stats;
+    }
+
+    /**
+     * 유효 리뷰 1건의 증감분 (리뷰 평균 점수 + 섹션별 점수)
+     */
+    public static CourseStats ofReview(CourseReview review) {
+        CourseStats stats = new CourseStats();
+        stats.approvedReviewCount = 1;
+        stats.ratingSum = review.calculateAverageScore();
+        if (review.getSections() != null) {
+            for (ReviewSection section : review.getSections()) {
+                stats.addSectionScore(section.getSectionType(), section.getScore());
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * 부호 반전 (증가분 → 감소분)
+     */
+    public CourseStats negate() {
+        return new CourseStats(-favoriteCount, -approvedReviewCount, -ratingSum,
+                -curriculumScoreSum, -curriculumScoreCount,
+                -coursewareScoreSum, -coursewareScoreCount,
+                -instructorScoreSum, -instructorScoreCount,
+                -equipmentScoreSum, -equipmentScoreCount,
+                -otherScoreSum, -otherScoreCount);
+    }
+
+    private void addSectionScore(ReviewSectionType sectionType, int score) {
+        switch (sectionType) {
+            case CURRICULUM -> {
+                curriculumScoreSum += score;
+                curriculumScoreCount++;
+            }
+            case COURSEWARE -> {
+                coursewareScoreSum += score;
+                coursewareScoreCount++;
+            }
+            case INSTRUCTOR -> {
+                instructorScoreSum += score;
+                instructorScoreCount++;
+            }
+            case EQUIPMENT -> {
+                equipmentScoreSum += score;
+                equipmentScoreCount++;
+            }
+            default -> {
+                otherScoreSum += score;
+                otherScoreCount++;
+            }
+        }
+    }
+
+    /**
+     * 평균 평점 (소수점 1자리 반올림, 유효 리뷰가 없으면 0.0)
+     */
+    public double getAverageRating() {
+        if (approvedReviewCount <= 0) {
+            return 0.0;
+        }
+        return Math.round(ratingSum / approvedReviewCount * 10.0) / 10.0;
+    }
+
+    /**
+     * 섹션별 평균 점수 (소수점 1자리 반올림, 집계된 점수가 없으면 0.0)
+     */
+    public double getSectionAverage(ReviewSectionType sectionType) {
+        long sum;
+        long count;
+        switch (sectionType) {
+            case CURRICULUM -> {
+                sum = curriculumScoreSum;
+                count = curriculumScoreCount;
+            }
+            case COURSEWARE -> {
+                sum = coursewareScoreSum;
+                count = coursewareScoreCount;
+            }
+            case INSTRUCTOR -> {
+                sum = instructorScoreSum;
+                count = instructorScoreCount;
+            }
+            case EQUIPMENT -> {
+                sum = equipmentScoreSum;
+                count = equipmentScoreCount;
+            }
+            default -> {
+                sum = otherScoreSum;
+                count = otherScoreCount;
+            }
+        }
+        if (count <= 0) {
+            return 0.0;
+        }
+        return Math.round((double) sum / count * 10.0) / 10.0;
+    }
+}
@@ -5,6 +5,7 @@ import com.softwarecampus.backend.domain.board.Comment;
 import com.softwarecampus.backend.domain.common.AccountType;
 import com.softwarecampus.backend.domain.common.ApprovalStatus;
 import com.softwarecampus.backend.domain.common.BaseSoftDeleteSupportEntity;
+import com.softwarecampus.backend.domain.common.ImageDerivatives;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -72,6 +73,9 @@ public class Account extends BaseSoftDeleteSupportEntity implements java.io.Seri
     @Column(name = "profile_image", length = 1000)
     private String profileImage; // 프로필 이미지 URL (S3)
 
+    @Embedded
+    private ImageDerivatives imageDerivatives; // 프로필 이미지 축소본 키 (비동기 생성, 생성 전에는 null)
+
     // ===== 약관 동의 필드 =====
     @Column(name = "terms_agreed", nullable = false)
     private boolean termsAgreed; // 이용약관 동의 여부
@@ -2,6 +2,7 @@ package com.softwarecampus.backend.dto.academy;
 
 import com.softwarecampus.backend.domain.academy.Academy;
 import com.softwarecampus.backend.domain.academy.ApprovalStatus;
+import com.softwarecampus.backend.domain.common.ImageDerivatives;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -27,6 +28,7 @@ public class AcademyResponse {
     // 기관 추가 정보 (작성일: 2025-12-02)
     private String description;
     private String logoUrl;
+    private String logoSmallUrl; // 로고 축소본 (너비 200px, 생성 전에는 null)
     private String website;
 
     private ApprovalStatus isApproved;
@@ -88,23 +90,21 @@ public class AcademyResponse {
 
             courseCount = activeCourses.size();
 
-            // 리뷰 수 및 평점 계산
-            var activeReviews = activeCourses.stream()
-                    .filter(c -> c.getReviews() != null)
-                    .flatMap(c -> c.getReviews().stream())
-                    .filter(r -> r.isActive() && r
-                            .getApprovalStatus() == com.softwarecampus.backend.domain.common.ApprovalStatus.APPROVED)
-                    .toList();
+            // 리뷰 수 및 평점 계산 (과정 집계 통계 합산 - 리뷰 컬렉션 로딩 없음)
+            long approvedReviewCount = 0;
+            double ratingSum = 0.0;
+            for (var course : activeCourses) {
+                if (course.getStats() != null) {
+                    approvedReviewCount += course.getStats().getApprovedReviewCount();
+                    ratingSum += course.getStats().getRatingSum();
+                }
+            }
 
-            reviewCount = activeReviews.size();
+            reviewCount = (int) approvedReviewCount;
 
             if (reviewCount > 0) {
-                rating = activeReviews.stream()
-                        .mapToDouble(com.softwarecampus.backend.domain.course.CourseReview::calculateAverageScore)
-                        .average()
-                        .orElse(0.0);
                 // 소수점 1자리 반올림
-                rating = Math.round(rating * 10.0) / 10.0;
+                rating = Math.round(ratingSum / reviewCount * 10.0) / 10.0;
             }
         }
 
@@ -117,6 +117,7 @@ public class AcademyResponse {
                 .phoneNumber(academy.getPhoneNumber())
                 .description(academy.getDescription())
                 .logoUrl(academy.getLogoUrl())
+                .logoSmallUrl(ImageDerivatives.smallKeyOf(academy.getImageDerivatives()))
                 .website(academy.getWebsite())
                 .isApproved(academy.getIsApproved())
                 .approvedAt(academy.getApprovedAt())
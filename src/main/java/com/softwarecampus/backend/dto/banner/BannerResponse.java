@@ -1,6 +1,7 @@
 package com.softwarecampus.backend.dto.banner;
 
 import com.softwarecampus.backend.domain.banner.Banner;
+import com.softwarecampus.backend.domain.common.ImageDerivatives;
 import lombok.Builder;
 import lombok.Data;
 
@@ -14,6 +15,7 @@ public class BannerResponse {
     private String title;
     private String description; // 배너 부제목/설명
     private String imageUrl;
+    private String imageMediumUrl; // 배너 이미지 축소본 (너비 800px, 생성 전에는 null)
     private String linkUrl;
     private Integer sequence;
     private Boolean isActivated;
@@ -28,6 +30,7 @@ public class BannerResponse {
                 .title(banner.getTitle())
                 .description(banner.getDescription())
                 .imageUrl(banner.getImageUrl())
+                .imageMediumUrl(ImageDerivatives.mediumKeyOf(banner.getImageDerivatives()))
                 .linkUrl(banner.getLinkUrl())
                 .sequence(banner.getSequence())
                 .isActivated(banner.getIsActivated())
@@ -2,7 +2,6 @@ package com.softwarecampus.backend.dto.board;
 
 import com.softwarecampus.backend.domain.board.Board;
 import com.softwarecampus.backend.domain.board.BoardCategory;
-import com.softwarecampus.backend.domain.board.BoardRecommend;
 import lombok.*;
 
 import java.time.format.DateTimeFormatter;
@@ -44,10 +43,18 @@ public class BoardResponseDTO {
     @Builder.Default
     private List<BoardAttachResponseDTO> boardAttachs = new ArrayList<>();
 
+    // 첫 구간의 원댓글 (이후 구간: GET /api/boards/{boardId}/comments?cursor=commentNextCursor)
     @Builder.Default
     private List<CommentResponseDTO> boardComments = new ArrayList<>();
 
-    public static BoardResponseDTO from(Board board, Long userId) {
+    // 삭제되지 않은 전체 댓글 수 (대댓글 포함)
+    private long commentCount;
+
+    private boolean commentHasNext;
+
+    private String commentNextCursor;
+
+    public static BoardResponseDTO from(Board board) {
         BoardResponseDTO boardResponseDTO = BoardResponseDTO.builder().id(board.getId()).category(board.getCategory())
                 .title(board.getTitle())
                 .text(board.getText()).secret(board.isSecret()).hits(board.getHits())
@@ -58,10 +65,7 @@ public class BoardResponseDTO {
         boardResponseDTO.setBoardAttachs(board.getBoardAttaches().stream()
                 .filter(attach -> attach.isActive())
                 .map(BoardAttachResponseDTO::from).toList());
-        // topComment가 null인 원댓글만 반환 (대댓글은 subComments로 포함됨)
-        boardResponseDTO.setBoardComments(board.getComments().stream()
-                .filter(comment -> comment.isActive() && comment.getTopComment() == null)
-                .map((c) -> CommentResponseDTO.from(c, userId)).toList());
+        // 댓글(boardComments, commentCount 등)은 CommentPageLoader 로 조회하여 서비스에서 설정
 
         return boardResponseDTO;
     }
@@ -0,0 +1,15 @@
+package com.softwarecampus.backend.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 검색 색인용 댓글 내용 (JPQL constructor expression)
+ */
+@Getter
+@AllArgsConstructor
+public class BoardSearchCommentDTO {
+
+    private Long boardId;
+    private String text;
+}
@@ -0,0 +1,21 @@
+package com.softwarecampus.backend.dto.board;
+
+import com.softwarecampus.backend.domain.board.BoardCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 검색 색인 문서
+ * 색인 대상 텍스트(제목, 본문, 작성자명)와 카테고리 필터용 카테고리만 조회 (JPQL constructor expression)
+ * 댓글 내용은 BoardSearchCommentDTO 로 따로 조회하여 게시글별로 합침
+ */
+@Getter
+@AllArgsConstructor
+public class BoardSearchDocumentDTO {
+
+    private Long id;
+    private BoardCategory category;
+    private String title;
+    private String text;
+    private String authorName;
+}
@@ -0,0 +1,15 @@
+package com.softwarecampus.backend.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상위 댓글별 대댓글 수 (JPQL constructor expression)
+ */
+@Getter
+@AllArgsConstructor
+public class CommentReplyCountDTO {
+
+    private Long parentId;
+    private Long replyCount;
+}
@@ -1,12 +1,8 @@
 package com.softwarecampus.backend.dto.board;
 
-import com.softwarecampus.backend.domain.board.Comment;
 import lombok.*;
 
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
 
 
 @Getter
@@ -23,20 +19,21 @@ public class CommentResponseDTO {
 
     private String createdAt;
 
-    @Builder.Default
-    private List<CommentResponseDTO> subComments = new ArrayList<>();
-
-    public static CommentResponseDTO from(Comment comment, Long userId) {
-        CommentResponseDTO commentResponseDTO = CommentResponseDTO.builder().id(comment.getId()).accountId(comment.getAccount().getId()).userNickName(comment.getAccount().getUserName()).text(comment.getText()).
-                createdAt(comment.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).build();
-        if (comment.isSecret() && (userId == null || !userId.equals(comment.getAccount().getId()))){
+    // 삭제되지 않은 직계 대댓글 수 (대댓글은 /comments/{commentId}/replies 로 조회)
+    private long replyCount;
+
+    /**
+     * 댓글 행 변환 (대댓글 수는 CommentPageLoader 에서 설정)
+     * 비밀 댓글은 작성자 본인 외에는 작성자/내용을 가림
+     */
+    public static CommentResponseDTO from(CommentRowDTO row, Long userId) {
+        CommentResponseDTO commentResponseDTO = CommentResponseDTO.builder().id(row.getId()).accountId(row.getAccountId()).userNickName(row.getUserNickName()).text(row.getText()).
+                createdAt(row.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).build();
+        if (row.isSecret() && (userId == null || !userId.equals(row.getAccountId()))){
             commentResponseDTO.setUserNickName("익명");
             commentResponseDTO.setAccountId(0L);
             commentResponseDTO.setText("비밀글입니다");
         }
-        if (!comment.getSubComments().isEmpty()) {
-            commentResponseDTO.setSubComments(comment.getSubComments().stream().filter(comment1 -> comment1.isActive()).map((c) -> CommentResponseDTO.from(c, userId)).toList());
-        }
         return commentResponseDTO;
     }
 }
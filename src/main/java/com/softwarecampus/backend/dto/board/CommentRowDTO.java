@@ -0,0 +1,23 @@
+package com.softwarecampus.backend.dto.board;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 조회용 행 (JPQL constructor expression)
+ * 삭제되지 않은 댓글을 작성자 정보, 상위 댓글 ID 와 함께 한 번에 조회
+ */
+@Getter
+@AllArgsConstructor
+public class CommentRowDTO {
+
+    private Long id;
+    private Long parentId;
+    private Long accountId;
+    private String userNickName;
+    private String text;
+    private boolean secret;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,28 @@
+package com.softwarecampus.backend.dto.common;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이지 응답 DTO
+ * 전체 개수(COUNT 쿼리) 대신 다음 페이지 존재 여부만 제공 (무한 스크롤용)
+ *
+ * @param content    현재 페이지 데이터
+ * @param hasNext    다음 페이지 존재 여부
+ * @param nextCursor 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+ */
+public record CursorPageResponse<T>(List<T> content, boolean hasNext, String nextCursor) {
+
+    /**
+     * 정적 팩토리 메서드 - 다음 페이지가 없으면 커서를 비움
+     */
+    public static <T> CursorPageResponse<T> of(List<T> content, boolean hasNext, String nextCursor) {
+        return new CursorPageResponse<>(content, hasNext, hasNext ? nextCursor : null);
+    }
+
+    /**
+     * 빈 응답
+     */
+    public static <T> CursorPageResponse<T> empty() {
+        return new CursorPageResponse<>(List.of(), false, null);
+    }
+}
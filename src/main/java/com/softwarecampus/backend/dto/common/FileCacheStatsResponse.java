@@ -0,0 +1,30 @@
+package com.softwarecampus.backend.dto.common;
+
+/**
+ * 공개 파일 캐시 통계 응답 DTO
+ *
+ * @param memoryHits     메모리 계층 적중 수
+ * @param diskHits       디스크 계층 적중 수
+ * @param misses         미적중(스토리지 조회) 수
+ * @param bypasses       캐시 대상 크기를 초과하여 스토리지로 직접 전달한 수
+ * @param hitBytes       캐시에서 제공한 바이트 수
+ * @param loadedBytes    스토리지에서 읽어 캐시에 적재한 바이트 수
+ * @param evictions      용량 초과/삭제로 제거된 항목 수
+ * @param memoryEntries  메모리 계층 항목 수
+ * @param memoryBytes    메모리 계층 사용량 (bytes)
+ * @param diskEntries    디스크 계층 항목 수
+ * @param diskBytes      디스크 계층 사용량 (bytes)
+ */
+public record FileCacheStatsResponse(
+        long memoryHits,
+        long diskHits,
+        long misses,
+        long bypasses,
+        long hitBytes,
+        long loadedBytes,
+        long evictions,
+        long memoryEntries,
+        long memoryBytes,
+        long diskEntries,
+        long diskBytes) {
+}
@@ -0,0 +1,11 @@
+package com.softwarecampus.backend.dto.common;
+
+/**
+ * 파일 정리 대상 행 (ID + S3 키) 프로젝션
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 청크 단위로 조회하기 위해 사용
+ *
+ * @param id  행 ID
+ * @param key S3 키
+ */
+public record FileCleanupRowDTO(Long id, String key) {
+}
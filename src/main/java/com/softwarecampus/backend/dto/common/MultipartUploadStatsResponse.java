@@ -0,0 +1,20 @@
+package com.softwarecampus.backend.dto.common;
+
+/**
+ * 멀티파트 업로드 통계 응답 DTO
+ *
+ * @param uploads                 완료된 멀티파트 업로드 수
+ * @param failedUploads           중단(abort)된 멀티파트 업로드 수
+ * @param parts                   완료된 업로드의 파트 수 합계
+ * @param partRetries             파트 재시도 수
+ * @param uploadedBytes           완료된 업로드의 바이트 수 합계
+ * @param throughputBytesPerSecond 완료된 업로드의 평균 처리량 (bytes/s)
+ */
+public record MultipartUploadStatsResponse(
+        long uploads,
+        long failedUploads,
+        long parts,
+        long partRetries,
+        long uploadedBytes,
+        long throughputBytesPerSecond) {
+}
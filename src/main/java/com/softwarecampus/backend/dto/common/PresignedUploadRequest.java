@@ -0,0 +1,40 @@
+package com.softwarecampus.backend.dto.common;
+
+import com.softwarecampus.backend.service.common.FileType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 직접 업로드 URL 발급 요청 DTO
+ *
+ * @param folder        S3 폴더 경로 (예: "board", 없으면 루트)
+ * @param fileType      파일 타입 (PROFILE, BOARD_ATTACH, COURSE_IMAGE 등)
+ * @param filename      원본 파일명 (확장자 검증용)
+ * @param contentType   업로드할 파일의 Content-Type
+ * @param contentLength 업로드할 파일 크기 (bytes)
+ */
+public record PresignedUploadRequest(
+
+    String folder,
+
+    @NotNull(message = "파일 타입은 필수입니다.")
+    FileType.FileTypeEnum fileType,
+
+    @NotBlank(message = "파일명은 필수입니다.")
+    String filename,
+
+    @NotBlank(message = "Content-Type은 필수입니다.")
+    String contentType,
+
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    long contentLength
+) {
+
+    /**
+     * 폴더 미지정 시 루트("")
+     */
+    public String folderOrRoot() {
+        return folder != null ? folder : "";
+    }
+}
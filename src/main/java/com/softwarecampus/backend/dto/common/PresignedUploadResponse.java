@@ -0,0 +1,33 @@
+package com.softwarecampus.backend.dto.common;
+
+import com.softwarecampus.backend.service.common.S3Service;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 직접 업로드 URL 발급 응답 DTO
+ * 클라이언트는 uploadUrl 로 headers 를 포함해 PUT 요청을 보낸 뒤, key 로 업로드 확정 API 를 호출합니다.
+ *
+ * @param key       업로드될 S3 키 (확정 요청 시 사용)
+ * @param uploadUrl Presigned PUT URL
+ * @param method    HTTP 메서드 (항상 "PUT")
+ * @param headers   PUT 요청에 그대로 포함해야 하는 헤더
+ * @param expiresAt URL 만료 시각
+ */
+public record PresignedUploadResponse(
+    String key,
+    String uploadUrl,
+    String method,
+    Map<String, String> headers,
+    Instant expiresAt
+) {
+
+    /**
+     * 정적 팩토리 메서드
+     */
+    public static PresignedUploadResponse from(S3Service.PresignedUpload upload) {
+        return new PresignedUploadResponse(upload.key(), upload.uploadUrl(), "PUT", upload.headers(),
+                upload.expiresAt());
+    }
+}
@@ -0,0 +1,44 @@
+package com.softwarecampus.backend.dto.common;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 버킷-DB 대조(고아 객체 정리) 결과 응답 DTO
+ *
+ * @param dryRun         true 이면 삭제하지 않고 대상만 보고
+ * @param modifiedBefore 이 시각 이전에 마지막으로 수정된 객체만 정리 대상 (유예 시간 적용)
+ * @param folders        S3Folder 별 결과
+ */
+public record StorageReconcileResponse(
+        boolean dryRun,
+        LocalDateTime modifiedBefore,
+        List<FolderResult> folders) {
+
+    /**
+     * 폴더별 대조 결과
+     *
+     * @param folder      S3 폴더 경로 (루트는 빈 문자열)
+     * @param scanned     조회한 객체 수
+     * @param recent      유예 시간 안이라 대조하지 않은 객체 수
+     * @param referenced  DB 행(또는 공유 참조 수)이 참조하는 객체 수
+     * @param orphans     어디에서도 참조하지 않는 객체 수
+     * @param orphanBytes 고아 객체 크기 합계 (bytes)
+     * @param deleted     삭제한 고아 객체 수 (dryRun 이면 0)
+     * @param failed      삭제에 실패한 고아 객체 수
+     * @param sampleKeys  고아 객체 키 일부
+     * @param completed   목록 조회 오류 없이 끝까지 처리했는지 여부
+     */
+    public record FolderResult(
+            String folder,
+            long scanned,
+            long recent,
+            long referenced,
+            long orphans,
+            long orphanBytes,
+            long deleted,
+            long failed,
+            List<String> sampleKeys,
+            boolean completed) {
+    }
+}
@@ -5,12 +5,16 @@ import com.softwarecampus.backend.domain.course.CategoryType;
 import com.softwarecampus.backend.domain.course.Course;
 import com.softwarecampus.backend.domain.course.CourseCurriculum;
 import com.softwarecampus.backend.domain.course.CourseImageType;
+import com.softwarecampus.backend.domain.course.CourseStats;
+import com.softwarecampus.backend.domain.course.ReviewSectionType;
 import lombok.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -86,6 +90,9 @@ public class CourseDetailResponseDTO {
     private Double rating;
     private Integer reviewCount;
 
+    // 리뷰 항목별 평균 점수 (삭제되지 않은 승인된 리뷰 기준, 점수가 없으면 0.0)
+    private Map<ReviewSectionType, Double> sectionRatings;
+
     public static CourseDetailResponseDTO fromEntity(Course course) {
         var academy = course.getAcademy();
         var category = course.getCategory();
@@ -106,25 +113,13 @@ public class CourseDetailResponseDTO {
         String headerImageUrl = headerImage != null ? headerImage.getImageUrl() : null;
         Long headerImageId = headerImage != null ? headerImage.getId() : null;
 
-        // 평점 계산 (삭제되지 않은 승인된 리뷰들의 평균)
-        double rating = 0.0;
-        int reviewCount = 0;
-
-        if (course.getReviews() != null) {
-            var activeReviews = course.getReviews().stream()
-                    .filter(r -> r.isActive() && r.getApprovalStatus() == ApprovalStatus.APPROVED)
-                    .toList();
-
-            reviewCount = activeReviews.size();
-
-            if (reviewCount > 0) {
-                rating = activeReviews.stream()
-                        .mapToDouble(com.softwarecampus.backend.domain.course.CourseReview::calculateAverageScore)
-                        .average()
-                        .orElse(0.0);
-                // 소수점 1자리 반올림
-                rating = Math.round(rating * 10.0) / 10.0;
-            }
+        // 평점/리뷰 수/항목별 평균: 과정 집계 통계(삭제되지 않은 승인된 리뷰 기준)에서 O(1)로 읽음
+        CourseStats stats = course.getStats() != null ? course.getStats() : new CourseStats();
+        double rating = stats.getAverageRating();
+        int reviewCount = (int) stats.getApprovedReviewCount();
+        Map<ReviewSectionType, Double> sectionRatings = new EnumMap<>(ReviewSectionType.class);
+        for (ReviewSectionType sectionType : ReviewSectionType.values()) {
+            sectionRatings.put(sectionType, stats.getSectionAverage(sectionType));
         }
 
         return CourseDetailResponseDTO.builder()
@@ -155,6 +150,7 @@ public class CourseDetailResponseDTO {
                 .headerImageId(headerImageId)
                 .rating(rating)
                 .reviewCount(reviewCount)
+                .sectionRatings(sectionRatings)
                 .curriculums(course.getCurriculums() != null
                         ? course.getCurriculums().stream()
                                 .map(CurriculumDTO::from)
@@ -1,5 +1,6 @@
 package com.softwarecampus.backend.dto.course;
 
+import com.softwarecampus.backend.domain.common.ImageDerivatives;
 import com.softwarecampus.backend.domain.course.CourseImage;
 import com.softwarecampus.backend.domain.course.CourseImageType;
 import lombok.*;
@@ -12,6 +13,9 @@ import lombok.*;
 public class CourseImageResponse {
     private Long imageId;
     private String imageUrl;
+    /** 축소본 키 (너비 200px / 800px, 생성 전에는 null) */
+    private String smallImageUrl;
+    private String mediumImageUrl;
     private CourseImageType imageType;
     
     /** @deprecated imageType 사용 권장 */
@@ -22,6 +26,8 @@ public class CourseImageResponse {
         return CourseImageResponse.builder()
                 .imageId(image.getId())
                 .imageUrl(image.getImageUrl())
+                .smallImageUrl(ImageDerivatives.smallKeyOf(image.getImageDerivatives()))
+                .mediumImageUrl(ImageDerivatives.mediumKeyOf(image.getImageDerivatives()))
                 .imageType(image.getImageType())
                 .isThumbnail(image.isThumbnail())
                 .build();
@@ -1,9 +1,11 @@
 package com.softwarecampus.backend.dto.course;
 
 import com.softwarecampus.backend.domain.common.ApprovalStatus;
+import com.softwarecampus.backend.domain.common.ImageDerivatives;
 import com.softwarecampus.backend.domain.course.CategoryType;
 import com.softwarecampus.backend.domain.course.Course;
 import com.softwarecampus.backend.domain.course.CourseImageType;
+import com.softwarecampus.backend.domain.course.CourseStats;
 import lombok.*;
 
 import java.time.LocalDate;
@@ -56,6 +58,9 @@ public class CourseResponseDTO {
 
     // 과정 이미지 (썸네일 - 목록 표시용)
     private String imageUrl;
+
+    // 과정 썸네일 축소본 (너비 200px, 생성 전에는 null → imageUrl 사용)
+    private String imageSmallUrl;
     
     // 썸네일 이미지 ID (삭제 API 호출용)
     private Long thumbnailImageId;
@@ -70,26 +75,10 @@ public class CourseResponseDTO {
      * Entity → DTO 변환
      */
     public static CourseResponseDTO fromEntity(Course course) {
-        // 평점 계산 (삭제되지 않은 승인된 리뷰들의 평균)
-        double rating = 0.0;
-        int reviewCount = 0;
-
-        if (course.getReviews() != null) {
-            var activeReviews = course.getReviews().stream()
-                    .filter(r -> r.isActive() && r.getApprovalStatus() == ApprovalStatus.APPROVED)
-                    .toList();
-
-            reviewCount = activeReviews.size();
-
-            if (reviewCount > 0) {
-                rating = activeReviews.stream()
-                        .mapToDouble(com.softwarecampus.backend.domain.course.CourseReview::calculateAverageScore)
-                        .average()
-                        .orElse(0.0);
-                // 소수점 1자리 반올림
-                rating = Math.round(rating * 10.0) / 10.0;
-            }
-        }
+        // 평점/리뷰 수: 과정 집계 통계(삭제되지 않은 승인된 리뷰 기준)에서 O(1)로 읽음
+        CourseStats stats = course.getStats() != null ? course.getStats() : new CourseStats();
+        double rating = stats.getAverageRating();
+        int reviewCount = (int) stats.getApprovedReviewCount();
 
         // 썸네일 이미지 추출 (THUMBNAIL 타입 또는 기존 isThumbnail=true)
         var thumbnailImage = course.getImages().stream()
@@ -98,6 +87,8 @@ public class CourseResponseDTO {
                 .orElse(null);
         String imageUrl = thumbnailImage != null ? thumbnailImage.getImageUrl() : null;
         Long thumbnailImageId = thumbnailImage != null ? thumbnailImage.getId() : null;
+        String imageSmallUrl = thumbnailImage != null
+                ? ImageDerivatives.smallKeyOf(thumbnailImage.getImageDerivatives()) : null;
 
         // 헤더 이미지 추출 (HEADER 타입)
         var headerImage = course.getImages().stream()
@@ -135,6 +126,7 @@ public class CourseResponseDTO {
                 .requesterId(course.getRequester() != null ? course.getRequester().getId() : null)
                 .requesterName(course.getRequester() != null ? course.getRequester().getUserName() : null)
                 .imageUrl(imageUrl)
+                .imageSmallUrl(imageSmallUrl)
                 .thumbnailImageId(thumbnailImageId)
                 .headerImageUrl(headerImageUrl)
                 .headerImageId(headerImageId)
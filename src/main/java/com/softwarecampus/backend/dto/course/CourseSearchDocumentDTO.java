@@ -0,0 +1,19 @@
+package com.softwarecampus.backend.dto.course;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 과정 검색 색인 문서
+ * 색인 대상 텍스트(과정명, 기관명, 카테고리명, 지역)만 조회 (JPQL constructor expression)
+ */
+@Getter
+@AllArgsConstructor
+public class CourseSearchDocumentDTO {
+
+    private Long id;
+    private String name;
+    private String academyName;
+    private String categoryName;
+    private String location;
+}
@@ -36,8 +36,8 @@ public class HomeCommunityDTO {
                 .accountId(board.getAccount() != null ? board.getAccount().getId() : null)
                 .writerName(board.getAccount() != null ? board.getAccount().getUserName() : "익명")
                 .viewCount((int) Math.min(board.getHits(), Integer.MAX_VALUE))
-                .likeCount(board.getBoardRecommends().size())
-                .commentCount(board.getComments().size())
+                .likeCount((int) board.getRecommendCount())
+                .commentCount((int) board.getCommentCount())
                 .createdAt(board.getCreatedAt())
                 .build();
     }
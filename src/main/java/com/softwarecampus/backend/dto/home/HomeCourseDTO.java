@@ -1,7 +1,9 @@
 package com.softwarecampus.backend.dto.home;
 
+import com.softwarecampus.backend.domain.common.ImageDerivatives;
 import com.softwarecampus.backend.domain.course.CategoryType;
 import com.softwarecampus.backend.domain.course.Course;
+import com.softwarecampus.backend.domain.course.CourseStats;
 import lombok.*;
 
 import java.time.LocalDate;
@@ -38,13 +40,20 @@ public class HomeCourseDTO {
         private boolean isOffline;
 
         private String imageUrl;
+        private String imageSmallUrl; // 썸네일 축소본 (너비 200px, 생성 전에는 null → imageUrl 사용)
         private Double rating;
         private Integer reviewCount;
 
         /**
          * Entity → DTO 변환
+         * 평점/리뷰 수는 과정 집계 통계(CourseStats)에서 읽음 (리뷰 컬렉션 로딩 없음)
          */
-        public static HomeCourseDTO fromEntity(Course course, Double rating, Integer reviewCount) {
+        public static HomeCourseDTO fromEntity(Course course) {
+                CourseStats stats = course.getStats() != null ? course.getStats() : new CourseStats();
+                var thumbnailImage = course.getImages().stream()
+                                .filter(img -> img.isActive() && img.isThumbnail())
+                                .findFirst()
+                                .orElse(null);
                 return HomeCourseDTO.builder()
                                 .id(course.getId())
                                 .name(course.getName())
@@ -64,13 +73,12 @@ public class HomeCourseDTO {
                                 .isKdt(course.isKdt())
                                 .isNailbaeum(course.isNailbaeum())
                                 .isOffline(course.isOffline())
-                                .imageUrl(course.getImages().stream()
-                                                .filter(img -> img.isActive() && img.isThumbnail())
-                                                .findFirst()
-                                                .map(img -> img.getImageUrl())
-                                                .orElse(null))
-                                .rating(rating)
-                                .reviewCount(reviewCount)
+                                .imageUrl(thumbnailImage != null ? thumbnailImage.getImageUrl() : null)
+                                .imageSmallUrl(thumbnailImage != null
+                                                ? ImageDerivatives.smallKeyOf(thumbnailImage.getImageDerivatives())
+                                                : null)
+                                .rating(stats.getAverageRating())
+                                .reviewCount((int) stats.getApprovedReviewCount())
                                 .build();
         }
 }
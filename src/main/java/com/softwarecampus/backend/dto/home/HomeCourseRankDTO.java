@@ -0,0 +1,29 @@
+package com.softwarecampus.backend.dto.home;
+
+import com.softwarecampus.backend.domain.course.CategoryType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 메인페이지 스냅샷 - 과정 랭킹 지표
+ * 과정 엔티티 전체를 로딩하지 않고 정렬에 필요한 값만 조회 (JPQL constructor expression)
+ */
+@Getter
+@AllArgsConstructor
+public class HomeCourseRankDTO {
+
+        private Long id;
+        private CategoryType categoryType;
+        private LocalDate recruitEnd;
+        private long favoriteCount;
+        private long reviewCount;
+
+        /**
+         * 베스트 과정 정렬 점수 (찜 + 리뷰 수)
+         */
+        public long getPopularity() {
+                return favoriteCount + reviewCount;
+        }
+}
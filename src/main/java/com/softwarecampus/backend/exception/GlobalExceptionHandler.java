@@ -469,6 +469,14 @@ public class GlobalExceptionHandler {
                 log.warn("S3 upload failed - Validation error: {}", ex.getMessage());
                 break;
 
+            case RANGE_NOT_SATISFIABLE:
+                status = HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE; // 416
+                message = ex.getMessage();
+                type = problemBaseUri + "/range-not-satisfiable";
+                title = "Range Not Satisfiable";
+                log.debug("S3 download failed - Range not satisfiable: {}", ex.getMessage());
+                break;
+
             case AUTHENTICATION_ERROR:
                 status = HttpStatus.FORBIDDEN; // 403
                 message = "파일 저장소 접근 권한이 없습니다.";
@@ -20,6 +20,8 @@ public class S3UploadException extends RuntimeException {
         INVALID_FILE_TYPE,
         /** 파일 검증 실패 (빈 파일, null 등) */
         VALIDATION_ERROR,
+        /** 요청한 범위(Range)가 파일 크기를 벗어남 */
+        RANGE_NOT_SATISFIABLE,
         /** AWS 인증/권한 오류 */
         AUTHENTICATION_ERROR,
         /** S3 리소스를 찾을 수 없음 */
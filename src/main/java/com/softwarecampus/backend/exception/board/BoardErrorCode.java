@@ -25,7 +25,8 @@ public enum BoardErrorCode {
     FILE_DOWNLOAD_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 2003, "게시판 첨부파일 다운로드시 에러가 발생하였습니다"),
     FILE_NOT_FOUND(HttpStatus.NOT_FOUND, 2004, "게시판 첨부파일이 존재하지 않습니다"),
     FILE_ACCESS_FORBIDDEN(HttpStatus.FORBIDDEN, 2005, "게시판 첨부파일에 접근 권한이 없습니다"),
-    FILE_COUNT_EXCEEDED(HttpStatus.BAD_REQUEST, 2006, "첨부파일 개수가 제한을 초과하였습니다");
+    FILE_COUNT_EXCEEDED(HttpStatus.BAD_REQUEST, 2006, "첨부파일 개수가 제한을 초과하였습니다"),
+    FILE_ALREADY_ATTACHED(HttpStatus.BAD_REQUEST, 2007, "이미 등록된 첨부파일입니다");
 
     private final HttpStatus httpStatus;
     private final int errorCode;
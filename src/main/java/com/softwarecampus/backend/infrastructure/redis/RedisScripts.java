@@ -33,7 +33,6 @@ public final class RedisScripts {
      * 
      * <p><b>사용처:</b>
      * <ul>
-     *   <li>{@link com.softwarecampus.backend.security.RateLimitFilter} - IP 기반 Rate Limiting</li>
      *   <li>{@link com.softwarecampus.backend.service.auth.LoginAttemptService} - 로그인 실패 추적</li>
      * </ul>
      * 
@@ -61,4 +60,129 @@ public final class RedisScripts {
         "  redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
         "end " +
         "return count";
+    
+    /**
+     * SADD + EXPIREAT 원자적 처리 Lua 스크립트
+     * 
+     * <p>집합에 멤버를 추가하고, 새로 추가된 경우 만료 시각(epoch 초)을 설정한다.
+     * 같은 키에는 항상 같은 만료 시각을 전달하므로 여러 번 설정되어도 결과가 같다.
+     * 
+     * <p><b>사용처:</b>
+     * <ul>
+     *   <li>{@link com.softwarecampus.backend.service.board.BoardViewTracker} - 게시글 일별 중복 조회 판별</li>
+     * </ul>
+     * 
+     * <p><b>스크립트 동작:</b>
+     * <pre>
+     * local added = redis.call('SADD', KEYS[1], ARGV[1])  -- 멤버 추가 (이미 있으면 0)
+     * if added == 1 then
+     *   redis.call('EXPIREAT', KEYS[1], ARGV[2])          -- 만료 시각 설정
+     * end
+     * return added                                        -- 1: 새 멤버, 0: 기존 멤버
+     * </pre>
+     */
+    public static final String SADD_WITH_EXPIREAT = 
+        "local added = redis.call('SADD', KEYS[1], ARGV[1]) " +
+        "if added == 1 then " +
+        "  redis.call('EXPIREAT', KEYS[1], ARGV[2]) " +
+        "end " +
+        "return added";
+    
+    /**
+     * 여러 카운터 INCRBY + EXPIRE 일괄 처리 Lua 스크립트
+     * 
+     * <p>{@link #INCR_WITH_EXPIRE} 와 같은 고정 윈도우 카운터에 인스턴스가 로컬에서 소비한 수를 한 번에 더하고,
+     * 키마다 현재 클러스터 전체 카운트를 반환한다. 증가량이 0 인 키는 조회만 한다 (키를 만들지 않음).
+     * 
+     * <p><b>사용처:</b>
+     * <ul>
+     *   <li>{@link com.softwarecampus.backend.security.LocalRateLimiter} - 로컬 토큰 버킷 소비량 동기화</li>
+     * </ul>
+     * 
+     * <p><b>스크립트 동작:</b>
+     * <pre>
+     * -- KEYS: 카운터 키 목록, ARGV[1]: TTL(초), ARGV[i + 1]: KEYS[i] 증가량
+     * for i, key in ipairs(KEYS) do
+     *   local delta = tonumber(ARGV[i + 1])
+     *   if delta == 0 then
+     *     counts[i] = tonumber(redis.call('GET', key) or '0')  -- 조회만
+     *   else
+     *     local count = redis.call('INCRBY', key, delta)
+     *     if count == delta then                             -- 첫 생성 시에만
+     *       redis.call('EXPIRE', key, ARGV[1])               -- TTL 설정
+     *     end
+     *     counts[i] = count
+     *   end
+     * end
+     * return counts                                          -- 키별 현재 카운트
+     * </pre>
+     */
+    public static final String INCRBY_WITH_EXPIRE_BATCH = 
+        "local counts = {} " +
+        "for i, key in ipairs(KEYS) do " +
+        "  local delta = tonumber(ARGV[i + 1]) " +
+        "  if delta == 0 then " +
+        "    counts[i] = tonumber(redis.call('GET', key) or '0') " +
+        "  else " +
+        "    local count = redis.call('INCRBY', key, delta) " +
+        "    if count == delta then " +
+        "      redis.call('EXPIRE', key, ARGV[1]) " +
+        "    end " +
+        "    counts[i] = count " +
+        "  end " +
+        "end " +
+        "return counts";
+    
+    /**
+     * 다단계 Rate Limit 일괄 판정 Lua 스크립트
+     * 
+     * <p>요청에 적용되는 엄격 모드 단계(비밀번호 검증, 로그인, 전역)의 고정 윈도우 카운터를 순서대로
+     * {@link #INCR_WITH_EXPIRE} 와 같은 방식으로 증가시키고 판정한다. 한 번의 호출(EVALSHA)로 모든 단계를 처리한다.
+     * 한도를 넘은 단계가 나오면 이후 단계는 증가시키지 않는다 (단계별로 따로 호출하던 방식과 동일).
+     * TTL 이 없는 키(-1)는 윈도우 TTL 을 다시 설정한다.
+     * 
+     * <p><b>사용처:</b>
+     * <ul>
+     *   <li>{@link com.softwarecampus.backend.security.RateLimitFilter} - 엄격 모드 단계 판정</li>
+     * </ul>
+     * 
+     * <p><b>스크립트 동작:</b>
+     * <pre>
+     * -- KEYS: 단계별 카운터 키, ARGV[1]: 윈도우(초), ARGV[i + 1]: KEYS[i] 한도
+     * for i, key in ipairs(KEYS) do
+     *   local count = redis.call('INCR', key)
+     *   if count == 1 then redis.call('EXPIRE', key, ARGV[1]) end
+     *   local ttl = redis.call('TTL', key)
+     *   ...
+     *   -- 단계마다 {허용 여부(1/0), 남은 요청 수, 남은 TTL(초)} 를 이어 붙임
+     *   if count > limit then return result end            -- 초과 단계에서 중단
+     * end
+     * return result
+     * </pre>
+     */
+    public static final String RATE_LIMIT_MULTI_TIER = 
+        "local result = {} " +
+        "for i, key in ipairs(KEYS) do " +
+        "  local count = redis.call('INCR', key) " +
+        "  if count == 1 then " +
+        "    redis.call('EXPIRE', key, ARGV[1]) " +
+        "  end " +
+        "  local ttl = redis.call('TTL', key) " +
+        "  if ttl < 0 then " +
+        "    redis.call('EXPIRE', key, ARGV[1]) " +
+        "    ttl = tonumber(ARGV[1]) " +
+        "  end " +
+        "  local limit = tonumber(ARGV[i + 1]) " +
+        "  local allowed = 0 " +
+        "  if count <= limit then " +
+        "    allowed = 1 " +
+        "  end " +
+        "  table.insert(result, allowed) " +
+        "  table.insert(result, math.max(limit - count, 0)) " +
+        "  table.insert(result, ttl) " +
+        "  if allowed == 0 then " +
+        "    return result " +
+        "  end " +
+        "end " +
+        "return result";
 }
@@ -0,0 +1,71 @@
+package com.softwarecampus.backend.infrastructure.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시 Redis 에 연결할 수 없어도 애플리케이션 기동을 막지 않는 Pub/Sub 리스너 컨테이너
+ *
+ * RedisMessageListenerContainer 는 등록된 채널이 있으면 start() 에서 바로 구독 연결을 열고,
+ * 연결에 실패하면 예외를 던져 컨텍스트 기동 자체가 실패한다.
+ * 이 컨테이너는 그 경우 경고만 남기고 retryIntervalMillis 간격으로 구독을 다시 시도한다.
+ * 구독에 성공한 뒤의 연결 끊김은 기본 컨테이너의 복구(재구독)로 처리된다.
+ *
+ * 구독 여부는 isListening() 또는 SubscriptionListener 콜백으로 확인한다.
+ *
+ * @since 2026-10-17
+ */
+@Slf4j
+public class RetryingMessageListenerContainer extends RedisMessageListenerContainer {
+
+    private final long retryIntervalMillis;
+
+    private final ScheduledExecutorService retryExecutor;
+
+    private volatile boolean stopped;
+
+    public RetryingMessageListenerContainer(long retryIntervalMillis) {
+        this.retryIntervalMillis = retryIntervalMillis;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("redis-listener-retry-");
+        threadFactory.setDaemon(true);
+        this.retryExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    @Override
+    public void start() {
+        stopped = false;
+        tryStart();
+    }
+
+    @Override
+    public synchronized void stop() {
+        stopped = true;
+        super.stop();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        stopped = true;
+        retryExecutor.shutdownNow();
+        super.destroy();
+    }
+
+    private synchronized void tryStart() {
+        if (stopped) {
+            return;
+        }
+        try {
+            super.start();
+        } catch (RuntimeException e) {
+            log.warn("Redis 구독 연결 실패 - {}ms 후 재시도: {}", retryIntervalMillis, e.getMessage());
+            // 실패한 start() 는 시작 상태로 남아 다시 호출해도 무시되므로 정지 후 재시도
+            super.stop();
+            retryExecutor.schedule(this::tryStart, retryIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+}
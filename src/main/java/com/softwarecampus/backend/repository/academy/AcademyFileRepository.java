@@ -2,6 +2,8 @@ package com.softwarecampus.backend.repository.academy;
 
 import com.softwarecampus.backend.domain.academy.AcademyFile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -25,4 +27,10 @@ public interface AcademyFileRepository extends JpaRepository<AcademyFile, Long>
      * @return 첨부파일 개수
      */
     long countByAcademyId(Long academyId);
+
+    /**
+     * 버킷 대조용: 주어진 S3 키 중 기관 첨부파일이 참조하는 키 (Soft-Delete 된 행 포함)
+     */
+    @Query("SELECT f.s3Key FROM AcademyFile f WHERE f.s3Key IN :keys")
+    List<String> findReferencedKeys(@Param("keys") List<String> keys);
 }
@@ -2,7 +2,11 @@ package com.softwarecampus.backend.repository.academy;
 
 import com.softwarecampus.backend.domain.academy.Academy;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -29,4 +33,24 @@ public interface AcademyRepository extends JpaRepository<Academy, Long> {
             @org.springframework.data.repository.query.Param("status") com.softwarecampus.backend.domain.academy.ApprovalStatus status,
             @org.springframework.data.repository.query.Param("keyword") String keyword,
             org.springframework.data.domain.Pageable pageable);
+
+    /**
+     * 이미지 파생본 키 기록 (ImageDerivativeProcessor 비동기 처리 결과)
+     * 원본 키가 그 사이 교체되었다면 갱신되지 않는다 (0 반환)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Academy a SET a.imageDerivatives.smallKey = :smallKey, " +
+        "a.imageDerivatives.mediumKey = :mediumKey WHERE a.logoUrl = :originalKey")
+    int updateImageDerivatives(@Param("originalKey") String originalKey,
+        @Param("smallKey") String smallKey,
+        @Param("mediumKey") String mediumKey);
+
+    /**
+     * 버킷 대조용: 주어진 S3 키 중 기관 로고(원본/축소본)가 참조하는 키 (Soft-Delete 된 행 포함)
+     */
+    @Query("SELECT a.logoUrl FROM Academy a WHERE a.logoUrl IN :keys " +
+        "UNION SELECT a.imageDerivatives.smallKey FROM Academy a WHERE a.imageDerivatives.smallKey IN :keys " +
+        "UNION SELECT a.imageDerivatives.mediumKey FROM Academy a WHERE a.imageDerivatives.mediumKey IN :keys")
+    List<String> findReferencedKeys(@Param("keys") List<String> keys);
 }
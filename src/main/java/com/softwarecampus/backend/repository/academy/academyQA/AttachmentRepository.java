@@ -2,10 +2,13 @@ package com.softwarecampus.backend.repository.academy.academyQA;
 
 import com.softwarecampus.backend.domain.academy.qna.Attachment;
 import com.softwarecampus.backend.domain.common.AttachmentCategoryType;
+import com.softwarecampus.backend.dto.common.FileCleanupRowDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -41,16 +44,44 @@ public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
                         @Param("id") Long categoryId);
 
         /**
-         * 스케줄러용: 삭제된 지 일정 기간이 지난 파일 조회
+         * 스케줄러용: 삭제된 지 일정 기간이 지난 파일을 ID 순으로 청크 조회 (ID + S3 키만)
          */
-        List<Attachment> findByIsDeletedTrueAndDeletedAtBefore(LocalDateTime threshold);
+        @Query("SELECT new com.softwarecampus.backend.dto.common.FileCleanupRowDTO(a.id, a.filename) " +
+                        "FROM Attachment a WHERE a.isDeleted = TRUE AND a.deletedAt < :threshold AND a.id > :afterId " +
+                        "ORDER BY a.id")
+        List<FileCleanupRowDTO> findCleanupRowsAfter(@Param("threshold") LocalDateTime threshold,
+                        @Param("afterId") long afterId, Pageable pageable);
 
         /**
-         * 고아 파일 정리용: categoryId가 null이고 생성된 지 일정 기간이 지난 임시 파일 조회
+         * 스케줄러용: 청크 단위 영구 삭제 (Soft-Delete 된 행만)
+         */
+        @Transactional
+        @Modifying
+        @Query("DELETE FROM Attachment a WHERE a.id IN :ids AND a.isDeleted = TRUE")
+        int hardDeleteByIdIn(@Param("ids") List<Long> ids);
+
+        /**
+         * 직접 업로드 확정 중복 방지: 같은 S3 키로 이미 생성된 레코드 존재 여부
+         */
+        boolean existsByFilename(String filename);
+
+        /**
+         * 고아 파일 정리용: categoryId가 null이고 생성된 지 일정 기간이 지난 임시 파일을 ID 순으로 청크 조회
          * - 파일 업로드 후 Q&A 생성을 완료하지 않은 경우 발생
          */
-        @Query("SELECT a FROM Attachment a WHERE a.categoryId IS NULL AND a.isDeleted = FALSE AND a.createdAt < :threshold")
-        List<Attachment> findOrphanedFiles(@Param("threshold") LocalDateTime threshold);
+        @Query("SELECT new com.softwarecampus.backend.dto.common.FileCleanupRowDTO(a.id, a.filename) " +
+                        "FROM Attachment a WHERE a.categoryId IS NULL AND a.isDeleted = FALSE " +
+                        "AND a.createdAt < :threshold AND a.id > :afterId ORDER BY a.id")
+        List<FileCleanupRowDTO> findOrphanRowsAfter(@Param("threshold") LocalDateTime threshold,
+                        @Param("afterId") long afterId, Pageable pageable);
+
+        /**
+         * 고아 파일 정리용: 청크 단위 영구 삭제 (그 사이 게시글에 연결된 파일은 제외)
+         */
+        @Transactional
+        @Modifying
+        @Query("DELETE FROM Attachment a WHERE a.id IN :ids AND a.categoryId IS NULL")
+        int hardDeleteOrphansByIdIn(@Param("ids") List<Long> ids);
 
         /**
          * N+1 쿼리 최적화: 여러 Q&A의 첨부파일을 한 번에 조회
@@ -63,4 +94,10 @@ public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
         List<Attachment> findByCategoryTypeAndCategoryIdInAndIsDeletedFalse(
                         @Param("type") AttachmentCategoryType categoryType,
                         @Param("ids") List<Long> categoryIds);
+
+        /**
+         * 버킷 대조용: 주어진 S3 키 중 Q&A 첨부파일(고아 파일 포함)이 참조하는 키 (Soft-Delete 된 행 포함)
+         */
+        @Query("SELECT a.filename FROM Attachment a WHERE a.filename IN :keys")
+        List<String> findReferencedKeys(@Param("keys") List<String> keys);
 }
@@ -2,7 +2,11 @@ package com.softwarecampus.backend.repository.banner;
 
 import com.softwarecampus.backend.domain.banner.Banner;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,4 +29,23 @@ public interface BannerRepository extends JpaRepository<Banner, Long> {
      */
     Optional<Banner> findByIdAndIsDeletedFalse(Long id);
 
+    /**
+     * 이미지 파생본 키 기록 (ImageDerivativeProcessor 비동기 처리 결과)
+     * 원본 키가 그 사이 교체되었다면 갱신되지 않는다 (0 반환)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Banner b SET b.imageDerivatives.smallKey = :smallKey, " +
+        "b.imageDerivatives.mediumKey = :mediumKey WHERE b.imageUrl = :originalKey")
+    int updateImageDerivatives(@Param("originalKey") String originalKey,
+        @Param("smallKey") String smallKey,
+        @Param("mediumKey") String mediumKey);
+
+    /**
+     * 버킷 대조용: 주어진 S3 키 중 배너 이미지(원본/축소본)가 참조하는 키 (Soft-Delete 된 행 포함)
+     */
+    @Query("SELECT b.imageUrl FROM Banner b WHERE b.imageUrl IN :keys " +
+        "UNION SELECT b.imageDerivatives.smallKey FROM Banner b WHERE b.imageDerivatives.smallKey IN :keys " +
+        "UNION SELECT b.imageDerivatives.mediumKey FROM Banner b WHERE b.imageDerivatives.mediumKey IN :keys")
+    List<String> findReferencedKeys(@Param("keys") List<String> keys);
 }
@@ -1,10 +1,42 @@
 package com.softwarecampus.backend.repository.board;
 
 import com.softwarecampus.backend.domain.board.BoardAttach;
+import com.softwarecampus.backend.dto.common.FileCleanupRowDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface BoardAttachRepository extends JpaRepository<BoardAttach, Long> {
 
-    // 스케줄러용: 삭제된 지 일정 기간이 지난 파일 조회
-    java.util.List<BoardAttach> findByIsDeletedTrueAndDeletedAtBefore(java.time.LocalDateTime threshold);
+    /**
+     * 스케줄러용: 삭제된 지 일정 기간이 지난 파일을 ID 순으로 청크 조회 (ID + S3 키만)
+     */
+    @Query("SELECT new com.softwarecampus.backend.dto.common.FileCleanupRowDTO(f.id, f.realFilename) " +
+            "FROM BoardAttach f WHERE f.isDeleted = TRUE AND f.deletedAt < :threshold AND f.id > :afterId " +
+            "ORDER BY f.id")
+    List<FileCleanupRowDTO> findCleanupRowsAfter(@Param("threshold") LocalDateTime threshold,
+            @Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 스케줄러용: 청크 단위 영구 삭제 (Soft-Delete 된 행만)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BoardAttach f WHERE f.id IN :ids AND f.isDeleted = TRUE")
+    int hardDeleteByIdIn(@Param("ids") List<Long> ids);
+
+    // 직접 업로드 확정 중복 방지: 같은 S3 키로 이미 생성된 첨부파일 존재 여부
+    boolean existsByRealFilename(String realFilename);
+
+    /**
+     * 버킷 대조용: 주어진 S3 키 중 게시글 첨부파일이 참조하는 키 (Soft-Delete 된 행 포함)
+     */
+    @Query("SELECT f.realFilename FROM BoardAttach f WHERE f.realFilename IN :keys")
+    List<String> findReferencedKeys(@Param("keys") List<String> keys);
 }
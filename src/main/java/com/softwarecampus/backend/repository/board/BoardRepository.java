@@ -3,13 +3,20 @@ package com.softwarecampus.backend.repository.board;
 import com.softwarecampus.backend.domain.board.Board;
 import com.softwarecampus.backend.domain.board.BoardCategory;
 import com.softwarecampus.backend.dto.board.BoardListResponseDTO;
+import com.softwarecampus.backend.dto.board.BoardSearchDocumentDTO;
 import com.softwarecampus.backend.dto.mypage.MyPostResponseDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
@@ -19,8 +26,7 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
         // 내가 쓴 글 목록 조회
         @Query(value = "SELECT new com.softwarecampus.backend.dto.mypage.MyPostResponseDTO(" +
                         "b.id, b.title, b.category, b.hits, " +
-                        "(SELECT COUNT(c) FROM Comment c WHERE c.board = b AND c.isDeleted = false), " +
-                        "(SELECT COUNT(r) FROM BoardRecommend r WHERE r.board = b), " +
+                        "b.commentCount, b.recommendCount, " +
                         "b.createdAt) " +
                         "FROM Board b WHERE b.account.id = :accountId AND b.isDeleted = false", countQuery = "SELECT COUNT(b) FROM Board b WHERE b.account.id = :accountId AND b.isDeleted = false")
         Page<MyPostResponseDTO> findMyPosts(@Param("accountId") Long accountId, Pageable pageable);
@@ -33,6 +39,22 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
         @Query("SELECT COALESCE(SUM(b.hits), 0) FROM Board b WHERE b.account.id = :accountId AND b.isDeleted = false")
         Long sumHitsByAccountId(@Param("accountId") Long accountId);
 
+        // 조회수 일괄 증가 (ViewCountService 쓰기 지연 반영용, 같은 증가량의 게시글을 한 번의 UPDATE 로 처리)
+        @Transactional
+        @Modifying
+        @Query("UPDATE Board b SET b.hits = b.hits + :delta WHERE b.id IN :ids")
+        int increaseHits(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+        // 댓글 수 증감 (댓글 작성 +1 / 삭제 -1, 0 미만으로는 줄지 않음)
+        @Modifying
+        @Query("UPDATE Board b SET b.commentCount = b.commentCount + :delta WHERE b.id = :boardId AND b.commentCount + :delta >= 0")
+        int addCommentCount(@Param("boardId") Long boardId, @Param("delta") long delta);
+
+        // 추천 수 증감 (추천 +1 / 추천 취소 -1, 0 미만으로는 줄지 않음)
+        @Modifying
+        @Query("UPDATE Board b SET b.recommendCount = b.recommendCount + :delta WHERE b.id = :boardId AND b.recommendCount + :delta >= 0")
+        int addRecommendCount(@Param("boardId") Long boardId, @Param("delta") long delta);
+
         // 게시글 상세 조회용: Account + Attaches 조회 (Recommends는 BatchSize로 처리)
         @Query("SELECT DISTINCT b FROM Board b " +
                         "LEFT JOIN FETCH b.account a " +
@@ -42,76 +64,86 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 
         // ===== 기본 조회 (정렬별) =====
         // 최신순 (기본)
-        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,MAX(b.category),MAX(b.title),MAX(b.secret),MAX(a.userName),MAX(a.id),count(distinct case when c.isDeleted=false then c.id end),MAX(b.hits),count(distinct r.id),max(b.createdAt)) from Board b left join b.boardRecommends r left join b.comments c join b.account a "
+        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,b.category,b.title,b.secret,a.userName,a.id,b.commentCount,b.hits,b.recommendCount,b.createdAt) from Board b join b.account a "
                         +
-                        "WHERE (:category IS NULL OR b.category=:category) and b.isDeleted = false and a.isDeleted = false GROUP BY b.id ORDER BY MAX(b.createdAt) DESC, b.id DESC", countQuery = "select count(b) from Board b join b.account a WHERE (:category IS NULL OR b.category=:category) and b.isDeleted=false and a.isDeleted=false")
+                        "WHERE (:category IS NULL OR b.category=:category) and b.isDeleted = false and a.isDeleted = false ORDER BY b.createdAt DESC, b.id DESC", countQuery = "select count(b) from Board b join b.account a WHERE (:category IS NULL OR b.category=:category) and b.isDeleted=false and a.isDeleted=false")
         Page<BoardListResponseDTO> findBoardsByCategoryOrderByLatest(@Param("category") BoardCategory category,
                         Pageable pageable);
 
         // 추천순
-        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,MAX(b.category),MAX(b.title),MAX(b.secret),MAX(a.userName),MAX(a.id),count(distinct case when c.isDeleted=false then c.id end),MAX(b.hits),count(distinct r.id),max(b.createdAt)) from Board b left join b.boardRecommends r left join b.comments c join b.account a "
+        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,b.category,b.title,b.secret,a.userName,a.id,b.commentCount,b.hits,b.recommendCount,b.createdAt) from Board b join b.account a "
                         +
-                        "WHERE (:category IS NULL OR b.category=:category) and b.isDeleted = false and a.isDeleted = false GROUP BY b.id ORDER BY count(distinct r.id) DESC, b.id DESC", countQuery = "select count(b) from Board b join b.account a WHERE (:category IS NULL OR b.category=:category) and b.isDeleted=false and a.isDeleted=false")
+                        "WHERE (:category IS NULL OR b.category=:category) and b.isDeleted = false and a.isDeleted = false ORDER BY b.recommendCount DESC, b.id DESC", countQuery = "select count(b) from Board b join b.account a WHERE (:category IS NULL OR b.category=:category) and b.isDeleted=false and a.isDeleted=false")
         Page<BoardListResponseDTO> findBoardsByCategoryOrderByPopular(@Param("category") BoardCategory category,
                         Pageable pageable);
 
         // 조회순
-        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,MAX(b.category),MAX(b.title),MAX(b.secret),MAX(a.userName),MAX(a.id),count(distinct case when c.isDeleted=false then c.id end),MAX(b.hits),count(distinct r.id),max(b.createdAt)) from Board b left join b.boardRecommends r left join b.comments c join b.account a "
+        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,b.category,b.title,b.secret,a.userName,a.id,b.commentCount,b.hits,b.recommendCount,b.createdAt) from Board b join b.account a "
                         +
-                        "WHERE (:category IS NULL OR b.category=:category) and b.isDeleted = false and a.isDeleted = false GROUP BY b.id ORDER BY MAX(b.hits) DESC, b.id DESC", countQuery = "select count(b) from Board b join b.account a WHERE (:category IS NULL OR b.category=:category) and b.isDeleted=false and a.isDeleted=false")
+                        "WHERE (:category IS NULL OR b.category=:category) and b.isDeleted = false and a.isDeleted = false ORDER BY b.hits DESC, b.id DESC", countQuery = "select count(b) from Board b join b.account a WHERE (:category IS NULL OR b.category=:category) and b.isDeleted=false and a.isDeleted=false")
         Page<BoardListResponseDTO> findBoardsByCategoryOrderByViews(@Param("category") BoardCategory category,
                         Pageable pageable);
 
         // 댓글순
-        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,MAX(b.category),MAX(b.title),MAX(b.secret),MAX(a.userName),MAX(a.id),count(distinct case when c.isDeleted=false then c.id end),MAX(b.hits),count(distinct r.id),max(b.createdAt)) from Board b left join b.boardRecommends r left join b.comments c join b.account a "
+        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,b.category,b.title,b.secret,a.userName,a.id,b.commentCount,b.hits,b.recommendCount,b.createdAt) from Board b join b.account a "
                         +
-                        "WHERE (:category IS NULL OR b.category=:category) and b.isDeleted = false and a.isDeleted = false GROUP BY b.id ORDER BY count(distinct case when c.isDeleted=false then c.id end) DESC, b.id DESC", countQuery = "select count(b) from Board b join b.account a WHERE (:category IS NULL OR b.category=:category) and b.isDeleted=false and a.isDeleted=false")
+                        "WHERE (:category IS NULL OR b.category=:category) and b.isDeleted = false and a.isDeleted = false ORDER BY b.commentCount DESC, b.id DESC", countQuery = "select count(b) from Board b join b.account a WHERE (:category IS NULL OR b.category=:category) and b.isDeleted=false and a.isDeleted=false")
         Page<BoardListResponseDTO> findBoardsByCategoryOrderByComments(@Param("category") BoardCategory category,
                         Pageable pageable);
 
-        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,MAX(b.category),MAX(b.title),MAX(b.secret),MAX(a.userName),MAX(a.id),count(distinct case when c.isDeleted=false then c.id end),MAX(b.hits),count(distinct r.id),max(b.createdAt)) from Board b left join b.boardRecommends r left join b.comments c join b.account a "
-                        +
-                        "WHERE (:category IS NULL OR b.category=:category) and b.isDeleted = false and a.isDeleted = false GROUP BY b.id", countQuery = "select count(b) from Board b join b.account a WHERE (:category IS NULL OR b.category=:category) and b.isDeleted=false and a.isDeleted=false")
-        Page<BoardListResponseDTO> findBoardsByCategory(@Param("category") BoardCategory category, Pageable pageable);
-
-        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,MAX(b.category),MAX(b.title),MAX(b.secret),MAX(a.userName),MAX(a.id),count(distinct case when c.isDeleted=false then c.id end),MAX(b.hits),count(distinct r.id),max(b.createdAt)) from Board b left join b.boardRecommends r left join b.comments c join b.account a "
-                        +
-                        "WHERE (:category IS NULL OR b.category=:category) and b.title like :searchText and b.isDeleted=false and a.isDeleted=false GROUP BY b.id", countQuery = "select count(b) from Board b join b.account a WHERE (:category IS NULL OR b.category=:category) and b.title like :searchText and b.isDeleted=false and a.isDeleted=false")
-        Page<BoardListResponseDTO> findBoardsByTitle(@Param("category") BoardCategory category,
-                        @Param("searchText") String searchText, Pageable pageable);
-
-        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,MAX(b.category),MAX(b.title),MAX(b.secret),MAX(a.userName),MAX(a.id),count(distinct case when c.isDeleted=false then c.id end),MAX(b.hits),count(distinct r.id),max(b.createdAt)) from Board b left join b.boardRecommends r left join b.comments c join b.account a "
+        // ===== 커서(keyset) 조회 (정렬별) =====
+        // OFFSET/COUNT 없이 이전 페이지 마지막 행(정렬 키, ID) 이후만 조회 (Slice: size + 1 건 조회로 다음 페이지 판단)
+        // 최신순
+        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,b.category,b.title,b.secret,a.userName,a.id,b.commentCount,b.hits,b.recommendCount,b.createdAt) from Board b join b.account a "
                         +
-                        "WHERE (:category IS NULL OR b.category=:category) and b.text like :searchText and b.isDeleted=false and a.isDeleted=false GROUP BY b.id", countQuery = "select count(b) from Board b join b.account a WHERE (:category IS NULL OR b.category=:category) and b.text like :searchText and b.isDeleted=false and a.isDeleted=false")
-        Page<BoardListResponseDTO> findBoardsByText(@Param("category") BoardCategory category,
-                        @Param("searchText") String searchText, Pageable pageable);
+                        "WHERE (:category IS NULL OR b.category=:category) and b.isDeleted = false and a.isDeleted = false and (:cursorId IS NULL OR b.createdAt < :cursorCreatedAt OR (b.createdAt = :cursorCreatedAt AND b.id < :cursorId)) ORDER BY b.createdAt DESC, b.id DESC")
+        Slice<BoardListResponseDTO> findBoardsByCategoryOrderByLatestAfter(@Param("category") BoardCategory category,
+                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorId") Long cursorId,
+                        Pageable pageable);
 
-        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,MAX(b.category),MAX(b.title),MAX(b.secret),MAX(a.userName),MAX(a.id),count(distinct case when c.isDeleted=false then c.id end),MAX(b.hits),count(distinct r.id),max(b.createdAt)) from Board b left join b.boardRecommends r left join b.comments c join b.account a "
+        // 추천순
+        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,b.category,b.title,b.secret,a.userName,a.id,b.commentCount,b.hits,b.recommendCount,b.createdAt) from Board b join b.account a "
                         +
-                        "WHERE (:category IS NULL OR b.category=:category) and (b.title like :searchText OR b.text like :searchText) and b.isDeleted=false and a.isDeleted=false GROUP BY b.id", countQuery = "select count(b) from Board b join b.account a WHERE (:category IS NULL OR b.category=:category) and (b.title like :searchText OR b.text like :searchText) and b.isDeleted=false and a.isDeleted=false")
-        Page<BoardListResponseDTO> findBoardsByTitleAndText(@Param("category") BoardCategory category,
-                        @Param("searchText") String searchText, Pageable pageable);
+                        "WHERE (:category IS NULL OR b.category=:category) and b.isDeleted = false and a.isDeleted = false and (:cursorId IS NULL OR b.recommendCount < :cursorKey OR (b.recommendCount = :cursorKey AND b.id < :cursorId)) ORDER BY b.recommendCount DESC, b.id DESC")
+        Slice<BoardListResponseDTO> findBoardsByCategoryOrderByPopularAfter(@Param("category") BoardCategory category,
+                        @Param("cursorKey") Long cursorKey, @Param("cursorId") Long cursorId, Pageable pageable);
 
-        // 글쓴이(작성자) 검색
-        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,MAX(b.category),MAX(b.title),MAX(b.secret),MAX(a.userName),MAX(a.id),count(distinct case when c.isDeleted=false then c.id end),MAX(b.hits),count(distinct r.id),max(b.createdAt)) from Board b left join b.boardRecommends r left join b.comments c join b.account a "
+        // 조회순
+        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,b.category,b.title,b.secret,a.userName,a.id,b.commentCount,b.hits,b.recommendCount,b.createdAt) from Board b join b.account a "
                         +
-                        "WHERE (:category IS NULL OR b.category=:category) and a.userName like :searchText and b.isDeleted=false and a.isDeleted=false GROUP BY b.id", countQuery = "select count(b) from Board b join b.account a WHERE (:category IS NULL OR b.category=:category) and a.userName like :searchText and b.isDeleted=false and a.isDeleted=false")
-        Page<BoardListResponseDTO> findBoardsByAuthor(@Param("category") BoardCategory category,
-                        @Param("searchText") String searchText, Pageable pageable);
+                        "WHERE (:category IS NULL OR b.category=:category) and b.isDeleted = false and a.isDeleted = false and (:cursorId IS NULL OR b.hits < :cursorKey OR (b.hits = :cursorKey AND b.id < :cursorId)) ORDER BY b.hits DESC, b.id DESC")
+        Slice<BoardListResponseDTO> findBoardsByCategoryOrderByViewsAfter(@Param("category") BoardCategory category,
+                        @Param("cursorKey") Long cursorKey, @Param("cursorId") Long cursorId, Pageable pageable);
 
-        // 댓글 내용 검색
-        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,MAX(b.category),MAX(b.title),MAX(b.secret),MAX(a.userName),MAX(a.id),count(distinct case when c.isDeleted=false then c.id end),MAX(b.hits),count(distinct r.id),max(b.createdAt)) from Board b left join b.boardRecommends r left join b.comments c join b.account a "
+        // 댓글순
+        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,b.category,b.title,b.secret,a.userName,a.id,b.commentCount,b.hits,b.recommendCount,b.createdAt) from Board b join b.account a "
                         +
-                        "WHERE (:category IS NULL OR b.category=:category) and c.text like :searchText and c.isDeleted=false and b.isDeleted=false and a.isDeleted=false GROUP BY b.id", countQuery = "select count(distinct b) from Board b left join b.comments c join b.account a WHERE (:category IS NULL OR b.category=:category) and c.text like :searchText and c.isDeleted=false and b.isDeleted=false and a.isDeleted=false")
-        Page<BoardListResponseDTO> findBoardsByComment(@Param("category") BoardCategory category,
-                        @Param("searchText") String searchText, Pageable pageable);
-
-        // 전체 검색 (제목 + 내용 + 글쓴이)
-        @Query(value = "SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,MAX(b.category),MAX(b.title),MAX(b.secret),MAX(a.userName),MAX(a.id),count(distinct case when c.isDeleted=false then c.id end),MAX(b.hits),count(distinct r.id),max(b.createdAt)) from Board b left join b.boardRecommends r left join b.comments c join b.account a "
+                        "WHERE (:category IS NULL OR b.category=:category) and b.isDeleted = false and a.isDeleted = false and (:cursorId IS NULL OR b.commentCount < :cursorKey OR (b.commentCount = :cursorKey AND b.id < :cursorId)) ORDER BY b.commentCount DESC, b.id DESC")
+        Slice<BoardListResponseDTO> findBoardsByCategoryOrderByCommentsAfter(@Param("category") BoardCategory category,
+                        @Param("cursorKey") Long cursorKey, @Param("cursorId") Long cursorId, Pageable pageable);
+
+        // ===== 검색 (BoardSearchIndex 결과 기반) =====
+        // 검색 색인이 반환한 ID 중 카테고리/삭제 조건을 만족하는 ID (순서는 호출 측에서 검색 순위로 정렬)
+        @Query("SELECT b.id FROM Board b join b.account a " +
+                        "WHERE b.id IN :ids and (:category IS NULL OR b.category=:category) and b.isDeleted = false and a.isDeleted = false")
+        List<Long> filterSearchBoardIds(@Param("ids") Collection<Long> ids,
+                        @Param("category") BoardCategory category);
+
+        // 목록 행 조회 (ID 지정)
+        @Query("SELECT new com.softwarecampus.backend.dto.board.BoardListResponseDTO(b.id,b.category,b.title,b.secret,a.userName,a.id,b.commentCount,b.hits,b.recommendCount,b.createdAt) from Board b join b.account a "
                         +
-                        "WHERE (:category IS NULL OR b.category=:category) and (b.title like :searchText OR b.text like :searchText OR a.userName like :searchText) and b.isDeleted=false and a.isDeleted=false GROUP BY b.id", countQuery = "select count(b) from Board b join b.account a WHERE (:category IS NULL OR b.category=:category) and (b.title like :searchText OR b.text like :searchText OR a.userName like :searchText) and b.isDeleted=false and a.isDeleted=false")
-        Page<BoardListResponseDTO> findBoardsByAll(@Param("category") BoardCategory category,
-                        @Param("searchText") String searchText, Pageable pageable);
+                        "WHERE b.id IN :ids")
+        List<BoardListResponseDTO> findBoardListByIdIn(@Param("ids") Collection<Long> ids);
+
+        // 검색 색인 전체 빌드용 문서 조회 (삭제된 게시글/탈퇴 작성자 제외)
+        @Query("SELECT new com.softwarecampus.backend.dto.board.BoardSearchDocumentDTO(b.id, b.category, b.title, b.text, a.userName) " +
+                        "FROM Board b join b.account a WHERE b.isDeleted = false and a.isDeleted = false")
+        List<BoardSearchDocumentDTO> findSearchDocuments();
+
+        // 검색 색인 부분 갱신용 문서 조회 (삭제된 게시글은 결과에서 빠지므로 호출 측에서 색인에서 제거됨)
+        @Query("SELECT new com.softwarecampus.backend.dto.board.BoardSearchDocumentDTO(b.id, b.category, b.title, b.text, a.userName) " +
+                        "FROM Board b join b.account a WHERE b.id IN :ids and b.isDeleted = false and a.isDeleted = false")
+        List<BoardSearchDocumentDTO> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
 
         @org.springframework.data.jpa.repository.EntityGraph(attributePaths = { "account" })
         Page<Board> findByIsDeletedFalse(Pageable pageable);
@@ -8,30 +8,12 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 
+/**
+ * 게시글 조회 기록 (감사 용도, board.view.audit.enabled=true 일 때만 적재)
+ * 일별 중복 조회 판별은 BoardViewTracker 에서 처리
+ */
 public interface BoardViewRepository extends JpaRepository<BoardView, Long> {
 
-    /**
-     * 로그인 사용자: 오늘 해당 게시글 조회 기록 존재 여부
-     */
-    @Query("SELECT COUNT(bv) > 0 FROM BoardView bv " +
-            "WHERE bv.board.id = :boardId " +
-            "AND bv.account.id = :accountId " +
-            "AND DATE(bv.viewedAt) = CURRENT_DATE")
-    boolean existsTodayViewByAccount(
-            @Param("boardId") Long boardId,
-            @Param("accountId") Long accountId);
-
-    /**
-     * 비로그인 사용자: 오늘 해당 게시글 IP 기준 조회 기록 존재 여부
-     */
-    @Query("SELECT COUNT(bv) > 0 FROM BoardView bv " +
-            "WHERE bv.board.id = :boardId " +
-            "AND bv.ipAddress = :ipAddress " +
-            "AND DATE(bv.viewedAt) = CURRENT_DATE")
-    boolean existsTodayViewByIp(
-            @Param("boardId") Long boardId,
-            @Param("ipAddress") String ipAddress);
-
     /**
      * 오래된 조회 기록 삭제 (스케줄러용)
      */
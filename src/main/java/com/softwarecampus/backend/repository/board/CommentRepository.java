@@ -1,13 +1,19 @@
 package com.softwarecampus.backend.repository.board;
 
 import com.softwarecampus.backend.domain.board.Comment;
+import com.softwarecampus.backend.dto.board.BoardSearchCommentDTO;
+import com.softwarecampus.backend.dto.board.CommentReplyCountDTO;
+import com.softwarecampus.backend.dto.board.CommentRowDTO;
 import com.softwarecampus.backend.dto.mypage.MyCommentResponseDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -36,4 +42,45 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             "LEFT JOIN FETCH c.subComments sc " +
             "WHERE c.id = :id AND c.isDeleted = false AND a.isDeleted = false")
     Optional<Comment> findByIdWithAccountAndSubComments(@Param("id") Long id);
+
+    // ===== 게시글 검색 색인용 =====
+
+    // 전체 빌드: 삭제되지 않은 댓글 내용
+    @Query("SELECT new com.softwarecampus.backend.dto.board.BoardSearchCommentDTO(c.board.id, c.text) " +
+            "FROM Comment c WHERE c.isDeleted = false")
+    List<BoardSearchCommentDTO> findSearchComments();
+
+    // 부분 갱신: 변경된 게시글의 삭제되지 않은 댓글 내용
+    @Query("SELECT new com.softwarecampus.backend.dto.board.BoardSearchCommentDTO(c.board.id, c.text) " +
+            "FROM Comment c WHERE c.board.id IN :boardIds AND c.isDeleted = false")
+    List<BoardSearchCommentDTO> findSearchCommentsByBoardIdIn(@Param("boardIds") Collection<Long> boardIds);
+
+    // ===== 댓글 커서(keyset) 조회 =====
+    // 작성순(ID 오름차순), 이전 페이지 마지막 댓글 ID 이후만 조회 (Slice: size + 1 건 조회로 다음 페이지 판단)
+
+    // 원댓글 (삭제되지 않은 댓글 + 작성자)
+    @Query("SELECT new com.softwarecampus.backend.dto.board.CommentRowDTO(" +
+            "c.id, c.topComment.id, a.id, a.userName, c.text, c.secret, c.createdAt) " +
+            "FROM Comment c JOIN c.account a " +
+            "WHERE c.board.id = :boardId AND c.topComment IS NULL AND c.isDeleted = false " +
+            "AND (:cursorId IS NULL OR c.id > :cursorId) " +
+            "ORDER BY c.id")
+    Slice<CommentRowDTO> findRootRowsAfter(@Param("boardId") Long boardId, @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    // 대댓글 (상위 댓글 직계만, 상위 댓글이 삭제된 경우 제외)
+    @Query("SELECT new com.softwarecampus.backend.dto.board.CommentRowDTO(" +
+            "c.id, p.id, a.id, a.userName, c.text, c.secret, c.createdAt) " +
+            "FROM Comment c JOIN c.topComment p JOIN c.account a " +
+            "WHERE p.id = :parentId AND p.board.id = :boardId AND p.isDeleted = false AND c.isDeleted = false " +
+            "AND (:cursorId IS NULL OR c.id > :cursorId) " +
+            "ORDER BY c.id")
+    Slice<CommentRowDTO> findReplyRowsAfter(@Param("boardId") Long boardId, @Param("parentId") Long parentId,
+            @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 상위 댓글별 삭제되지 않은 대댓글 수 (현재 페이지 댓글만)
+    @Query("SELECT new com.softwarecampus.backend.dto.board.CommentReplyCountDTO(c.topComment.id, COUNT(c)) " +
+            "FROM Comment c WHERE c.topComment.id IN :parentIds AND c.isDeleted = false " +
+            "GROUP BY c.topComment.id")
+    List<CommentReplyCountDTO> countRepliesByParentIdIn(@Param("parentIds") Collection<Long> parentIds);
 }
@@ -0,0 +1,12 @@
+package com.softwarecampus.backend.repository.common;
+
+import com.softwarecampus.backend.domain.common.FileCleanupRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface FileCleanupRunRepository extends JpaRepository<FileCleanupRun, Long> {
+
+    // 중단되어 이어서 처리할 실행 (가장 최근 RUNNING)
+    Optional<FileCleanupRun> findFirstByStatusOrderByIdDesc(FileCleanupRun.Status status);
+}
@@ -0,0 +1,94 @@
+package com.softwarecampus.backend.repository.common;
+
+import com.softwarecampus.backend.domain.common.StorageObjectMetadata;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StorageObjectMetadataRepository extends JpaRepository<StorageObjectMetadata, Long> {
+
+    Optional<StorageObjectMetadata> findByObjectKey(String objectKey);
+
+    List<StorageObjectMetadata> findByObjectKeyIn(Collection<String> objectKeys);
+
+    /**
+     * 메타데이터 기록 (같은 키로 다시 저장된 객체는 덮어씀)
+     * 업로더/내용 해시/폴더/참조 수는 새 값이 없으면 기존 값을 유지 (HEAD 결과 기록 시 참조 수가 지워지지 않도록)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO storage_object_metadata "
+            + "(object_key, size, content_type, checksum, uploader_id, content_hash, folder, ref_count, created_at) "
+            + "VALUES (:key, :size, :contentType, :checksum, :uploaderId, :contentHash, :folder, :refCount, :createdAt) "
+            + "ON DUPLICATE KEY UPDATE size = VALUES(size), content_type = VALUES(content_type), "
+            + "checksum = VALUES(checksum), uploader_id = COALESCE(VALUES(uploader_id), uploader_id), "
+            + "content_hash = COALESCE(VALUES(content_hash), content_hash), "
+            + "folder = COALESCE(VALUES(folder), folder), ref_count = COALESCE(VALUES(ref_count), ref_count)",
+            nativeQuery = true)
+    int upsert(@Param("key") String key,
+               @Param("size") long size,
+               @Param("contentType") String contentType,
+               @Param("checksum") String checksum,
+               @Param("uploaderId") Long uploaderId,
+               @Param("contentHash") String contentHash,
+               @Param("folder") String folder,
+               @Param("refCount") Integer refCount,
+               @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 같은 내용/폴더/Content-Type 으로 저장되어 아직 참조 중인 객체 (중복 제거 후보)
+     */
+    Optional<StorageObjectMetadata> findFirstByContentHashAndFolderAndContentTypeAndRefCountGreaterThan(
+            String contentHash, String folder, String contentType, int refCount);
+
+    /**
+     * 참조 추가 - 이미 마지막 참조가 해제된(삭제 중인) 객체는 갱신하지 않음
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE StorageObjectMetadata m SET m.refCount = m.refCount + 1 "
+            + "WHERE m.objectKey = :key AND m.refCount > 0")
+    int incrementRefCount(@Param("key") String key);
+
+    /**
+     * 참조 해제 (중복 제거 대상 객체만)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE StorageObjectMetadata m SET m.refCount = m.refCount - :count "
+            + "WHERE m.objectKey = :key AND m.refCount IS NOT NULL")
+    int decrementRefCount(@Param("key") String key, @Param("count") int count);
+
+    /**
+     * 참조 해제 취소 (삭제에 실패하여 참조하던 행이 재시도를 위해 남는 경우)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE StorageObjectMetadata m SET m.refCount = m.refCount + :count "
+            + "WHERE m.objectKey = :key AND m.refCount IS NOT NULL")
+    int restoreRefCount(@Param("key") String key, @Param("count") int count);
+
+    /**
+     * 아직 참조가 남아 있는 객체 키
+     */
+    @Query("SELECT m.objectKey FROM StorageObjectMetadata m WHERE m.objectKey IN :keys AND m.refCount > 0")
+    List<String> findReferencedKeys(@Param("keys") Collection<String> keys);
+
+    /**
+     * 참조 수를 관리하는 객체 키 (중복 제거 대상)
+     */
+    @Query("SELECT m.objectKey FROM StorageObjectMetadata m WHERE m.objectKey IN :keys AND m.refCount IS NOT NULL")
+    List<String> findRefCountedKeys(@Param("keys") Collection<String> keys);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM StorageObjectMetadata m WHERE m.objectKey IN :keys")
+    int deleteByObjectKeyIn(@Param("keys") Collection<String> keys);
+}
@@ -2,8 +2,15 @@ package com.softwarecampus.backend.repository.course;
 
 import com.softwarecampus.backend.domain.course.CategoryType;
 import com.softwarecampus.backend.domain.course.CourseImage;
+import com.softwarecampus.backend.dto.common.FileCleanupRowDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +27,43 @@ public interface CourseImageRepository extends JpaRepository<CourseImage, Long>
     // (선택) 기존 코드 호환용: type 없이 조회하던 방식
     List<CourseImage> findByCourseIdAndIsDeletedFalse(Long courseId);
 
-    // 스케줄러용: 삭제된 지 일정 기간이 지난 파일 조회
-    List<CourseImage> findByIsDeletedTrueAndDeletedAtBefore(java.time.LocalDateTime threshold);
+    /**
+     * 스케줄러용: 삭제된 지 일정 기간이 지난 파일을 ID 순으로 청크 조회 (ID + S3 키만)
+     */
+    @Query("SELECT new com.softwarecampus.backend.dto.common.FileCleanupRowDTO(i.id, i.imageUrl) " +
+            "FROM CourseImage i WHERE i.isDeleted = TRUE AND i.deletedAt < :threshold AND i.id > :afterId " +
+            "ORDER BY i.id")
+    List<FileCleanupRowDTO> findCleanupRowsAfter(@Param("threshold") LocalDateTime threshold,
+            @Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 스케줄러용: 청크 단위 영구 삭제 (Soft-Delete 된 행만)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CourseImage i WHERE i.id IN :ids AND i.isDeleted = TRUE")
+    int hardDeleteByIdIn(@Param("ids") List<Long> ids);
+
+    // 직접 업로드 확정 중복 방지: 같은 S3 키로 이미 생성된 이미지 존재 여부
+    boolean existsByImageUrl(String imageUrl);
+
+    /**
+     * 이미지 파생본 키 기록 (ImageDerivativeProcessor 비동기 처리 결과)
+     * 원본 키가 그 사이 교체되었다면 갱신되지 않는다 (0 반환)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE CourseImage i SET i.imageDerivatives.smallKey = :smallKey, " +
+        "i.imageDerivatives.mediumKey = :mediumKey WHERE i.imageUrl = :originalKey")
+    int updateImageDerivatives(@Param("originalKey") String originalKey,
+        @Param("smallKey") String smallKey,
+        @Param("mediumKey") String mediumKey);
+
+    /**
+     * 버킷 대조용: 주어진 S3 키 중 과정 이미지(원본/축소본)가 참조하는 키 (Soft-Delete 된 행 포함)
+     */
+    @Query("SELECT i.imageUrl FROM CourseImage i WHERE i.imageUrl IN :keys " +
+        "UNION SELECT i.imageDerivatives.smallKey FROM CourseImage i WHERE i.imageDerivatives.smallKey IN :keys " +
+        "UNION SELECT i.imageDerivatives.mediumKey FROM CourseImage i WHERE i.imageDerivatives.mediumKey IN :keys")
+    List<String> findReferencedKeys(@Param("keys") List<String> keys);
 }
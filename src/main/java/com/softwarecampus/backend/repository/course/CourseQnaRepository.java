@@ -4,10 +4,12 @@ import com.softwarecampus.backend.domain.course.Course;
 import com.softwarecampus.backend.domain.course.CourseQna;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CourseQnaRepository extends JpaRepository<CourseQna, Long> {
@@ -23,6 +25,13 @@ public interface CourseQnaRepository extends JpaRepository<CourseQna, Long> {
     @Query("SELECT q FROM CourseQna q WHERE q.course.id = :courseId AND q.isDeleted = false")
     Page<CourseQna> findByCourseId(@Param("courseId") Long courseId, Pageable pageable);
 
+    // 커서(keyset) 페이지네이션 (작성일, ID 내림차순) - OFFSET/COUNT 없이 이전 페이지 마지막 행 이후만 조회
+    @org.springframework.data.jpa.repository.EntityGraph(attributePaths = { "account", "answeredBy" })
+    @Query("SELECT q FROM CourseQna q WHERE q.course.id = :courseId AND q.isDeleted = false AND (:cursorId IS NULL OR q.createdAt < :cursorCreatedAt OR (q.createdAt = :cursorCreatedAt AND q.id < :cursorId)) ORDER BY q.createdAt DESC, q.id DESC")
+    Slice<CourseQna> findByCourseIdAfter(@Param("courseId") Long courseId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
     // 단건 상세 조회 (연관 엔티티 함께 로딩)
     @Query("SELECT q FROM CourseQna q LEFT JOIN FETCH q.account LEFT JOIN FETCH q.answeredBy WHERE q.id = :id AND q.isDeleted = false")
     java.util.Optional<CourseQna> findWithDetailsById(@Param("id") Long id);
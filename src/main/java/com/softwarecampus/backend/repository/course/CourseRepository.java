@@ -3,12 +3,19 @@ package com.softwarecampus.backend.repository.course;
 import com.softwarecampus.backend.domain.common.ApprovalStatus;
 import com.softwarecampus.backend.domain.course.Course;
 import com.softwarecampus.backend.domain.course.CategoryType;
+import com.softwarecampus.backend.domain.course.CourseStats;
+import com.softwarecampus.backend.dto.course.CourseSearchDocumentDTO;
+import com.softwarecampus.backend.dto.home.HomeCourseRankDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -71,8 +78,8 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
          * 
          * 성능 고려사항:
          * - LIKE '%keyword%' 패턴은 인덱스를 활용할 수 없음
-         * - 대용량 데이터의 경우 course.name 컬럼에 Full-Text Index 추가 권장
-         * - 또는 Elasticsearch 등 전문 검색 엔진 도입 검토
+         * - 사용자 검색은 CourseSearchIndex(N-gram 역색인) + filterSearchCourseIds 로 처리하며,
+         *   이 쿼리에는 keyword 를 null 로 전달함
          * 
          * @param categoryId   카테고리 ID (옵션)
          * @param categoryType 카테고리 타입 (옵션)
@@ -105,6 +112,91 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
                         @Param("status") CourseStatus status,
                         Pageable pageable);
 
+        /**
+         * 통합 검색 - 커서(keyset) 페이지네이션 (ID 오름차순)
+         * OFFSET/COUNT 없이 마지막으로 조회한 ID 이후만 조회하며, 엔티티는 호출 측에서 ID 로 로딩 (findByIdIn)
+         *
+         * @param cursorId 이전 페이지 마지막 과정 ID (첫 페이지면 null)
+         * @param pageable 크기만 사용 (PageCursor#pageRequest)
+         */
+        @Query("SELECT c.id FROM Course c " +
+                        "WHERE c.deletedAt IS NULL " +
+                        "AND c.isApproved = com.softwarecampus.backend.domain.common.ApprovalStatus.APPROVED " +
+                        "AND (:categoryId IS NULL OR c.category.id = :categoryId) " +
+                        "AND (:categoryType IS NULL OR c.category.categoryType = :categoryType) " +
+                        "AND (:isOffline IS NULL OR c.isOffline = :isOffline) " +
+                        "AND (" +
+                        "   :status IS NULL OR " +
+                        "   (STR(:status) = 'RECRUITING' AND c.recruitStart IS NOT NULL AND c.recruitEnd IS NOT NULL AND CURRENT_DATE BETWEEN c.recruitStart AND c.recruitEnd) OR "
+                        +
+                        "   (STR(:status) = 'IN_PROGRESS' AND c.courseStart IS NOT NULL AND c.courseEnd IS NOT NULL AND CURRENT_DATE BETWEEN c.courseStart AND c.courseEnd) OR "
+                        +
+                        "   (STR(:status) = 'ENDED' AND c.courseEnd IS NOT NULL AND CURRENT_DATE > c.courseEnd)" +
+                        ") " +
+                        "AND (:cursorId IS NULL OR c.id > :cursorId) " +
+                        "ORDER BY c.id ASC")
+        Slice<Long> findCourseIdsAfter(@Param("categoryId") Long categoryId,
+                        @Param("categoryType") CategoryType categoryType,
+                        @Param("isOffline") Boolean isOffline,
+                        @Param("status") CourseStatus status,
+                        @Param("cursorId") Long cursorId,
+                        Pageable pageable);
+
+        /**
+         * 키워드 검색 결과(ID 목록)에 필터 적용 - 엔티티를 로딩하지 않고 ID만 조회
+         * 키워드 매칭은 CourseSearchIndex 에서 수행되므로 여기서는 LIKE 조건을 사용하지 않음
+         *
+         * @param ids      검색 색인에서 조회한 과정 ID 목록 (호출 측에서 1000개 이하로 나누어 전달)
+         * @param pageable 정렬과 조회 범위 (정렬 미지정 시 호출 측에서 검색 순위순으로 정렬)
+         */
+        @Query("SELECT c.id FROM Course c " +
+                        "WHERE c.id IN :ids " +
+                        "AND c.deletedAt IS NULL " +
+                        "AND c.isApproved = com.softwarecampus.backend.domain.common.ApprovalStatus.APPROVED " +
+                        "AND (:categoryId IS NULL OR c.category.id = :categoryId) " +
+                        "AND (:categoryType IS NULL OR c.category.categoryType = :categoryType) " +
+                        "AND (:isOffline IS NULL OR c.isOffline = :isOffline) " +
+                        "AND (" +
+                        "   :status IS NULL OR " +
+                        "   (STR(:status) = 'RECRUITING' AND c.recruitStart IS NOT NULL AND c.recruitEnd IS NOT NULL AND CURRENT_DATE BETWEEN c.recruitStart AND c.recruitEnd) OR "
+                        +
+                        "   (STR(:status) = 'IN_PROGRESS' AND c.courseStart IS NOT NULL AND c.courseEnd IS NOT NULL AND CURRENT_DATE BETWEEN c.courseStart AND c.courseEnd) OR "
+                        +
+                        "   (STR(:status) = 'ENDED' AND c.courseEnd IS NOT NULL AND CURRENT_DATE > c.courseEnd)" +
+                        ")")
+        List<Long> filterSearchCourseIds(@Param("ids") Collection<Long> ids,
+                        @Param("categoryId") Long categoryId,
+                        @Param("categoryType") CategoryType categoryType,
+                        @Param("isOffline") Boolean isOffline,
+                        @Param("status") CourseStatus status,
+                        Pageable pageable);
+
+        /**
+         * 검색 색인 전체 빌드용 문서 조회 (승인·미삭제 과정)
+         */
+        @Query("SELECT new com.softwarecampus.backend.dto.course.CourseSearchDocumentDTO(" +
+                        "c.id, c.name, a.name, cat.categoryName, c.location) " +
+                        "FROM Course c " +
+                        "JOIN c.academy a " +
+                        "JOIN c.category cat " +
+                        "WHERE c.deletedAt IS NULL " +
+                        "AND c.isApproved = com.softwarecampus.backend.domain.common.ApprovalStatus.APPROVED")
+        List<CourseSearchDocumentDTO> findSearchDocuments();
+
+        /**
+         * 검색 색인 부분 갱신용 문서 조회 (변경된 과정만)
+         * 삭제/미승인 과정은 결과에서 빠지므로 호출 측에서 색인에서 제거됨
+         */
+        @Query("SELECT new com.softwarecampus.backend.dto.course.CourseSearchDocumentDTO(" +
+                        "c.id, c.name, a.name, cat.categoryName, c.location) " +
+                        "FROM Course c " +
+                        "JOIN c.academy a " +
+                        "JOIN c.category cat " +
+                        "WHERE c.id IN :ids " +
+                        "AND c.deletedAt IS NULL " +
+                        "AND c.isApproved = com.softwarecampus.backend.domain.common.ApprovalStatus.APPROVED")
+        List<CourseSearchDocumentDTO> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
         /**
          * 통합 검색 (categoryId, categoryType, isOffline, keyword 조합) - 전체 조회
          * 
@@ -123,11 +215,67 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
                         @Param("isOffline") Boolean isOffline,
                         @Param("keyword") String keyword);
 
-        @Query("SELECT DISTINCT c FROM Course c " +
-                        "LEFT JOIN FETCH c.reviews r " +
-                        "LEFT JOIN FETCH c.favorites " +
-                        "WHERE c.category.categoryType = :categoryType AND c.deletedAt IS NULL")
-        List<Course> findHomeCoursesByCategory(@Param("categoryType") CategoryType categoryType);
+        /**
+         * 메인페이지 스냅샷용 랭킹 지표 조회 (승인·미삭제 과정 전체)
+         * 리뷰/찜 컬렉션을 조회하지 않고 집계 컬럼(CourseStats)만 읽음
+         */
+        @Query("SELECT new com.softwarecampus.backend.dto.home.HomeCourseRankDTO(" +
+                        "c.id, c.category.categoryType, c.recruitEnd, " +
+                        "c.stats.favoriteCount, c.stats.approvedReviewCount) " +
+                        "FROM Course c " +
+                        "WHERE c.deletedAt IS NULL " +
+                        "AND c.isApproved = com.softwarecampus.backend.domain.common.ApprovalStatus.APPROVED")
+        List<HomeCourseRankDTO> findHomeCourseRanks();
+
+        /**
+         * 메인페이지 스냅샷 부분 갱신용 랭킹 지표 조회 (변경된 과정만)
+         * 삭제/미승인 과정은 결과에서 빠지므로 호출 측에서 스냅샷에서 제거됨
+         */
+        @Query("SELECT new com.softwarecampus.backend.dto.home.HomeCourseRankDTO(" +
+                        "c.id, c.category.categoryType, c.recruitEnd, " +
+                        "c.stats.favoriteCount, c.stats.approvedReviewCount) " +
+                        "FROM Course c " +
+                        "WHERE c.id IN :ids " +
+                        "AND c.deletedAt IS NULL " +
+                        "AND c.isApproved = com.softwarecampus.backend.domain.common.ApprovalStatus.APPROVED")
+        List<HomeCourseRankDTO> findHomeCourseRanksByIdIn(@Param("ids") Collection<Long> ids);
+
+        /**
+         * 메인페이지 카드 표시용 과정 조회 (노출 대상 과정만)
+         */
+        @org.springframework.data.jpa.repository.EntityGraph(attributePaths = { "images", "academy", "category" })
+        List<Course> findByIdIn(Collection<Long> ids);
+
+        /**
+         * 과정 집계 통계 증감 (원자적 bulk update)
+         * delta 의 각 값을 현재 값에 더함 (감소는 CourseStats#negate 사용)
+         */
+        @Modifying
+        @Query("UPDATE Course c SET " +
+                        "c.stats.favoriteCount = c.stats.favoriteCount + :#{#delta.favoriteCount}, " +
+                        "c.stats.approvedReviewCount = c.stats.approvedReviewCount + :#{#delta.approvedReviewCount}, " +
+                        "c.stats.ratingSum = c.stats.ratingSum + :#{#delta.ratingSum}, " +
+                        "c.stats.curriculumScoreSum = c.stats.curriculumScoreSum + :#{#delta.curriculumScoreSum}, " +
+                        "c.stats.curriculumScoreCount = c.stats.curriculumScoreCount + :#{#delta.curriculumScoreCount}, " +
+                        "c.stats.coursewareScoreSum = c.stats.coursewareScoreSum + :#{#delta.coursewareScoreSum}, " +
+                        "c.stats.coursewareScoreCount = c.stats.coursewareScoreCount + :#{#delta.coursewareScoreCount}, " +
+                        "c.stats.instructorScoreSum = c.stats.instructorScoreSum + :#{#delta.instructorScoreSum}, " +
+                        "c.stats.instructorScoreCount = c.stats.instructorScoreCount + :#{#delta.instructorScoreCount}, " +
+                        "c.stats.equipmentScoreSum = c.stats.equipmentScoreSum + :#{#delta.equipmentScoreSum}, " +
+                        "c.stats.equipmentScoreCount = c.stats.equipmentScoreCount + :#{#delta.equipmentScoreCount}, " +
+                        "c.stats.otherScoreSum = c.stats.otherScoreSum + :#{#delta.otherScoreSum}, " +
+                        "c.stats.otherScoreCount = c.stats.otherScoreCount + :#{#delta.otherScoreCount} " +
+                        "WHERE c.id = :courseId")
+        int addStats(@Param("courseId") Long courseId, @Param("delta") CourseStats delta);
+
+        /**
+         * 조회수 일괄 증가 (ViewCountService 쓰기 지연 반영용)
+         * 같은 증가량의 과정들을 한 번의 UPDATE 로 처리
+         */
+        @Transactional
+        @Modifying
+        @Query("UPDATE Course c SET c.viewCount = c.viewCount + :delta WHERE c.id IN :ids")
+        int increaseViewCount(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
 
         List<Course> findByIsApproved(ApprovalStatus status);
 
@@ -1,9 +1,16 @@
 package com.softwarecampus.backend.repository.course;
 
 import com.softwarecampus.backend.domain.course.CourseReviewFile;
+import com.softwarecampus.backend.dto.common.FileCleanupRowDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,5 +21,26 @@ public interface CourseReviewFileRepository extends JpaRepository<CourseReviewFi
 
     Optional<CourseReviewFile> findByIdAndReviewId(Long fileId, Long reviewId);
 
-    List<CourseReviewFile> findByIsDeletedTrueAndDeletedAtBefore(java.time.LocalDateTime threshold);
+    /**
+     * 스케줄러용: 삭제된 지 일정 기간이 지난 파일을 ID 순으로 청크 조회 (ID + S3 키만)
+     */
+    @Query("SELECT new com.softwarecampus.backend.dto.common.FileCleanupRowDTO(f.id, f.fileUrl) " +
+            "FROM CourseReviewFile f WHERE f.isDeleted = TRUE AND f.deletedAt < :threshold AND f.id > :afterId " +
+            "ORDER BY f.id")
+    List<FileCleanupRowDTO> findCleanupRowsAfter(@Param("threshold") LocalDateTime threshold,
+            @Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 스케줄러용: 청크 단위 영구 삭제 (Soft-Delete 된 행만)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CourseReviewFile f WHERE f.id IN :ids AND f.isDeleted = TRUE")
+    int hardDeleteByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 버킷 대조용: 주어진 S3 키 중 리뷰 파일이 참조하는 키 (Soft-Delete 된 행 포함)
+     */
+    @Query("SELECT f.fileUrl FROM CourseReviewFile f WHERE f.fileUrl IN :keys")
+    List<String> findReferencedKeys(@Param("keys") List<String> keys);
 }
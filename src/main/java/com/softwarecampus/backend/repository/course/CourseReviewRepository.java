@@ -5,11 +5,14 @@ import com.softwarecampus.backend.domain.common.ApprovalStatus;
 import com.softwarecampus.backend.domain.course.CourseReview;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -105,4 +108,26 @@ public interface CourseReviewRepository extends JpaRepository<CourseReview, Long
         Page<CourseReview> findByCourseIdWithMyReviews(@Param("courseId") Long courseId,
                         @Param("writerId") Long writerId,
                         Pageable pageable);
+
+        /**
+         * 과정별 리뷰 ID 조회 - 커서(keyset) 페이지네이션 (작성일, ID 오름차순)
+         * 승인된 리뷰 + 본인이 작성한 리뷰 (writerId 가 null 이면 승인된 리뷰만)
+         * 연관 엔티티는 호출 측에서 ID 로 로딩 (findWithDetailsByIdIn) - 컬렉션 fetch 와 LIMIT 을 함께 쓰지 않기 위함
+         */
+        @Query("SELECT r.id FROM CourseReview r " +
+                        "WHERE r.deletedAt IS NULL " +
+                        "AND r.course.id = :courseId " +
+                        "AND (r.approvalStatus = 'APPROVED' OR r.writer.id = :writerId) " +
+                        "AND (:cursorId IS NULL OR r.createdAt > :cursorCreatedAt " +
+                        "OR (r.createdAt = :cursorCreatedAt AND r.id > :cursorId)) " +
+                        "ORDER BY r.createdAt ASC, r.id ASC")
+        Slice<Long> findReviewIdsAfter(@Param("courseId") Long courseId,
+                        @Param("writerId") Long writerId,
+                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                        @Param("cursorId") Long cursorId,
+                        Pageable pageable);
+
+        @org.springframework.data.jpa.repository.EntityGraph(attributePaths = { "writer", "sections", "attachments",
+                        "likes" })
+        List<CourseReview> findWithDetailsByIdIn(Collection<Long> ids);
 }
@@ -6,9 +6,11 @@ import com.softwarecampus.backend.domain.user.Account;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -110,4 +112,24 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
          * 삭제되지 않은 전체 계정 수 조회
          */
         long countByDeletedAtIsNull();
+
+        /**
+         * 이미지 파생본 키 기록 (ImageDerivativeProcessor 비동기 처리 결과)
+         * 원본 키가 그 사이 교체되었다면 갱신되지 않는다 (0 반환)
+         */
+        @Transactional
+        @Modifying
+        @Query("UPDATE Account a SET a.imageDerivatives.smallKey = :smallKey, " +
+                "a.imageDerivatives.mediumKey = :mediumKey WHERE a.profileImage = :originalKey")
+        int updateImageDerivatives(@Param("originalKey") String originalKey,
+                @Param("smallKey") String smallKey,
+                @Param("mediumKey") String mediumKey);
+
+        /**
+         * 버킷 대조용: 주어진 S3 키 중 프로필 이미지(원본/축소본)가 참조하는 키 (Soft-Delete 된 행 포함)
+         */
+        @Query("SELECT a.profileImage FROM Account a WHERE a.profileImage IN :keys " +
+                "UNION SELECT a.imageDerivatives.smallKey FROM Account a WHERE a.imageDerivatives.smallKey IN :keys " +
+                "UNION SELECT a.imageDerivatives.mediumKey FROM Account a WHERE a.imageDerivatives.mediumKey IN :keys")
+        List<String> findReferencedKeys(@Param("keys") List<String> keys);
 }
@@ -3,6 +3,7 @@ package com.softwarecampus.backend.scheduler;
 import com.softwarecampus.backend.repository.board.BoardViewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,9 +13,11 @@ import java.time.LocalDateTime;
 /**
  * 조회 기록 정리 스케줄러
  * 30일 이상 된 조회 기록을 자동 삭제
+ * 조회 기록(board_view)은 감사 기록 활성화 시에만 적재되므로 이 경우에만 등록
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "board.view.audit.enabled", havingValue = "true")
 @RequiredArgsConstructor
 public class BoardViewCleanupScheduler {
 
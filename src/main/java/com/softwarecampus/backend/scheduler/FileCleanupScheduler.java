@@ -1,12 +1,10 @@
 package com.softwarecampus.backend.scheduler;
 
-import com.softwarecampus.backend.domain.academy.qna.Attachment;
-import com.softwarecampus.backend.domain.board.BoardAttach;
-import com.softwarecampus.backend.domain.course.CourseImage;
-import com.softwarecampus.backend.domain.course.CourseReviewAttachment;
-import com.softwarecampus.backend.domain.course.CourseReviewFile;
+import com.softwarecampus.backend.domain.common.FileCleanupRun;
+import com.softwarecampus.backend.dto.common.FileCleanupRowDTO;
 import com.softwarecampus.backend.repository.academy.academyQA.AttachmentRepository;
 import com.softwarecampus.backend.repository.board.BoardAttachRepository;
+import com.softwarecampus.backend.repository.common.FileCleanupRunRepository;
 import com.softwarecampus.backend.repository.course.CourseImageRepository;
 import com.softwarecampus.backend.repository.course.CourseReviewAttachmentRepository;
 import com.softwarecampus.backend.repository.course.CourseReviewFileRepository;
@@ -14,13 +12,15 @@ import com.softwarecampus.backend.service.common.S3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.function.Consumer;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 /**
@@ -28,6 +28,14 @@ import java.util.function.Function;
  * - 매일 새벽 5시 실행
  * - 삭제된 지 1일(설정값) 지난 파일 영구 삭제 (DB & S3)
  * - 고아 파일(임시 업로드 후 미확정) 정리
+ *
+ * 엔티티 타입별로 ID 순 청크(app.file.cleanup.chunk-size) 단위로 처리한다.
+ * - 청크마다 ID + S3 키만 조회하고, S3 는 DeleteObjects(최대 1000개) 로 일괄 삭제, DB 는 청크 단위 DELETE ... WHERE id IN
+ * - 각 청크는 짧은 개별 트랜잭션으로 처리되어 영속성 컨텍스트가 커지지 않음
+ * - S3 삭제에 실패한 행은 DB 에 남겨 다음 실행에서 재시도
+ * - 중복 제거로 공유 중인 객체는 마지막 참조 행이 정리될 때만 실제로 삭제 (S3Service.deleteFiles)
+ * - 청크마다 체크포인트(단계, 마지막 ID)와 처리 건수를 file_cleanup_run 에 저장하며,
+ *   중단된 실행(RUNNING)은 다음 실행에서 같은 기준 시각으로 이어서 처리
  */
 @Slf4j
 @Component
@@ -39,6 +47,7 @@ public class FileCleanupScheduler {
     private final BoardAttachRepository boardAttachRepository;
     private final AttachmentRepository attachmentRepository;
     private final CourseImageRepository courseImageRepository;
+    private final FileCleanupRunRepository fileCleanupRunRepository;
     private final S3Service s3Service;
 
     @Value("${app.file.cleanup.days:1}")
@@ -48,160 +57,164 @@ public class FileCleanupScheduler {
     @Value("${app.file.orphan.cleanup.hours:24}")
     private int orphanCleanupHours;
 
+    /** 청크 크기 (한 번에 조회/삭제할 행 수) */
+    @Value("${app.file.cleanup.chunk-size:1000}")
+    private int chunkSize;
+
+    /** 같은 인스턴스에서 스케줄 실행과 수동 실행이 겹치지 않도록 방지 */
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
     @Scheduled(cron = "0 0 5 * * ?") // 매일 새벽 5시
-    @Transactional
     public void cleanupDeletedFiles() {
-        LocalDateTime threshold = LocalDateTime.now().minusDays(cleanupDays);
-        log.info("파일 정리 스케줄러 시작 - 기준 시간: {} ({}일 이전)", threshold, cleanupDays);
-
-        int totalDeleted = 0;
-        int totalFailed = 0;
-
-        // 1. CourseReviewFile
-        var result1 = cleanupFiles(
-                reviewFileRepository.findByIsDeletedTrueAndDeletedAtBefore(threshold),
-                CourseReviewFile::getFileUrl,
-                reviewFileRepository::delete,
-                "CourseReviewFile");
-        totalDeleted += result1[0];
-        totalFailed += result1[1];
-
-        // 2. CourseReviewAttachment
-        var result2 = cleanupFiles(
-                reviewAttachmentRepository.findByIsDeletedTrueAndDeletedAtBefore(threshold),
-                CourseReviewAttachment::getFileUrl,
-                reviewAttachmentRepository::delete,
-                "CourseReviewAttachment");
-        totalDeleted += result2[0];
-        totalFailed += result2[1];
-
-        // 3. BoardAttach
-        var result3 = cleanupFiles(
-                boardAttachRepository.findByIsDeletedTrueAndDeletedAtBefore(threshold),
-                BoardAttach::getRealFilename,
-                boardAttachRepository::delete,
-                "BoardAttach");
-        totalDeleted += result3[0];
-        totalFailed += result3[1];
-
-        // 4. Attachment (Academy Q&A)
-        var result4 = cleanupFiles(
-                attachmentRepository.findByIsDeletedTrueAndDeletedAtBefore(threshold),
-                Attachment::getFilename,
-                attachmentRepository::delete,
-                "Attachment");
-        totalDeleted += result4[0];
-        totalFailed += result4[1];
-
-        // 5. CourseImage
-        var result5 = cleanupFiles(
-                courseImageRepository.findByIsDeletedTrueAndDeletedAtBefore(threshold),
-                CourseImage::getImageUrl,
-                courseImageRepository::delete,
-                "CourseImage");
-        totalDeleted += result5[0];
-        totalFailed += result5[1];
-
-        // 6. 고아 파일 정리 (임시 업로드 후 미확정된 파일)
-        var result6 = cleanupOrphanedFiles();
-        totalDeleted += result6[0];
-        totalFailed += result6[1];
-
-        log.info("파일 정리 완료 - 전체 성공: {}, 전체 실패: {}", totalDeleted, totalFailed);
+        runCleanup();
     }
 
     /**
-     * 고아 파일 정리 (임시 업로드 후 Q&A 생성을 완료하지 않은 파일)
-     * - categoryId가 null인 파일 중 생성된 지 일정 시간이 지난 파일 삭제
-     * - 사용자가 파일 업로드 후 글 작성을 취소하거나 세션이 만료된 경우 발생
-     * - **주의**: 이 메서드는 soft delete를 거치지 않고 즉시 영구 삭제(hard delete)합니다.
-     * 완전한 임시 리소스이므로 복구 필요성이 없기 때문입니다.
-     * 
-     * @return [성공 개수, 실패 개수]
+     * 파일 정리 실행 (중단된 실행이 있으면 체크포인트부터 재개)
+     *
+     * @return 실행 기록, 이미 실행 중이면 null
      */
-    @Transactional
-    public int[] cleanupOrphanedFiles() {
-        LocalDateTime threshold = LocalDateTime.now().minusHours(orphanCleanupHours);
-        List<Attachment> orphanedFiles = attachmentRepository.findOrphanedFiles(threshold);
-
-        log.info("[OrphanedFiles] 고아 파일 삭제 대상: {}건 ({}시간 이전 임시 업로드)",
-                orphanedFiles.size(), orphanCleanupHours);
-
-        int deletedCount = 0;
-        int failedCount = 0;
+    public FileCleanupRun runCleanup() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("파일 정리가 이미 실행 중입니다.");
+            return null;
+        }
+        try {
+            FileCleanupRun run = fileCleanupRunRepository
+                    .findFirstByStatusOrderByIdDesc(FileCleanupRun.Status.RUNNING)
+                    .orElseGet(() -> FileCleanupRun.start(
+                            LocalDateTime.now().minusDays(cleanupDays),
+                            LocalDateTime.now().minusHours(orphanCleanupHours)));
+            boolean resumed = run.getId() != null;
+            log.info("파일 정리 스케줄러 {} - 기준 시간: {} ({}일 이전), 단계: {}",
+                    resumed ? "재개" : "시작", run.getDeletedBefore(), cleanupDays, run.getPhase());
 
-        for (Attachment file : orphanedFiles) {
             try {
-                // 1. S3 파일 삭제 (실패 시 예외 발생 → DB 삭제 건너뜀)
-                String fileUrl = file.getFilename();
-                if (fileUrl != null && !fileUrl.isBlank()) {
-                    s3Service.deleteFile(fileUrl);
-                }
-
-                // 2. DB 영구 삭제 (S3 삭제 성공 시에만 실행)
-                attachmentRepository.delete(file);
-                deletedCount++;
+                execute(run);
+                run.complete();
+            } catch (RuntimeException e) {
+                run.fail();
+                log.error("파일 정리 실패 - 단계: {}, 마지막 ID: {}", run.getPhase(), run.getLastId(), e);
+            }
+            fileCleanupRunRepository.save(run);
 
-                log.debug("[OrphanedFiles] 고아 파일 삭제 완료 - id: {}, originName: {}",
-                        file.getId(), file.getOriginName());
+            log.info("파일 정리 완료 - 삭제 행: {}, 삭제 객체: {}, 실패 객체: {}, 청크: {}",
+                    run.getDeletedRows(), run.getDeletedObjects(), run.getFailedObjects(), run.getChunks());
+            return run;
+        } finally {
+            running.set(false);
+        }
+    }
 
-            } catch (Exception e) {
-                // S3 삭제 실패 시 DB도 삭제하지 않고 다음 스케줄링 주기에 재시도
-                log.error("[OrphanedFiles] 고아 파일 삭제 실패 (다음 주기에 재시도) - id: {}, url: {}",
-                        file.getId(), file.getFilename(), e);
-                failedCount++;
+    private void execute(FileCleanupRun run) {
+        LocalDateTime deletedBefore = run.getDeletedBefore();
+        LocalDateTime orphanCreatedBefore = run.getOrphanCreatedBefore();
+
+        List<CleanupTarget> targets = List.of(
+                // 1. CourseReviewFile
+                new CleanupTarget("CourseReviewFile",
+                        (afterId, page) -> reviewFileRepository.findCleanupRowsAfter(deletedBefore, afterId, page),
+                        reviewFileRepository::hardDeleteByIdIn),
+                // 2. CourseReviewAttachment
+                new CleanupTarget("CourseReviewAttachment",
+                        (afterId, page) -> reviewAttachmentRepository.findCleanupRowsAfter(deletedBefore, afterId, page),
+                        reviewAttachmentRepository::hardDeleteByIdIn),
+                // 3. BoardAttach
+                new CleanupTarget("BoardAttach",
+                        (afterId, page) -> boardAttachRepository.findCleanupRowsAfter(deletedBefore, afterId, page),
+                        boardAttachRepository::hardDeleteByIdIn),
+                // 4. Attachment (Academy Q&A)
+                new CleanupTarget("Attachment",
+                        (afterId, page) -> attachmentRepository.findCleanupRowsAfter(deletedBefore, afterId, page),
+                        attachmentRepository::hardDeleteByIdIn),
+                // 5. CourseImage
+                new CleanupTarget("CourseImage",
+                        (afterId, page) -> courseImageRepository.findCleanupRowsAfter(deletedBefore, afterId, page),
+                        courseImageRepository::hardDeleteByIdIn),
+                // 6. 고아 파일 (임시 업로드 후 Q&A 생성을 완료하지 않은 파일, soft delete 없이 즉시 영구 삭제)
+                new CleanupTarget("OrphanedFiles",
+                        (afterId, page) -> attachmentRepository.findOrphanRowsAfter(orphanCreatedBefore, afterId, page),
+                        attachmentRepository::hardDeleteOrphansByIdIn));
+
+        // 재개 시 체크포인트 단계 이전은 건너뜀
+        int startIndex = 0;
+        if (run.getPhase() != null) {
+            for (int i = 0; i < targets.size(); i++) {
+                if (targets.get(i).name().equals(run.getPhase())) {
+                    startIndex = i;
+                    break;
+                }
             }
         }
 
-        log.info("[OrphanedFiles] 고아 파일 정리 완료 - 성공: {}, 실패: {}", deletedCount, failedCount);
-        return new int[] { deletedCount, failedCount };
+        for (int i = startIndex; i < targets.size(); i++) {
+            CleanupTarget target = targets.get(i);
+            if (!target.name().equals(run.getPhase())) {
+                run.enterPhase(target.name());
+                fileCleanupRunRepository.save(run);
+            }
+            cleanupTarget(run, target);
+        }
     }
 
     /**
-     * 범용 파일 정리 메서드
-     * 
-     * @param <T>          파일 엔티티 타입
-     * @param files        삭제 대상 파일 목록
-     * @param urlExtractor 파일 URL 추출 함수
-     * @param deleteAction DB 삭제 함수
-     * @param entityType   엔티티 타입명 (로깅용)
-     * @return [성공 개수, 실패 개수]
+     * 한 엔티티 타입을 체크포인트 이후부터 청크 단위로 정리
      */
-    private <T> int[] cleanupFiles(
-            List<T> files,
-            Function<T, String> urlExtractor,
-            Consumer<T> deleteAction,
-            String entityType) {
-        int deletedCount = 0;
-        int failedCount = 0;
-
-        log.info("[{}] 삭제 대상: {}건", entityType, files.size());
-
-        for (T file : files) {
-            try {
-                // 1. S3 파일 삭제
-                String fileUrl = urlExtractor.apply(file);
-                if (fileUrl != null && !fileUrl.isBlank()) {
-                    try {
-                        s3Service.deleteFile(fileUrl);
-                    } catch (Exception e) {
-                        // S3 파일이 이미 없는 경우 등 예외 처리 (로그만 남기고 DB 삭제 진행)
-                        log.warn("[{}] S3 파일 삭제 실패 (또는 이미 없음) - URL: {}, Error: {}",
-                                entityType, fileUrl, e.getMessage());
-                    }
-                }
-
-                // 2. DB 영구 삭제
-                deleteAction.accept(file);
-                deletedCount++;
+    private void cleanupTarget(FileCleanupRun run, CleanupTarget target) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long deletedRowsBefore = run.getDeletedRows();
+        long failedObjectsBefore = run.getFailedObjects();
+
+        while (true) {
+            List<FileCleanupRowDTO> rows = target.finder().find(run.getLastId(), chunk);
+            if (rows.isEmpty()) {
+                break;
+            }
 
-            } catch (Exception e) {
-                log.error("[{}] 파일 영구 삭제 실패", entityType, e);
-                failedCount++;
+            // 1. S3 일괄 삭제 (실패한 키의 행은 DB 에 남겨 다음 실행에서 재시도)
+            //    행마다 키를 넘겨 중복 제거로 공유 중인 객체는 행 수만큼 참조 해제
+            List<String> keys = rows.stream()
+                    .map(FileCleanupRowDTO::key)
+                    .filter(key -> key != null && !key.isBlank())
+                    .toList();
+            Set<String> failedKeys = keys.isEmpty() ? Set.of() : s3Service.deleteFiles(keys);
+            int objectCount = (int) keys.stream().distinct().count();
+
+            // 2. DB 청크 단위 영구 삭제
+            List<Long> ids = rows.stream()
+                    .filter(row -> row.key() == null || !failedKeys.contains(row.key()))
+                    .map(FileCleanupRowDTO::id)
+                    .toList();
+            int deletedRows = ids.isEmpty() ? 0 : target.deleter().apply(ids);
+
+            // 3. 체크포인트 저장
+            run.recordChunk(rows.get(rows.size() - 1).id(), deletedRows,
+                    objectCount - failedKeys.size(), failedKeys.size());
+            fileCleanupRunRepository.save(run);
+
+            if (!failedKeys.isEmpty()) {
+                log.warn("[{}] S3 삭제 실패 {}건 (다음 실행에서 재시도)", target.name(), failedKeys.size());
+            }
+            if (rows.size() < chunkSize) {
+                break;
             }
         }
 
-        log.info("[{}] 정리 완료 - 성공: {}, 실패: {}", entityType, deletedCount, failedCount);
-        return new int[] { deletedCount, failedCount };
+        log.info("[{}] 정리 완료 - 삭제 행: {}, 실패 객체: {}", target.name(),
+                run.getDeletedRows() - deletedRowsBefore, run.getFailedObjects() - failedObjectsBefore);
+    }
+
+    /**
+     * 정리 대상 조회 함수 (afterId 이후 ID 순 청크)
+     */
+    @FunctionalInterface
+    private interface RowFinder {
+        List<FileCleanupRowDTO> find(long afterId, Pageable pageable);
+    }
+
+    /**
+     * 정리 대상 엔티티 타입 (이름 = 체크포인트 단계명)
+     */
+    private record CleanupTarget(String name, RowFinder finder, Function<List<Long>, Integer> deleter) {
     }
 }
@@ -0,0 +1,25 @@
+package com.softwarecampus.backend.scheduler;
+
+import com.softwarecampus.backend.service.common.ImageDerivativeProcessor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 파생본 보류 작업 재제출 스케줄러
+ * 작업 큐가 가득 차 보류된 파생본 생성/삭제 작업을 큐 여유가 생기는 대로 다시 제출
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeRetryScheduler {
+
+    private final ImageDerivativeProcessor imageDerivativeProcessor;
+
+    /**
+     * image.derivative.retry-interval-ms 간격(기본 10초)으로 재제출
+     */
+    @Scheduled(fixedDelayString = "${image.derivative.retry-interval-ms:10000}")
+    public void retryDeferredDerivatives() {
+        imageDerivativeProcessor.retryDeferred();
+    }
+}
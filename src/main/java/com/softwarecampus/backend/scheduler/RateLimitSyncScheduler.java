@@ -0,0 +1,28 @@
+package com.softwarecampus.backend.scheduler;
+
+import com.softwarecampus.backend.security.LocalRateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rate Limit 동기화 스케줄러
+ * 인스턴스 로컬 토큰 버킷의 소비량을 주기적으로 Redis 에 일괄 반영하고 다른 인스턴스의 소비량을 가져옴
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class RateLimitSyncScheduler {
+
+    private final LocalRateLimiter localRateLimiter;
+
+    /**
+     * rate.limit.local.sync-interval-ms 간격(기본 1초)으로 동기화
+     * 장시간 스케줄 작업과 스레드를 나누어 쓰도록 spring.task.scheduling.pool.size 를 1 보다 크게 설정해야 함
+     */
+    @Scheduled(fixedDelayString = "${rate.limit.local.sync-interval-ms:1000}")
+    public void syncRateLimits() {
+        localRateLimiter.sync();
+    }
+}
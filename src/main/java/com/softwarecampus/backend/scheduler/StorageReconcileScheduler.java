@@ -0,0 +1,210 @@
+package com.softwarecampus.backend.scheduler;
+
+import com.softwarecampus.backend.dto.common.StorageReconcileResponse;
+import com.softwarecampus.backend.repository.academy.AcademyFileRepository;
+import com.softwarecampus.backend.repository.academy.AcademyRepository;
+import com.softwarecampus.backend.repository.academy.academyQA.AttachmentRepository;
+import com.softwarecampus.backend.repository.banner.BannerRepository;
+import com.softwarecampus.backend.repository.board.BoardAttachRepository;
+import com.softwarecampus.backend.repository.course.CourseImageRepository;
+import com.softwarecampus.backend.repository.course.CourseReviewAttachmentRepository;
+import com.softwarecampus.backend.repository.course.CourseReviewFileRepository;
+import com.softwarecampus.backend.repository.user.AccountRepository;
+import com.softwarecampus.backend.service.common.S3Folder;
+import com.softwarecampus.backend.service.common.S3Service;
+import com.softwarecampus.backend.service.common.StorageMetadataRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 버킷-DB 대조(고아 객체 정리) 스케줄러
+ * - 매주 일요일 새벽 5시 30분 실행 (app.file.reconcile.cron)
+ * - FileCleanupScheduler 는 DB 행이 남아 있는 파일만 정리하므로, 업로드 후 DB 행이 끝내 저장되지 않은 객체
+ *   (처리 중 예외, 트랜잭션 롤백 등)는 여기서 찾아 정리
+ *
+ * S3Folder 별로 ListObjectsV2 를 페이지 단위(키 사전순)로 순회하며, 페이지의 키 묶음을 모든 파일 테이블에 IN 조회한다.
+ * - 목록 전체나 DB 키 전체를 메모리에 올리지 않음 (페이지 크기: app.file.reconcile.page-size)
+ * - 마지막 수정 후 유예 시간(app.file.reconcile.grace-hours)이 지나지 않은 객체는 DB 저장 전일 수 있으므로 제외
+ * - Soft-Delete 된 행의 파일과 중복 제거로 참조 수가 남아 있는 객체는 참조 중으로 취급
+ * - 고아 객체는 페이지 단위로 S3Service.deleteFiles (DeleteObjects) 로 삭제
+ * - dryRun 이면 삭제하지 않고 건수/크기와 일부 키만 보고 (스케줄 실행 기본값: app.file.reconcile.dry-run=true)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageReconcileScheduler {
+
+    /** 보고서에 남길 폴더별 고아 객체 키 수 */
+    private static final int SAMPLE_SIZE = 100;
+
+    private final BoardAttachRepository boardAttachRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final CourseReviewFileRepository reviewFileRepository;
+    private final CourseReviewAttachmentRepository reviewAttachmentRepository;
+    private final CourseImageRepository courseImageRepository;
+    private final AcademyFileRepository academyFileRepository;
+    private final AcademyRepository academyRepository;
+    private final BannerRepository bannerRepository;
+    private final AccountRepository accountRepository;
+    private final StorageMetadataRegistry metadataRegistry;
+    private final S3Service s3Service;
+
+    /** 업로드 후 DB 저장까지 기다리는 유예 시간 (시간 단위) */
+    @Value("${app.file.reconcile.grace-hours:24}")
+    private int graceHours;
+
+    /** ListObjectsV2 페이지 크기 (한 번에 대조/삭제할 객체 수, 최대 1000) */
+    @Value("${app.file.reconcile.page-size:1000}")
+    private int pageSize;
+
+    /** 스케줄 실행 시 삭제 없이 보고만 할지 여부 */
+    @Value("${app.file.reconcile.dry-run:true}")
+    private boolean scheduledDryRun;
+
+    /** 같은 인스턴스에서 스케줄 실행과 수동 실행이 겹치지 않도록 방지 */
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Scheduled(cron = "${app.file.reconcile.cron:0 30 5 * * SUN}")
+    public void reconcileStorage() {
+        runReconcile(scheduledDryRun);
+    }
+
+    /**
+     * 버킷-DB 대조 실행
+     *
+     * @param dryRun true 이면 삭제하지 않고 보고만 함
+     * @return 대조 결과, 이미 실행 중이면 null
+     */
+    public StorageReconcileResponse runReconcile(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("버킷-DB 대조가 이미 실행 중입니다.");
+            return null;
+        }
+        try {
+            Instant modifiedBefore = Instant.now().minus(Duration.ofHours(graceHours));
+            log.info("버킷-DB 대조 시작 - 기준 시각: {} ({}시간 이전), dryRun: {}", modifiedBefore, graceHours, dryRun);
+
+            List<StorageReconcileResponse.FolderResult> results = new ArrayList<>();
+            for (S3Folder folder : S3Folder.values()) {
+                results.add(reconcileFolder(folder, modifiedBefore, dryRun));
+            }
+
+            log.info("버킷-DB 대조 완료 - 고아 객체: {}, 삭제: {}, 실패: {}",
+                    results.stream().mapToLong(StorageReconcileResponse.FolderResult::orphans).sum(),
+                    results.stream().mapToLong(StorageReconcileResponse.FolderResult::deleted).sum(),
+                    results.stream().mapToLong(StorageReconcileResponse.FolderResult::failed).sum());
+            return new StorageReconcileResponse(dryRun,
+                    LocalDateTime.ofInstant(modifiedBefore, ZoneId.systemDefault()), results);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 한 폴더의 객체를 페이지 단위로 대조
+     */
+    private StorageReconcileResponse.FolderResult reconcileFolder(S3Folder folder, Instant modifiedBefore,
+                                                                  boolean dryRun) {
+        // 루트 폴더는 다른 폴더(하위 경로)를 제외하고 최상위 객체만 조회
+        boolean root = folder.getPath().isEmpty();
+        String prefix = root ? "" : folder.getPath() + "/";
+        String delimiter = root ? "/" : null;
+
+        long scanned = 0;
+        long recent = 0;
+        long referenced = 0;
+        long orphans = 0;
+        long orphanBytes = 0;
+        long deleted = 0;
+        long failed = 0;
+        List<String> sampleKeys = new ArrayList<>();
+        boolean completed = true;
+
+        try {
+            for (ListObjectsV2Response page : s3Service.listObjects(prefix, delimiter, pageSize)) {
+                List<S3Object> candidates = new ArrayList<>();
+                for (S3Object object : page.contents()) {
+                    scanned++;
+                    if (object.lastModified() != null && object.lastModified().isAfter(modifiedBefore)) {
+                        recent++;
+                    } else {
+                        candidates.add(object);
+                    }
+                }
+                if (candidates.isEmpty()) {
+                    continue;
+                }
+
+                // 1. 페이지의 키 묶음을 모든 파일 테이블에 대조
+                Set<String> known = findReferencedKeys(candidates.stream().map(S3Object::key).toList());
+                List<String> orphanKeys = new ArrayList<>();
+                for (S3Object object : candidates) {
+                    if (known.contains(object.key())) {
+                        referenced++;
+                        continue;
+                    }
+                    orphanKeys.add(object.key());
+                    orphanBytes += object.size() != null ? object.size() : 0L;
+                    if (sampleKeys.size() < SAMPLE_SIZE) {
+                        sampleKeys.add(object.key());
+                    }
+                }
+                orphans += orphanKeys.size();
+
+                // 2. 고아 객체 일괄 삭제
+                if (!dryRun && !orphanKeys.isEmpty()) {
+                    Set<String> failedKeys = s3Service.deleteFiles(orphanKeys);
+                    deleted += orphanKeys.size() - failedKeys.size();
+                    failed += failedKeys.size();
+                }
+            }
+        } catch (RuntimeException e) {
+            completed = false;
+            log.error("[{}] 버킷-DB 대조 중단 - 조회: {}", prefix, scanned, e);
+        }
+
+        log.info("[{}] 버킷-DB 대조 - 조회: {}, 유예: {}, 참조: {}, 고아: {} ({} bytes), 삭제: {}, 실패: {}",
+                prefix, scanned, recent, referenced, orphans, orphanBytes, deleted, failed);
+        return new StorageReconcileResponse.FolderResult(folder.getPath(), scanned, recent, referenced,
+                orphans, orphanBytes, deleted, failed, sampleKeys, completed);
+    }
+
+    /**
+     * 주어진 키 중 어느 파일 테이블이나 공유 참조 수가 참조하는 키
+     */
+    private Set<String> findReferencedKeys(List<String> keys) {
+        List<Function<List<String>, List<String>>> finders = List.of(
+                boardAttachRepository::findReferencedKeys,
+                attachmentRepository::findReferencedKeys,
+                reviewFileRepository::findReferencedKeys,
+                reviewAttachmentRepository::findReferencedKeys,
+                courseImageRepository::findReferencedKeys,
+                academyFileRepository::findReferencedKeys,
+                academyRepository::findReferencedKeys,
+                bannerRepository::findReferencedKeys,
+                accountRepository::findReferencedKeys,
+                metadataRegistry::findShared);
+
+        Set<String> referenced = new HashSet<>();
+        for (Function<List<String>, List<String>> finder : finders) {
+            referenced.addAll(finder.apply(keys));
+        }
+        return referenced;
+    }
+}
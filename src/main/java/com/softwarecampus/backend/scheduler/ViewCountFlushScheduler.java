@@ -0,0 +1,37 @@
+package com.softwarecampus.backend.scheduler;
+
+import com.softwarecampus.backend.service.viewcount.ViewCountService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회수 반영 스케줄러
+ * 메모리에 누적된 과정/게시글 조회수를 주기적으로 DB에 일괄 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlushScheduler {
+
+    private final ViewCountService viewCountService;
+
+    /**
+     * view-count.flush-interval-ms 간격(기본 5초)으로 누적 조회수 반영
+     */
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:5000}")
+    public void flushViewCounts() {
+        viewCountService.flush();
+    }
+
+    /**
+     * 종료 시 남은 누적분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        int updated = viewCountService.flush();
+        log.info("Flushed pending view counts on shutdown - updated rows: {}", updated);
+    }
+}
@@ -2,9 +2,11 @@ package com.softwarecampus.backend.security;
 
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Spring Security의 User를 확장하여 사용자 ID(PK)를 포함하는 클래스
@@ -20,4 +22,13 @@ public class CustomUserDetails extends User {
         super(username, password, authorities);
         this.id = id;
     }
+
+    /**
+     * 토큰 클레임으로 생성 (무상태 인증, 비밀번호 없음)
+     *
+     * @param role AccountType 이름 (ROLE_ 접두사 제외)
+     */
+    public static CustomUserDetails fromClaims(Long id, String email, String role) {
+        return new CustomUserDetails(id, email, "", List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+    }
 }
@@ -4,9 +4,8 @@ import com.softwarecampus.backend.domain.common.ApprovalStatus;
 import com.softwarecampus.backend.domain.user.Account;
 import com.softwarecampus.backend.dto.user.AccountCacheDto;
 import com.softwarecampus.backend.repository.user.AccountRepository;
+import com.softwarecampus.backend.service.auth.TokenVersionService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
@@ -30,13 +29,15 @@ import java.util.List;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final AccountRepository accountRepository;
+    private final TokenVersionService tokenVersionService;
+    private final UserDetailsCache userDetailsCache;
 
     /**
      * 이메일로 사용자 정보 로드
      * Spring Security의 인증 과정에서 호출됨
      * 
-     * Redis 캐싱 전략:
-     * - AccountCacheDto를 캐싱 (getAccountByEmail)
+     * 캐싱 전략:
+     * - AccountCacheDto를 캐싱 (getAccountByEmail, 로컬 메모리 + Redis 2단 캐시)
      * - UserDetails 객체는 매번 새로 생성
      * - DB 조회만 캐싱하여 성능 향상
      * 
@@ -58,7 +59,8 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     /**
      * 이메일로 Account 조회 (캐싱 적용)
-     * Redis에 AccountCacheDto를 캐싱하여 DB 조회 최소화
+     * UserDetailsCache(로컬 메모리 → Redis)에 AccountCacheDto를 캐싱하여 DB 조회 최소화
+     * (@Cacheable 은 loadUserByUsername 의 내부 호출에 적용되지 않으므로 직접 캐시를 거침)
      * 
      * 보안 검증:
      * - 삭제된 계정(isDeleted=true) 차단
@@ -69,8 +71,11 @@ public class CustomUserDetailsService implements UserDetailsService {
      * @return AccountCacheDto
      * @throws UsernameNotFoundException 사용자를 찾을 수 없거나 인증할 수 없는 경우
      */
-    @Cacheable(value = "userDetails", key = "#email", unless = "#result == null")
     public AccountCacheDto getAccountByEmail(String email) throws UsernameNotFoundException {
+        return userDetailsCache.get(email, this::loadAccount);
+    }
+
+    private AccountCacheDto loadAccount(String email) {
         Account account = accountRepository.findByEmailAndIsDeletedFalse(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
@@ -97,12 +102,25 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     /**
      * 사용자 상세 정보 캐시 삭제
-     * 사용자 정보 변경 시 호출하여 캐시 무효화
+     * 비밀번호/승인 상태 변경, 계정 삭제 시 호출하여 모든 인스턴스의 캐시 무효화
+     * 
+     * 토큰 버전도 함께 올려 이전에 발급된 Access Token 을 무효화
+     * (무상태 인증은 토큰 클레임을 그대로 사용하므로 비밀번호/승인 상태/삭제 변경이 반영되지 않음)
      * 
      * @param email 사용자 이메일
      */
-    @CacheEvict(value = "userDetails", key = "#email")
     public void evictUserDetailsCache(String email) {
-        // 캐시 제거만 수행 (메서드 본문 비어있음)
+        userDetailsCache.evict(email);
+        tokenVersionService.bumpVersion(email);
+    }
+
+    /**
+     * 사용자 상세 정보 캐시만 삭제 (발급된 토큰은 유지)
+     * 인증과 무관한 프로필 정보 변경 시 호출
+     * 
+     * @param email 사용자 이메일
+     */
+    public void refreshUserDetailsCache(String email) {
+        userDetailsCache.evict(email);
     }
 }
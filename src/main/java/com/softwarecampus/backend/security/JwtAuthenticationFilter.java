@@ -1,6 +1,10 @@
 package com.softwarecampus.backend.security;
 
+import com.softwarecampus.backend.domain.common.ApprovalStatus;
+import com.softwarecampus.backend.security.jwt.JwtPrincipal;
+import com.softwarecampus.backend.security.jwt.JwtProperties;
 import com.softwarecampus.backend.security.jwt.JwtTokenProvider;
+import com.softwarecampus.backend.service.auth.TokenVersionService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,6 +26,9 @@ import java.io.IOException;
  * JWT 인증 필터
  * HTTP 요청의 Authorization 헤더에서 JWT 토큰을 추출하고 검증
  * 
+ * jwt.stateless-auth=true 이면 계정 ID/권한/승인 상태 클레임이 있는 토큰은 DB 조회 없이 인증하고,
+ * Redis 토큰 버전으로 폐기 여부만 확인한다. (클레임이 없는 이전 토큰이나 Redis 장애 시에는 사용자 조회)
+ * 
  * @since 2025-11-19
  */
 @Slf4j
@@ -31,6 +38,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final TokenVersionService tokenVersionService;
+    private final JwtProperties jwtProperties;
     
     /**
      * HTTP 요청마다 한 번씩 실행되는 필터
@@ -47,12 +56,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 요청 헤더에서 JWT 토큰 추출
             String token = resolveToken(request);
             
-            // 토큰이 유효한 경우 인증 정보 설정
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                String email = jwtTokenProvider.getEmailFromToken(token);
-                
-                // UserDetailsService를 통해 사용자 정보 로드
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            // 토큰이 유효한 경우 인증 정보 설정 (검증과 클레임 추출을 한 번의 파싱으로 처리)
+            JwtPrincipal principal = StringUtils.hasText(token)
+                    ? jwtTokenProvider.verify(token).orElse(null)
+                    : null;
+            
+            // 사용자 정보 로드 (무상태 인증이면 클레임으로 생성, 폐기/미승인 토큰이면 null)
+            UserDetails userDetails = principal != null ? resolveUserDetails(principal) : null;
+            if (userDetails != null) {
+                String email = principal.email();
                 
                 // Spring Security 인증 객체 생성
                 UsernamePasswordAuthenticationToken authentication = 
@@ -86,6 +98,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    /**
+     * 토큰의 인증 정보로 UserDetails 생성
+     * 무상태 인증이면 클레임으로 바로 만들고, 아니면(또는 Redis 장애 시) UserDetailsService 로 조회
+     * 
+     * @param principal 검증된 토큰의 인증 정보
+     * @return UserDetails (폐기되었거나 미승인 상태의 토큰이면 null)
+     */
+    private UserDetails resolveUserDetails(JwtPrincipal principal) {
+        if (jwtProperties.isStatelessAuth() && principal.isSelfContained()) {
+            Boolean current = tokenVersionService.isCurrent(principal.email(), principal.tokenVersion());
+            if (Boolean.FALSE.equals(current)) {
+                log.debug("폐기된 토큰 (버전 불일치): {}", principal.email());
+                return null;
+            }
+            if (current != null) {
+                // 미승인 계정은 인증 거부 (CustomUserDetailsService 와 동일)
+                if (!ApprovalStatus.APPROVED.name().equals(principal.approval())) {
+                    log.debug("미승인 계정 토큰: {}", principal.email());
+                    return null;
+                }
+                return CustomUserDetails.fromClaims(principal.accountId(), principal.email(), principal.role());
+            }
+            // Redis 장애 - 사용자 조회로 대체
+        }
+        return userDetailsService.loadUserByUsername(principal.email());
+    }
+    
     /**
      * HTTP 요청 헤더에서 JWT 토큰 추출
      * Authorization: Bearer {token} 형식
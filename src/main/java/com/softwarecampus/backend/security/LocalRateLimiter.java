@@ -0,0 +1,291 @@
+package com.softwarecampus.backend.security;
+
+import com.softwarecampus.backend.infrastructure.redis.RedisScripts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인스턴스 로컬 토큰 버킷 Rate Limiter (Redis 비동기 동기화)
+ *
+ * 요청 경로에서는 메모리의 토큰 버킷만 보고 즉시 허용/거부를 결정하고, 소비한 토큰 수는 모아 두었다가
+ * sync() 에서 한 번의 Lua 호출로 Redis 고정 윈도우 카운터(RateLimitFilter 엄격 모드와 같은 키)에 더한다.
+ * 응답으로 받은 클러스터 전체 카운트에서 다른 인스턴스가 소비한 만큼을 로컬 버킷에서 차감하므로,
+ * 클러스터 전체 한도는 동기화 주기(rate.limit.local.sync-interval-ms)만큼의 오차 안에서 지켜진다.
+ *
+ * - 버킷: 용량 = 분당 한도, 초당 한도/60 씩 충전
+ * - 클라이언트 키 해시로 나눈 STRIPES 개의 구역별로 잠금 (서로 다른 클라이언트끼리는 거의 경합하지 않음)
+ * - 동기화 후 한 주기 동안 사용되지 않고 가득 찬 버킷은 제거, 키 수가 상한(rate.limit.local.max-keys)에 도달하면
+ *   새 키는 로컬에서 판단하지 않음 (호출 측에서 Redis 로 직접 확인)
+ * - 제거한 버킷의 마지막 클러스터 카운트는 윈도우 길이 동안 보관했다가, 같은 키의 버킷을 다시 만들 때 기준값으로 사용
+ *   (이 인스턴스가 앞서 소비한 양을 다른 인스턴스의 소비로 잘못 차감하지 않도록)
+ * - Redis 장애 시에도 로컬 판단은 계속되고, 소비량은 다음 동기화에서 다시 반영
+ *
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.host", matchIfMissing = false)
+public class LocalRateLimiter {
+
+    private static final int STRIPES = 64;
+
+    /** Redis 고정 윈도우 길이 (RateLimitFilter 엄격 모드와 동일) */
+    static final int WINDOW_SECONDS = 60;
+
+    private static final long WINDOW_NANOS = WINDOW_SECONDS * 1_000_000_000L;
+
+    /** 한 번의 Lua 호출로 동기화할 최대 키 수 */
+    private static final int SYNC_BATCH_SIZE = 500;
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> SYNC_SCRIPT =
+            new DefaultRedisScript<>(RedisScripts.INCRBY_WITH_EXPIRE_BATCH, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${rate.limit.local.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate.limit.local.max-keys:100000}")
+    private int maxKeys;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public LocalRateLimiter(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     *
+     * @param key            Redis 카운터 키 (예: ratelimit:{ip})
+     * @param limitPerMinute 분당 한도
+     * @return 판단 결과, 로컬 키 수 상한에 도달하여 판단할 수 없으면 null
+     */
+    public Decision tryAcquire(String key, int limitPerMinute) {
+        long now = System.nanoTime();
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                if (stripe.buckets.size() >= maxKeysPerStripe() && !stripe.evictIdle(now, maxKeysPerStripe())) {
+                    return null;
+                }
+                bucket = new Bucket(limitPerMinute, now);
+                Evicted previous = stripe.evicted.remove(key);
+                if (previous != null && now - previous.evictedAt() < WINDOW_NANOS) {
+                    bucket.lastClusterCount = previous.clusterCount();
+                }
+                stripe.buckets.put(key, bucket);
+            }
+            return bucket.tryConsume(limitPerMinute, now);
+        }
+    }
+
+    /**
+     * 로컬 소비량을 Redis 에 반영하고 다른 인스턴스의 소비량을 로컬 버킷에 차감
+     *
+     * @return 동기화한 키 수
+     */
+    public int sync() {
+        if (!enabled) {
+            return 0;
+        }
+        int synced = 0;
+        long now = System.nanoTime();
+        for (Stripe stripe : stripes) {
+            List<String> keys = new ArrayList<>();
+            List<Long> deltas = new ArrayList<>();
+            synchronized (stripe) {
+                stripe.evictIdle(now, maxKeysPerStripe());
+                for (Map.Entry<String, Bucket> entry : stripe.buckets.entrySet()) {
+                    Bucket bucket = entry.getValue();
+                    keys.add(entry.getKey());
+                    deltas.add(bucket.pending);
+                    bucket.pending = 0;
+                    bucket.touched = false;
+                }
+            }
+            for (int from = 0; from < keys.size(); from += SYNC_BATCH_SIZE) {
+                int to = Math.min(from + SYNC_BATCH_SIZE, keys.size());
+                synced += syncBatch(stripe, keys.subList(from, to), deltas.subList(from, to));
+            }
+        }
+        return synced;
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+        return size;
+    }
+
+    private int syncBatch(Stripe stripe, List<String> keys, List<Long> deltas) {
+        List<Long> counts;
+        try {
+            List<String> args = new ArrayList<>(keys.size() + 1);
+            args.add(String.valueOf(WINDOW_SECONDS));
+            deltas.forEach(delta -> args.add(String.valueOf(delta)));
+            @SuppressWarnings("unchecked")
+            List<Long> result = redisTemplate.execute(SYNC_SCRIPT, keys, args.toArray());
+            counts = result;
+        } catch (Exception e) {
+            counts = null;
+            log.warn("Rate limit 동기화 실패 - 다음 주기에 재시도 (키: {}): {}", keys.size(), e.getMessage());
+        }
+
+        synchronized (stripe) {
+            for (int i = 0; i < keys.size(); i++) {
+                Bucket bucket = stripe.buckets.get(keys.get(i));
+                if (bucket == null) {
+                    continue;
+                }
+                if (counts == null || i >= counts.size() || counts.get(i) == null) {
+                    bucket.pending += deltas.get(i);
+                } else {
+                    bucket.applyClusterCount(counts.get(i), deltas.get(i));
+                }
+            }
+        }
+        return counts != null ? keys.size() : 0;
+    }
+
+    private Stripe stripeOf(String key) {
+        return stripes[Math.floorMod(key.hashCode(), STRIPES)];
+    }
+
+    private int maxKeysPerStripe() {
+        return Math.max(1, maxKeys / STRIPES);
+    }
+
+    /**
+     * 판단 결과
+     *
+     * @param allowed           허용 여부
+     * @param remaining         남은 토큰 수 (내림)
+     * @param retryAfterSeconds 거부 시 토큰 1개가 충전될 때까지의 시간 (초, 올림)
+     */
+    public record Decision(boolean allowed, long remaining, long retryAfterSeconds) {
+    }
+
+    /**
+     * 제거한 버킷의 마지막 클러스터 카운트
+     *
+     * @param clusterCount 제거 시점의 lastClusterCount
+     * @param evictedAt    제거 시각 (System.nanoTime)
+     */
+    private record Evicted(long clusterCount, long evictedAt) {
+    }
+
+    private static final class Stripe {
+
+        private final HashMap<String, Bucket> buckets = new HashMap<>();
+
+        /** 제거한 버킷의 기준값 (윈도우 길이가 지나면 Redis 카운터도 새 윈도우이므로 버림) */
+        private final HashMap<String, Evicted> evicted = new HashMap<>();
+
+        /**
+         * 한 동기화 주기 동안 사용되지 않고, Redis 에 반영할 소비량이 없으며, 가득 찬 버킷 제거
+         *
+         * @param now           현재 시각 (System.nanoTime)
+         * @param maxRemembered 보관할 기준값 최대 수
+         * @return 하나 이상 제거했는지 여부
+         */
+        private boolean evictIdle(long now, int maxRemembered) {
+            evicted.values().removeIf(entry -> now - entry.evictedAt() >= WINDOW_NANOS);
+
+            boolean removed = false;
+            Iterator<Map.Entry<String, Bucket>> iterator = buckets.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Bucket> entry = iterator.next();
+                Bucket bucket = entry.getValue();
+                if (!bucket.touched && bucket.pending == 0 && bucket.isFull(now)) {
+                    iterator.remove();
+                    removed = true;
+                    if (bucket.lastClusterCount > 0 && evicted.size() < maxRemembered) {
+                        evicted.put(entry.getKey(), new Evicted(bucket.lastClusterCount, now));
+                    }
+                }
+            }
+            return removed;
+        }
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+        private int capacity;
+        /** 아직 Redis 에 반영하지 않은 소비량 */
+        private long pending;
+        /** 마지막으로 확인한 클러스터 전체 카운트 */
+        private long lastClusterCount;
+        /** 마지막 동기화 이후 사용 여부 */
+        private boolean touched;
+
+        private Bucket(int capacity, long now) {
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        private Decision tryConsume(int limitPerMinute, long now) {
+            capacity = limitPerMinute;
+            refill(now);
+            touched = true;
+            if (tokens >= 1) {
+                tokens -= 1;
+                pending++;
+                return new Decision(true, (long) tokens, 0);
+            }
+            double ratePerSecond = capacity / (double) WINDOW_SECONDS;
+            long retryAfter = ratePerSecond > 0 ? (long) Math.ceil((1 - tokens) / ratePerSecond) : WINDOW_SECONDS;
+            return new Decision(false, 0, Math.max(1, retryAfter));
+        }
+
+        /**
+         * 동기화 결과 반영: 이번에 보낸 양을 제외한 증가분은 다른 인스턴스의 소비이므로 차감
+         */
+        private void applyClusterCount(long clusterCount, long pushed) {
+            long expected = lastClusterCount + pushed;
+            // 카운트가 줄었으면 윈도우가 바뀐 것 (키 만료 후 새로 생성)
+            long others = clusterCount >= expected ? clusterCount - expected : clusterCount - pushed;
+            if (others > 0) {
+                tokens = Math.max(tokens - others, -capacity);
+            }
+            lastClusterCount = clusterCount;
+        }
+
+        private boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            double elapsedSeconds = (now - refilledAt) / 1_000_000_000.0;
+            tokens = Math.min(capacity, tokens + elapsedSeconds * capacity / WINDOW_SECONDS);
+            refilledAt = now;
+        }
+    }
+}
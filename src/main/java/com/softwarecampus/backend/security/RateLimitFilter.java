@@ -3,15 +3,15 @@ package com.softwarecampus.backend.security;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.softwarecampus.backend.infrastructure.redis.RedisScripts;
 import com.softwarecampus.backend.util.ClientIpUtils;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-
-import java.util.Objects;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.security.core.Authentication;
@@ -21,8 +21,10 @@ import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -33,8 +35,22 @@ import java.util.Map;
  * 2. 로그인: /api/auth/login - 5 req/min per IP (브루트포스 방어)
  * 3. 비밀번호 검증: /api/auth/verify-password - 10 req/min per (IP + username)
  * 
+ * 판단 방식:
+ * - 로컬 모드: 인스턴스 메모리의 토큰 버킷으로 즉시 판단하고 소비량은 주기적으로 Redis 에 일괄 반영
+ *   (LocalRateLimiter, 전역 제한 기본값 - 요청마다 Redis 를 거치지 않음)
+ * - 엄격 모드: 요청마다 Redis 카운터를 증가시켜 클러스터 전체 한도를 정확히 적용
+ *   (로그인/비밀번호 검증 기본값, rate.limit.*.strict 로 변경 가능)
+ *   요청에 해당하는 엄격 모드 단계는 RedisScripts.RATE_LIMIT_MULTI_TIER 한 번의 EVALSHA 로 함께 판정
+ *   (스크립트는 기동 시 SCRIPT LOAD, Redis 재시작 등으로 없으면 EVAL 로 자동 재전송)
+ * - 엄격 모드 단계를 먼저 판정하고, 모두 허용된 경우에만 로컬 모드 단계의 토큰을 소비
+ * 
+ * 응답 헤더:
+ * - X-RateLimit-Remaining: 적용된 단계 중 가장 적게 남은 요청 수
+ * - Retry-After (429): 초과한 단계의 윈도우 남은 시간(엄격 모드) 또는 토큰 충전 시간(로컬 모드)
+ * 
  * @since 2025-11-19 (Phase 12.5)
  * @updated 2025-12-01 엔드포인트별 세밀한 제한 추가
+ * @updated 2026-10-17 로컬 토큰 버킷 모드 추가, 엄격 모드 단계 일괄 판정
  */
 @Slf4j
 @Component
@@ -44,14 +60,17 @@ public class RateLimitFilter extends OncePerRequestFilter {
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
     private final ClientIpUtils clientIpUtils;
+    private final LocalRateLimiter localRateLimiter;
     
     public RateLimitFilter(
             RedisTemplate<String, String> redisTemplate,
             ObjectMapper objectMapper,
-            ClientIpUtils clientIpUtils) {
+            ClientIpUtils clientIpUtils,
+            LocalRateLimiter localRateLimiter) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
         this.clientIpUtils = clientIpUtils;
+        this.localRateLimiter = localRateLimiter;
     }
     
     @Value("${rate.limit.requests-per-minute:100}")
@@ -63,6 +82,12 @@ public class RateLimitFilter extends OncePerRequestFilter {
     @Value("${rate.limit.password-verification.requests-per-minute:10}")
     private int passwordVerificationRequestsPerMinute;
     
+    @Value("${rate.limit.login.strict:true}")
+    private boolean loginStrict;
+    
+    @Value("${rate.limit.password-verification.strict:true}")
+    private boolean passwordVerificationStrict;
+    
     @Value("${rate.limit.enabled:true}")
     private boolean enabled;
     
@@ -70,6 +95,12 @@ public class RateLimitFilter extends OncePerRequestFilter {
     private static final String LOGIN_RATE_LIMIT_PREFIX = "ratelimit:login:";
     private static final String PASSWORD_VERIFY_RATE_LIMIT_PREFIX = "ratelimit:password:";
     
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> MULTI_TIER_SCRIPT =
+            new DefaultRedisScript<>(RedisScripts.RATE_LIMIT_MULTI_TIER, List.class);
+    
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
     
     @Override
@@ -88,33 +119,43 @@ public class RateLimitFilter extends OncePerRequestFilter {
         String requestUri = normalizeRequestPath(request.getRequestURI());
         String clientIp = getClientIp(request);
         
+        Verdict verdict;
         try {
-            // 1. 비밀번호 검증 API - 가장 엄격한 제한 (IP + username)
-            if (pathMatcher.match("/api/auth/verify-password", requestUri)) {
-                if (!checkPasswordVerificationLimit(request, response, clientIp)) {
-                    return;
-                }
-            }
-            
-            // 2. 로그인 API - 엄격한 제한 (IP)
-            if (pathMatcher.match("/api/auth/login", requestUri)) {
-                if (!checkLoginLimit(response, clientIp)) {
-                    return;
-                }
+            verdict = evaluate(resolveTiers(requestUri, clientIp));
+        } catch (Exception e) {
+            log.error("Rate limit check failed: {}", e.getMessage());
+            // Redis 오류 시에도 요청은 허용 (가용성 우선)
+            verdict = null;
+        }
+        
+        if (verdict != null) {
+            if (verdict.remaining() != Long.MAX_VALUE) {
+                response.setHeader(REMAINING_HEADER, String.valueOf(verdict.remaining()));
             }
-            
-            // 3. 전역 Rate Limiting (모든 API)
-            if (!checkGlobalLimit(response, clientIp)) {
+            if (verdict.rejectedTier() != null) {
+                Tier tier = verdict.rejectedTier();
+                log.warn("{} rate limit exceeded - key: {}", tier.name(), tier.key());
+                sendRateLimitResponse(response, verdict.retryAfterSeconds(), tier.message());
                 return;
             }
-            
-            // 정상 요청 - 다음 필터로
-            filterChain.doFilter(request, response);
-            
+        }
+        
+        // 정상 요청 - 다음 필터로
+        filterChain.doFilter(request, response);
+    }
+    
+    /**
+     * 기동 시 다단계 판정 스크립트를 Redis 에 등록 (요청마다 스크립트 본문을 보내지 않고 EVALSHA 만 사용)
+     * Redis 에 연결할 수 없으면 첫 요청에서 EVAL 로 등록됨
+     */
+    @PostConstruct
+    void loadScripts() {
+        try {
+            String sha = redisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands()
+                    .scriptLoad(MULTI_TIER_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+            log.info("Rate limit script loaded - sha1: {}", sha);
         } catch (Exception e) {
-            log.error("Rate limit check failed: {}", e.getMessage());
-            // Redis 오류 시에도 요청은 허용 (가용성 우선)
-            filterChain.doFilter(request, response);
+            log.warn("Rate limit 스크립트 사전 등록 실패 - 첫 요청 시 등록: {}", e.getMessage());
         }
     }
     
@@ -146,100 +187,117 @@ public class RateLimitFilter extends OncePerRequestFilter {
     }
     
     /**
-     * 비밀번호 검증 Rate Limit 체크
+     * 요청에 적용되는 단계 목록 (판정 순서)
+     * 1. 비밀번호 검증 API - 가장 엄격한 제한 (IP + username)
+     * 2. 로그인 API - 엄격한 제한 (IP)
+     * 3. 전역 Rate Limiting (모든 API)
      * 
-     * @param request  HTTP 요청
-     * @param response HTTP 응답
-     * @param clientIp 클라이언트 IP
-     * @return 요청 허용 여부
+     * @param requestUri 정규화된 요청 경로
+     * @param clientIp   클라이언트 IP
+     * @return 단계 목록
      */
-    private boolean checkPasswordVerificationLimit(
-            HttpServletRequest request,
-            HttpServletResponse response,
-            String clientIp
-    ) throws IOException {
-        String username = getAuthenticatedUsername();
+    private List<Tier> resolveTiers(String requestUri, String clientIp) {
+        List<Tier> tiers = new ArrayList<>(3);
         
-        if (username == null) {
+        if (pathMatcher.match("/api/auth/verify-password", requestUri)) {
+            String username = getAuthenticatedUsername();
             // 인증되지 않은 요청은 @PreAuthorize에서 차단됨
-            return true;
+            if (username != null) {
+                tiers.add(new Tier("Password verification",
+                        PASSWORD_VERIFY_RATE_LIMIT_PREFIX + clientIp + ":" + username,
+                        passwordVerificationRequestsPerMinute, passwordVerificationStrict,
+                        "비밀번호 검증 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+            }
         }
         
-        String key = PASSWORD_VERIFY_RATE_LIMIT_PREFIX + clientIp + ":" + username;
-        long requests = incrementCounter(key, 60); // 1분 TTL
-        
-        if (requests > passwordVerificationRequestsPerMinute) {
-            log.warn("Password verification rate limit exceeded - IP: {}, Username: {}, Count: {}", 
-                    clientIp, username, requests);
-            sendRateLimitResponse(response, 60, 
-                    "비밀번호 검증 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
-            return false;
+        if (pathMatcher.match("/api/auth/login", requestUri)) {
+            tiers.add(new Tier("Login", LOGIN_RATE_LIMIT_PREFIX + clientIp,
+                    loginRequestsPerMinute, loginStrict,
+                    "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."));
         }
         
-        return true;
+        tiers.add(new Tier("Global", RATE_LIMIT_PREFIX + clientIp,
+                requestsPerMinute, false,
+                "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+        return tiers;
     }
     
     /**
-     * 로그인 Rate Limit 체크
+     * 단계별 판정
+     * 엄격 모드 단계(와 로컬 모드가 꺼진 단계)를 한 번의 Redis 호출로 먼저 판정하고,
+     * 모두 허용된 경우에만 로컬 모드 단계의 토큰을 소비한다 (Redis 호출 없음).
+     * 엄격 모드 단계에서 거부된 요청이 로컬 토큰을 소비하지 않도록 하기 위함이며,
+     * 로컬 키 수 상한으로 로컬에서 판단할 수 없는 단계는 추가로 Redis 에서 판정
      * 
-     * @param response HTTP 응답
-     * @param clientIp 클라이언트 IP
-     * @return 요청 허용 여부
+     * @param tiers 적용 단계
+     * @return 판정 결과
      */
-    private boolean checkLoginLimit(HttpServletResponse response, String clientIp) 
-            throws IOException {
-        String key = LOGIN_RATE_LIMIT_PREFIX + clientIp;
-        long requests = incrementCounter(key, 60); // 1분 TTL
+    private Verdict evaluate(List<Tier> tiers) {
+        List<Tier> localTiers = new ArrayList<>(tiers.size());
+        List<Tier> redisTiers = new ArrayList<>(tiers.size());
+        for (Tier tier : tiers) {
+            if (!tier.strict() && localRateLimiter.isEnabled()) {
+                localTiers.add(tier);
+            } else {
+                redisTiers.add(tier);
+            }
+        }
         
-        if (requests > loginRequestsPerMinute) {
-            log.warn("Login rate limit exceeded - IP: {}, Count: {}", clientIp, requests);
-            sendRateLimitResponse(response, 60,
-                    "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
-            return false;
+        Verdict verdict = evaluateInRedis(redisTiers, Long.MAX_VALUE);
+        if (verdict.rejectedTier() != null || localTiers.isEmpty()) {
+            return verdict;
         }
         
-        return true;
+        long remaining = verdict.remaining();
+        List<Tier> undecidedTiers = new ArrayList<>(localTiers.size());
+        for (Tier tier : localTiers) {
+            LocalRateLimiter.Decision decision = localRateLimiter.tryAcquire(tier.key(), tier.limit());
+            if (decision == null) {
+                undecidedTiers.add(tier);
+                continue;
+            }
+            if (!decision.allowed()) {
+                return new Verdict(tier, 0, decision.retryAfterSeconds());
+            }
+            remaining = Math.min(remaining, decision.remaining());
+        }
+        return evaluateInRedis(undecidedTiers, remaining);
     }
     
     /**
-     * 전역 Rate Limit 체크
+     * 여러 단계를 한 번의 Redis 호출(EVALSHA)로 판정
      * 
-     * @param response HTTP 응답
-     * @param clientIp 클라이언트 IP
-     * @return 요청 허용 여부
+     * @param tiers     판정할 단계 (비어 있으면 호출하지 않음)
+     * @param remaining 앞서 판정한 단계의 남은 요청 수
+     * @return 판정 결과
      */
-    private boolean checkGlobalLimit(HttpServletResponse response, String clientIp) 
-            throws IOException {
-        String key = RATE_LIMIT_PREFIX + clientIp;
-        long requests = incrementCounter(key, 60); // 1분 TTL
+    private Verdict evaluateInRedis(List<Tier> tiers, long remaining) {
+        if (tiers.isEmpty()) {
+            return new Verdict(null, remaining, 0);
+        }
         
-        if (requests > requestsPerMinute) {
-            log.warn("Global rate limit exceeded - IP: {}, Count: {}", clientIp, requests);
-            sendRateLimitResponse(response, 60,
-                    "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
-            return false;
+        List<String> keys = new ArrayList<>(tiers.size());
+        List<String> args = new ArrayList<>(tiers.size() + 1);
+        args.add(String.valueOf(LocalRateLimiter.WINDOW_SECONDS));
+        for (Tier tier : tiers) {
+            keys.add(tier.key());
+            args.add(String.valueOf(tier.limit()));
         }
         
-        return true;
-    }
-    
-    /**
-     * Redis 카운터 증가 (Lua Script로 원자적 실행)
-     * 
-     * Redis 실행 실패 시 null을 반환할 수 있으므로,
-     * null-safe하게 0L로 변환하여 반환합니다.
-     * 
-     * @param key        Redis 키
-     * @param ttlSeconds TTL (초)
-     * @return 현재 카운트 (실패 시 0L)
-     */
-    private long incrementCounter(String key, int ttlSeconds) {
-        Long result = redisTemplate.execute(
-                new DefaultRedisScript<>(RedisScripts.INCR_WITH_EXPIRE, Long.class),
-                Collections.singletonList(key),
-                String.valueOf(ttlSeconds)
-        );
-        return Objects.requireNonNullElse(result, 0L);
+        // 단계마다 {허용 여부, 남은 요청 수, 남은 TTL} (초과 단계에서 중단)
+        @SuppressWarnings("unchecked")
+        List<Long> result = redisTemplate.execute(MULTI_TIER_SCRIPT, keys, args.toArray());
+        if (result == null) {
+            return new Verdict(null, remaining, 0);
+        }
+        for (int i = 0; i + 2 < result.size(); i += 3) {
+            Tier tier = tiers.get(i / 3);
+            if (result.get(i) == 0L) {
+                return new Verdict(tier, 0, Math.max(1, result.get(i + 2)));
+            }
+            remaining = Math.min(remaining, result.get(i + 1));
+        }
+        return new Verdict(null, remaining, 0);
     }
     
     /**
@@ -267,6 +325,28 @@ public class RateLimitFilter extends OncePerRequestFilter {
         response.getWriter().flush();
     }
     
+    /**
+     * Rate Limit 단계
+     * 
+     * @param name    로그 표시 이름
+     * @param key     Redis 카운터 키 (로컬 버킷 키 겸용)
+     * @param limit   분당 한도
+     * @param strict  엄격 모드 여부
+     * @param message 초과 시 응답 메시지
+     */
+    private record Tier(String name, String key, int limit, boolean strict, String message) {
+    }
+    
+    /**
+     * 판정 결과
+     * 
+     * @param rejectedTier      한도를 초과한 단계 (허용이면 null)
+     * @param remaining         적용 단계 중 가장 적게 남은 요청 수 (판정한 단계가 없으면 Long.MAX_VALUE)
+     * @param retryAfterSeconds 재시도 대기 시간 (초)
+     */
+    private record Verdict(Tier rejectedTier, long remaining, long retryAfterSeconds) {
+    }
+    
     /**
      * 인증된 사용자명 조회
      * 
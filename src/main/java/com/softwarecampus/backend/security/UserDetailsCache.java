@@ -0,0 +1,237 @@
+package com.softwarecampus.backend.security;
+
+import com.softwarecampus.backend.dto.user.AccountCacheDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 인증용 계정 정보(AccountCacheDto) 2단 캐시
+ *
+ * - L1: 인스턴스 메모리 (최대 user-details-cache.local.max-size 건, user-details-cache.local.ttl 동안 유효)
+ * - L2: Redis "userDetails" 캐시 (RedisConfig.cacheManager, TTL 10분)
+ * - L1 적중 시 Redis 왕복과 JSON 역직렬화를 모두 생략
+ *
+ * 무효화는 L1/L2 를 함께 지우고 Redis 채널(user-details:invalidate)로 이메일을 발행하여
+ * 다른 인스턴스의 L1 도 즉시 지운다. 트랜잭션 안에서 호출되면 커밋 후 한 번 더 무효화하여,
+ * 커밋 전에 다른 요청이 이전 값을 다시 적재한 경우도 정리한다.
+ * 메시지가 유실되더라도 L1 항목은 TTL 이 지나면 사라진다.
+ *
+ * L1 은 무효화 채널을 구독 중일 때만 사용한다. Redis 가 없거나 구독 연결이 끊긴 동안에는 L1 을 건너뛰어
+ * 다른 인스턴스에서 삭제/비밀번호 변경된 계정이 남지 않도록 하고, (재)구독될 때마다 L1 을 비운다.
+ *
+ * Redis 장애 시 L2 는 건너뛰고 DB 조회로 대체한다.
+ *
+ * @since 2026-10-17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDetailsCache implements MessageListener, SubscriptionListener {
+
+    public static final String CACHE_NAME = "userDetails";
+    public static final String INVALIDATION_CHANNEL = "user-details:invalidate";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+
+    @Value("${user-details-cache.local.max-size:10000}")
+    private int localMaxSize;
+
+    @Value("${user-details-cache.local.ttl:PT1M}")
+    private Duration localTtl;
+
+    private final ConcurrentHashMap<String, Entry> localEntries = new ConcurrentHashMap<>();
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    /** 무효화 채널 구독 여부 (SubscriptionListener 콜백으로 갱신) */
+    private volatile boolean subscribed;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer = listenerContainerProvider.getIfAvailable();
+        if (listenerContainer == null) {
+            log.info("Redis 메시지 리스너 컨테이너가 없어 계정 캐시의 로컬(L1) 단계를 사용하지 않습니다.");
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 계정 정보 조회 (L1 → L2 → loader 순서)
+     *
+     * @param email  사용자 이메일
+     * @param loader 캐시 미적중 시 DB 조회 (예외는 그대로 전파되고 캐시하지 않음)
+     * @return AccountCacheDto
+     */
+    public AccountCacheDto get(String email, Function<String, AccountCacheDto> loader) {
+        AccountCacheDto local = getLocal(email);
+        if (local != null) {
+            return local;
+        }
+
+        Cache remote = remoteCache();
+        AccountCacheDto account = getRemote(remote, email);
+        if (account == null) {
+            account = loader.apply(email);
+            putRemote(remote, email, account);
+        }
+        putLocal(email, account);
+        return account;
+    }
+
+    /**
+     * 계정 정보 무효화 (모든 인스턴스의 L1 + L2)
+     *
+     * @param email 사용자 이메일
+     */
+    public void evict(String email) {
+        evictEverywhere(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictEverywhere(email);
+                }
+            });
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 수신 (자신이 발행한 메시지도 수신하며, L1 제거만 수행)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String email = new String(message.getBody(), StandardCharsets.UTF_8);
+        localEntries.remove(email);
+        log.debug("User details cache invalidated by message");
+    }
+
+    /**
+     * 무효화 채널 (재)구독 - 구독이 끊긴 동안 놓친 메시지가 있을 수 있으므로 L1 을 비우고 사용 시작
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        localEntries.clear();
+        subscribed = true;
+        log.debug("User details cache invalidation channel subscribed");
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        subscribed = false;
+        localEntries.clear();
+        log.debug("User details cache invalidation channel unsubscribed");
+    }
+
+    int localSize() {
+        return localEntries.size();
+    }
+
+    private void evictEverywhere(String email) {
+        localEntries.remove(email);
+
+        Cache remote = remoteCache();
+        if (remote != null) {
+            try {
+                remote.evict(email);
+            } catch (Exception e) {
+                log.warn("계정 캐시(Redis) 삭제 실패: {}", e.getMessage());
+            }
+        }
+
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, email);
+        } catch (Exception e) {
+            log.warn("계정 캐시 무효화 메시지 발행 실패 - 다른 인스턴스는 로컬 TTL 만료 후 반영: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * L1 사용 가능 여부 - 무효화 채널을 구독 중이고 구독 연결이 살아 있을 때만
+     */
+    private boolean isLocalActive() {
+        return subscribed && listenerContainer != null && listenerContainer.isListening();
+    }
+
+    private AccountCacheDto getLocal(String email) {
+        if (!isLocalActive()) {
+            return null;
+        }
+        Entry entry = localEntries.get(email);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            localEntries.remove(email, entry);
+            return null;
+        }
+        return entry.account();
+    }
+
+    private void putLocal(String email, AccountCacheDto account) {
+        if (!isLocalActive() || localMaxSize <= 0 || localTtl.isZero() || localTtl.isNegative()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (localEntries.size() >= localMaxSize) {
+            localEntries.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (localEntries.size() >= localMaxSize) {
+                return;
+            }
+        }
+        localEntries.put(email, new Entry(account, now + localTtl.toMillis()));
+    }
+
+    private Cache remoteCache() {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        return cacheManager != null ? cacheManager.getCache(CACHE_NAME) : null;
+    }
+
+    private AccountCacheDto getRemote(Cache remote, String email) {
+        if (remote == null) {
+            return null;
+        }
+        try {
+            return remote.get(email, AccountCacheDto.class);
+        } catch (Exception e) {
+            log.warn("계정 캐시(Redis) 조회 실패 - DB 조회로 대체: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(Cache remote, String email, AccountCacheDto account) {
+        if (remote == null) {
+            return;
+        }
+        try {
+            remote.put(email, account);
+        } catch (Exception e) {
+            log.warn("계정 캐시(Redis) 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private record Entry(AccountCacheDto account, long expiresAt) {
+    }
+}
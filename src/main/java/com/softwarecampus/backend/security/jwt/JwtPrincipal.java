@@ -0,0 +1,26 @@
+package com.softwarecampus.backend.security.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT 의 인증 정보 (불변)
+ * JwtTokenProvider.verify() 한 번의 파싱으로 필요한 클레임을 모두 담아 반환
+ *
+ * @param email        사용자 이메일 (subject)
+ * @param role         사용자 권한 (role 클레임이 없는 토큰이면 null)
+ * @param accountId    계정 ID (무상태 인증 클레임이 없는 토큰이면 null)
+ * @param approval     발급 시점의 승인 상태 (없으면 null)
+ * @param tokenVersion 발급 시점의 토큰 버전 (없으면 null)
+ * @param expiresAt    토큰 만료 시각
+ * @since 2026-10-16
+ */
+public record JwtPrincipal(String email, String role, Long accountId, String approval, Long tokenVersion,
+                           Instant expiresAt) {
+
+    /**
+     * 사용자 조회 없이 인증 정보를 만들 수 있는 토큰인지 (무상태 인증 클레임 포함 여부)
+     */
+    public boolean isSelfContained() {
+        return accountId != null && role != null && approval != null && tokenVersion != null;
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * JWT 설정 프로퍼티
  * application.properties의 jwt.* 설정값을 바인딩
@@ -28,4 +30,22 @@ public class JwtProperties {
      * 기본값: 1800000ms (30분)
      */
     private long expiration = 1800000L;
+
+    /**
+     * 검증된 토큰 캐시 최대 항목 수 (0 이면 캐시하지 않음)
+     * 같은 Access Token 으로 반복 요청 시 서명 검증/파싱을 생략
+     */
+    private int verifiedCacheSize = 10000;
+
+    /**
+     * 검증된 토큰 캐시 유지 시간 (토큰 만료 시각을 넘지 않음)
+     */
+    private Duration verifiedCacheTtl = Duration.ofSeconds(30);
+
+    /**
+     * 무상태 인증 사용 여부
+     * true 이면 계정 ID/권한/승인 상태 클레임이 있는 토큰은 사용자 조회 없이 인증하고,
+     * 폐기 여부는 Redis 토큰 버전(TokenVersionService)으로만 확인
+     */
+    private boolean statelessAuth = false;
 }
@@ -2,33 +2,51 @@ package com.softwarecampus.backend.security.jwt;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 Provider
  * 
+ * 서명 키와 파서는 생성 시 한 번만 만들어 재사용한다. (JJWT 파서는 불변이며 스레드 안전)
+ * 요청 인증은 verify() 한 번의 파싱으로 JwtPrincipal 을 얻고,
+ * 같은 토큰의 반복 요청은 검증된 토큰 캐시(jwt.verified-cache-*)로 서명 검증/파싱을 생략한다.
+ * 
  * @since 2025-11-19
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
     
+    /** 토큰 클레임 이름 (uid/approval/ver 는 무상태 인증용) */
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_ACCOUNT_ID = "uid";
+    private static final String CLAIM_APPROVAL = "approval";
+    private static final String CLAIM_TOKEN_VERSION = "ver";
+    
     private final JwtProperties jwtProperties;
     
-    /**
-     * JWT 서명에 사용할 SecretKey 생성
-     * HMAC-SHA 알고리즘 사용 시 최소 256bit 이상의 키 필요
-     */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /** JWT 서명 키 (HMAC-SHA, 최소 256bit) */
+    private final SecretKey signingKey;
+    
+    /** 서명 검증 파서 */
+    private final JwtParser jwtParser;
+    
+    private final VerifiedTokenCache verifiedTokenCache;
+    
+    public JwtTokenProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedTokenCache = new VerifiedTokenCache(
+                jwtProperties.getVerifiedCacheSize(), jwtProperties.getVerifiedCacheTtl());
     }
     
     /**
@@ -46,7 +64,7 @@ public class JwtTokenProvider {
                 .subject(email)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
     
@@ -63,10 +81,37 @@ public class JwtTokenProvider {
         
         return Jwts.builder()
                 .subject(email)
-                .claim("role", role)
+                .claim(CLAIM_ROLE, role)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
+                .compact();
+    }
+    
+    /**
+     * JWT 토큰 생성 (무상태 인증용 클레임 포함)
+     * 요청마다 사용자 조회 없이 인증 정보를 만들 수 있도록 계정 ID, 승인 상태, 토큰 버전을 함께 담음
+     * 
+     * @param email        사용자 이메일
+     * @param role         사용자 권한 (USER, ACADEMY, ADMIN)
+     * @param accountId    계정 ID
+     * @param approval     승인 상태 (ApprovalStatus 이름)
+     * @param tokenVersion 발급 시점의 토큰 버전 (TokenVersionService)
+     * @return 생성된 JWT 토큰
+     */
+    public String generateToken(String email, String role, Long accountId, String approval, long tokenVersion) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + jwtProperties.getExpiration());
+        
+        return Jwts.builder()
+                .subject(email)
+                .claim(CLAIM_ROLE, role)
+                .claim(CLAIM_ACCOUNT_ID, accountId)
+                .claim(CLAIM_APPROVAL, approval)
+                .claim(CLAIM_TOKEN_VERSION, tokenVersion)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(signingKey)
                 .compact();
     }
     
@@ -98,7 +143,7 @@ public class JwtTokenProvider {
      */
     public String getRoleFromToken(String token) {
         Claims claims = parseToken(token);
-        return claims.get("role", String.class);
+        return claims.get(CLAIM_ROLE, String.class);
     }
     
     /**
@@ -108,9 +153,37 @@ public class JwtTokenProvider {
      * @return 유효하면 true, 아니면 false
      */
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+    
+    /**
+     * JWT 토큰을 한 번 파싱하여 검증하고 인증 정보를 반환
+     * 최근 검증한 토큰이면 캐시된 결과를 반환 (만료 시각 이후에는 적중하지 않음)
+     * 
+     * @param token JWT 토큰
+     * @return 유효하면 인증 정보, 아니면 empty
+     */
+    public Optional<JwtPrincipal> verify(String token) {
+        if (verifiedTokenCache.isEnabled() && token != null) {
+            JwtPrincipal cached = verifiedTokenCache.get(token);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        
         try {
-            parseToken(token);
-            return true;
+            Claims claims = parseToken(token);
+            JwtPrincipal principal = new JwtPrincipal(
+                    claims.getSubject(),
+                    claims.get(CLAIM_ROLE, String.class),
+                    claims.get(CLAIM_ACCOUNT_ID, Long.class),
+                    claims.get(CLAIM_APPROVAL, String.class),
+                    claims.get(CLAIM_TOKEN_VERSION, Long.class),
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+            if (verifiedTokenCache.isEnabled() && principal.expiresAt() != null) {
+                verifiedTokenCache.put(token, principal);
+            }
+            return Optional.of(principal);
         } catch (io.jsonwebtoken.security.SignatureException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -121,8 +194,10 @@ public class JwtTokenProvider {
             log.error("JWT token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("Invalid JWT claims: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
     
     /**
@@ -133,10 +208,6 @@ public class JwtTokenProvider {
      * @throws JwtException 토큰이 유효하지 않은 경우
      */
     private Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,85 @@
+package com.softwarecampus.backend.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근 검증된 토큰 캐시 (토큰 SHA-256 → JwtPrincipal)
+ *
+ * - 원문 토큰 대신 SHA-256 을 키로 보관 (토큰 전체를 비교하므로 서명만 재사용한 위조 토큰은 적중하지 않음)
+ * - 항목은 min(저장 시각 + ttl, 토큰 만료 시각) 까지 유효
+ * - 최대 크기에 도달하면 만료된 항목을 정리하고, 그래도 가득 차 있으면 새 항목은 저장하지 않음 (요청 경로에서 락 없이 동작)
+ *
+ * @since 2026-10-16
+ */
+class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    VerifiedTokenCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    boolean isEnabled() {
+        return maxSize > 0 && ttlMillis > 0;
+    }
+
+    /**
+     * 유효한 캐시 항목 조회 (없거나 만료되었으면 null)
+     */
+    JwtPrincipal get(String token) {
+        String digest = digest(token);
+        Entry entry = entries.get(digest);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.validUntil() <= System.currentTimeMillis()) {
+            entries.remove(digest, entry);
+            return null;
+        }
+        return entry.principal();
+    }
+
+    void put(String token, JwtPrincipal principal) {
+        long now = System.currentTimeMillis();
+        long validUntil = Math.min(now + ttlMillis, principal.expiresAt().toEpochMilli());
+        if (validUntil <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(entry -> entry.validUntil() <= now);
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(digest(token), new Entry(principal, validUntil));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static String digest(String token) {
+        MessageDigest md = SHA256.get();
+        md.reset();
+        return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private record Entry(JwtPrincipal principal, long validUntil) {
+    }
+}
@@ -10,11 +10,14 @@ import com.softwarecampus.backend.exception.academy.AcademyErrorCode;
 import com.softwarecampus.backend.exception.academy.AcademyException;
 import com.softwarecampus.backend.repository.academy.AcademyRepository;
 import com.softwarecampus.backend.service.common.FileType;
+import com.softwarecampus.backend.service.common.ImageTarget;
 import com.softwarecampus.backend.service.common.S3Folder;
 import com.softwarecampus.backend.service.common.S3Service;
+import com.softwarecampus.backend.service.common.event.ImageUploadedEvent;
 import com.softwarecampus.backend.service.user.email.EmailSendService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -38,6 +41,8 @@ public class AcademyServiceImpl implements AcademyService {
     private final EmailSendService emailSendService;
     // S3 파일 업로드 서비스 (작성자: GitHub Copilot, 작성일: 2025-12-03)
     private final S3Service s3Service;
+    // 이미지 파생본 생성 이벤트 발행
+    private final ApplicationEventPublisher eventPublisher;
 
     private Academy findAcademyOrThrow(Long id) {
         return academyRepository.findByIdAndDeletedAtIsNull(id)
@@ -271,6 +276,9 @@ public class AcademyServiceImpl implements AcademyService {
         String newLogoUrl = s3Service.uploadFile(image, folder, FileType.FileTypeEnum.ACADEMY_PROFILE);
         
         academy.setLogoUrl(newLogoUrl);
+        academy.setImageDerivatives(null);
+        // 커밋 이후 축소 이미지 생성 (비동기)
+        eventPublisher.publishEvent(ImageUploadedEvent.of(ImageTarget.ACADEMY_LOGO, newLogoUrl));
         log.info("기관 프로필 이미지 업로드 완료 - 기관 ID: {}, URL: {}", id, newLogoUrl);
         
         return AcademyResponse.from(academy);
@@ -298,6 +306,7 @@ public class AcademyServiceImpl implements AcademyService {
         }
         
         academy.setLogoUrl(null);
+        academy.setImageDerivatives(null);
         return AcademyResponse.from(academy);
     }
 }
@@ -21,6 +21,11 @@ public interface AttachmentService {
      */
     List<QAFileDetail> uploadFiles(List<MultipartFile> files, S3Folder folder);
 
+    /**
+     *  직접 업로드(Presigned PUT)된 파일을 검증하고 임시 저장 후 FileDetail 반환
+     */
+    QAFileDetail confirmUploadedFile(String key, Long uploaderId);
+
     /**
      * Q/A ID와 연결하여 최종 확정
      */
@@ -5,6 +5,7 @@ import com.softwarecampus.backend.domain.common.AttachmentCategoryType;
 import com.softwarecampus.backend.dto.academy.qna.QAFileDetail;
 import com.softwarecampus.backend.repository.academy.academyQA.AttachmentRepository;
 import com.softwarecampus.backend.service.common.FileType;
+import com.softwarecampus.backend.service.common.S3AsyncService;
 import com.softwarecampus.backend.service.common.S3Folder;
 import com.softwarecampus.backend.service.common.S3Service;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ public class AttachmentServiceImpl implements AttachmentService {
 
     private final AttachmentRepository attachmentRepository;
     private final S3Service s3Service;
+    private final S3AsyncService s3AsyncService;
 
     private static final AttachmentCategoryType QNA_TYPE = AttachmentCategoryType.QNA;
     private static final FileType.FileTypeEnum QNA_FILE_TYPE = FileType.FileTypeEnum.BOARD_ATTACH;
@@ -72,6 +74,35 @@ public class AttachmentServiceImpl implements AttachmentService {
         return fileDetails;
     }
 
+    /**
+     *  직접 업로드된 파일 검증 및 임시 저장 (uploadFiles 와 같은 임시 Attachment 레코드 생성)
+     */
+    @Override
+    @Transactional
+    public QAFileDetail confirmUploadedFile(String key, Long uploaderId) {
+        if (attachmentRepository.existsByFilename(key)) {
+            throw new IllegalArgumentException("이미 확정된 파일입니다.");
+        }
+
+        S3Service.UploadedObject uploaded =
+                s3Service.confirmUpload(key, DEFAULT_S3_FOLDER.getPath(), QNA_FILE_TYPE, uploaderId);
+
+        Attachment attachment = Attachment.builder()
+                .originName(uploaded.originalFilename())
+                .filename(uploaded.key())
+                .categoryType(QNA_TYPE)
+                .categoryId(null) // 임시 ID로 마킹
+                .build();
+
+        attachmentRepository.save(attachment);
+
+        return QAFileDetail.builder()
+                .id(attachment.getId())
+                .originName(attachment.getOriginName())
+                .filename(uploaded.key())
+                .build();
+    }
+
     /**
      *  임시 저장된 게시글 ID를 연결하여 파일을 확정
      */
@@ -104,19 +135,26 @@ public class AttachmentServiceImpl implements AttachmentService {
 
     /**
      *  Soft Delete된 파일 목록을 받아 S3에서도 물리적으로 삭제 처리
+     *  - 비동기 일괄 삭제 요청 후 결과를 기다리지 않음 (실패는 로그만 남김)
      */
     @Override
     public void hardDeleteS3Files(List<Attachment> attachments) {
         if (attachments == null || attachments.isEmpty()) return;
 
-        for (Attachment attachment : attachments) {
-            try {
-                s3Service.deleteFile(attachment.getFilename());
-                log.info("Attachment deleted successfully");
-            } catch (Exception e) {
-                log.error(e.getMessage());
-            }
-        }
+        List<String> keys = attachments.stream()
+                .map(Attachment::getFilename)
+                .toList();
+
+        s3AsyncService.deleteFiles(keys)
+                .whenComplete((failed, error) -> {
+                    if (error != null) {
+                        log.error("Attachment delete failed", error);
+                    } else if (!failed.isEmpty()) {
+                        log.error("Attachment delete failed: {}", failed);
+                    } else {
+                        log.info("Attachments deleted successfully: {}", keys.size());
+                    }
+                });
     }
 
     /**
@@ -5,6 +5,7 @@ import com.softwarecampus.backend.domain.user.Account;
 import com.softwarecampus.backend.dto.user.AccountResponse;
 import com.softwarecampus.backend.dto.user.AccountUpdateRequest;
 import com.softwarecampus.backend.repository.user.AccountRepository;
+import com.softwarecampus.backend.security.CustomUserDetailsService;
 import com.softwarecampus.backend.service.user.email.EmailSendService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +27,7 @@ public class AccountAdminServiceImpl implements AccountAdminService {
 
     private final AccountRepository accountRepository;
     private final EmailSendService emailSendService;
+    private final CustomUserDetailsService customUserDetailsService;
 
     private Account findAccount(Long accountId) {
         return accountRepository.findById(accountId)
@@ -131,8 +133,12 @@ public class AccountAdminServiceImpl implements AccountAdminService {
             account.setAddress(request.getAddress());
         }
 
-        if (request.getAccountApproved() != null) {
+        if (request.getAccountApproved() != null && request.getAccountApproved() != account.getAccountApproved()) {
             account.setAccountApproved(request.getAccountApproved());
+            // 승인 상태가 바뀌면 캐시 무효화 및 발급된 토큰 폐기
+            customUserDetailsService.evictUserDetailsCache(account.getEmail());
+        } else {
+            customUserDetailsService.refreshUserDetailsCache(account.getEmail());
         }
 
         return toResponse(account);
@@ -146,6 +152,7 @@ public class AccountAdminServiceImpl implements AccountAdminService {
     public void deleteAccount(Long accountId) {
         Account account = findAccount(accountId);
         accountRepository.delete(account);
+        customUserDetailsService.evictUserDetailsCache(account.getEmail());
     }
 
     /**
@@ -163,6 +170,7 @@ public class AccountAdminServiceImpl implements AccountAdminService {
         }
 
         account.setAccountApproved(ApprovalStatus.APPROVED);
+        customUserDetailsService.evictUserDetailsCache(account.getEmail());
         AccountResponse response = toResponse(account);
 
         // 트랜잭션 커밋 후 이메일 발송 (이메일 실패해도 승인은 완료)
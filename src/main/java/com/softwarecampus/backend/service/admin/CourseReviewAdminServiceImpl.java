@@ -9,8 +9,11 @@ import com.softwarecampus.backend.dto.course.ReviewSectionResponse;
 import com.softwarecampus.backend.exception.course.NotFoundException;
 import com.softwarecampus.backend.repository.course.CourseReviewRepository;
 import com.softwarecampus.backend.repository.course.ReviewLikeRepository;
+import com.softwarecampus.backend.service.course.CourseStatsService;
+import com.softwarecampus.backend.service.course.event.CourseChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +31,8 @@ public class CourseReviewAdminServiceImpl implements CourseReviewAdminService {
 
         private final CourseReviewRepository courseReviewRepository;
         private final ReviewLikeRepository reviewLikeRepository;
+        private final CourseStatsService courseStatsService;
+        private final ApplicationEventPublisher eventPublisher;
 
         @Override
         @Transactional
@@ -42,9 +47,12 @@ public class CourseReviewAdminServiceImpl implements CourseReviewAdminService {
                         throw new IllegalStateException("이미 승인된 후기입니다.");
                 }
 
-                // 3. 승인 상태로 변경
+                // 3. 승인 상태로 변경 + 과정 통계 반영
                 review.setApprovalStatus(ApprovalStatus.APPROVED);
+                courseStatsService.addApprovedReview(review);
                 log.info("후기 승인 완료. reviewId: {}", reviewId);
+                eventPublisher.publishEvent(
+                                CourseChangedEvent.of(review.getCourse().getId(), CourseChangedEvent.Type.REVIEW));
 
                 // 4. 응답 DTO 생성
                 return buildReviewResponse(review);
@@ -57,9 +65,14 @@ public class CourseReviewAdminServiceImpl implements CourseReviewAdminService {
                 CourseReview review = courseReviewRepository.findByIdAndIsDeletedFalse(reviewId)
                                 .orElseThrow(() -> new NotFoundException("후기를 찾을 수 없습니다."));
 
-                // 2. 거부 상태로 변경
+                // 2. 거부 상태로 변경 (승인된 후기였다면 과정 통계에서 차감)
+                if (review.getApprovalStatus() == ApprovalStatus.APPROVED) {
+                        courseStatsService.removeApprovedReview(review);
+                }
                 review.setApprovalStatus(ApprovalStatus.REJECTED);
                 log.info("후기 거부 완료. reviewId: {}, reason: {}", reviewId, reason);
+                eventPublisher.publishEvent(
+                                CourseChangedEvent.of(review.getCourse().getId(), CourseChangedEvent.Type.REVIEW));
 
                 // 3. 응답 DTO 생성
                 return buildReviewResponse(review);
@@ -1,6 +1,8 @@
 package com.softwarecampus.backend.service.auth;
 
+import com.softwarecampus.backend.domain.user.Account;
 import com.softwarecampus.backend.dto.auth.TokenResponse;
+import com.softwarecampus.backend.repository.user.AccountRepository;
 import com.softwarecampus.backend.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +27,8 @@ public class TokenService {
     
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisTemplate<String, String> redisTemplate;
+    private final AccountRepository accountRepository;
+    private final TokenVersionService tokenVersionService;
     
     private static final String REFRESH_TOKEN_PREFIX = "refresh:";
     private static final long REFRESH_TOKEN_VALIDITY = 7 * 24 * 60 * 60 * 1000L; // 7일
@@ -79,13 +83,27 @@ public class TokenService {
             throw new IllegalArgumentException("Invalid refresh token");
         }
         
-        // 새로운 Access Token 발급
-        String newAccessToken = jwtTokenProvider.generateToken(email);
+        // 새로운 Access Token 발급 (현재 계정 상태로 무상태 인증용 클레임 갱신)
+        String newAccessToken = accountRepository.findByEmailAndIsDeletedFalse(email)
+                .map(this::generateAccessToken)
+                .orElseGet(() -> jwtTokenProvider.generateToken(email));
         log.debug("Access token refreshed for user: {}", email);
         
         return newAccessToken;
     }
     
+    /**
+     * 계정 정보로 Access Token 생성 (권한/계정 ID/승인 상태/토큰 버전 포함)
+     */
+    private String generateAccessToken(Account account) {
+        return jwtTokenProvider.generateToken(
+                account.getEmail(),
+                account.getAccountType().name(),
+                account.getId(),
+                account.getAccountApproved() != null ? account.getAccountApproved().name() : null,
+                tokenVersionService.currentVersion(account.getEmail()));
+    }
+    
     /**
      * Refresh Token 삭제 (로그아웃)
      * 
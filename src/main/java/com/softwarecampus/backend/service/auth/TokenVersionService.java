@@ -0,0 +1,81 @@
+package com.softwarecampus.backend.service.auth;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자별 Access Token 버전 관리
+ * 무상태(stateless) 인증에서 DB 조회 없이 토큰 폐기 여부를 확인하기 위함
+ *
+ * Access Token 에 발급 시점의 버전(ver 클레임)을 담고, 요청마다 Redis 의 현재 버전과 비교한다.
+ * 비밀번호 변경, 승인 상태 변경, 계정 삭제 시 버전을 올리면 그 이전에 발급된 토큰은 모두 거부된다.
+ *
+ * - 키: tokenver:{email}, 값이 없으면 버전 0
+ * - 키에 TTL 을 두지 않는다. 키가 만료되면 버전이 0 부터 다시 올라가
+ *   그 사이에 발급된 ver 가 더 큰 토큰이 폐기 후에도 유효하다고 판정될 수 있으므로 버전은 단조 증가해야 함
+ *   (폐기 이력이 있는 사용자마다 작은 정수 키 하나만 남음)
+ * - Redis 장애 시 확인 결과는 null (호출 측에서 DB 조회로 대체), 버전 증가 실패는 경고 로그만 남김
+ *
+ * @since 2026-10-16
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenVersionService {
+
+    private static final String TOKEN_VERSION_PREFIX = "tokenver:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 현재 토큰 버전 조회 (토큰 발급 시 ver 클레임에 기록)
+     *
+     * @param email 사용자 이메일
+     * @return 현재 버전 (기록이 없거나 조회 실패 시 0)
+     */
+    public long currentVersion(String email) {
+        try {
+            return readVersion(email);
+        } catch (Exception e) {
+            log.warn("토큰 버전 조회 실패 - 버전 0 으로 발급: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * 토큰 버전이 현재 버전 이상인지 확인
+     *
+     * @param email        사용자 이메일
+     * @param tokenVersion 토큰의 ver 클레임
+     * @return 유효하면 TRUE, 폐기된 토큰이면 FALSE, Redis 장애로 확인할 수 없으면 null
+     */
+    public Boolean isCurrent(String email, long tokenVersion) {
+        try {
+            return tokenVersion >= readVersion(email);
+        } catch (Exception e) {
+            log.warn("토큰 버전 확인 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 토큰 버전 증가 (이전에 발급된 Access Token 을 모두 무효화)
+     *
+     * @param email 사용자 이메일
+     */
+    public void bumpVersion(String email) {
+        try {
+            Long version = redisTemplate.opsForValue().increment(TOKEN_VERSION_PREFIX + email);
+            log.debug("Token version bumped to {}", version);
+        } catch (Exception e) {
+            log.warn("토큰 버전 증가 실패 - 기존 Access Token 은 만료 시까지 유효: {}", e.getMessage());
+        }
+    }
+
+    private long readVersion(String email) {
+        String value = redisTemplate.opsForValue().get(TOKEN_VERSION_PREFIX + email);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
@@ -11,9 +11,12 @@ import com.softwarecampus.backend.exception.banner.BannerErrorCode;
 import com.softwarecampus.backend.exception.banner.BannerException;
 import com.softwarecampus.backend.repository.banner.BannerRepository;
 import com.softwarecampus.backend.service.academy.qna.AttachmentService;
+import com.softwarecampus.backend.service.common.ImageTarget;
 import com.softwarecampus.backend.service.common.S3Folder;
+import com.softwarecampus.backend.service.common.event.ImageUploadedEvent;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -28,6 +31,7 @@ public class BannerServiceImpl implements BannerService {
 
         private final BannerRepository bannerRepository;
         private final AttachmentService attachmentService;
+        private final ApplicationEventPublisher eventPublisher;
 
         private static final AttachmentCategoryType BANNER_TYPE = AttachmentCategoryType.BANNER;
         private static final S3Folder BANNER_S3_FOLDER = S3Folder.BANNER;
@@ -45,7 +49,8 @@ public class BannerServiceImpl implements BannerService {
                                 request.getLinkUrl(),
                                 null, // description
                                 request.getSequence(),
-                                request.getIsActivated());
+                                request.getIsActivated(),
+                                null); // imageDerivatives (이미지 확정 후 비동기 생성)
 
                 Banner savedBanner = bannerRepository.save(banner);
 
@@ -63,6 +68,8 @@ public class BannerServiceImpl implements BannerService {
                                                 List.of(imageAttachment), savedBanner.getId(), BANNER_TYPE);
 
                                 finalImageUrl = imageAttachment.getFilename();
+                                eventPublisher.publishEvent(
+                                                ImageUploadedEvent.of(ImageTarget.BANNER, finalImageUrl));
                         }
                 }
 
@@ -104,6 +111,8 @@ public class BannerServiceImpl implements BannerService {
                                 attachmentService.confirmAttachments(uploadedFileDetails, banner.getId(), BANNER_TYPE);
 
                                 updatedImageUrl = newFileDetail.getFilename();
+                                eventPublisher.publishEvent(
+                                                ImageUploadedEvent.of(ImageTarget.BANNER, updatedImageUrl));
                         }
                 }
                 banner.update(
@@ -0,0 +1,246 @@
+package com.softwarecampus.backend.service.board;
+
+import com.softwarecampus.backend.domain.board.BoardCategory;
+import com.softwarecampus.backend.dto.board.BoardSearchCommentDTO;
+import com.softwarecampus.backend.dto.board.BoardSearchDocumentDTO;
+import com.softwarecampus.backend.repository.board.BoardRepository;
+import com.softwarecampus.backend.repository.board.CommentRepository;
+import com.softwarecampus.backend.service.board.event.BoardChangedEvent;
+import com.softwarecampus.backend.util.NGramIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongPredicate;
+
+/**
+ * 게시글 검색 색인
+ *
+ * 제목/본문/작성자명/댓글 내용을 N-gram 역색인(NGramIndex)으로 메모리에 유지하여
+ * 게시판 검색을 순위가 매겨진 게시글 ID 목록으로 변환한다. DB 에는 ID IN 조건만 전달되므로
+ * TEXT 컬럼 LIKE 전체 스캔과 댓글 JOIN 이 발생하지 않는다.
+ *
+ * - 전체 빌드: 애플리케이션 기동 직후 전용 스레드에서 수행, 최대 허용 지연(board.search.max-staleness-seconds)
+ *   초과 시에도 같은 스레드에서 다시 빌드하며 그동안 검색은 기존 색인으로 처리
+ *   (작성자 닉네임 변경/탈퇴 등 게시글 이벤트로 전달되지 않는 변경 반영)
+ * - 부분 갱신: 게시글/댓글 작성·수정·삭제 이벤트로 표시된 게시글만 다시 조회하여 교체
+ * - 카테고리: 게시글별 카테고리를 함께 보관하여 검색 시 색인 안에서 거름 (결과 수 상한 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndex {
+
+    /** 필드 순서: 제목, 본문, 작성자명, 댓글 */
+    public static final int TITLE = 0;
+    public static final int TEXT = 1;
+    public static final int AUTHOR = 2;
+    public static final int COMMENT = 3;
+
+    /** 필드 가중치: 제목, 본문, 작성자명, 댓글 */
+    private static final int[] FIELD_WEIGHTS = { 4, 2, 2, 1 };
+
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+
+    @Value("${board.search.max-staleness-seconds:600}")
+    private long maxStalenessSeconds;
+
+    /** 마지막 갱신 이후 변경된 게시글 ID (커밋 이후 이벤트로 적재) */
+    private final Set<Long> dirtyBoardIds = ConcurrentHashMap.newKeySet();
+
+    /** 전체 빌드 중 기존 색인에 부분 갱신한 게시글 ID (빌드 완료 후 새 색인에 다시 반영, 빌드 중이 아니면 null) */
+    private Set<Long> changedDuringBuild;
+
+    private volatile Snapshot snapshot;
+
+    private ExecutorService buildExecutor;
+    private CompletableFuture<Snapshot> building;
+
+    @PostConstruct
+    void start() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("board-search-index-");
+        threadFactory.setDaemon(true);
+        buildExecutor = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    @PreDestroy
+    void stop() {
+        buildExecutor.shutdownNow();
+    }
+
+    /**
+     * 기동 직후 전체 빌드 시작 (첫 검색 요청이 빌드를 떠안지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        scheduleRebuild();
+    }
+
+    /**
+     * 키워드 검색
+     *
+     * @param keyword  검색어
+     * @param category 카테고리 (null 이면 전체)
+     * @param fields   검색 대상 필드 (TITLE, TEXT, AUTHOR, COMMENT)
+     * @return 순위순 게시글 ID 목록 (일치하는 게시글 전체)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> search(String keyword, BoardCategory category, int... fields) {
+        if (NGramIndex.tokenize(keyword).isEmpty()) {
+            return List.of();
+        }
+        Snapshot current = currentSnapshot();
+        LongPredicate filter = category == null ? id -> true : id -> category == current.categories().get(id);
+        return current.index().search(keyword, Integer.MAX_VALUE, filter, fields);
+    }
+
+    /**
+     * 게시글 변경 이벤트 수신 - 커밋된 변경만 반영하기 위해 AFTER_COMMIT 단계에서 처리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.boardId() != null) {
+            dirtyBoardIds.add(event.boardId());
+        }
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // 기동 직후 빌드가 끝나기 전의 요청만 진행 중인 빌드를 기다림
+            current = awaitBuild(scheduleRebuild());
+        } else if (current.isExpired(maxStalenessSeconds)) {
+            scheduleRebuild();
+        }
+        if (!dirtyBoardIds.isEmpty()) {
+            refreshDirty();
+        }
+        return snapshot;
+    }
+
+    private Snapshot awaitBuild(CompletableFuture<Snapshot> build) {
+        try {
+            return build.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 전체 재빌드 예약 - 이미 진행 중이면 그 빌드를 반환
+     */
+    private synchronized CompletableFuture<Snapshot> scheduleRebuild() {
+        if (building == null || building.isDone()) {
+            building = CompletableFuture.supplyAsync(this::rebuild, buildExecutor);
+            building.whenComplete((built, e) -> {
+                if (e != null) {
+                    log.warn("게시글 검색 색인 전체 빌드 실패: {}", e.getMessage());
+                }
+            });
+        }
+        return building;
+    }
+
+    /**
+     * 전체 재빌드 (빌드 전용 스레드) - 새 색인을 만든 뒤 교체하므로 빌드 중에도 기존 색인으로 검색 가능
+     */
+    private Snapshot rebuild() {
+        synchronized (this) {
+            // 재빌드 시작 전에 쌓인 변경분은 전체 조회에 포함되므로 비움
+            dirtyBoardIds.clear();
+            changedDuringBuild = new HashSet<>();
+        }
+        Snapshot rebuilt;
+        try {
+            rebuilt = new Snapshot(new NGramIndex(FIELD_WEIGHTS), new ConcurrentHashMap<>(), LocalDateTime.now());
+            putAll(rebuilt, boardRepository.findSearchDocuments(), commentRepository.findSearchComments());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                dirtyBoardIds.addAll(changedDuringBuild);
+                changedDuringBuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            // 빌드 중 기존 색인에만 반영된 변경분은 새 색인에도 다시 반영
+            dirtyBoardIds.addAll(changedDuringBuild);
+            changedDuringBuild = null;
+            snapshot = rebuilt;
+        }
+        log.debug("게시글 검색 색인 전체 빌드 완료 - 문서 수: {}", rebuilt.index().size());
+        return rebuilt;
+    }
+
+    /**
+     * 변경된 게시글만 부분 갱신 (조회되지 않는 게시글은 삭제된 것으로 보고 제거)
+     */
+    private synchronized void refreshDirty() {
+        Snapshot current = snapshot;
+        List<Long> changedIds = List.copyOf(dirtyBoardIds);
+        if (current == null || changedIds.isEmpty()) {
+            return;
+        }
+        changedIds.forEach(dirtyBoardIds::remove);
+        if (changedDuringBuild != null) {
+            changedDuringBuild.addAll(changedIds);
+        }
+
+        changedIds.forEach(id -> {
+            current.index().remove(id);
+            current.categories().remove(id);
+        });
+        putAll(current, boardRepository.findSearchDocumentsByIdIn(changedIds),
+                commentRepository.findSearchCommentsByBoardIdIn(changedIds));
+        log.debug("게시글 검색 색인 부분 갱신 완료 - 변경 게시글: {}", changedIds);
+    }
+
+    /**
+     * 게시글 문서에 댓글 내용을 합쳐 색인 (댓글은 하나의 필드로 이어 붙임)
+     */
+    private void putAll(Snapshot target, List<BoardSearchDocumentDTO> docs, List<BoardSearchCommentDTO> comments) {
+        Map<Long, StringBuilder> commentTexts = new HashMap<>();
+        for (BoardSearchCommentDTO comment : comments) {
+            commentTexts.computeIfAbsent(comment.getBoardId(), k -> new StringBuilder())
+                    .append(comment.getText()).append('\n');
+        }
+        for (BoardSearchDocumentDTO doc : docs) {
+            StringBuilder commentText = commentTexts.get(doc.getId());
+            target.index().put(doc.getId(), doc.getTitle(), doc.getText(), doc.getAuthorName(),
+                    commentText != null ? commentText.toString() : "");
+            target.categories().put(doc.getId(), doc.getCategory());
+        }
+    }
+
+    /**
+     * 색인과 게시글별 카테고리 (전체 빌드 단위로 함께 교체)
+     */
+    private record Snapshot(NGramIndex index, Map<Long, BoardCategory> categories, LocalDateTime builtAt) {
+
+        private boolean isExpired(long maxStalenessSeconds) {
+            return Duration.between(builtAt, LocalDateTime.now()).getSeconds() >= maxStalenessSeconds;
+        }
+    }
+}
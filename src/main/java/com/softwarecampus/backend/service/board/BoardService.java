@@ -3,6 +3,7 @@ package com.softwarecampus.backend.service.board;
 import com.softwarecampus.backend.domain.board.BoardAttach;
 import com.softwarecampus.backend.domain.board.BoardCategory;
 import com.softwarecampus.backend.dto.board.*;
+import com.softwarecampus.backend.dto.common.CursorPageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -18,9 +19,20 @@ public interface BoardService {
     public Page<BoardListResponseDTO> getBoards(int pageNo, BoardCategory category, String searchType,
             String searchText, String sortType);
 
+    // 전체 게시글 조회 - 커서 페이지네이션 (정렬 옵션 포함, 전체 개수 미제공)
+    public CursorPageResponse<BoardListResponseDTO> getBoardsByCursor(BoardCategory category, String sortType,
+            String cursor, int size);
+
     // 게시글 하나 조회 (조회수 중복 방지 포함)
     public BoardResponseDTO getBoardById(Long id, Long userId, String clientIp);
 
+    // 원댓글 조회 - 커서 페이지네이션 (작성순)
+    public CursorPageResponse<CommentResponseDTO> getComments(Long boardId, Long userId, String cursor, int size);
+
+    // 대댓글 조회 - 커서 페이지네이션 (상위 댓글의 직계 대댓글, 작성순)
+    public CursorPageResponse<CommentResponseDTO> getReplies(Long boardId, Long commentId, Long userId,
+            String cursor, int size);
+
     // 게시글 생성
     public Long createBoard(BoardCreateRequestDTO boardCreateRequestDTO, MultipartFile[] files, Long userId);
 
@@ -30,6 +42,9 @@ public interface BoardService {
     // 게시글 삭제
     public void deleteBoardById(Long id);
 
+    // 게시글 첨부파일 추가 (직접 업로드 확정)
+    public Long confirmBoardAttach(Long boardId, String key, Long userId);
+
     // 게시글 파일 다운로드
     public Map<String, byte[]> downloadBoardAttach(Long boardId, Long boardAttachId, Long userId);
 
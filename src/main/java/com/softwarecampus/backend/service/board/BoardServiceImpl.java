@@ -4,39 +4,73 @@ import com.softwarecampus.backend.domain.board.*;
 import com.softwarecampus.backend.domain.common.AccountType;
 import com.softwarecampus.backend.domain.user.Account;
 import com.softwarecampus.backend.dto.board.*;
+import com.softwarecampus.backend.dto.common.CursorPageResponse;
 import com.softwarecampus.backend.exception.board.BoardErrorCode;
 import com.softwarecampus.backend.exception.board.BoardException;
 import com.softwarecampus.backend.exception.user.AccountNotFoundException;
 import com.softwarecampus.backend.repository.board.*;
 import com.softwarecampus.backend.repository.user.AccountRepository;
+import com.softwarecampus.backend.service.board.event.BoardChangedEvent;
 import com.softwarecampus.backend.service.common.FileType;
+import com.softwarecampus.backend.service.common.S3AsyncService;
+import com.softwarecampus.backend.service.common.S3Folder;
 import com.softwarecampus.backend.service.common.S3Service;
+import com.softwarecampus.backend.service.viewcount.ViewCountService;
+import com.softwarecampus.backend.service.viewcount.ViewCountTarget;
+import com.softwarecampus.backend.util.PageCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class BoardServiceImpl implements BoardService {
 
+    /** 게시글 상세에 포함할 원댓글 수 (첫 구간) */
+    private static final int COMMENT_WINDOW_SIZE = 20;
+
+    /** 검색 결과 삭제 필터 1회 조회당 게시글 ID 수 */
+    private static final int SEARCH_FILTER_CHUNK_SIZE = 1000;
+
     private final S3Service s3Service;
+    private final S3AsyncService s3AsyncService;
     private final FileType fileType;
     private final BoardRepository boardRepository;
     private final BoardAttachRepository boardAttachRepository;
-    private final BoardViewRepository boardViewRepository;
     private final AccountRepository accountRepository;
     private final CommentRepository commentRepository;
     private final BoardRecommendRepository boardRecommendRepository;
     private final CommentRecommendRepository commentRecommendRepository;
+    private final ViewCountService viewCountService;
+    private final BoardViewTracker boardViewTracker;
+    private final BoardSearchIndex boardSearchIndex;
+    private final CommentPageLoader commentPageLoader;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${board.view.audit.enabled:false}")
+    private boolean viewAuditEnabled;
+
+    @Value("${board.attach.size-lookup-timeout:PT5S}")
+    private Duration sizeLookupTimeout;
 
     @Transactional(readOnly = true)
     @Override
@@ -62,33 +96,160 @@ public class BoardServiceImpl implements BoardService {
                     return boardRepository.findBoardsByCategoryOrderByLatest(category, pageRequest);
             }
         } else {
-            // 검색 + 정렬 (검색 시에는 최신순 고정 - 추후 확장 가능)
-            String searchPattern = "%" + searchText + "%";
-            switch (searchType) {
-                case "title":
-                    return boardRepository.findBoardsByTitle(category, searchPattern, pageRequest);
-                case "content":
-                    return boardRepository.findBoardsByText(category, searchPattern, pageRequest);
-                case "title_content":
-                    return boardRepository.findBoardsByTitleAndText(category, searchPattern, pageRequest);
-                case "author":
-                    return boardRepository.findBoardsByAuthor(category, searchPattern, pageRequest);
-                case "comment":
-                    return boardRepository.findBoardsByComment(category, searchPattern, pageRequest);
-                case "all":
-                    return boardRepository.findBoardsByAll(category, searchPattern, pageRequest);
-                default:
-                    throw new BoardException(BoardErrorCode.SEARCHTYPE_MISSMATCH);
-            }
+            // 검색 (검색 색인 순위순, 동점 시 최신순)
+            return searchBoards(category, searchType, searchText, pageRequest);
         }
     } //
 
-    @Transactional
+    /**
+     * 게시판 검색
+     * 검색 색인에서 카테고리 조건에 맞는 순위순 ID 목록을 얻고, DB 에서는 ID IN 조건으로 카테고리/삭제
+     * 조건을 다시 확인한 뒤 현재 페이지의 게시글만 조회 (TEXT 컬럼 LIKE 전체 스캔, 댓글 JOIN 없음)
+     * 일치하는 게시글 전체를 거른 뒤 페이징하므로 전체 건수는 정확함
+     */
+    private Page<BoardListResponseDTO> searchBoards(BoardCategory category, String searchType, String searchText,
+            Pageable pageable) {
+        int[] fields = switch (searchType) {
+            case "title" -> new int[] { BoardSearchIndex.TITLE };
+            case "content" -> new int[] { BoardSearchIndex.TEXT };
+            case "title_content" -> new int[] { BoardSearchIndex.TITLE, BoardSearchIndex.TEXT };
+            case "author" -> new int[] { BoardSearchIndex.AUTHOR };
+            case "comment" -> new int[] { BoardSearchIndex.COMMENT };
+            case "all" -> new int[] { BoardSearchIndex.TITLE, BoardSearchIndex.TEXT, BoardSearchIndex.AUTHOR };
+            default -> throw new BoardException(BoardErrorCode.SEARCHTYPE_MISSMATCH);
+        };
+
+        List<Long> rankedIds = boardSearchIndex.search(searchText, category, fields);
+        if (rankedIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        // 색인 반영 전 삭제/변경분 제외 (IN 목록 크기를 제한하기 위해 나누어 조회)
+        Set<Long> visibleIds = new HashSet<>();
+        for (int start = 0; start < rankedIds.size(); start += SEARCH_FILTER_CHUNK_SIZE) {
+            List<Long> chunk = rankedIds.subList(start, Math.min(start + SEARCH_FILTER_CHUNK_SIZE, rankedIds.size()));
+            visibleIds.addAll(boardRepository.filterSearchBoardIds(chunk, category));
+        }
+        List<Long> ids = rankedIds.stream().filter(visibleIds::contains).toList();
+
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        List<Long> pageIds = ids.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.size());
+        }
+        Map<Long, BoardListResponseDTO> rows = boardRepository.findBoardListByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(BoardListResponseDTO::getId, Function.identity()));
+        List<BoardListResponseDTO> content = pageIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, ids.size());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponse<BoardListResponseDTO> getBoardsByCursor(BoardCategory category, String sortType,
+            String cursor, int size) {
+        String effectiveSortType = (sortType != null && !sortType.isEmpty()) ? sortType : "latest";
+
+        // 커서: 정렬 타입, 정렬 키, 게시글 ID (정렬 타입이 다른 커서는 거부)
+        PageCursor after = PageCursor.decode(cursor, 3);
+        if (after != null && !effectiveSortType.equals(after.getString(0))) {
+            throw new IllegalArgumentException("정렬 기준이 다른 커서입니다.");
+        }
+        Long cursorId = after != null ? after.getLong(2) : null;
+        Pageable pageable = PageCursor.pageRequest(size);
+
+        Slice<BoardListResponseDTO> slice;
+        Function<BoardListResponseDTO, Object> sortKey;
+        switch (effectiveSortType) {
+            case "popular":
+                slice = boardRepository.findBoardsByCategoryOrderByPopularAfter(category,
+                        after != null ? after.getLong(1) : null, cursorId, pageable);
+                sortKey = BoardListResponseDTO::getLikeCount;
+                break;
+            case "views":
+                slice = boardRepository.findBoardsByCategoryOrderByViewsAfter(category,
+                        after != null ? after.getLong(1) : null, cursorId, pageable);
+                sortKey = BoardListResponseDTO::getHits;
+                break;
+            case "comments":
+                slice = boardRepository.findBoardsByCategoryOrderByCommentsAfter(category,
+                        after != null ? after.getLong(1) : null, cursorId, pageable);
+                sortKey = BoardListResponseDTO::getCommentsCount;
+                break;
+            case "latest":
+                slice = boardRepository.findBoardsByCategoryOrderByLatestAfter(category,
+                        after != null ? after.getDateTime(1) : null, cursorId, pageable);
+                sortKey = BoardListResponseDTO::getCreatedAt;
+                break;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + effectiveSortType);
+        }
+
+        List<BoardListResponseDTO> content = slice.getContent();
+        String nextCursor = null;
+        if (!content.isEmpty()) {
+            BoardListResponseDTO last = content.get(content.size() - 1);
+            nextCursor = PageCursor.encode(effectiveSortType, sortKey.apply(last), last.getId());
+        }
+        return CursorPageResponse.of(content, slice.hasNext(), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public BoardResponseDTO getBoardById(Long id, Long userId, String clientIp) {
         // Fetch Join으로 연관 엔티티 한번에 조회 (N+1 방지)
         Board board = boardRepository.findByIdWithDetails(id)
                 .orElseThrow(() -> new BoardException(BoardErrorCode.BOARD_NOT_FOUND));
+        checkReadable(board, userId);
+
+        // 조회수 증가 로직 (중복 방지)
+        incrementHitsIfAllowed(board, userId, clientIp);
+
+        BoardResponseDTO boardResponseDTO = BoardResponseDTO.from(board);
+        // 댓글: 첫 구간의 원댓글만 포함 (이후 구간/대댓글은 댓글 API 로 조회)
+        CursorPageResponse<CommentResponseDTO> comments = commentPageLoader.loadRoots(id, userId, null,
+                COMMENT_WINDOW_SIZE);
+        boardResponseDTO.setBoardComments(comments.content());
+        boardResponseDTO.setCommentCount(board.getCommentCount());
+        boardResponseDTO.setCommentHasNext(comments.hasNext());
+        boardResponseDTO.setCommentNextCursor(comments.nextCursor());
+        // 표시 조회수 = DB 값 + 아직 반영되지 않은 증가분
+        boardResponseDTO.setHits(board.getHits() + viewCountService.getPendingCount(ViewCountTarget.BOARD, id));
+        if (userId != null) {
+            boardResponseDTO.setLike(
+                    board.getBoardRecommends().stream().anyMatch(br -> br.getAccount().getId().equals(userId)));
+            boardResponseDTO.setOwner(userId.equals(board.getAccount().getId()));
+        }
+        return boardResponseDTO;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponse<CommentResponseDTO> getComments(Long boardId, Long userId, String cursor, int size) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new BoardException(BoardErrorCode.BOARD_NOT_FOUND));
+        checkReadable(board, userId);
+        return commentPageLoader.loadRoots(boardId, userId, cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponse<CommentResponseDTO> getReplies(Long boardId, Long commentId, Long userId,
+            String cursor, int size) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new BoardException(BoardErrorCode.BOARD_NOT_FOUND));
+        checkReadable(board, userId);
+        return commentPageLoader.loadReplies(boardId, commentId, userId, cursor, size);
+    }
+
+    /**
+     * 게시글 조회 가능 여부 확인
+     * - 삭제된 글 조회 불가
+     * - 비밀글은 작성자 본인 또는 관리자만 접근 가능
+     */
+    private void checkReadable(Board board, Long userId) {
         // 삭제된 글 조회 불가 처리
         if (!board.isActive()) {
             throw new BoardException(BoardErrorCode.BOARD_NOT_FOUND);
@@ -105,17 +266,6 @@ public class BoardServiceImpl implements BoardService {
                 throw new BoardException(BoardErrorCode.CANNOT_READ_BOARD);
             }
         }
-
-        // 조회수 증가 로직 (중복 방지)
-        incrementHitsIfAllowed(board, userId, clientIp);
-
-        BoardResponseDTO boardResponseDTO = BoardResponseDTO.from(board, userId);
-        if (userId != null) {
-            boardResponseDTO.setLike(
-                    board.getBoardRecommends().stream().anyMatch(br -> br.getAccount().getId().equals(userId)));
-            boardResponseDTO.setOwner(userId.equals(board.getAccount().getId()));
-        }
-        return boardResponseDTO;
     }
 
     /**
@@ -123,6 +273,7 @@ public class BoardServiceImpl implements BoardService {
      * - 작성자 본인: 증가 안함
      * - 로그인 사용자: 오늘 첫 조회일 때만 +1 (account_id 기준)
      * - 비로그인 사용자: 오늘 첫 조회일 때만 +1 (IP 기준)
+     * 일별 중복 판별은 BoardViewTracker(Redis)에서 처리, board_view 는 감사 기록 활성화 시에만 저장
      */
     private void incrementHitsIfAllowed(Board board, Long userId, String clientIp) {
         // 1. 작성자 본인이면 증가 안함
@@ -130,27 +281,17 @@ public class BoardServiceImpl implements BoardService {
             return;
         }
 
-        boolean alreadyViewed;
-
-        if (userId != null) {
-            // 2. 로그인 사용자: account_id 기준
-            alreadyViewed = boardViewRepository.existsTodayViewByAccount(board.getId(), userId);
-        } else {
-            // 3. 비로그인 사용자: IP 기준
-            alreadyViewed = boardViewRepository.existsTodayViewByIp(board.getId(), clientIp);
+        // 2. 오늘 첫 조회 여부 (로그인: account_id, 비로그인: IP 기준)
+        if (!boardViewTracker.markViewedToday(board.getId(), userId, clientIp)) {
+            return;
         }
 
-        if (!alreadyViewed) {
-            // 조회수 증가
-            board.setHits(board.getHits() + 1);
+        // 조회수 증가 (행 UPDATE 없이 메모리 누적, ViewCountFlushScheduler 가 일괄 반영)
+        viewCountService.increase(ViewCountTarget.BOARD, board.getId());
 
-            // 조회 기록 저장
-            BoardView boardView = BoardView.builder()
-                    .board(board)
-                    .account(userId != null ? accountRepository.getReferenceById(userId) : null)
-                    .ipAddress(userId == null ? clientIp : null)
-                    .build();
-            boardViewRepository.save(boardView);
+        // 조회 기록 저장 (감사 용도, 선택 - 별도 쓰기 트랜잭션)
+        if (viewAuditEnabled) {
+            boardViewTracker.recordAudit(board.getId(), userId, clientIp);
         }
     }
 
@@ -188,12 +329,17 @@ public class BoardServiceImpl implements BoardService {
         // 2. 이미 S3에 업로드된 파일 처리 (에디터에서 업로드한 이미지)
         if (boardCreateRequestDTO.getUploadedFileUrls() != null
                 && !boardCreateRequestDTO.getUploadedFileUrls().isEmpty()) {
+            // S3에서 파일 크기 동시 조회 (실패 시 0 반환)
+            // 조회 요청만 동시에 보내고 결과는 요청 스레드에서 기다리므로, 제한 시간을 넘기면 크기 0 으로 저장
+            Map<String, Long> fileSizes = s3AsyncService
+                    .getFileSizes(boardCreateRequestDTO.getUploadedFileUrls())
+                    .completeOnTimeout(Map.of(), sizeLookupTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .join();
+
             for (String uploadedUrl : boardCreateRequestDTO.getUploadedFileUrls()) {
                 // URL에서 파일명 추출
                 String fileName = extractFileNameFromUrl(uploadedUrl);
-                
-                // S3에서 파일 크기 조회 (실패 시 0 반환)
-                long fileSize = s3Service.getFileSize(uploadedUrl);
+                long fileSize = fileSizes.getOrDefault(uploadedUrl, 0L);
 
                 BoardAttach boardAttach = BoardAttach.builder()
                         .originalFilename(fileName)
@@ -211,6 +357,7 @@ public class BoardServiceImpl implements BoardService {
         // 조회된 사용자 boardEntity에 세팅 후 save로 저장
         board.setAccount(account);
         boardRepository.save(board);
+        eventPublisher.publishEvent(BoardChangedEvent.of(board.getId()));
 
         return board.getId();
     }
@@ -276,6 +423,7 @@ public class BoardServiceImpl implements BoardService {
         }
 
         boardUpdateRequestDTO.updateEntity(board);
+        eventPublisher.publishEvent(BoardChangedEvent.of(board.getId()));
     }
 
     // 게시글 삭제
@@ -289,6 +437,45 @@ public class BoardServiceImpl implements BoardService {
             throw new BoardException(BoardErrorCode.BOARD_NOT_FOUND);
         }
         board.markDeleted();
+        eventPublisher.publishEvent(BoardChangedEvent.of(id));
+    }
+
+    // 게시글 첨부파일 추가 (직접 업로드 확정)
+    @Transactional
+    @Override
+    public Long confirmBoardAttach(Long boardId, String key, Long userId) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new BoardException(BoardErrorCode.BOARD_NOT_FOUND));
+        if (!board.isActive()) {
+            throw new BoardException(BoardErrorCode.BOARD_NOT_FOUND);
+        }
+
+        List<BoardAttach> boardAttachList = board.getBoardAttaches();
+        long activeFileCount = boardAttachList.stream()
+                .filter(BoardAttach::isActive)
+                .count();
+        FileType.FileTypeConfig config = fileType.getConfig(FileType.FileTypeEnum.BOARD_ATTACH);
+        if (!config.isFileCountValid((int) (activeFileCount + 1))) {
+            throw new BoardException(BoardErrorCode.FILE_COUNT_EXCEEDED);
+        }
+        if (boardAttachRepository.existsByRealFilename(key)) {
+            throw new BoardException(BoardErrorCode.FILE_ALREADY_ATTACHED);
+        }
+
+        // 업로더 본인 여부, 실제 크기/형식을 스토리지 HEAD 로 검증
+        S3Service.UploadedObject uploaded = s3Service.confirmUpload(
+                key, S3Folder.BOARD.getPath(), FileType.FileTypeEnum.BOARD_ATTACH, userId);
+
+        BoardAttach boardAttach = BoardAttach.builder()
+                .originalFilename(uploaded.originalFilename())
+                .realFilename(uploaded.key())
+                .fileSize(uploaded.contentLength())
+                .board(board)
+                .build();
+        boardAttachList.add(boardAttach);
+        boardAttachRepository.save(boardAttach);
+
+        return boardAttach.getId();
     }
 
     @Transactional(readOnly = true)
@@ -336,6 +523,7 @@ public class BoardServiceImpl implements BoardService {
         boardRecommend.setAccount(account);
 
         boardRecommendRepository.save(boardRecommend);
+        boardRepository.addRecommendCount(boardId, 1);
     }
 
     @Transactional
@@ -350,6 +538,7 @@ public class BoardServiceImpl implements BoardService {
             throw new BoardException(BoardErrorCode.NOT_RECOMMEND_BOARD);
         }
         boardRecommendRepository.delete(boardRecommend);
+        boardRepository.addRecommendCount(boardId, -1);
     }
 
     @Transactional
@@ -376,6 +565,8 @@ public class BoardServiceImpl implements BoardService {
         }
 
         commentRepository.save(comment);
+        boardRepository.addCommentCount(board.getId(), 1);
+        eventPublisher.publishEvent(BoardChangedEvent.of(board.getId()));
 
         return comment.getId();
     }
@@ -390,6 +581,7 @@ public class BoardServiceImpl implements BoardService {
             throw new BoardException(BoardErrorCode.COMMENT_NOT_FOUND);
         }
         commentUpdateRequestDTO.updateEntity(comment);
+        eventPublisher.publishEvent(BoardChangedEvent.of(comment.getBoard().getId()));
     }
 
     @Transactional
@@ -402,6 +594,8 @@ public class BoardServiceImpl implements BoardService {
             throw new BoardException(BoardErrorCode.COMMENT_NOT_FOUND);
         }
         comment.markDeleted();
+        boardRepository.addCommentCount(comment.getBoard().getId(), -1);
+        eventPublisher.publishEvent(BoardChangedEvent.of(comment.getBoard().getId()));
     }
 
     @Transactional
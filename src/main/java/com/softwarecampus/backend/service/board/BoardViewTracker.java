@@ -0,0 +1,90 @@
+package com.softwarecampus.backend.service.board;
+
+import com.softwarecampus.backend.domain.board.BoardView;
+import com.softwarecampus.backend.infrastructure.redis.RedisScripts;
+import com.softwarecampus.backend.repository.board.BoardRepository;
+import com.softwarecampus.backend.repository.board.BoardViewRepository;
+import com.softwarecampus.backend.repository.user.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+
+/**
+ * 게시글 일별 중복 조회 판별
+ *
+ * 게시글·날짜별 Redis Set(board:view:{yyyyMMdd}:{boardId})에 조회자를 추가하여
+ * 오늘 첫 조회인지 판별한다. 키는 다음 날 0시에 만료되므로 별도 정리 작업이 필요 없고,
+ * SCARD 로 해당 일자의 순 조회자 수를 확인할 수 있다.
+ *
+ * - 로그인 사용자: account_id 기준 (a:{accountId})
+ * - 비로그인 사용자: IP 기준 (ip:{clientIp})
+ * - Redis 장애 시: 첫 조회로 간주 (조회수가 일부 중복 집계될 수 있으나 게시글 조회는 실패시키지 않음)
+ * - board_view 감사 기록(선택)은 읽기 전용인 게시글 상세 조회 트랜잭션과 분리된 쓰기 트랜잭션에서 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardViewTracker {
+
+    private static final String BOARD_VIEW_PREFIX = "board:view:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final DefaultRedisScript<Long> SADD_WITH_EXPIREAT_SCRIPT =
+            new DefaultRedisScript<>(RedisScripts.SADD_WITH_EXPIREAT, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final BoardViewRepository boardViewRepository;
+    private final BoardRepository boardRepository;
+    private final AccountRepository accountRepository;
+
+    /**
+     * 오늘 처음 조회한 경우 기록 후 true 반환
+     *
+     * @param boardId  게시글 ID
+     * @param userId   로그인 사용자 ID (비로그인 시 null)
+     * @param clientIp 클라이언트 IP (로그인 사용자는 사용하지 않음)
+     */
+    public boolean markViewedToday(Long boardId, Long userId, String clientIp) {
+        LocalDate today = LocalDate.now();
+        String key = BOARD_VIEW_PREFIX + today.format(DAY_FORMAT) + ":" + boardId;
+        String viewer = userId != null ? "a:" + userId : "ip:" + clientIp;
+        long expireAt = today.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toEpochSecond();
+
+        try {
+            Long added = redisTemplate.execute(
+                    SADD_WITH_EXPIREAT_SCRIPT,
+                    Collections.singletonList(key),
+                    viewer,
+                    String.valueOf(expireAt));
+            return added == null || added == 1L;
+        } catch (Exception e) {
+            log.warn("게시글 조회 기록 실패 - 조회수 증가 처리 (boardId: {})", boardId, e);
+            return true;
+        }
+    }
+
+    /**
+     * 조회 감사 기록 저장 (board.view.audit.enabled=true 일 때 첫 조회마다 호출)
+     *
+     * @param boardId  게시글 ID
+     * @param userId   로그인 사용자 ID (비로그인 시 null)
+     * @param clientIp 클라이언트 IP (비로그인 시에만 저장)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordAudit(Long boardId, Long userId, String clientIp) {
+        boardViewRepository.save(BoardView.builder()
+                .board(boardRepository.getReferenceById(boardId))
+                .account(userId != null ? accountRepository.getReferenceById(userId) : null)
+                .ipAddress(userId == null ? clientIp : null)
+                .build());
+    }
+}
@@ -0,0 +1,83 @@
+package com.softwarecampus.backend.service.board;
+
+import com.softwarecampus.backend.dto.board.CommentReplyCountDTO;
+import com.softwarecampus.backend.dto.board.CommentResponseDTO;
+import com.softwarecampus.backend.dto.board.CommentRowDTO;
+import com.softwarecampus.backend.dto.common.CursorPageResponse;
+import com.softwarecampus.backend.repository.board.CommentRepository;
+import com.softwarecampus.backend.util.PageCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 댓글 커서 조회
+ *
+ * 댓글이 많은 게시글도 응답 크기가 일정하도록 원댓글은 커서 단위로, 대댓글은 상위 댓글별로 필요할 때 조회한다.
+ * 페이지당 쿼리 2회 (댓글 + 작성자 projection, 대댓글 수 집계) 로 댓글 수/깊이와 무관.
+ *
+ * - 정렬: 작성순 (ID 오름차순), 커서: 마지막 댓글 ID
+ * - 상위 댓글이 삭제된 대댓글은 표시하지 않음
+ * - 비밀 댓글은 작성자 본인 외에는 작성자/내용을 가림
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentPageLoader {
+
+    private final CommentRepository commentRepository;
+
+    /**
+     * 원댓글 조회
+     *
+     * @param boardId 게시글 ID
+     * @param userId  조회자 ID (비로그인 시 null)
+     * @param cursor  이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size    페이지 크기
+     */
+    public CursorPageResponse<CommentResponseDTO> loadRoots(Long boardId, Long userId, String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor, 1);
+        Slice<CommentRowDTO> rows = commentRepository.findRootRowsAfter(boardId,
+                after != null ? after.getLong(0) : null, PageCursor.pageRequest(size));
+        return toPage(rows, userId);
+    }
+
+    /**
+     * 대댓글 조회 (상위 댓글의 직계 대댓글)
+     *
+     * @param boardId  게시글 ID
+     * @param parentId 상위 댓글 ID
+     * @param userId   조회자 ID (비로그인 시 null)
+     * @param cursor   이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size     페이지 크기
+     */
+    public CursorPageResponse<CommentResponseDTO> loadReplies(Long boardId, Long parentId, Long userId,
+            String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor, 1);
+        Slice<CommentRowDTO> rows = commentRepository.findReplyRowsAfter(boardId, parentId,
+                after != null ? after.getLong(0) : null, PageCursor.pageRequest(size));
+        return toPage(rows, userId);
+    }
+
+    private CursorPageResponse<CommentResponseDTO> toPage(Slice<CommentRowDTO> rows, Long userId) {
+        if (rows.isEmpty()) {
+            return CursorPageResponse.empty();
+        }
+        List<Long> ids = rows.getContent().stream().map(CommentRowDTO::getId).toList();
+        Map<Long, Long> replyCounts = commentRepository.countRepliesByParentIdIn(ids).stream()
+                .collect(Collectors.toMap(CommentReplyCountDTO::getParentId, CommentReplyCountDTO::getReplyCount));
+
+        List<CommentResponseDTO> content = rows.getContent().stream()
+                .map(row -> {
+                    CommentResponseDTO comment = CommentResponseDTO.from(row, userId);
+                    comment.setReplyCount(replyCounts.getOrDefault(row.getId(), 0L));
+                    return comment;
+                })
+                .toList();
+        String nextCursor = PageCursor.encode(ids.get(ids.size() - 1));
+        return CursorPageResponse.of(content, rows.hasNext(), nextCursor);
+    }
+}
@@ -0,0 +1,15 @@
+package com.softwarecampus.backend.service.board.event;
+
+/**
+ * 게시글 관련 데이터 변경 이벤트
+ * - 게시글 작성/수정/삭제, 댓글 작성/수정/삭제 시 발행되며, 게시글 검색 색인 등 파생 데이터 갱신에 사용
+ * - 트랜잭션 커밋 이후(AFTER_COMMIT) 리스너에서 처리하는 것을 전제로 함
+ *
+ * @param boardId 변경된 게시글 ID
+ */
+public record BoardChangedEvent(Long boardId) {
+
+    public static BoardChangedEvent of(Long boardId) {
+        return new BoardChangedEvent(boardId);
+    }
+}
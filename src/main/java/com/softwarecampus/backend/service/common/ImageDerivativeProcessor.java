@@ -0,0 +1,197 @@
+package com.softwarecampus.backend.service.common;
+
+import com.softwarecampus.backend.repository.academy.AcademyRepository;
+import com.softwarecampus.backend.repository.banner.BannerRepository;
+import com.softwarecampus.backend.repository.course.CourseImageRepository;
+import com.softwarecampus.backend.repository.user.AccountRepository;
+import com.softwarecampus.backend.service.common.event.ImageUploadedEvent;
+import com.softwarecampus.backend.service.common.event.StorageObjectDeletedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 파생본(축소 이미지) 생성기
+ *
+ * 이미지 원본이 엔티티에 저장되면(ImageUploadedEvent, 커밋 이후) 전용 작업 스레드에서
+ * 원본을 내려받아 ImageVariant 규격별 축소본을 만들고 원본 옆 키에 저장한 뒤,
+ * 원본 키가 그대로인 엔티티에 파생본 키를 기록한다. 요청 스레드는 업로드 응답을 기다리지 않는다.
+ *
+ * - 처리 중 원본이 교체/삭제되어 기록할 엔티티가 없으면 만든 파생본을 삭제
+ * - 원본 삭제(StorageObjectDeletedEvent) 시 파생본도 함께 삭제
+ * - 작업 큐가 가득 차면 보류 큐(image.derivative.deferred-capacity)에 옮겨 두고 주기적으로 다시 제출
+ *   (ImageDerivativeRetryScheduler). 보류 큐는 메모리에만 있으므로 재기동 시 또는 보류 큐까지 가득 찬 경우
+ *   해당 이미지는 파생본 없이 남는다 (목록은 원본 키로 대체 표시)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeProcessor {
+
+    private final S3Service s3Service;
+    private final CourseImageRepository courseImageRepository;
+    private final AcademyRepository academyRepository;
+    private final BannerRepository bannerRepository;
+    private final AccountRepository accountRepository;
+
+    @Value("${image.derivative.enabled:true}")
+    private boolean enabled;
+
+    @Value("${image.derivative.threads:2}")
+    private int threads;
+
+    @Value("${image.derivative.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${image.derivative.deferred-capacity:10000}")
+    private int deferredCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    /** 작업 큐가 가득 차 제출하지 못한 작업 (retryDeferred 에서 다시 제출) */
+    private BlockingQueue<Runnable> deferred;
+
+    @PostConstruct
+    void start() {
+        deferred = new LinkedBlockingQueue<>(deferredCapacity);
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("image-derivative-"),
+                (task, pool) -> {
+                    if (pool.isShutdown()) {
+                        return;
+                    }
+                    if (!deferred.offer(task)) {
+                        log.warn("이미지 파생본 보류 큐가 가득 차 요청을 건너뜁니다.");
+                    }
+                });
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 원본 업로드 이벤트 수신 - 엔티티 저장이 커밋된 이후 작업 스레드로 넘김
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImageUploaded(ImageUploadedEvent event) {
+        if (!enabled || !ImageVariant.isImageKey(event.originalKey())) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                process(event.target(), event.originalKey());
+            } catch (Exception e) {
+                log.warn("이미지 파생본 생성 실패 - key: {}", event.originalKey(), e);
+            }
+        });
+    }
+
+    /**
+     * 보류된 작업을 작업 큐 여유만큼 다시 제출
+     *
+     * @return 다시 제출한 작업 수
+     */
+    public int retryDeferred() {
+        int resubmitted = 0;
+        while (executor.getQueue().remainingCapacity() > 0) {
+            Runnable task = deferred.poll();
+            if (task == null) {
+                break;
+            }
+            executor.execute(task);
+            resubmitted++;
+        }
+        if (resubmitted > 0) {
+            log.debug("보류된 이미지 파생본 작업 재제출 - {}건 (남은 보류: {}건)", resubmitted, deferred.size());
+        }
+        return resubmitted;
+    }
+
+    int deferredCount() {
+        return deferred.size();
+    }
+
+    /**
+     * 원본 삭제 시 파생본 삭제 (파생본 자체의 삭제 이벤트는 isImageKey 에서 걸러짐)
+     */
+    @EventListener
+    public void onStorageObjectDeleted(StorageObjectDeletedEvent event) {
+        if (!enabled || !ImageVariant.isImageKey(event.key())) {
+            return;
+        }
+        executor.execute(() -> {
+            for (ImageVariant variant : ImageVariant.values()) {
+                deleteQuietly(variant.derivativeKey(event.key()));
+            }
+        });
+    }
+
+    /**
+     * 파생본 생성 및 엔티티 기록
+     *
+     * @return 기록된 엔티티 수 (디코딩할 수 없는 이미지이거나 원본이 교체된 경우 0)
+     */
+    int process(ImageTarget target, String originalKey) throws IOException {
+        BufferedImage source = ImageResizer.read(s3Service.downloadFile(originalKey));
+        if (source == null) {
+            log.info("파생본을 만들 수 없는 이미지 형식이거나 크기 초과 - key: {}", originalKey);
+            return 0;
+        }
+
+        String format = ImageVariant.outputFormat(originalKey);
+        Map<ImageVariant, String> keys = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            String key = variant.derivativeKey(originalKey);
+            s3Service.putBytes(key, ImageResizer.resize(source, variant.getMaxWidth(), format),
+                    ImageResizer.contentType(format));
+            keys.put(variant, key);
+        }
+
+        String smallKey = keys.get(ImageVariant.SMALL);
+        String mediumKey = keys.get(ImageVariant.MEDIUM);
+        int updated = switch (target) {
+            case COURSE_IMAGE -> courseImageRepository.updateImageDerivatives(originalKey, smallKey, mediumKey);
+            case ACADEMY_LOGO -> academyRepository.updateImageDerivatives(originalKey, smallKey, mediumKey);
+            case BANNER -> bannerRepository.updateImageDerivatives(originalKey, smallKey, mediumKey);
+            case ACCOUNT_PROFILE -> accountRepository.updateImageDerivatives(originalKey, smallKey, mediumKey);
+        };
+
+        if (updated == 0) {
+            // 처리 중 원본이 교체/삭제됨 - 참조되지 않는 파생본 정리
+            keys.values().forEach(this::deleteQuietly);
+            log.info("원본이 변경되어 파생본을 폐기합니다 - target: {}, key: {}", target, originalKey);
+        } else {
+            log.debug("이미지 파생본 생성 완료 - target: {}, key: {}", target, originalKey);
+        }
+        return updated;
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            s3Service.deleteFile(key);
+        } catch (Exception e) {
+            log.warn("이미지 파생본 삭제 실패 - key: {}", key, e);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.softwarecampus.backend.service.common;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 이미지 축소/재인코딩 (ImageIO 기반)
+ *
+ * 픽셀만 다시 그려 인코딩하므로 EXIF 등 원본 메타데이터는 파생본에 포함되지 않는다.
+ * 따라서 JPEG 의 EXIF 방향(Orientation) 값은 디코딩 직후 픽셀에 적용해 둔다 (세로 촬영 사진이 눕지 않도록).
+ * 큰 배율 축소는 절반씩 여러 번 나누어 그려 계단 현상을 줄인다.
+ */
+final class ImageResizer {
+
+    /** 디코딩 허용 최대 픽셀 수 (압축 폭탄 방지, 약 40MP) */
+    static final long MAX_PIXELS = 40_000_000L;
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    /** EXIF 방향 태그 (TIFF IFD0) */
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private ImageResizer() {
+    }
+
+    /**
+     * 이미지 디코딩 (EXIF 방향 적용)
+     *
+     * @return 디코딩된 이미지, ImageIO 가 해석할 수 없거나 픽셀 수가 상한을 넘으면 null
+     */
+    static BufferedImage read(byte[] bytes) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    return null;
+                }
+                return orient(reader.read(0), exifOrientation(bytes));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 최대 너비에 맞춰 비율 유지 축소 후 인코딩 (원본이 더 작으면 크기 유지)
+     *
+     * @param format "jpg" 또는 "png"
+     */
+    static byte[] resize(BufferedImage source, int maxWidth, String format) throws IOException {
+        int targetWidth = Math.min(maxWidth, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        boolean jpeg = "jpg".equals(format);
+
+        BufferedImage scaled = scale(source, targetWidth, targetHeight,
+                jpeg ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        return jpeg ? writeJpeg(scaled) : writePng(scaled);
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트의 방향 값
+     *
+     * @return 1~8, JPEG 가 아니거나 값이 없으면 1 (정방향)
+     */
+    static int exifOrientation(byte[] bytes) {
+        if (bytes.length < 4 || (bytes[0] & 0xFF) != 0xFF || (bytes[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        int pos = 2;
+        while (pos + 4 <= bytes.length) {
+            if ((bytes[pos] & 0xFF) != 0xFF) {
+                return 1;
+            }
+            int marker = bytes[pos + 1] & 0xFF;
+            if (marker == 0xFF) {
+                pos++; // 마커 앞 채움 바이트
+                continue;
+            }
+            if (marker == 0xDA || marker == 0xD9) {
+                return 1; // 이미지 데이터 시작(SOS) 이후에는 메타데이터 없음
+            }
+            int length = readUnsignedShort(bytes, pos + 2, true);
+            if (length < 2) {
+                return 1;
+            }
+            int segment = pos + 4;
+            int end = Math.min(bytes.length, pos + 2 + length);
+            if (marker == 0xE1 && segment + 6 <= end && isExifHeader(bytes, segment)) {
+                return tiffOrientation(bytes, segment + 6, end);
+            }
+            pos += 2 + length;
+        }
+        return 1;
+    }
+
+    /**
+     * EXIF 방향 값에 따라 회전/반전하여 정방향 이미지로 변환
+     */
+    static BufferedImage orient(BufferedImage source, int orientation) {
+        if (orientation < 2 || orientation > 8) {
+            return source;
+        }
+        int w = source.getWidth();
+        int h = source.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 좌상-우하 대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 우상-좌하 대각선 반전
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);  // 반시계 방향 90도
+        };
+        boolean swap = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h,
+                source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = oriented.createGraphics();
+        try {
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return oriented;
+    }
+
+    static String contentType(String format) {
+        return "png".equals(format) ? "image/png" : "image/jpeg";
+    }
+
+    private static BufferedImage scale(BufferedImage source, int targetWidth, int targetHeight, int type) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                if (type == BufferedImage.TYPE_INT_RGB) {
+                    // JPEG 는 투명도가 없으므로 흰 배경 위에 그림
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, width, height);
+                }
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static boolean isExifHeader(byte[] bytes, int offset) {
+        return bytes[offset] == 'E' && bytes[offset + 1] == 'x' && bytes[offset + 2] == 'i'
+                && bytes[offset + 3] == 'f' && bytes[offset + 4] == 0 && bytes[offset + 5] == 0;
+    }
+
+    /**
+     * TIFF 헤더부터 IFD0 를 훑어 방향 태그 값을 읽음
+     */
+    private static int tiffOrientation(byte[] bytes, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return 1;
+        }
+        boolean bigEndian;
+        if (bytes[tiff] == 'M' && bytes[tiff + 1] == 'M') {
+            bigEndian = true;
+        } else if (bytes[tiff] == 'I' && bytes[tiff + 1] == 'I') {
+            bigEndian = false;
+        } else {
+            return 1;
+        }
+        long ifdOffset = readUnsignedInt(bytes, tiff + 4, bigEndian);
+        if (ifdOffset < 8 || tiff + ifdOffset + 2 > end) {
+            return 1;
+        }
+        int ifd = (int) (tiff + ifdOffset);
+        int count = readUnsignedShort(bytes, ifd, bigEndian);
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return 1;
+            }
+            if (readUnsignedShort(bytes, entry, bigEndian) == ORIENTATION_TAG) {
+                int value = readUnsignedShort(bytes, entry + 8, bigEndian);
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readUnsignedShort(byte[] bytes, int offset, boolean bigEndian) {
+        int b0 = bytes[offset] & 0xFF;
+        int b1 = bytes[offset + 1] & 0xFF;
+        return bigEndian ? (b0 << 8) | b1 : (b1 << 8) | b0;
+    }
+
+    private static long readUnsignedInt(byte[] bytes, int offset, boolean bigEndian) {
+        long high = readUnsignedShort(bytes, offset + (bigEndian ? 0 : 2), bigEndian);
+        long low = readUnsignedShort(bytes, offset + (bigEndian ? 2 : 0), bigEndian);
+        return (high << 16) | low;
+    }
+
+    private static byte[] writeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] writePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
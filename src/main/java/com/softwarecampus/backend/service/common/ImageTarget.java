@@ -0,0 +1,15 @@
+package com.softwarecampus.backend.service.common;
+
+/**
+ * 이미지 파생본 생성 대상 (파생본 키를 기록할 엔티티)
+ */
+public enum ImageTarget {
+    /** 과정 이미지 (course_image.image_url) */
+    COURSE_IMAGE,
+    /** 기관 로고 (academy.logo_url) */
+    ACADEMY_LOGO,
+    /** 배너 이미지 (banner.image_url) */
+    BANNER,
+    /** 회원 프로필 이미지 (account.profile_image) */
+    ACCOUNT_PROFILE
+}
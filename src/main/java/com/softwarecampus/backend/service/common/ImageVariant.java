@@ -0,0 +1,85 @@
+package com.softwarecampus.backend.service.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 이미지 파생본(축소 이미지) 규격
+ *
+ * 파생본 키는 원본 키에서 결정적으로 만들어진다. (예: "course/uuid.png" → "course/uuid_w200.png")
+ * 투명도를 가질 수 있는 PNG/GIF 원본은 PNG 로, 그 외는 JPEG 로 다시 인코딩한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    /** 목록 썸네일 */
+    SMALL("small", 200),
+    /** 카드/상세 본문 */
+    MEDIUM("medium", 800);
+
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "webp", "bmp");
+    private static final Set<String> ALPHA_EXTENSIONS = Set.of("png", "gif");
+    private static final Pattern DERIVATIVE_KEY = Pattern.compile(".*_w\\d+\\.(jpg|png)$");
+
+    /** GET /api/files/public?size= 값 */
+    private final String hint;
+
+    /** 최대 너비 (px) - 원본이 더 작으면 원본 크기 유지 */
+    private final int maxWidth;
+
+    /**
+     * 원본 키에 대한 파생본 키
+     *
+     * @return 파생본 키, 이미지 확장자가 아니거나 이미 파생본 키이면 null
+     */
+    public String derivativeKey(String originalKey) {
+        if (!isImageKey(originalKey)) {
+            return null;
+        }
+        int dot = originalKey.lastIndexOf('.');
+        return originalKey.substring(0, dot) + "_w" + maxWidth + "." + outputFormat(originalKey);
+    }
+
+    /**
+     * 파생본 생성 대상 원본 키 여부 (이미지 확장자이면서 파생본 키가 아닌 경우)
+     */
+    public static boolean isImageKey(String key) {
+        String extension = extensionOf(key);
+        return extension != null && IMAGE_EXTENSIONS.contains(extension) && !DERIVATIVE_KEY.matcher(key).matches();
+    }
+
+    /**
+     * 파생본 인코딩 형식 ("png" 또는 "jpg")
+     */
+    public static String outputFormat(String originalKey) {
+        return ALPHA_EXTENSIONS.contains(extensionOf(originalKey)) ? "png" : "jpg";
+    }
+
+    /**
+     * 크기 힌트 해석 (small / medium, 대소문자 무시)
+     */
+    public static ImageVariant fromHint(String hint) {
+        for (ImageVariant variant : values()) {
+            if (variant.hint.equalsIgnoreCase(hint.trim())) {
+                return variant;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 이미지 크기입니다: " + hint);
+    }
+
+    private static String extensionOf(String key) {
+        if (key == null) {
+            return null;
+        }
+        int dot = key.lastIndexOf('.');
+        if (dot < 0 || dot < key.lastIndexOf('/')) {
+            return null;
+        }
+        return key.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,520 @@
+package com.softwarecampus.backend.service.common;
+
+import com.softwarecampus.backend.dto.common.FileCacheStatsResponse;
+import com.softwarecampus.backend.exception.S3UploadException;
+import com.softwarecampus.backend.service.common.event.StorageObjectDeletedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공개 파일 읽기 캐시 (GET /api/files/public 앞단)
+ *
+ * S3 키는 업로드 시 UUID 로 발급되어 내용이 바뀌지 않으므로, 한 번 읽은 객체를 로컬에 보관하고
+ * 삭제(StorageObjectDeletedEvent) 시에만 무효화한다. 크기에 따라 계층을 나눈다.
+ *
+ * - 메모리 계층: file-cache.memory.max-object-size 이하 객체, 총량 file-cache.memory.max-size 기준 LRU
+ * - 디스크 계층: file-cache.disk.max-object-size 이하 객체, 총량 file-cache.disk.max-size 기준 LRU
+ * - 그보다 큰 객체: 캐시하지 않고 스토리지 스트림을 그대로 전달 (크기 초과 키는 기억하여 재조회 생략)
+ *   크기는 다운로드 전에 메타데이터(없으면 HEAD)로 확인하여, 상한을 넘는 객체를 받았다가 버리지 않는다.
+ *
+ * 삭제는 Redis 채널(public-file-cache:invalidate)로 키를 발행하여 다른 인스턴스의 캐시도 지운다.
+ * 캐시는 무효화 채널을 구독 중일 때만 사용하며, Redis 가 없거나 구독이 끊긴 동안에는 모든 요청을
+ * 스토리지에서 제공하고, (재)구독될 때마다 캐시를 비운다. (UserDetailsCache 와 동일)
+ *
+ * 같은 키의 동시 미적중은 하나의 스토리지 조회만 수행하고 나머지는 그 결과를 기다린다(single-flight).
+ * 디스크 계층 객체는 반환할 때마다 고정(pin)하고, 호출 측이 전송을 마치고 release 할 때 고정을 푼다.
+ * 고정된 동안 LRU/삭제 이벤트로 색인에서 빠진 파일은 마지막 release 이후에 삭제한다.
+ * 디스크 색인은 메모리에만 있으므로 기동 시 이전 실행의 캐시 파일은 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicFileCache implements MessageListener, SubscriptionListener {
+
+    public static final String INVALIDATION_CHANNEL = "public-file-cache:invalidate";
+
+    private static final String FILE_PREFIX = "obj-";
+    private static final int OVERSIZED_KEY_LIMIT = 10_000;
+
+    private final S3Service s3Service;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+
+    @Value("${file-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${file-cache.memory.max-size:64MB}")
+    private DataSize memoryMaxSize;
+
+    @Value("${file-cache.memory.max-object-size:512KB}")
+    private DataSize memoryMaxObjectSize;
+
+    @Value("${file-cache.disk.directory:${java.io.tmpdir}/softwarecampus-file-cache}")
+    private Path diskDirectory;
+
+    @Value("${file-cache.disk.max-size:1GB}")
+    private DataSize diskMaxSize;
+
+    @Value("${file-cache.disk.max-object-size:50MB}")
+    private DataSize diskMaxObjectSize;
+
+    /** 계층별 LRU 색인 (접근 순서) - 아래 필드와 함께 this 로 동기화 */
+    private final LinkedHashMap<String, CachedFile> memoryEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, CachedFile> diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Boolean> oversizedKeys = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > OVERSIZED_KEY_LIMIT;
+        }
+    };
+    private long memoryBytes;
+    private long diskBytes;
+
+    /** 전송 중인 디스크 파일별 고정 수, 고정 중에 색인에서 빠져 마지막 release 때 삭제할 파일 */
+    private final Map<Path, Integer> pins = new HashMap<>();
+    private final Set<Path> retired = new HashSet<>();
+
+    /** 키별 진행 중인 스토리지 조회 (single-flight) */
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<CachedFile>>> inFlight =
+            new ConcurrentHashMap<>();
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+    private final LongAdder hitBytes = new LongAdder();
+    private final LongAdder loadedBytes = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    /** 무효화 채널 구독 여부 (SubscriptionListener 콜백으로 갱신) */
+    private volatile boolean subscribed;
+
+    @PostConstruct
+    void start() {
+        subscribe();
+        initDiskDirectory();
+    }
+
+    void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        listenerContainer = listenerContainerProvider.getIfAvailable();
+        if (listenerContainer == null) {
+            log.info("Redis 메시지 리스너 컨테이너가 없어 공개 파일 캐시를 사용하지 않습니다.");
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    void initDiskDirectory() {
+        if (!enabled || !isDiskEnabled()) {
+            return;
+        }
+        try {
+            Files.createDirectories(diskDirectory);
+            try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(diskDirectory, FILE_PREFIX + "*")) {
+                for (Path leftover : leftovers) {
+                    Files.deleteIfExists(leftover);
+                }
+            }
+            log.info("공개 파일 디스크 캐시 디렉터리: {}", diskDirectory);
+        } catch (IOException e) {
+            throw new IllegalStateException("파일 캐시 디렉터리를 준비할 수 없습니다: " + diskDirectory, e);
+        }
+    }
+
+    /**
+     * 캐시된 객체 조회 (미적중 시 스토리지에서 읽어 적재)
+     * 디스크 계층 객체를 받은 호출 측은 응답 전송이 끝난 뒤 release(file) 을 호출해야 한다.
+     *
+     * @param key S3 키
+     * @return 캐시된 객체, 캐시 비활성화/크기 초과/조회 중 삭제된 경우 Optional.empty()
+     */
+    public Optional<CachedFile> get(String key) {
+        if (!isActive()) {
+            return Optional.empty();
+        }
+
+        synchronized (this) {
+            CachedFile hit = hit(key);
+            if (hit != null) {
+                return Optional.of(hit);
+            }
+            if (oversizedKeys.containsKey(key)) {
+                bypasses.increment();
+                return Optional.empty();
+            }
+        }
+
+        CompletableFuture<Optional<CachedFile>> created = new CompletableFuture<>();
+        CompletableFuture<Optional<CachedFile>> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            return pinShared(key, await(running));
+        }
+
+        misses.increment();
+        try {
+            Optional<CachedFile> loaded = store(key, created, load(key));
+            created.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시된 객체만 조회 (미적중 시 적재하지 않음)
+     * Range 요청처럼 객체 일부만 필요한 경우, 미적중이면 전체를 받지 않고 스토리지에 그대로 요청하기 위해 사용한다.
+     *
+     * @param key S3 키
+     * @return 캐시된 객체, 미적중/캐시 비활성화 시 Optional.empty()
+     */
+    public Optional<CachedFile> getCached(String key) {
+        if (!isActive()) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            return Optional.ofNullable(hit(key));
+        }
+    }
+
+    /**
+     * 디스크 계층 객체 전송 완료 - 고정을 풀고, 색인에서 빠진 파일이면 마지막 전송 이후 삭제
+     */
+    public synchronized void release(CachedFile file) {
+        if (file.inMemory()) {
+            return;
+        }
+        Integer count = pins.get(file.path());
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            pins.put(file.path(), count - 1);
+            return;
+        }
+        pins.remove(file.path());
+        if (retired.remove(file.path())) {
+            deleteQuietly(file.path());
+        }
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public synchronized FileCacheStatsResponse getStats() {
+        return new FileCacheStatsResponse(
+                memoryHits.sum(), diskHits.sum(), misses.sum(), bypasses.sum(),
+                hitBytes.sum(), loadedBytes.sum(), evictions.sum(),
+                memoryEntries.size(), memoryBytes, diskEntries.size(), diskBytes);
+    }
+
+    /**
+     * 스토리지 객체 삭제 시 캐시 무효화 (조회 중인 적재도 취소) 후 다른 인스턴스에 전파
+     */
+    @EventListener
+    public void onStorageObjectDeleted(StorageObjectDeletedEvent event) {
+        evict(event.key());
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, event.key());
+        } catch (Exception e) {
+            log.warn("공개 파일 캐시 무효화 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 수신 (자신이 발행한 메시지도 수신하며, 이미 지운 키는 무시됨)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evict(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 무효화 채널 (재)구독 - 구독이 끊긴 동안 놓친 삭제가 있을 수 있으므로 캐시를 비우고 사용 시작
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        evictAll();
+        subscribed = true;
+        log.debug("Public file cache invalidation channel subscribed");
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        subscribed = false;
+        evictAll();
+        log.debug("Public file cache invalidation channel unsubscribed");
+    }
+
+    public synchronized void evict(String key) {
+        inFlight.remove(key);
+        oversizedKeys.remove(key);
+
+        CachedFile removed = memoryEntries.remove(key);
+        if (removed != null) {
+            memoryBytes -= removed.contentLength();
+            evictions.increment();
+        }
+        removed = diskEntries.remove(key);
+        if (removed != null) {
+            diskBytes -= removed.contentLength();
+            evictions.increment();
+            discard(removed.path());
+        }
+    }
+
+    /**
+     * 전체 무효화 (진행 중인 적재 결과도 반영하지 않음)
+     */
+    private synchronized void evictAll() {
+        inFlight.clear();
+        oversizedKeys.clear();
+
+        evictions.add(memoryEntries.size() + diskEntries.size());
+        memoryEntries.clear();
+        memoryBytes = 0L;
+        diskEntries.values().forEach(file -> discard(file.path()));
+        diskEntries.clear();
+        diskBytes = 0L;
+    }
+
+    /**
+     * 캐시 사용 가능 여부 - 무효화 채널을 구독 중이고 구독 연결이 살아 있을 때만
+     */
+    private boolean isActive() {
+        return enabled && subscribed && listenerContainer != null && listenerContainer.isListening();
+    }
+
+    /**
+     * 계층별 색인 조회 (적중 시 통계 반영 및 고정) - this 로 동기화된 상태에서 호출
+     */
+    private CachedFile hit(String key) {
+        CachedFile hit = memoryEntries.get(key);
+        if (hit == null) {
+            hit = diskEntries.get(key);
+        }
+        if (hit != null) {
+            (hit.inMemory() ? memoryHits : diskHits).increment();
+            hitBytes.add(hit.contentLength());
+            pin(hit);
+        }
+        return hit;
+    }
+
+    /**
+     * 다른 요청이 적재한 결과를 함께 받은 경우 고정 (그 사이 색인에서 빠져 삭제된 파일이면 캐시 미사용)
+     */
+    private synchronized Optional<CachedFile> pinShared(String key, Optional<CachedFile> shared) {
+        if (shared.isEmpty() || shared.get().inMemory()) {
+            return shared;
+        }
+        CachedFile file = shared.get();
+        CachedFile indexed = diskEntries.get(key);
+        boolean live = (indexed != null && indexed.path().equals(file.path())) || pins.containsKey(file.path());
+        if (!live) {
+            return Optional.empty();
+        }
+        pin(file);
+        return shared;
+    }
+
+    private void pin(CachedFile file) {
+        if (!file.inMemory()) {
+            pins.merge(file.path(), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * 색인에서 빠진 디스크 파일 정리 (전송 중이면 마지막 release 까지 삭제를 미룸)
+     */
+    private void discard(Path path) {
+        if (pins.containsKey(path)) {
+            retired.add(path);
+        } else {
+            deleteQuietly(path);
+        }
+    }
+
+    private Optional<CachedFile> await(CompletableFuture<Optional<CachedFile>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 스토리지에서 객체를 읽어 크기에 맞는 계층 형태로 준비 (색인 반영은 store 에서 수행)
+     */
+    private Optional<CachedFile> load(String key) {
+        long maxCacheable = isDiskEnabled() ? diskMaxObjectSize.toBytes() : memoryMaxObjectSize.toBytes();
+        // 기록된 메타데이터(없으면 HEAD) 크기로 먼저 거름 - 0 은 조회 실패/빈 객체이므로 응답 크기로 다시 확인
+        if (s3Service.getFileSize(key) > maxCacheable) {
+            return Optional.empty();
+        }
+
+        ResponseInputStream<GetObjectResponse> in = s3Service.openDownloadStream(key, null, null)
+                .orElseThrow(() -> new S3UploadException("S3 파일 다운로드에 실패했습니다."));
+
+        try (in) {
+            GetObjectResponse object = in.response();
+            long length = object.contentLength() != null ? object.contentLength() : -1L;
+            if (length < 0 || length > maxCacheable) {
+                in.abort();
+                return Optional.empty();
+            }
+
+            Instant lastModified = object.lastModified();
+            if (length <= memoryMaxObjectSize.toBytes()) {
+                byte[] bytes = in.readAllBytes();
+                loadedBytes.add(bytes.length);
+                return Optional.of(new CachedFile(object.contentType(), object.eTag(), lastModified,
+                        bytes.length, bytes, null));
+            }
+
+            Path path = Files.createTempFile(diskDirectory, FILE_PREFIX, ".bin");
+            try {
+                long copied = Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+                loadedBytes.add(copied);
+                return Optional.of(new CachedFile(object.contentType(), object.eTag(), lastModified,
+                        copied, null, path));
+            } catch (IOException e) {
+                deleteQuietly(path);
+                throw e;
+            }
+        } catch (IOException e) {
+            log.error("Failed to cache object: {}", key, e);
+            throw new S3UploadException("S3 파일 다운로드에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 적재 결과를 색인에 반영
+     * 조회 도중 삭제 이벤트로 진행 중 표시가 제거되었다면 반영하지 않고 비어 있는 결과를 돌려준다.
+     */
+    private synchronized Optional<CachedFile> store(String key, CompletableFuture<Optional<CachedFile>> owner,
+                                                    Optional<CachedFile> loaded) {
+        if (!inFlight.remove(key, owner)) {
+            loaded.map(CachedFile::path).ifPresent(this::deleteQuietly);
+            return Optional.empty();
+        }
+        if (loaded.isEmpty()) {
+            oversizedKeys.put(key, Boolean.TRUE);
+            bypasses.increment();
+            return loaded;
+        }
+
+        CachedFile file = loaded.get();
+        if (file.inMemory()) {
+            memoryEntries.put(key, file);
+            memoryBytes += file.contentLength();
+            memoryBytes -= trim(memoryEntries, memoryMaxSize.toBytes(), memoryBytes);
+        } else {
+            diskEntries.put(key, file);
+            diskBytes += file.contentLength();
+            // 적재한 요청의 전송이 끝나기 전에 LRU 로 빠지더라도 파일이 남도록 먼저 고정
+            pin(file);
+            diskBytes -= trim(diskEntries, diskMaxSize.toBytes(), diskBytes);
+        }
+        return loaded;
+    }
+
+    /**
+     * 총량이 상한 이하가 될 때까지 가장 오래 사용하지 않은 항목 제거
+     *
+     * @return 제거된 바이트 수
+     */
+    private long trim(LinkedHashMap<String, CachedFile> entries, long maxBytes, long usedBytes) {
+        long removedBytes = 0L;
+        Iterator<CachedFile> eldest = entries.values().iterator();
+        while (usedBytes - removedBytes > maxBytes && eldest.hasNext()) {
+            CachedFile removed = eldest.next();
+            eldest.remove();
+            removedBytes += removed.contentLength();
+            evictions.increment();
+            if (removed.path() != null) {
+                discard(removed.path());
+            }
+        }
+        return removedBytes;
+    }
+
+    private boolean isDiskEnabled() {
+        return diskMaxSize.toBytes() > 0;
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete cache file: {}", path, e);
+        }
+    }
+
+    /**
+     * 캐시된 객체
+     *
+     * @param contentType   Content-Type (없으면 null)
+     * @param eTag          스토리지 ETag
+     * @param lastModified  최종 수정 시각
+     * @param contentLength 바이트 수
+     * @param bytes         메모리 계층 내용 (디스크 계층이면 null)
+     * @param path          디스크 계층 파일 (메모리 계층이면 null)
+     */
+    public record CachedFile(String contentType, String eTag, Instant lastModified, long contentLength,
+                             byte[] bytes, Path path) {
+
+        public boolean inMemory() {
+            return bytes != null;
+        }
+
+        public Resource toResource() {
+            return inMemory() ? new ByteArrayResource(bytes) : new FileSystemResource(path);
+        }
+    }
+}
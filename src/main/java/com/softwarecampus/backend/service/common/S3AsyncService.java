@@ -0,0 +1,302 @@
+package com.softwarecampus.backend.service.common;
+
+import com.softwarecampus.backend.domain.common.StorageObjectMetadata;
+import com.softwarecampus.backend.exception.S3UploadException;
+import com.softwarecampus.backend.service.common.event.StorageObjectDeletedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 비동기 객체 스토리지 서비스 (S3AsyncClient)
+ *
+ * S3Service 와 같은 버킷/키 규칙을 사용하되, 결과를 CompletableFuture 로 반환하여
+ * 여러 HEAD/DELETE 요청을 동시에 보내고 한 번에 기다리거나(게시글 생성 시 파일 크기 조회),
+ * 결과를 기다리지 않고 요청 스레드를 반환할 수 있게 합니다(Q&A 첨부 삭제).
+ *
+ * - 동시 요청 수는 커넥션 풀 크기(storage.object.async.max-concurrency)로 제한
+ * - 크기 조회는 StorageMetadataRegistry 에 기록된 값을 먼저 사용하고, 기록이 없는 키만 HEAD
+ * - 키 검증은 S3Service 와 동일하며, 잘못된 키는 호출 시점에 S3UploadException
+ * - 완료 후처리(메타데이터 기록/삭제 이벤트 발행)는 DB 를 사용하므로 SDK 의 Netty 스레드가 아닌
+ *   전용 스레드 풀(storage.object.async.callback-threads)에서 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3AsyncService {
+
+    private final S3AsyncClient s3AsyncClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StorageMetadataRegistry metadataRegistry;
+
+    @Value("${storage.object.bucket}")
+    private String bucketName;
+
+    @Value("${storage.object.async.callback-threads:4}")
+    private int callbackThreads;
+
+    @Value("${storage.object.async.callback-queue-capacity:1000}")
+    private int callbackQueueCapacity;
+
+    private ThreadPoolExecutor callbackExecutor;
+
+    @PostConstruct
+    void start() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("storage-async-callback-");
+        threadFactory.setDaemon(true);
+        // 큐가 가득 차면 완료 스레드에서 직접 실행 - 후처리(메타데이터/캐시 무효화)를 버리지 않기 위함
+        callbackExecutor = new ThreadPoolExecutor(callbackThreads, callbackThreads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(callbackQueueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        callbackExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        callbackExecutor.shutdown();
+        callbackExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 바이트 배열을 지정한 키로 업로드합니다.
+     *
+     * @param key         S3 키
+     * @param bytes       저장할 내용
+     * @param contentType Content-Type
+     * @return 업로드 완료 시 완료되는 future (실패 시 S3UploadException)
+     */
+    public CompletableFuture<Void> putBytes(String key, byte[] bytes, String contentType) {
+        S3Service.validateS3Key(key);
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build();
+
+        return s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromBytes(bytes))
+                .handleAsync((response, error) -> {
+                    if (error != null) {
+                        log.error("Async upload failed: {}", key, unwrap(error));
+                        throw new S3UploadException("S3 업로드에 실패했습니다.", unwrap(error));
+                    }
+                    metadataRegistry.record(key, bytes.length, contentType, response.eTag(), null);
+                    log.debug("Object stored: {} ({} bytes)", key, bytes.length);
+                    return null;
+                }, callbackExecutor);
+    }
+
+    /**
+     * 파일 크기를 조회합니다. (HEAD)
+     *
+     * @param key S3 키
+     * @return 파일 크기 (bytes), 조회 실패 시 0 (S3Service.getFileSize 와 동일)
+     */
+    public CompletableFuture<Long> getFileSize(String key) {
+        try {
+            S3Service.validateS3Key(key);
+        } catch (S3UploadException e) {
+            log.warn("Failed to get file size: {}", e.getMessage());
+            return CompletableFuture.completedFuture(0L);
+        }
+
+        Optional<StorageObjectMetadata> recorded = metadataRegistry.find(key);
+        if (recorded.isPresent()) {
+            return CompletableFuture.completedFuture(recorded.get().getSize());
+        }
+        return headFileSize(key);
+    }
+
+    /**
+     * 여러 파일의 크기를 조회합니다. 기록된 메타데이터는 한 번에 조회하고, 나머지만 HEAD 를 동시에 보냅니다.
+     *
+     * @param keys S3 키 목록
+     * @return 키별 파일 크기 (입력 순서 유지, 조회 실패 시 0)
+     */
+    public CompletableFuture<Map<String, Long>> getFileSizes(Collection<String> keys) {
+        Map<String, StorageObjectMetadata> recorded = metadataRegistry.findAll(keys);
+
+        Map<String, CompletableFuture<Long>> futures = new LinkedHashMap<>();
+        for (String key : keys) {
+            futures.computeIfAbsent(key, k -> recorded.containsKey(k)
+                    ? CompletableFuture.completedFuture(recorded.get(k).getSize())
+                    : getFileSizeFromStorage(k));
+        }
+
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<String, Long> sizes = new LinkedHashMap<>();
+                    futures.forEach((key, future) -> sizes.put(key, future.join()));
+                    return sizes;
+                });
+    }
+
+    private CompletableFuture<Long> getFileSizeFromStorage(String key) {
+        try {
+            S3Service.validateS3Key(key);
+        } catch (S3UploadException e) {
+            log.warn("Failed to get file size: {}", e.getMessage());
+            return CompletableFuture.completedFuture(0L);
+        }
+        return headFileSize(key);
+    }
+
+    private CompletableFuture<Long> headFileSize(String key) {
+        HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+
+        return s3AsyncClient.headObject(headObjectRequest)
+                .handleAsync((response, error) -> {
+                    if (error != null) {
+                        log.warn("Failed to get file size: {} - {}", key, unwrap(error).getMessage());
+                        return 0L;
+                    }
+                    metadataRegistry.record(key, response.contentLength(), response.contentType(),
+                            response.eTag(), null);
+                    return response.contentLength();
+                }, callbackExecutor);
+    }
+
+    /**
+     * S3 key로 파일을 삭제합니다.
+     *
+     * @param key S3 키
+     * @return 삭제 완료 시 완료되는 future (실패 시 S3UploadException)
+     */
+    public CompletableFuture<Void> deleteFile(String key) {
+        S3Service.validateS3Key(key);
+
+        // 중복 제거로 공유 중인 객체는 참조만 해제
+        if (!metadataRegistry.release(List.of(key)).isEmpty()) {
+            log.info("Shared file still referenced, delete skipped: {}", key);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+
+        return s3AsyncClient.deleteObject(deleteObjectRequest)
+                .handleAsync((response, error) -> {
+                    if (error != null) {
+                        metadataRegistry.restore(List.of(key));
+                        log.error("Async delete failed: {}", key, unwrap(error));
+                        throw new S3UploadException("S3 파일 삭제에 실패했습니다.", unwrap(error));
+                    }
+                    metadataRegistry.remove(List.of(key));
+                    log.info("File deleted successfully: {}", key);
+                    eventPublisher.publishEvent(StorageObjectDeletedEvent.of(key));
+                    return null;
+                }, callbackExecutor);
+    }
+
+    /**
+     * 여러 객체를 DeleteObjects 요청(최대 1000개씩)으로 동시에 삭제합니다.
+     * 존재하지 않는 키는 삭제 성공으로 처리되며, 공유 중인 객체는 참조만 해제합니다. (S3Service.deleteFiles 와 동일)
+     *
+     * @param keys 삭제할 S3 키 목록 (참조하던 DB 행마다 한 번씩)
+     * @return 삭제에 실패한 키 (형식이 잘못된 키 포함), future 자체는 실패하지 않음
+     */
+    public CompletableFuture<Set<String>> deleteFiles(Collection<String> keys) {
+        Set<String> invalid = new HashSet<>();
+        List<String> validKeys = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                S3Service.validateS3Key(key);
+                validKeys.add(key);
+            } catch (S3UploadException e) {
+                invalid.add(key);
+            }
+        }
+
+        Set<String> referenced = metadataRegistry.release(validKeys);
+        List<String> deleteKeys = validKeys.stream()
+                .distinct()
+                .filter(key -> !referenced.contains(key))
+                .toList();
+
+        List<CompletableFuture<Set<String>>> batches = new ArrayList<>();
+        for (int from = 0; from < deleteKeys.size(); from += S3Service.DELETE_BATCH_SIZE) {
+            batches.add(deleteBatch(deleteKeys.subList(from,
+                    Math.min(from + S3Service.DELETE_BATCH_SIZE, deleteKeys.size()))));
+        }
+
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApplyAsync(ignored -> {
+                    Set<String> deleteFailed = new HashSet<>();
+                    batches.forEach(batch -> deleteFailed.addAll(batch.join()));
+                    // 삭제에 실패한 키는 행이 남아 재시도되므로 해제한 참조를 되돌림
+                    metadataRegistry.restore(validKeys.stream().filter(deleteFailed::contains).toList());
+
+                    Set<String> failed = new HashSet<>(invalid);
+                    failed.addAll(deleteFailed);
+                    return failed;
+                }, callbackExecutor);
+    }
+
+    private CompletableFuture<Set<String>> deleteBatch(List<String> batch) {
+        DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(Delete.builder()
+                        .objects(batch.stream()
+                                .map(key -> ObjectIdentifier.builder().key(key).build())
+                                .toList())
+                        .quiet(true) // 실패한 키만 응답
+                        .build())
+                .build();
+
+        return s3AsyncClient.deleteObjects(deleteObjectsRequest)
+                .handleAsync((response, error) -> {
+                    if (error != null) {
+                        log.error("Async batch delete failed: {} keys", batch.size(), unwrap(error));
+                        return Set.copyOf(batch);
+                    }
+                    Set<String> batchFailed = response.errors().stream()
+                            .map(S3Error::key)
+                            .collect(Collectors.toSet());
+                    if (!batchFailed.isEmpty()) {
+                        log.warn("Async batch delete partially failed: {}/{} keys", batchFailed.size(), batch.size());
+                    }
+
+                    List<String> deleted = batch.stream()
+                            .filter(key -> !batchFailed.contains(key))
+                            .toList();
+                    metadataRegistry.remove(deleted);
+
+                    // 공개 파일 캐시 등 로컬 사본 무효화
+                    deleted.forEach(key -> eventPublisher.publishEvent(StorageObjectDeletedEvent.of(key)));
+                    return batchFailed;
+                }, callbackExecutor);
+    }
+
+    private Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
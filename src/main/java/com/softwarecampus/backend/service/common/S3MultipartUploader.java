@@ -0,0 +1,285 @@
+package com.softwarecampus.backend.service.common;
+
+import com.softwarecampus.backend.dto.common.MultipartUploadStatsResponse;
+import com.softwarecampus.backend.exception.S3UploadException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 대용량 파일 멀티파트 업로드 (S3Service.uploadFile 에서 임계값 이상일 때 사용)
+ *
+ * 입력 스트림을 파트 단위로 읽어 전용 작업 스레드에서 동시에 업로드하고, 파트별로 재시도한다.
+ * 한 파트라도 최종 실패하면 진행 중인 파트를 기다린 뒤 멀티파트 업로드를 중단(abort)하여
+ * 스토리지에 미완성 파트가 남지 않게 한다.
+ *
+ * - 동시에 메모리에 올라가는 파트 수는 전체 업로드를 합쳐 작업 스레드 수로 제한 (파트 버퍼 상한 = threads × part-size)
+ * - 파트가 모두 사용 중이면 요청 스레드가 다음 파트를 읽기 전에 대기 (작업 큐가 무한히 쌓이지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3MultipartUploader {
+
+    // S3 멀티파트 제약: 마지막 파트를 제외한 최소 파트 크기 5MB, 최대 파트 수 10,000
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final int MAX_PARTS = 10_000;
+    private static final long RETRY_BACKOFF_MILLIS = 200L;
+
+    private final S3Client s3Client;
+
+    @Value("${storage.object.bucket}")
+    private String bucketName;
+
+    @Value("${file.multipart.enabled:true}")
+    private boolean enabled;
+
+    @Value("${file.multipart.threshold:16MB}")
+    private DataSize threshold;
+
+    @Value("${file.multipart.part-size:8MB}")
+    private DataSize partSize;
+
+    @Value("${file.multipart.threads:4}")
+    private int threads;
+
+    @Value("${file.multipart.max-attempts:3}")
+    private int maxAttempts;
+
+    private ThreadPoolExecutor executor;
+    private Semaphore partPermits;
+
+    private final LongAdder uploads = new LongAdder();
+    private final LongAdder failedUploads = new LongAdder();
+    private final LongAdder parts = new LongAdder();
+    private final LongAdder partRetries = new LongAdder();
+    private final LongAdder uploadedBytes = new LongAdder();
+    private final LongAdder uploadNanos = new LongAdder();
+
+    @PostConstruct
+    void start() {
+        executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("s3-multipart-"));
+        executor.allowCoreThreadTimeOut(true);
+        partPermits = new Semaphore(threads);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 멀티파트 업로드 대상 여부 (file.multipart.threshold 이상)
+     */
+    public boolean supports(long size) {
+        return enabled && size >= threshold.toBytes();
+    }
+
+    /**
+     * 스트림을 파트로 나누어 동시에 업로드합니다. 실패 시 멀티파트 업로드를 중단합니다.
+     *
+     * @param key         S3 키
+     * @param contentType Content-Type
+     * @param in          업로드할 내용 (호출자가 닫음)
+     * @param size        전체 크기 (bytes)
+     * @return 완료된 객체의 ETag
+     * @throws IOException 입력 스트림을 읽지 못한 경우
+     */
+    public String upload(String key, String contentType, InputStream in, long size) throws IOException {
+        long started = System.nanoTime();
+        long partBytes = partBytes(size);
+
+        String uploadId;
+        try {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .build()).uploadId();
+        } catch (S3Exception e) {
+            failedUploads.increment();
+            log.error("Multipart upload start failed: {}", key, e);
+            throw new S3UploadException("S3 업로드에 실패했습니다.", e);
+        }
+
+        List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+        String eTag;
+        try {
+            long remaining = size;
+            int partNumber = 1;
+            while (remaining > 0) {
+                throwIfAnyFailed(futures);
+
+                int length = (int) Math.min(partBytes, remaining);
+                partPermits.acquire();
+                byte[] buffer;
+                try {
+                    buffer = in.readNBytes(length);
+                } catch (IOException e) {
+                    partPermits.release();
+                    throw e;
+                }
+                if (buffer.length < length) {
+                    partPermits.release();
+                    throw new IOException("파일 크기가 예상보다 작습니다: " + key);
+                }
+
+                int number = partNumber++;
+                CompletableFuture<CompletedPart> future = CompletableFuture
+                        .supplyAsync(() -> uploadPart(key, uploadId, number, buffer), executor);
+                future.whenComplete((part, error) -> partPermits.release());
+                futures.add(future);
+                remaining -= length;
+            }
+
+            List<CompletedPart> completedParts = futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+
+            eTag = s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build()).eTag();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(key, uploadId, futures);
+            throw new S3UploadException("S3 업로드가 중단되었습니다.", e);
+        } catch (IOException e) {
+            abort(key, uploadId, futures);
+            throw e;
+        } catch (CompletionException | SdkException e) {
+            abort(key, uploadId, futures);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.error("Multipart upload failed: {}", key, cause);
+            throw new S3UploadException("S3 업로드에 실패했습니다.", cause);
+        }
+
+        long elapsed = System.nanoTime() - started;
+        uploads.increment();
+        parts.add(futures.size());
+        uploadedBytes.add(size);
+        uploadNanos.add(elapsed);
+        log.info("Multipart upload completed: {} ({} bytes, {} parts, {} ms)",
+                key, size, futures.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return eTag;
+    }
+
+    /**
+     * 멀티파트 업로드 통계
+     */
+    public MultipartUploadStatsResponse getStats() {
+        long bytes = uploadedBytes.sum();
+        long nanos = uploadNanos.sum();
+        return new MultipartUploadStatsResponse(
+                uploads.sum(),
+                failedUploads.sum(),
+                parts.sum(),
+                partRetries.sum(),
+                bytes,
+                nanos > 0 ? (long) (bytes * 1_000_000_000.0 / nanos) : 0L);
+    }
+
+    /**
+     * 파트 업로드 (일시적 오류는 max-attempts 까지 재시도)
+     */
+    private CompletedPart uploadPart(String key, String uploadId, int partNumber, byte[] bytes) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) bytes.length)
+                                .build(),
+                        RequestBody.fromBytes(bytes));
+                return CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build();
+            } catch (SdkException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                partRetries.increment();
+                log.warn("Part upload failed, retrying ({}/{}) - key: {}, part: {}",
+                        attempt, maxAttempts, key, partNumber);
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 파트가 모두 끝난 뒤 중단 (먼저 중단하면 늦게 끝난 파트가 스토리지에 남을 수 있음)
+     */
+    private void abort(String key, String uploadId, List<CompletableFuture<CompletedPart>> futures) {
+        failedUploads.increment();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> null)
+                .join();
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            log.info("Multipart upload aborted: {}", key);
+        } catch (SdkException e) {
+            log.warn("Multipart upload abort failed - key: {}, uploadId: {}", key, uploadId, e);
+        }
+    }
+
+    private void throwIfAnyFailed(List<CompletableFuture<CompletedPart>> futures) {
+        for (CompletableFuture<CompletedPart> future : futures) {
+            if (future.isCompletedExceptionally()) {
+                future.join(); // CompletionException 으로 원인 전달
+            }
+        }
+    }
+
+    private long partBytes(long size) {
+        long configured = Math.max(partSize.toBytes(), MIN_PART_SIZE);
+        long required = (size + MAX_PARTS - 1) / MAX_PARTS;
+        return Math.max(configured, required);
+    }
+
+    private boolean isRetryable(SdkException e) {
+        if (e instanceof S3Exception s3Exception) {
+            int status = s3Exception.statusCode();
+            return status >= 500 || status == 429;
+        }
+        return e instanceof SdkClientException;
+    }
+}
@@ -6,27 +6,53 @@
  * - DB에는 절대 URL 대신 key(경로)를 저장합니다. (예: "profile/550e8400-e29b-41d4-a716-446655440000.jpg")
  * - 파일 접근은 GET /api/files/public?key= 백엔드 프록시를 통해 이루어집니다.
  * - 민감한 파일(기관 등록 서류 등)은 generatePresignedUrl()로 임시 링크를 발급합니다.
+ * - 직접 업로드: presignUpload()로 발급한 PUT URL 로 클라이언트가 스토리지에 바로 올리고,
+ *   confirmUpload()에서 HEAD 로 검증한 뒤 각 도메인이 DB 레코드를 생성합니다.
  */
 package com.softwarecampus.backend.service.common;
 
+import com.softwarecampus.backend.domain.common.StorageObjectMetadata;
 import com.softwarecampus.backend.exception.S3UploadException;
+import com.softwarecampus.backend.service.common.event.StorageObjectDeletedEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.annotation.PostConstruct;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -38,19 +64,43 @@ public class S3Service {
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final FileType fileType;
+    private final ApplicationEventPublisher eventPublisher;
+    private final S3MultipartUploader multipartUploader;
+    private final StorageMetadataRegistry metadataRegistry;
 
     @Value("${storage.object.bucket}")
     private String bucketName;
 
+    // 내용 해시 기반 중복 제거 (같은 폴더/Content-Type 의 동일 내용 업로드는 기존 객체 공유)
+    @Value("${file.dedup.enabled:false}")
+    private boolean dedupEnabled;
+
+    // 직접 업로드 PUT URL 유효 기간
+    @Value("${file.direct-upload.url-ttl:PT10M}")
+    private Duration uploadUrlTtl;
+
+    // 직접 업로드 객체 메타데이터 (x-amz-meta-*) - 서명에 포함되어 클라이언트가 변경할 수 없음
+    static final String META_UPLOADER_ID = "uploader-id";
+    static final String META_FILE_TYPE = "file-type";
+    static final String META_ORIGINAL_FILENAME = "original-filename";
+
+    // DeleteObjects 요청당 최대 키 수 (S3 API 제한)
+    static final int DELETE_BATCH_SIZE = 1000;
+
     // 허용된 폴더 목록 (S3Folder enum 기반)
     private static final Set<String> ALLOWED_FOLDERS = Arrays.stream(S3Folder.values())
             .map(S3Folder::getPath)
             .collect(Collectors.toSet());
 
-    public S3Service(S3Client s3Client, S3Presigner s3Presigner, FileType fileType) {
+    public S3Service(S3Client s3Client, S3Presigner s3Presigner, FileType fileType,
+                     ApplicationEventPublisher eventPublisher, S3MultipartUploader multipartUploader,
+                     StorageMetadataRegistry metadataRegistry) {
         this.s3Client = s3Client;
         this.s3Presigner = s3Presigner;
         this.fileType = fileType;
+        this.eventPublisher = eventPublisher;
+        this.multipartUploader = multipartUploader;
+        this.metadataRegistry = metadataRegistry;
     }
 
     /**
@@ -68,6 +118,10 @@ public class S3Service {
     /**
      * 파일을 업로드하고 S3 key를 반환합니다.
      * DB에는 절대 URL이 아닌 key(예: "profile/uuid.jpg")를 저장해야 합니다.
+     * file.multipart.threshold 이상인 파일은 파트를 나누어 동시에 업로드합니다. (S3MultipartUploader)
+     * 업로드한 객체의 크기/Content-Type/ETag/업로더는 StorageMetadataRegistry 에 기록합니다.
+     * file.dedup.enabled 이면 전송 중에 SHA-256 을 계산하여, 같은 폴더에 같은 내용/Content-Type 의 객체가
+     * 이미 있으면 방금 올린 객체를 지우고 기존 키를 반환합니다. (참조 수 증가)
      *
      * @param file         업로드할 파일
      * @param folder       S3 폴더 경로 (S3Folder enum 기반)
@@ -87,19 +141,42 @@ public class S3Service {
             String fileName = generateFileName(originalFilename);
             String key = folder.isEmpty() ? fileName : folder + "/" + fileName;
 
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .contentType(file.getContentType())
-                    .build();
-
             // 스트리밍 방식으로 파일 업로드 (메모리 효율적)
             // file.getBytes()는 전체 파일을 메모리에 로드하여 대용량 파일 시 OutOfMemoryError 발생 가능
-            try (var inputStream = file.getInputStream()) {
-                s3Client.putObject(
-                    putObjectRequest,
-                    RequestBody.fromInputStream(inputStream, file.getSize())
-                );
+            String eTag;
+            MessageDigest digest = dedupEnabled ? sha256() : null;
+            try (var inputStream = digest != null
+                    ? new HashingInputStream(file.getInputStream(), digest)
+                    : file.getInputStream()) {
+                if (multipartUploader.supports(file.getSize())) {
+                    eTag = multipartUploader.upload(key, file.getContentType(), inputStream, file.getSize());
+                } else {
+                    PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .contentType(file.getContentType())
+                            .build();
+
+                    eTag = s3Client.putObject(
+                        putObjectRequest,
+                        RequestBody.fromInputStream(inputStream, file.getSize())
+                    ).eTag();
+                }
+            }
+            Long uploaderId = StorageMetadataRegistry.currentUploaderId();
+            if (digest == null) {
+                metadataRegistry.record(key, file.getSize(), file.getContentType(), eTag, uploaderId);
+            } else {
+                String contentHash = HexFormat.of().formatHex(digest.digest());
+                Optional<String> existing = metadataRegistry.acquireDuplicate(contentHash, folder, file.getContentType());
+                if (existing.isPresent()) {
+                    // 같은 내용이 이미 저장되어 있음 - 방금 올린 사본은 참조되기 전에 제거
+                    discardUpload(key);
+                    log.info("Duplicate upload reused: {} -> {}", key, existing.get());
+                    return existing.get();
+                }
+                metadataRegistry.recordShared(key, file.getSize(), file.getContentType(), eTag, uploaderId,
+                        contentHash, folder);
             }
 
             log.info("File uploaded successfully: {}", key);
@@ -113,6 +190,33 @@ public class S3Service {
         }
     }
 
+    /**
+     * 서버에서 생성한 바이트를 지정한 key 로 저장합니다. (이미지 파생본 등)
+     * 사용자 업로드 파일은 uploadFile()을 사용해야 합니다.
+     *
+     * @param key         S3 키 (예: "course/uuid_w200.jpg")
+     * @param bytes       저장할 내용
+     * @param contentType Content-Type
+     */
+    public void putBytes(String key, byte[] bytes, String contentType) {
+        validateS3Key(key);
+
+        try {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .build();
+
+            String eTag = s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes)).eTag();
+            metadataRegistry.record(key, bytes.length, contentType, eTag, null);
+            log.debug("Object stored: {} ({} bytes)", key, bytes.length);
+        } catch (S3Exception e) {
+            log.error("Upload failed: {}", e.awsErrorDetails().errorMessage(), e);
+            throw new S3UploadException("S3 업로드에 실패했습니다.", e);
+        }
+    }
+
     /**
      * S3 key로 파일을 삭제합니다.
      *
@@ -121,6 +225,12 @@ public class S3Service {
     public void deleteFile(String key) {
         validateS3Key(key);
 
+        // 중복 제거로 공유 중인 객체는 참조만 해제
+        if (!metadataRegistry.release(List.of(key)).isEmpty()) {
+            log.info("Shared file still referenced, delete skipped: {}", key);
+            return;
+        }
+
         try {
             DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
                     .bucket(bucketName)
@@ -128,16 +238,109 @@ public class S3Service {
                     .build();
 
             s3Client.deleteObject(deleteObjectRequest);
+            metadataRegistry.remove(List.of(key));
             log.info("File deleted successfully: {}", key);
+
+            // 공개 파일 캐시 등 로컬 사본 무효화
+            eventPublisher.publishEvent(StorageObjectDeletedEvent.of(key));
         } catch (S3Exception e) {
+            metadataRegistry.restore(List.of(key));
             log.error("Delete failed: {}", e.awsErrorDetails().errorMessage(), e);
             throw new S3UploadException("S3 파일 삭제에 실패했습니다.", e);
         }
     }
 
+    /**
+     * 여러 객체를 DeleteObjects 요청으로 일괄 삭제합니다. (요청당 최대 1000개)
+     * 존재하지 않는 키는 삭제 성공으로 처리됩니다.
+     * 중복 제거로 공유 중인 객체는 포함된 횟수만큼 참조를 해제하고, 참조가 남아 있으면 삭제하지 않습니다. (성공 처리)
+     * 삭제에 실패한 키는 해제한 참조를 되돌립니다. (다음 재시도에서 다시 해제)
+     *
+     * @param keys 삭제할 S3 키 목록 (참조하던 DB 행마다 한 번씩)
+     * @return 삭제에 실패한 키 (형식이 잘못된 키 포함)
+     */
+    public Set<String> deleteFiles(Collection<String> keys) {
+        Set<String> failed = new HashSet<>();
+        List<String> validKeys = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                validateS3Key(key);
+                validKeys.add(key);
+            } catch (S3UploadException e) {
+                failed.add(key);
+            }
+        }
+
+        Set<String> referenced = metadataRegistry.release(validKeys);
+        List<String> deleteKeys = validKeys.stream()
+                .distinct()
+                .filter(key -> !referenced.contains(key))
+                .toList();
+
+        Set<String> deleteFailed = new HashSet<>();
+        for (int from = 0; from < deleteKeys.size(); from += DELETE_BATCH_SIZE) {
+            List<String> batch = deleteKeys.subList(from, Math.min(from + DELETE_BATCH_SIZE, deleteKeys.size()));
+            try {
+                DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+                        .bucket(bucketName)
+                        .delete(Delete.builder()
+                                .objects(batch.stream()
+                                        .map(key -> ObjectIdentifier.builder().key(key).build())
+                                        .toList())
+                                .quiet(true) // 실패한 키만 응답
+                                .build())
+                        .build();
+
+                Set<String> batchFailed = s3Client.deleteObjects(deleteObjectsRequest).errors().stream()
+                        .map(S3Error::key)
+                        .collect(Collectors.toSet());
+                if (!batchFailed.isEmpty()) {
+                    log.warn("Batch delete partially failed: {}/{} keys", batchFailed.size(), batch.size());
+                }
+                deleteFailed.addAll(batchFailed);
+
+                List<String> deleted = batch.stream()
+                        .filter(key -> !batchFailed.contains(key))
+                        .toList();
+                metadataRegistry.remove(deleted);
+
+                // 공개 파일 캐시 등 로컬 사본 무효화
+                deleted.forEach(key -> eventPublisher.publishEvent(StorageObjectDeletedEvent.of(key)));
+            } catch (SdkException e) {
+                log.error("Batch delete failed: {}", e instanceof S3Exception s3 && s3.awsErrorDetails() != null
+                        ? s3.awsErrorDetails().errorMessage() : e.getMessage(), e);
+                deleteFailed.addAll(batch);
+            }
+        }
+
+        // 삭제에 실패한 키는 행이 남아 재시도되므로 해제한 참조를 되돌림
+        metadataRegistry.restore(validKeys.stream().filter(deleteFailed::contains).toList());
+        failed.addAll(deleteFailed);
+        return failed;
+    }
+
+    /**
+     * prefix 아래 객체를 ListObjectsV2 페이지 단위로 순회합니다. (키 사전순)
+     * 다음 페이지는 순회가 진행될 때 요청하므로 전체 목록을 메모리에 올리지 않습니다.
+     *
+     * @param prefix    키 prefix (예: "board/")
+     * @param delimiter 하위 경로를 제외하려면 "/", 전체 순회는 null
+     * @param pageSize  페이지당 최대 키 수 (최대 1000)
+     * @return 페이지 순회자 (순회 중 S3Exception 발생 가능)
+     */
+    public ListObjectsV2Iterable listObjects(String prefix, String delimiter, int pageSize) {
+        ListObjectsV2Request listObjectsRequest = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .delimiter(delimiter)
+                .maxKeys(pageSize)
+                .build();
+        return s3Client.listObjectsV2Paginator(listObjectsRequest);
+    }
+
     /**
      * S3 key로 파일 바이트를 다운로드합니다.
-     * GET /api/files/public 백엔드 프록시에서 사용합니다.
+     * 게시글 첨부파일 다운로드처럼 바이트 배열이 필요한 경우에 사용합니다.
      *
      * @param key S3 키 (예: "profile/uuid.jpg")
      * @return 파일 바이트 배열
@@ -159,49 +362,84 @@ public class S3Service {
     }
 
     /**
-     * S3 파일의 Content-Type을 조회합니다.
-     * GET /api/files/public 엔드포인트에서 올바른 Content-Type 헤더를 반환하기 위해 사용합니다.
+     * S3 객체를 스트림으로 엽니다. (GET /api/files/public 백엔드 프록시용)
+     * 응답 바이트를 메모리에 모으지 않고, Content-Type/Content-Length/ETag 등은
+     * 별도 HEAD 요청 없이 GET 응답 메타데이터를 그대로 사용합니다.
+     * 반환된 스트림은 호출자가 반드시 닫아야 합니다.
      *
-     * @param key S3 키
-     * @return Content-Type 문자열 (조회 실패 시 "application/octet-stream" 반환)
+     * @param key         S3 키 (예: "profile/uuid.jpg")
+     * @param range       HTTP Range 헤더 값 (예: "bytes=0-1023", 없으면 null)
+     * @param ifNoneMatch HTTP If-None-Match 헤더 값 (없으면 null)
+     * @return 객체 스트림, ETag 가 일치하여 변경되지 않은 경우(304) Optional.empty()
      */
-    public String getContentType(String key) {
+    public Optional<ResponseInputStream<GetObjectResponse>> openDownloadStream(
+            String key, String range, String ifNoneMatch) {
+        validateS3Key(key);
+
         try {
-            validateS3Key(key);
-            HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                     .bucket(bucketName)
                     .key(key)
+                    .range(range)
+                    .ifNoneMatch(ifNoneMatch)
                     .build();
-            return s3Client.headObject(headObjectRequest).contentType();
-        } catch (Exception e) {
-            log.warn("Failed to get content type for key: {}, defaulting to octet-stream", key);
-            return "application/octet-stream";
+
+            return Optional.of(s3Client.getObject(getObjectRequest));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 304) {
+                return Optional.empty();
+            }
+            if (e.statusCode() == 416) {
+                throw new S3UploadException("요청한 범위가 파일 크기를 벗어났습니다: " + range,
+                        S3UploadException.FailureReason.RANGE_NOT_SATISFIABLE);
+            }
+            log.error("Download failed: {}", e.awsErrorDetails() != null
+                    ? e.awsErrorDetails().errorMessage() : e.getMessage(), e);
+            throw new S3UploadException("S3 파일 다운로드에 실패했습니다.", e);
         }
     }
 
     /**
      * S3 파일의 메타데이터(크기)를 조회합니다.
+     * 업로드 시 기록된 메타데이터를 먼저 사용하고, 기록이 없을 때만 HEAD 요청 후 기록합니다.
      *
      * @param key S3 키 (예: "profile/uuid.jpg")
      * @return 파일 크기 (bytes), 조회 실패 시 0 반환
      */
     public long getFileSize(String key) {
+        return findFileSize(key).orElse(0L);
+    }
+
+    /**
+     * S3 파일 크기를 조회합니다. (getFileSize 와 같지만 조회 실패를 빈 값으로 구분)
+     *
+     * @param key S3 키 (예: "profile/uuid.jpg")
+     * @return 파일 크기 (bytes), 조회 실패 시 Optional.empty()
+     */
+    public Optional<Long> findFileSize(String key) {
         try {
             validateS3Key(key);
+            Optional<StorageObjectMetadata> recorded = metadataRegistry.find(key);
+            if (recorded.isPresent()) {
+                return Optional.of(recorded.get().getSize());
+            }
+
             HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
                     .bucket(bucketName)
                     .key(key)
                     .build();
             HeadObjectResponse response = s3Client.headObject(headObjectRequest);
             long fileSize = response.contentLength();
+            metadataRegistry.record(key, fileSize, response.contentType(), response.eTag(), null);
             log.debug("File size for {}: {} bytes", key, fileSize);
-            return fileSize;
+            return Optional.of(fileSize);
         } catch (S3Exception e) {
-            log.warn("Failed to get file size: {}", e.awsErrorDetails().errorMessage());
-            return 0L;
+            log.warn("Failed to get file size: {}", e.awsErrorDetails() != null
+                    ? e.awsErrorDetails().errorMessage() : e.getMessage());
+            return Optional.empty();
         } catch (Exception e) {
             log.warn("Failed to get file size: {}", e.getMessage());
-            return 0L;
+            return Optional.empty();
         }
     }
 
@@ -239,6 +477,150 @@ public class S3Service {
         }
     }
 
+    /**
+     * 클라이언트 직접 업로드용 Presigned PUT URL 을 발급합니다.
+     * 폴더와 파일 정책(확장자/Content-Type/크기)을 업로드 전에 검증하고 key 는 서버에서 생성합니다.
+     * Content-Type, Content-Length, 업로더/파일 타입 메타데이터가 서명에 포함되므로
+     * 클라이언트는 응답의 headers 를 그대로 보내야 하며 다른 크기/형식의 파일은 스토리지가 거부합니다.
+     *
+     * @param folder           S3 폴더 경로 (S3Folder enum 기반)
+     * @param fileTypeEnum     파일 타입 (FileType 설정 조회용)
+     * @param originalFilename 원본 파일명
+     * @param contentType      업로드할 파일의 Content-Type
+     * @param contentLength    업로드할 파일 크기 (bytes)
+     * @param uploaderId       업로더 계정 ID (확정 시 본인 확인용)
+     * @return 업로드 key, PUT URL, 필수 요청 헤더, 만료 시각
+     */
+    public PresignedUpload presignUpload(String folder, FileType.FileTypeEnum fileTypeEnum,
+                                         String originalFilename, String contentType, long contentLength,
+                                         Long uploaderId) {
+        validateFolderSecurity(folder);
+        validateUploadSpec(originalFilename, contentType, contentLength, fileType.getConfig(fileTypeEnum));
+
+        String fileName = generateFileName(originalFilename);
+        String key = folder.isEmpty() ? fileName : folder + "/" + fileName;
+
+        try {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .contentLength(contentLength)
+                    .metadata(Map.of(
+                            META_UPLOADER_ID, String.valueOf(uploaderId),
+                            META_FILE_TYPE, fileTypeEnum.name(),
+                            META_ORIGINAL_FILENAME, URLEncoder.encode(originalFilename, StandardCharsets.UTF_8)))
+                    .build();
+
+            PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                    .signatureDuration(uploadUrlTtl)
+                    .putObjectRequest(putObjectRequest)
+                    .build();
+
+            PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presignRequest);
+
+            // host / content-length 는 클라이언트(브라우저)가 직접 설정하므로 제외
+            Map<String, String> headers = new LinkedHashMap<>();
+            presigned.signedHeaders().forEach((name, values) -> {
+                if (!"host".equalsIgnoreCase(name) && !"content-length".equalsIgnoreCase(name)) {
+                    headers.put(name, String.join(",", values));
+                }
+            });
+
+            log.info("Presigned upload URL generated for key: {}, uploader: {}", key, uploaderId);
+            return new PresignedUpload(key, presigned.url().toString(), headers, presigned.expiration());
+        } catch (S3Exception e) {
+            log.error("Failed to generate presigned upload URL for key: {}", key, e);
+            throw new S3UploadException("Presigned URL 생성에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 직접 업로드된 객체를 HEAD 로 검증합니다.
+     * 업로더/파일 타입 메타데이터가 요청자와 일치하는지, 실제 크기와 Content-Type 이
+     * 파일 정책을 만족하는지 확인하며, 정책을 벗어난 객체는 삭제합니다.
+     *
+     * @param key          presignUpload()로 발급된 S3 키
+     * @param folder       허용 폴더 (key 가 이 폴더 아래여야 함)
+     * @param fileTypeEnum 파일 타입
+     * @param uploaderId   확정 요청자 계정 ID
+     * @return 검증된 객체 정보 (원본 파일명, Content-Type, 크기)
+     */
+    public UploadedObject confirmUpload(String key, String folder, FileType.FileTypeEnum fileTypeEnum,
+                                        Long uploaderId) {
+        validateS3Key(key);
+        if (!folder.isEmpty() && !key.startsWith(folder + "/")) {
+            throw new S3UploadException("허용되지 않은 폴더의 파일입니다: " + key,
+                    S3UploadException.FailureReason.VALIDATION_ERROR);
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new S3UploadException("업로드된 파일을 찾을 수 없습니다: " + key,
+                        S3UploadException.FailureReason.RESOURCE_NOT_FOUND);
+            }
+            log.error("Head failed: {}", e.awsErrorDetails() != null
+                    ? e.awsErrorDetails().errorMessage() : e.getMessage(), e);
+            throw new S3UploadException("S3 파일 조회에 실패했습니다.", e);
+        }
+
+        Map<String, String> metadata = head.metadata();
+        if (!String.valueOf(uploaderId).equals(metadata.get(META_UPLOADER_ID))
+                || !fileTypeEnum.name().equals(metadata.get(META_FILE_TYPE))) {
+            log.warn("Upload confirm rejected - key: {}, uploader: {}", key, uploaderId);
+            throw new S3UploadException("확정할 수 없는 업로드입니다: " + key,
+                    S3UploadException.FailureReason.VALIDATION_ERROR);
+        }
+
+        String encodedFilename = metadata.get(META_ORIGINAL_FILENAME);
+        String originalFilename = encodedFilename != null
+                ? URLDecoder.decode(encodedFilename, StandardCharsets.UTF_8)
+                : key.substring(key.lastIndexOf('/') + 1);
+        long contentLength = head.contentLength() != null ? head.contentLength() : 0L;
+
+        try {
+            validateUploadSpec(originalFilename, head.contentType(), contentLength,
+                    fileType.getConfig(fileTypeEnum));
+        } catch (S3UploadException e) {
+            // 서명된 요청을 우회한 객체 - 참조되기 전에 제거
+            deleteFile(key);
+            throw e;
+        }
+
+        metadataRegistry.record(key, contentLength, head.contentType(), head.eTag(), uploaderId);
+        log.info("Direct upload confirmed: {} ({} bytes)", key, contentLength);
+        return new UploadedObject(key, originalFilename, head.contentType(), contentLength);
+    }
+
+    /**
+     * 중복으로 판명된 업로드 사본 삭제 (참조된 적 없는 객체이므로 이벤트/메타데이터 처리 없음)
+     */
+    private void discardUpload(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (S3Exception e) {
+            // 참조되지 않는 객체 - 버킷 정리 작업에서 제거됨
+            log.warn("Failed to discard duplicate upload: {}", key, e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private String generateFileName(String originalFilename) {
         String extension = "";
         if (originalFilename != null && originalFilename.contains(".")) {
@@ -271,7 +653,7 @@ public class S3Service {
      *
      * @param key 검증할 S3 키
      */
-    private void validateS3Key(String key) {
+    static void validateS3Key(String key) {
         if (key == null || key.isBlank()) {
             throw new S3UploadException("S3 키가 비어있습니다.", S3UploadException.FailureReason.VALIDATION_ERROR);
         }
@@ -292,15 +674,22 @@ public class S3Service {
             throw new S3UploadException("파일이 비어있습니다.", S3UploadException.FailureReason.VALIDATION_ERROR);
         }
 
-        if (!config.isFileSizeValid(file.getSize())) {
-            log.warn("File size {} exceeds maximum allowed size {}", file.getSize(), config.getMaxFileSize());
+        validateUploadSpec(file.getOriginalFilename(), file.getContentType(), file.getSize(), config);
+    }
+
+    /**
+     * 파일명/Content-Type/크기를 FileType 정책으로 검증 (Multipart 업로드와 직접 업로드 공용)
+     */
+    private void validateUploadSpec(String originalFilename, String contentType, long size,
+                                    FileType.FileTypeConfig config) {
+        if (!config.isFileSizeValid(size)) {
+            log.warn("File size {} exceeds maximum allowed size {}", size, config.getMaxFileSize());
             throw new S3UploadException(
                     String.format("파일 크기가 제한을 초과합니다. 최대 %dMB까지 업로드 가능합니다.",
                             config.getMaxFileSizeMB()),
                     S3UploadException.FailureReason.FILE_TOO_LARGE);
         }
 
-        String contentType = file.getContentType();
         if (contentType == null || !config.isContentTypeAllowed(contentType)) {
             log.warn("Invalid content type attempted: {}", contentType);
             throw new S3UploadException(
@@ -308,7 +697,6 @@ public class S3Service {
                     S3UploadException.FailureReason.INVALID_FILE_TYPE);
         }
 
-        String originalFilename = file.getOriginalFilename();
         if (originalFilename == null || !originalFilename.contains(".")) {
             throw new S3UploadException(
                     "파일 확장자가 없습니다.",
@@ -324,4 +712,42 @@ public class S3Service {
                     S3UploadException.FailureReason.INVALID_FILE_TYPE);
         }
     }
+
+    /**
+     * 직접 업로드 발급 정보
+     *
+     * @param key       업로드될 S3 키 (확정 요청 시 사용)
+     * @param uploadUrl Presigned PUT URL
+     * @param headers   PUT 요청에 그대로 포함해야 하는 헤더 (Content-Type, x-amz-meta-*)
+     * @param expiresAt URL 만료 시각
+     */
+    public record PresignedUpload(String key, String uploadUrl, Map<String, String> headers, Instant expiresAt) {
+    }
+
+    /**
+     * 직접 업로드 확정 결과
+     *
+     * @param key              S3 키
+     * @param originalFilename 원본 파일명
+     * @param contentType      Content-Type
+     * @param contentLength    파일 크기 (bytes)
+     */
+    public record UploadedObject(String key, String originalFilename, String contentType, long contentLength) {
+    }
+
+    /**
+     * 전송 중 해시 계산용 스트림
+     * mark 를 지원하지 않는 것으로 노출하여, SDK 가 재시도 시 자체 버퍼에서 되감도록 함 (같은 바이트가 두 번 해시되지 않음)
+     */
+    private static final class HashingInputStream extends DigestInputStream {
+
+        HashingInputStream(InputStream in, MessageDigest digest) {
+            super(in, digest);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,197 @@
+package com.softwarecampus.backend.service.common;
+
+import com.softwarecampus.backend.domain.common.StorageObjectMetadata;
+import com.softwarecampus.backend.repository.common.StorageObjectMetadataRepository;
+import com.softwarecampus.backend.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 스토리지 객체 메타데이터 저장소 (storage_object_metadata)
+ *
+ * S3Service/S3AsyncService 가 업로드 시점에 크기/Content-Type/체크섬/업로더를 기록하고,
+ * 크기 조회 등은 먼저 여기서 찾은 뒤 없을 때만 HEAD 요청을 보낸다. (HEAD 결과는 다시 기록)
+ * 객체 삭제 시 함께 삭제한다.
+ *
+ * - 기록은 호출자의 트랜잭션에 참여하므로, 롤백되면 기록만 사라지고 이후 조회는 HEAD 로 대체됨
+ * - 중복 제거 대상 객체는 참조 수를 관리하며, 삭제 요청은 참조 해제(release)를 거쳐 마지막 참조일 때만 실제 삭제
+ * - storage.metadata.enabled=false 이면 기록/조회를 모두 건너뜀 (항상 HEAD)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageMetadataRegistry {
+
+    private final StorageObjectMetadataRepository metadataRepository;
+
+    @Value("${storage.metadata.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 메타데이터 기록 (같은 키는 덮어씀)
+     *
+     * @param key         S3 키
+     * @param size        크기 (bytes)
+     * @param contentType Content-Type
+     * @param checksum    ETag (따옴표 제외)
+     * @param uploaderId  업로더 계정 ID (없으면 null)
+     */
+    public void record(String key, long size, String contentType, String checksum, Long uploaderId) {
+        if (!enabled) {
+            return;
+        }
+        metadataRepository.upsert(key, size, contentType, stripQuotes(checksum), uploaderId,
+                null, null, null, LocalDateTime.now());
+        log.debug("Storage metadata recorded: {} ({} bytes)", key, size);
+    }
+
+    /**
+     * 중복 제거 대상 객체 기록 (참조 수 1로 시작)
+     *
+     * @param contentHash 내용 SHA-256 (hex)
+     * @param folder      업로드 폴더
+     */
+    public void recordShared(String key, long size, String contentType, String checksum, Long uploaderId,
+                             String contentHash, String folder) {
+        if (!enabled) {
+            return;
+        }
+        metadataRepository.upsert(key, size, contentType, stripQuotes(checksum), uploaderId,
+                contentHash, folder, 1, LocalDateTime.now());
+    }
+
+    /**
+     * 같은 내용/폴더/Content-Type 의 기존 객체에 참조를 추가하고 그 키를 반환
+     *
+     * @return 공유할 기존 객체 키, 없으면 empty
+     */
+    public Optional<String> acquireDuplicate(String contentHash, String folder, String contentType) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return metadataRepository
+                .findFirstByContentHashAndFolderAndContentTypeAndRefCountGreaterThan(contentHash, folder, contentType, 0)
+                .map(StorageObjectMetadata::getObjectKey)
+                // 조회 후 마지막 참조가 해제되었으면 공유하지 않음
+                .filter(key -> metadataRepository.incrementRefCount(key) == 1);
+    }
+
+    /**
+     * 삭제 요청된 키의 참조 해제 (키가 여러 번 포함되면 그 수만큼 해제)
+     *
+     * @param keys 삭제 요청된 S3 키 (DB 행마다 한 번씩)
+     * @return 아직 다른 행이 참조하여 실제로 삭제하면 안 되는 키
+     */
+    public Set<String> release(Collection<String> keys) {
+        if (!enabled || keys.isEmpty()) {
+            return Set.of();
+        }
+        Map<String, Long> counts = keys.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        List<String> refCounted = metadataRepository.findRefCountedKeys(counts.keySet());
+        if (refCounted.isEmpty()) {
+            return Set.of();
+        }
+        for (String key : refCounted) {
+            metadataRepository.decrementRefCount(key, counts.get(key).intValue());
+        }
+        Set<String> referenced = new HashSet<>(metadataRepository.findReferencedKeys(refCounted));
+        if (!referenced.isEmpty()) {
+            log.debug("Shared objects still referenced, skipping delete: {}", referenced);
+        }
+        return referenced;
+    }
+
+    /**
+     * 참조 해제 취소 - release 이후 스토리지 삭제에 실패한 키의 참조 수를 되돌림
+     * 참조하던 DB 행은 다음 정리 주기에 다시 삭제를 시도하므로, 되돌리지 않으면 재시도마다 중복 해제된다.
+     * (참조 수가 0 이 된 동안에는 acquireDuplicate 가 공유하지 않으므로 새 참조가 끼어들지 않음)
+     *
+     * @param keys release 에 전달했던 키 중 삭제에 실패한 키 (DB 행마다 한 번씩)
+     */
+    public void restore(Collection<String> keys) {
+        if (!enabled || keys.isEmpty()) {
+            return;
+        }
+        Map<String, Long> counts = keys.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        for (String key : metadataRepository.findRefCountedKeys(counts.keySet())) {
+            metadataRepository.restoreRefCount(key, counts.get(key).intValue());
+        }
+    }
+
+    /**
+     * 중복 제거로 아직 참조가 남아 있는 키 (버킷 대조 시 삭제 제외용)
+     */
+    public List<String> findShared(List<String> keys) {
+        if (!enabled || keys.isEmpty()) {
+            return List.of();
+        }
+        return metadataRepository.findReferencedKeys(keys);
+    }
+
+    /**
+     * 메타데이터 조회
+     */
+    public Optional<StorageObjectMetadata> find(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return metadataRepository.findByObjectKey(key);
+    }
+
+    /**
+     * 여러 키의 메타데이터를 한 번에 조회
+     *
+     * @return 키별 메타데이터 (기록이 없는 키는 포함되지 않음)
+     */
+    public Map<String, StorageObjectMetadata> findAll(Collection<String> keys) {
+        if (!enabled || keys.isEmpty()) {
+            return Map.of();
+        }
+        return metadataRepository.findByObjectKeyIn(keys).stream()
+                .collect(Collectors.toMap(StorageObjectMetadata::getObjectKey, Function.identity()));
+    }
+
+    /**
+     * 삭제된 객체의 메타데이터 제거
+     */
+    public void remove(Collection<String> keys) {
+        if (!enabled || keys.isEmpty()) {
+            return;
+        }
+        metadataRepository.deleteByObjectKeyIn(keys);
+    }
+
+    /**
+     * 현재 요청의 로그인 사용자 ID (서버 경유 업로드의 업로더 기록용, 없으면 null)
+     */
+    public static Long currentUploaderId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getId();
+        }
+        return null;
+    }
+
+    private static String stripQuotes(String eTag) {
+        if (eTag == null) {
+            return null;
+        }
+        return eTag.replace("\"", "");
+    }
+}
@@ -0,0 +1,17 @@
+package com.softwarecampus.backend.service.common.event;
+
+import com.softwarecampus.backend.service.common.ImageTarget;
+
+/**
+ * 이미지 원본 업로드 이벤트
+ * - 원본 키가 엔티티에 저장될 때 발행되며, 커밋 이후 파생본(축소 이미지) 생성에 사용
+ *
+ * @param target      파생본 키를 기록할 엔티티 종류
+ * @param originalKey 원본 S3 키
+ */
+public record ImageUploadedEvent(ImageTarget target, String originalKey) {
+
+    public static ImageUploadedEvent of(ImageTarget target, String originalKey) {
+        return new ImageUploadedEvent(target, originalKey);
+    }
+}
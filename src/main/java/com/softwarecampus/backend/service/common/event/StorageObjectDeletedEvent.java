@@ -0,0 +1,15 @@
+package com.softwarecampus.backend.service.common.event;
+
+/**
+ * 스토리지 객체 삭제 이벤트
+ * - S3Service.deleteFile() 성공 시 발행되며, 공개 파일 캐시 등 객체 사본을 가진 곳의 무효화에 사용
+ * - 스토리지 삭제는 트랜잭션과 무관하게 즉시 반영되므로 일반 @EventListener 로 처리
+ *
+ * @param key 삭제된 S3 키
+ */
+public record StorageObjectDeletedEvent(String key) {
+
+    public static StorageObjectDeletedEvent of(String key) {
+        return new StorageObjectDeletedEvent(key);
+    }
+}
@@ -8,9 +8,11 @@ import com.softwarecampus.backend.repository.user.AccountRepository;
 import com.softwarecampus.backend.repository.course.CourseFavoriteRepository;
 import com.softwarecampus.backend.repository.course.CourseRepository;
 import jakarta.persistence.EntityNotFoundException;
+import com.softwarecampus.backend.service.course.event.CourseChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +29,8 @@ public class CourseFavoriteServiceImpl implements CourseFavoriteService {
     private final CourseFavoriteRepository favoriteRepository;
     private final CourseRepository courseRepository;
     private final AccountRepository accountRepository;
+    private final CourseStatsService courseStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 찜하기 추가 (idempotent - 동시성 안전)
@@ -62,6 +66,8 @@ public class CourseFavoriteServiceImpl implements CourseFavoriteService {
                     .course(course)
                     .build();
             favoriteRepository.save(favorite);
+            courseStatsService.increaseFavoriteCount(courseId);
+            eventPublisher.publishEvent(CourseChangedEvent.of(courseId, CourseChangedEvent.Type.FAVORITE));
             log.info("찜하기 신규 생성 완료 (save 호출됨) - accountId: {}, courseId: {}", accountId, courseId);
 
         } catch (DataIntegrityViolationException e) {
@@ -104,6 +110,8 @@ public class CourseFavoriteServiceImpl implements CourseFavoriteService {
         Optional<CourseFavorite> existing = favoriteRepository.findByAccount_IdAndCourse_Id(accountId, courseId);
         if (existing.isPresent()) {
             favoriteRepository.delete(existing.get());
+            courseStatsService.decreaseFavoriteCount(courseId);
+            eventPublisher.publishEvent(CourseChangedEvent.of(courseId, CourseChangedEvent.Type.FAVORITE));
             log.info("찜하기 삭제 완료 (Hard Delete) - accountId: {}, courseId: {}", accountId, courseId);
         } else {
             log.info("삭제할 찜하기 데이터가 없습니다. - accountId: {}, courseId: {}", accountId, courseId);
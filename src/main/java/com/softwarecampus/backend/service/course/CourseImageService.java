@@ -19,6 +19,18 @@ public interface CourseImageService {
      */
     CourseImageResponse uploadCourseImage(CategoryType type, Long courseId, MultipartFile file, CourseImageType imageType);
 
+    /**
+     * 과정 이미지 직접 업로드 확정 (POST /api/files/upload-url 로 업로드한 파일)
+     * @param type 카테고리 타입
+     * @param courseId 과정 ID
+     * @param key 발급 시 받은 S3 키
+     * @param imageType 이미지 타입 (THUMBNAIL, HEADER, CONTENT)
+     * @param uploaderId 업로더 계정 ID
+     * @return 저장된 이미지 정보
+     */
+    CourseImageResponse confirmCourseImage(CategoryType type, Long courseId, String key, CourseImageType imageType,
+            Long uploaderId);
+
     void deleteCourseImage(CategoryType type, Long imageId);
 
     List<CourseImageResponse> getCourseImages(CategoryType type, Long courseId);
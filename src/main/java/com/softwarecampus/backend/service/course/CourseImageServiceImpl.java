@@ -13,10 +13,13 @@ import com.softwarecampus.backend.repository.course.CourseImageRepository;
 import com.softwarecampus.backend.repository.course.CourseRepository;
 import com.softwarecampus.backend.repository.user.AccountRepository;
 import com.softwarecampus.backend.service.common.FileType;
+import com.softwarecampus.backend.service.common.ImageTarget;
 import com.softwarecampus.backend.service.common.S3Folder;
 import com.softwarecampus.backend.service.common.S3Service;
+import com.softwarecampus.backend.service.common.event.ImageUploadedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -36,6 +39,7 @@ public class CourseImageServiceImpl implements CourseImageService {
     private final CourseRepository courseRepository;
     private final CourseImageRepository courseImageRepository;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -48,15 +52,7 @@ public class CourseImageServiceImpl implements CourseImageService {
         Course course = courseRepository.findByIdAndCategory_CategoryType(courseId, type)
                 .orElseThrow(() -> new IllegalArgumentException("Course not found for type: " + type));
 
-        // 2) THUMBNAIL 또는 HEADER 타입인 경우, 기존 동일 타입 이미지를 CONTENT로 변경 (1개만 유지)
-        if (imageType == CourseImageType.THUMBNAIL || imageType == CourseImageType.HEADER) {
-            final CourseImageType targetType = imageType;
-            course.getImages().stream()
-                    .filter(img -> img.isActive() && img.getImageType() == targetType)
-                    .forEach(img -> img.setImageType(CourseImageType.CONTENT));
-        }
-
-        // 3) S3 업로드 먼저 수행
+        // 2) S3 업로드 먼저 수행
         String url;
         try {
             url = s3Service.uploadFile(
@@ -67,19 +63,63 @@ public class CourseImageServiceImpl implements CourseImageService {
             throw new RuntimeException("S3 업로드 실패: " + e.getMessage(), e);
         }
 
-        // 4) 업로드 성공 후 CourseImage 엔티티 생성
+        // 3) 업로드 성공 후 CourseImage 엔티티 생성
+        return CourseImageResponse.from(saveCourseImage(course, url, file.getOriginalFilename(), imageType));
+    }
+
+    @Override
+    @Transactional
+    public CourseImageResponse confirmCourseImage(
+            CategoryType type,
+            Long courseId,
+            String key,
+            CourseImageType imageType,
+            Long uploaderId) {
+        // 1) Course 검증
+        Course course = courseRepository.findByIdAndCategory_CategoryType(courseId, type)
+                .orElseThrow(() -> new IllegalArgumentException("Course not found for type: " + type));
+
+        if (courseImageRepository.existsByImageUrl(key)) {
+            throw new IllegalArgumentException("이미 등록된 이미지입니다.");
+        }
+
+        // 2) 직접 업로드된 객체 검증 (업로더 본인 여부, 실제 크기/형식)
+        S3Service.UploadedObject uploaded = s3Service.confirmUpload(
+                key, S3Folder.COURSE.getPath(), FileType.FileTypeEnum.COURSE_IMAGE, uploaderId);
+
+        // 3) CourseImage 엔티티 생성
+        return CourseImageResponse.from(
+                saveCourseImage(course, uploaded.key(), uploaded.originalFilename(), imageType));
+    }
+
+    /**
+     * CourseImage 저장 (Multipart 업로드 / 직접 업로드 확정 공용)
+     */
+    private CourseImage saveCourseImage(Course course, String key, String originalFilename,
+            CourseImageType imageType) {
+        // THUMBNAIL 또는 HEADER 타입인 경우, 기존 동일 타입 이미지를 CONTENT로 변경 (1개만 유지)
+        if (imageType == CourseImageType.THUMBNAIL || imageType == CourseImageType.HEADER) {
+            final CourseImageType targetType = imageType;
+            course.getImages().stream()
+                    .filter(img -> img.isActive() && img.getImageType() == targetType)
+                    .forEach(img -> img.setImageType(CourseImageType.CONTENT));
+        }
+
         CourseImage image = CourseImage.builder()
-                .imageUrl(url)
-                .originalFilename(file.getOriginalFilename())
+                .imageUrl(key)
+                .originalFilename(originalFilename)
                 .imageType(imageType)
                 .isThumbnail(imageType == CourseImageType.THUMBNAIL) // 하위 호환
                 .build();
 
-        // 5) 양방향 관계 설정 및 저장 (편의 메서드 사용)
+        // 양방향 관계 설정 및 저장 (편의 메서드 사용)
         course.addImage(image);
         courseImageRepository.save(image);
 
-        return CourseImageResponse.from(image);
+        // 커밋 이후 축소 이미지 생성 (비동기)
+        eventPublisher.publishEvent(ImageUploadedEvent.of(ImageTarget.COURSE_IMAGE, key));
+
+        return image;
     }
 
     @Override
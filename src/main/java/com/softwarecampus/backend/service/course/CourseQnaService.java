@@ -1,5 +1,6 @@
 package com.softwarecampus.backend.service.course;
 
+import com.softwarecampus.backend.dto.common.CursorPageResponse;
 import com.softwarecampus.backend.dto.course.QnaAnswerRequest;
 import com.softwarecampus.backend.dto.course.QnaRequest;
 import com.softwarecampus.backend.dto.course.QnaUpdateRequest;
@@ -12,6 +13,9 @@ public interface CourseQnaService {
 
     Page<QnaResponse> getQnaList(Long courseId, String keyword, Pageable pageable);
 
+    /** Q&A 목록 조회 - 커서 페이지네이션 (최신순, 전체 개수 미제공) */
+    CursorPageResponse<QnaResponse> getQnaListByCursor(Long courseId, String cursor, int size);
+
     QnaResponse getQnaDetail(Long qnaId);
 
     QnaResponse createQuestion(Long courseId, Long writerId, QnaRequest request);
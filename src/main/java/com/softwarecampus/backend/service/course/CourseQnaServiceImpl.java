@@ -4,6 +4,7 @@ import com.softwarecampus.backend.domain.common.AccountType;
 import com.softwarecampus.backend.domain.course.Course;
 import com.softwarecampus.backend.domain.course.CourseQna;
 import com.softwarecampus.backend.domain.user.Account;
+import com.softwarecampus.backend.dto.common.CursorPageResponse;
 import com.softwarecampus.backend.dto.course.QnaAnswerRequest;
 import com.softwarecampus.backend.dto.course.QnaFileDetail;
 import com.softwarecampus.backend.dto.course.QnaRequest;
@@ -15,9 +16,11 @@ import com.softwarecampus.backend.exception.course.NotFoundException;
 import com.softwarecampus.backend.repository.course.CourseQnaRepository;
 import com.softwarecampus.backend.repository.course.CourseRepository;
 import com.softwarecampus.backend.repository.user.AccountRepository;
+import com.softwarecampus.backend.util.PageCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -48,6 +51,25 @@ public class CourseQnaServiceImpl implements CourseQnaService {
         return qnaPage.map(this::toDto);
     }
 
+    @Override
+    public CursorPageResponse<QnaResponse> getQnaListByCursor(Long courseId, String cursor, int size) {
+        validateCourse(courseId);
+
+        PageCursor after = PageCursor.decode(cursor, 2);
+        Slice<CourseQna> qnaSlice = qnaRepository.findByCourseIdAfter(courseId,
+                after != null ? after.getDateTime(0) : null,
+                after != null ? after.getLong(1) : null,
+                PageCursor.pageRequest(size));
+
+        List<CourseQna> qnas = qnaSlice.getContent();
+        String nextCursor = null;
+        if (!qnas.isEmpty()) {
+            CourseQna last = qnas.get(qnas.size() - 1);
+            nextCursor = PageCursor.encode(last.getCreatedAt(), last.getId());
+        }
+        return CursorPageResponse.of(qnas.stream().map(this::toDto).toList(), qnaSlice.hasNext(), nextCursor);
+    }
+
     @Override
     public QnaResponse getQnaDetail(Long qnaId) {
         CourseQna qna = validateQna(qnaId);
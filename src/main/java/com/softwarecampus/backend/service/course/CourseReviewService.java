@@ -1,5 +1,6 @@
 package com.softwarecampus.backend.service.course;
 
+import com.softwarecampus.backend.dto.common.CursorPageResponse;
 import com.softwarecampus.backend.dto.course.CourseReviewRequest;
 import com.softwarecampus.backend.dto.course.CourseReviewResponse;
 import org.springframework.data.domain.Page;
@@ -9,6 +10,10 @@ public interface CourseReviewService {
 
     Page<CourseReviewResponse> getReviews(Long courseId, Pageable pageable, Long accountId);
 
+    /** 리뷰 목록 조회 - 커서 페이지네이션 (작성일 순, 전체 개수 미제공) */
+    CursorPageResponse<CourseReviewResponse> getReviewsByCursor(Long courseId, String cursor, int size,
+            Long accountId);
+
     CourseReviewResponse getReviewDetail(Long courseId, Long reviewId, Long accountId);
 
     CourseReviewResponse createReview(Long courseId, Long accountId, CourseReviewRequest request);
@@ -3,6 +3,7 @@ package com.softwarecampus.backend.service.course;
 import com.softwarecampus.backend.domain.common.ApprovalStatus;
 import com.softwarecampus.backend.domain.course.*;
 import com.softwarecampus.backend.domain.user.Account;
+import com.softwarecampus.backend.dto.common.CursorPageResponse;
 import com.softwarecampus.backend.dto.course.*;
 import com.softwarecampus.backend.exception.course.BadRequestException;
 import com.softwarecampus.backend.exception.course.ForbiddenException;
@@ -11,15 +12,24 @@ import com.softwarecampus.backend.repository.course.CourseRepository;
 import com.softwarecampus.backend.repository.course.CourseReviewRepository;
 import com.softwarecampus.backend.repository.course.ReviewSectionRepository;
 import com.softwarecampus.backend.repository.user.AccountRepository;
+import com.softwarecampus.backend.service.course.event.CourseChangedEvent;
+import com.softwarecampus.backend.util.PageCursor;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -31,6 +41,8 @@ public class CourseReviewServiceImpl implements CourseReviewService {
         private final CourseRepository courseRepository;
         private final ReviewSectionRepository reviewSectionRepository;
         private final AcademyRepository academyRepository;
+        private final CourseStatsService courseStatsService;
+        private final ApplicationEventPublisher eventPublisher;
 
         /**
          * 1. 리뷰 리스트 조회 (Pageable)
@@ -61,6 +73,50 @@ public class CourseReviewServiceImpl implements CourseReviewService {
                 return reviewPage.map(review -> toDto(review, accountId));
         }
 
+        /**
+         * 1-1. 리뷰 리스트 조회 (커서)
+         * - 조회 대상은 getReviews 와 동일 (승인된 후기 + 본인 후기)
+         * - ID 만 keyset 조건으로 조회 후 연관 엔티티를 한 번에 로딩 (COUNT 쿼리 없음)
+         */
+        @Override
+        public CursorPageResponse<CourseReviewResponse> getReviewsByCursor(Long courseId, String cursor, int size,
+                        Long accountId) {
+
+                if (courseId == null) {
+                        throw new IllegalArgumentException("Course ID cannot be null");
+                }
+                if (!courseRepository.existsById(courseId)) {
+                        throw new EntityNotFoundException("Course not found");
+                }
+
+                PageCursor after = PageCursor.decode(cursor, 2);
+                Slice<Long> idSlice = reviewRepository.findReviewIdsAfter(courseId, accountId,
+                                after != null ? after.getDateTime(0) : null,
+                                after != null ? after.getLong(1) : null,
+                                PageCursor.pageRequest(size));
+                if (idSlice.isEmpty()) {
+                        return CursorPageResponse.empty();
+                }
+
+                Map<Long, CourseReview> reviews = reviewRepository.findWithDetailsByIdIn(idSlice.getContent())
+                                .stream()
+                                .collect(Collectors.toMap(CourseReview::getId, r -> r));
+                List<CourseReview> ordered = idSlice.getContent().stream()
+                                .map(reviews::get)
+                                .filter(Objects::nonNull)
+                                .toList();
+
+                List<CourseReviewResponse> content = ordered.stream()
+                                .map(review -> toDto(review, accountId))
+                                .toList();
+                String nextCursor = null;
+                if (!ordered.isEmpty()) {
+                        CourseReview last = ordered.get(ordered.size() - 1);
+                        nextCursor = PageCursor.encode(last.getCreatedAt(), last.getId());
+                }
+                return CursorPageResponse.of(content, idSlice.hasNext(), nextCursor);
+        }
+
         /**
          * 2. 리뷰 상세 조회
          */
@@ -120,9 +176,17 @@ public class CourseReviewServiceImpl implements CourseReviewService {
                 }
 
                 CourseReview saved = reviewRepository.save(review);
+                publishReviewChanged(courseId);
                 return toDto(saved, accountId);
         }
 
+        /**
+         * 리뷰 변경 이벤트 발행 (커밋 이후 메인페이지 스냅샷 등에 반영)
+         */
+        private void publishReviewChanged(Long courseId) {
+                eventPublisher.publishEvent(CourseChangedEvent.of(courseId, CourseChangedEvent.Type.REVIEW));
+        }
+
         /**
          * DTO 변환
          */
@@ -192,6 +256,12 @@ public class CourseReviewServiceImpl implements CourseReviewService {
                         throw new ForbiddenException("본인이 작성한 리뷰만 수정할 수 있습니다.");
                 }
 
+                // 승인된 리뷰는 점수가 바뀌므로 기존 섹션 기준 통계를 먼저 차감 (재집계 후 다시 반영)
+                boolean counted = review.getApprovalStatus() == ApprovalStatus.APPROVED;
+                if (counted) {
+                        courseStatsService.removeApprovedReview(review);
+                }
+
                 review.setComment(request.getComment());
 
                 // 거부된 리뷰 수정 시 대기 상태로 변경 (재심사 요청)
@@ -217,6 +287,11 @@ public class CourseReviewServiceImpl implements CourseReviewService {
                         }
                 }
 
+                if (counted) {
+                        courseStatsService.addApprovedReview(review);
+                }
+
+                publishReviewChanged(courseId);
                 return toDto(review, accountId);
         }
 
@@ -244,8 +319,12 @@ public class CourseReviewServiceImpl implements CourseReviewService {
                         throw new ForbiddenException("본인이 작성한 리뷰만 삭제할 수 있습니다.");
                 }
 
+                if (review.getApprovalStatus() == ApprovalStatus.APPROVED) {
+                        courseStatsService.removeApprovedReview(review);
+                }
                 review.markDeleted(); // soft delete
                 reviewSectionRepository.softDeleteByReviewId(reviewId);
+                publishReviewChanged(courseId);
         }
 
         /**
@@ -271,7 +350,11 @@ public class CourseReviewServiceImpl implements CourseReviewService {
                         throw new ForbiddenException("본인이 작성한 리뷰만 삭제 요청할 수 있습니다.");
                 }
 
+                if (review.getApprovalStatus() == ApprovalStatus.APPROVED) {
+                        courseStatsService.removeApprovedReview(review);
+                }
                 review.requestDelete(); // 삭제 요청 상태로 변경 (도메인에서 구현 필요)
+                publishReviewChanged(courseId);
         }
 
         /**
@@ -304,6 +387,8 @@ public class CourseReviewServiceImpl implements CourseReviewService {
 
                 review.setApprovalStatus(ApprovalStatus.APPROVED);
                 review.setRejectionReason(null); // 승인 시 거부 사유 초기화
+                courseStatsService.addApprovedReview(review);
+                publishReviewChanged(review.getCourse().getId());
                 return toDto(review, null);
         }
 
@@ -318,8 +403,12 @@ public class CourseReviewServiceImpl implements CourseReviewService {
                 CourseReview review = reviewRepository.findByIdAndIsDeletedFalse(reviewId)
                                 .orElseThrow(() -> new EntityNotFoundException("Review not found"));
 
+                if (review.getApprovalStatus() == ApprovalStatus.APPROVED) {
+                        courseStatsService.removeApprovedReview(review);
+                }
                 review.setApprovalStatus(ApprovalStatus.REJECTED);
                 review.setRejectionReason(reason); // 거부 사유 저장
+                publishReviewChanged(review.getCourse().getId());
                 return toDto(review, null);
         }
 
@@ -0,0 +1,222 @@
+package com.softwarecampus.backend.service.course;
+
+import com.softwarecampus.backend.dto.course.CourseSearchDocumentDTO;
+import com.softwarecampus.backend.repository.course.CourseRepository;
+import com.softwarecampus.backend.service.course.event.CourseChangedEvent;
+import com.softwarecampus.backend.util.NGramIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 과정 검색 색인
+ *
+ * 과정명/기관명/카테고리명/지역을 N-gram 역색인(NGramIndex)으로 메모리에 유지하여
+ * 키워드 검색을 순위가 매겨진 과정 ID 목록으로 변환한다. DB 에는 ID IN 조건만 전달되므로
+ * 카탈로그 크기와 무관하게 LIKE 전체 스캔이 발생하지 않는다.
+ *
+ * - 전체 빌드: 애플리케이션 기동 직후 전용 스레드에서 수행, 최대 허용 지연(course.search.max-staleness-seconds)
+ *   초과 시에도 같은 스레드에서 다시 빌드하며 그동안 검색은 기존 색인으로 처리
+ *   (기관명/카테고리명 변경 등 과정 이벤트로 전달되지 않는 변경 반영)
+ * - 부분 갱신: 과정 등록/수정/승인/삭제 이벤트로 표시된 과정만 다시 조회하여 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseSearchIndex {
+
+        /** 필드 가중치: 과정명, 기관명, 카테고리명, 지역 */
+        private static final int[] FIELD_WEIGHTS = { 4, 2, 1, 1 };
+
+        private static final Set<CourseChangedEvent.Type> INDEXED_TYPES = EnumSet.of(
+                        CourseChangedEvent.Type.CREATED,
+                        CourseChangedEvent.Type.UPDATED,
+                        CourseChangedEvent.Type.APPROVAL,
+                        CourseChangedEvent.Type.DELETED);
+
+        private final CourseRepository courseRepository;
+
+        @Value("${course.search.max-staleness-seconds:600}")
+        private long maxStalenessSeconds;
+
+        /** 마지막 갱신 이후 변경된 과정 ID (커밋 이후 이벤트로 적재) */
+        private final Set<Long> dirtyCourseIds = ConcurrentHashMap.newKeySet();
+
+        /** 전체 빌드 중 기존 색인에 부분 갱신한 과정 ID (빌드 완료 후 새 색인에 다시 반영, 빌드 중이 아니면 null) */
+        private Set<Long> changedDuringBuild;
+
+        private volatile Snapshot snapshot;
+
+        private ExecutorService buildExecutor;
+        private CompletableFuture<Snapshot> building;
+
+        @PostConstruct
+        void start() {
+                CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("course-search-index-");
+                threadFactory.setDaemon(true);
+                buildExecutor = Executors.newSingleThreadExecutor(threadFactory);
+        }
+
+        @PreDestroy
+        void stop() {
+                buildExecutor.shutdownNow();
+        }
+
+        /**
+         * 기동 직후 전체 빌드 시작 (첫 검색 요청이 빌드를 떠안지 않도록)
+         */
+        @EventListener(ApplicationReadyEvent.class)
+        public void buildOnStartup() {
+                scheduleRebuild();
+        }
+
+        /**
+         * 키워드 검색
+         *
+         * 상한 없이 일치하는 과정 전체를 반환한다. 카테고리/상태 등 조건은 호출 측에서 DB 로 거르므로,
+         * 여기서 순위 상위만 자르면 조건에 맞는 과정이 누락되고 전체 건수도 틀어진다.
+         * (결과 수는 승인된 과정 수를 넘지 않음)
+         *
+         * @return 순위순 과정 ID 목록
+         */
+        @Transactional(readOnly = true)
+        public List<Long> search(String keyword) {
+                if (NGramIndex.tokenize(keyword).isEmpty()) {
+                        return List.of();
+                }
+                return currentSnapshot().index().search(keyword, Integer.MAX_VALUE);
+        }
+
+        /**
+         * 과정 변경 이벤트 수신 - 커밋된 변경만 반영하기 위해 AFTER_COMMIT 단계에서 처리
+         */
+        @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+        public void onCourseChanged(CourseChangedEvent event) {
+                if (event.courseId() != null && INDEXED_TYPES.contains(event.type())) {
+                        dirtyCourseIds.add(event.courseId());
+                }
+        }
+
+        private Snapshot currentSnapshot() {
+                Snapshot current = snapshot;
+                if (current == null) {
+                        // 기동 직후 빌드가 끝나기 전의 요청만 진행 중인 빌드를 기다림
+                        awaitBuild(scheduleRebuild());
+                } else if (current.isExpired(maxStalenessSeconds)) {
+                        scheduleRebuild();
+                }
+                if (!dirtyCourseIds.isEmpty()) {
+                        refreshDirty();
+                }
+                return snapshot;
+        }
+
+        private void awaitBuild(CompletableFuture<Snapshot> build) {
+                try {
+                        build.join();
+                } catch (CompletionException e) {
+                        throw e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+        }
+
+        /**
+         * 전체 재빌드 예약 - 이미 진행 중이면 그 빌드를 반환 (만료 후 동시에 들어온 검색도 빌드는 한 번만)
+         */
+        private synchronized CompletableFuture<Snapshot> scheduleRebuild() {
+                if (building == null || building.isDone()) {
+                        building = CompletableFuture.supplyAsync(this::rebuild, buildExecutor);
+                        building.whenComplete((built, e) -> {
+                                if (e != null) {
+                                        log.warn("과정 검색 색인 전체 빌드 실패: {}", e.getMessage());
+                                }
+                        });
+                }
+                return building;
+        }
+
+        /**
+         * 전체 재빌드 (빌드 전용 스레드) - 새 색인을 만든 뒤 교체하므로 빌드 중에도 기존 색인으로 검색 가능
+         */
+        private Snapshot rebuild() {
+                synchronized (this) {
+                        // 재빌드 시작 전에 쌓인 변경분은 전체 조회에 포함되므로 비움
+                        dirtyCourseIds.clear();
+                        changedDuringBuild = new HashSet<>();
+                }
+                Snapshot rebuilt;
+                try {
+                        rebuilt = new Snapshot(new NGramIndex(FIELD_WEIGHTS), LocalDateTime.now());
+                        courseRepository.findSearchDocuments().forEach(doc -> put(rebuilt.index(), doc));
+                } catch (RuntimeException e) {
+                        synchronized (this) {
+                                dirtyCourseIds.addAll(changedDuringBuild);
+                                changedDuringBuild = null;
+                        }
+                        throw e;
+                }
+
+                synchronized (this) {
+                        // 빌드 중 기존 색인에만 반영된 변경분은 새 색인에도 다시 반영
+                        dirtyCourseIds.addAll(changedDuringBuild);
+                        changedDuringBuild = null;
+                        snapshot = rebuilt;
+                }
+                log.debug("과정 검색 색인 전체 빌드 완료 - 문서 수: {}", rebuilt.index().size());
+                return rebuilt;
+        }
+
+        /**
+         * 변경된 과정만 부분 갱신 (조회되지 않는 과정은 삭제/미승인으로 보고 제거)
+         */
+        private synchronized void refreshDirty() {
+                Snapshot current = snapshot;
+                List<Long> changedIds = List.copyOf(dirtyCourseIds);
+                if (current == null || changedIds.isEmpty()) {
+                        return;
+                }
+                changedIds.forEach(dirtyCourseIds::remove);
+                if (changedDuringBuild != null) {
+                        changedDuringBuild.addAll(changedIds);
+                }
+
+                changedIds.forEach(current.index()::remove);
+                courseRepository.findSearchDocumentsByIdIn(changedIds).forEach(doc -> put(current.index(), doc));
+                log.debug("과정 검색 색인 부분 갱신 완료 - 변경 과정: {}", changedIds);
+        }
+
+        private void put(NGramIndex target, CourseSearchDocumentDTO doc) {
+                target.put(doc.getId(), doc.getName(), doc.getAcademyName(), doc.getCategoryName(),
+                                doc.getLocation());
+        }
+
+        /**
+         * 색인과 빌드 시각 (전체 빌드 단위로 함께 교체)
+         */
+        private record Snapshot(NGramIndex index, LocalDateTime builtAt) {
+
+                private boolean isExpired(long maxStalenessSeconds) {
+                        return Duration.between(builtAt, LocalDateTime.now()).getSeconds() >= maxStalenessSeconds;
+                }
+        }
+}
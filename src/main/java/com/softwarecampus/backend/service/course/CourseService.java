@@ -2,6 +2,7 @@ package com.softwarecampus.backend.service.course;
 
 import com.softwarecampus.backend.domain.course.CategoryType;
 import com.softwarecampus.backend.domain.course.CourseStatus;
+import com.softwarecampus.backend.dto.common.CursorPageResponse;
 import com.softwarecampus.backend.dto.course.CourseCategoryDTO;
 import com.softwarecampus.backend.dto.course.CourseRequestDTO;
 import com.softwarecampus.backend.dto.course.CourseResponseDTO;
@@ -27,13 +28,23 @@ public interface CourseService {
          * @param categoryId   카테고리 ID (옵션)
          * @param categoryType 카테고리 타입 EMPLOYEE/JOB_SEEKER (옵션)
          * @param isOffline    온/오프라인 필터 (옵션)
-         * @param keyword      검색 키워드 (옵션)
+         * @param keyword      검색 키워드 (옵션) - 과정명/기관명/카테고리명/지역 대상, 공백 구분 토큰은 AND
          * @param pageable     페이지 정보
          */
         Page<CourseResponseDTO> getCourses(Long categoryId, CategoryType categoryType, Boolean isOffline,
                         String keyword,
                         CourseStatus status, Pageable pageable);
 
+        /**
+         * 과정 목록 조회 - 커서(keyset) 페이지네이션 (ID 순, 전체 개수 미제공)
+         * 키워드 검색은 검색 색인 결과 범위 내에서 처리되므로 페이지 API(getCourses) 사용
+         *
+         * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+         * @param size   페이지 크기 (최대 PageCursor.MAX_SIZE)
+         */
+        CursorPageResponse<CourseResponseDTO> getCoursesByCursor(Long categoryId, CategoryType categoryType,
+                        Boolean isOffline, CourseStatus status, String cursor, int size);
+
         /**
          * 과정 목록 조회 (전체)
          * 
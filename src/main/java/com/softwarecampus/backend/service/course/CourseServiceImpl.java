@@ -4,6 +4,7 @@ import com.softwarecampus.backend.domain.common.ApprovalStatus;
 import com.softwarecampus.backend.domain.course.CategoryType;
 import com.softwarecampus.backend.domain.course.Course;
 import com.softwarecampus.backend.domain.course.CourseCurriculum;
+import com.softwarecampus.backend.dto.common.CursorPageResponse;
 import com.softwarecampus.backend.dto.course.CourseCategoryDTO;
 import com.softwarecampus.backend.dto.course.CourseDetailResponseDTO;
 import com.softwarecampus.backend.dto.course.CourseRequestDTO;
@@ -14,15 +15,30 @@ import com.softwarecampus.backend.repository.course.CourseCurriculumRepository;
 import com.softwarecampus.backend.repository.course.CourseRepository;
 import com.softwarecampus.backend.repository.user.AccountRepository;
 import com.softwarecampus.backend.domain.course.CourseStatus;
+import com.softwarecampus.backend.service.course.event.CourseChangedEvent;
+import com.softwarecampus.backend.service.viewcount.ViewCountService;
+import com.softwarecampus.backend.service.viewcount.ViewCountTarget;
+import com.softwarecampus.backend.util.PageCursor;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 과정 서비스 구현체
@@ -33,11 +49,17 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CourseServiceImpl implements CourseService {
 
+        /** 검색 결과 필터 쿼리 한 번에 전달하는 최대 ID 수 (IN 목록 크기 제한) */
+        private static final int SEARCH_FILTER_CHUNK_SIZE = 1000;
+
         private final CourseRepository courseRepository;
         private final AcademyRepository academyRepository;
         private final CourseCategoryRepository courseCategoryRepository;
         private final CourseCurriculumRepository courseCurriculumRepository;
         private final AccountRepository accountRepository;
+        private final ApplicationEventPublisher eventPublisher;
+        private final CourseSearchIndex courseSearchIndex;
+        private final ViewCountService viewCountService;
 
         /**
          * 과정 카테고리 목록 조회
@@ -60,13 +82,124 @@ public class CourseServiceImpl implements CourseService {
         @Override
         public Page<CourseResponseDTO> getCourses(Long categoryId, CategoryType categoryType, Boolean isOffline,
                         String keyword, CourseStatus status, Pageable pageable) {
+                if (keyword != null && !keyword.isBlank()) {
+                        return searchCoursesByKeyword(categoryId, categoryType, isOffline, keyword, status, pageable);
+                }
+
+                // 정렬 미지정 시 ID 순 (키워드 검색은 검색 순위순)
+                Pageable effectivePageable = pageable.getSort().isSorted()
+                                ? pageable
+                                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("id"));
                 // 통합 검색 쿼리 사용 (모든 파라미터가 null 가능)
-                Page<Course> coursePage = courseRepository.searchCourses(categoryId, categoryType, isOffline, keyword,
+                Page<Course> coursePage = courseRepository.searchCourses(categoryId, categoryType, isOffline, null,
                                 status,
-                                pageable);
+                                effectivePageable);
                 return coursePage.map(CourseResponseDTO::fromEntity);
         }
 
+        @Override
+        public CursorPageResponse<CourseResponseDTO> getCoursesByCursor(Long categoryId, CategoryType categoryType,
+                        Boolean isOffline, CourseStatus status, String cursor, int size) {
+                PageCursor after = PageCursor.decode(cursor, 1);
+                Slice<Long> idSlice = courseRepository.findCourseIdsAfter(categoryId, categoryType, isOffline, status,
+                                after != null ? after.getLong(0) : null,
+                                PageCursor.pageRequest(size));
+
+                List<CourseResponseDTO> content = loadInOrder(idSlice.getContent());
+                String nextCursor = content.isEmpty() ? null
+                                : PageCursor.encode(idSlice.getContent().get(idSlice.getNumberOfElements() - 1));
+                return CursorPageResponse.of(content, idSlice.hasNext(), nextCursor);
+        }
+
+        /**
+         * 키워드 검색
+         * 검색 색인에서 순위순 ID 목록을 얻고, DB 에서는 ID IN 조건으로 필터만 적용한 뒤
+         * 현재 페이지의 과정만 로딩 (LIKE 전체 스캔 없음)
+         * - 조건 필터는 일치 과정 전체에 적용한 뒤 페이징하므로 전체 건수는 정확함
+         * - IN 목록은 SEARCH_FILTER_CHUNK_SIZE 개씩 나누어 조회
+         * - 정렬 미지정: 검색 순위순 / 정렬 지정: 요청한 정렬 순
+         */
+        private Page<CourseResponseDTO> searchCoursesByKeyword(Long categoryId, CategoryType categoryType,
+                        Boolean isOffline, String keyword, CourseStatus status, Pageable pageable) {
+                List<Long> rankedIds = courseSearchIndex.search(keyword);
+                if (rankedIds.isEmpty()) {
+                        return Page.empty(pageable);
+                }
+
+                Sort sort = pageable.getSort();
+                int pageEnd = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+                List<Long> matchedIds = new ArrayList<>();
+                int total = 0;
+                for (List<Long> chunk : chunks(rankedIds)) {
+                        List<Long> visible = courseRepository.filterSearchCourseIds(chunk, categoryId, categoryType,
+                                        isOffline, status, Pageable.unpaged(sort));
+                        total += visible.size();
+                        // 정렬 지정 시 각 묶음의 정렬 상위 pageEnd 개만 전체 정렬 후보가 될 수 있음
+                        matchedIds.addAll(sort.isUnsorted() ? visible
+                                        : visible.subList(0, Math.min(pageEnd, visible.size())));
+                }
+
+                List<Long> pageIds;
+                if (sort.isUnsorted()) {
+                        Set<Long> visibleIds = new HashSet<>(matchedIds);
+                        List<Long> ids = rankedIds.stream().filter(visibleIds::contains).toList();
+                        int from = (int) Math.min(pageable.getOffset(), ids.size());
+                        pageIds = ids.subList(from, Math.min(from + pageable.getPageSize(), ids.size()));
+                } else {
+                        pageIds = sortedPageIds(matchedIds, categoryId, categoryType, isOffline, status, pageable);
+                }
+                return new PageImpl<>(loadInOrder(pageIds), pageable, total);
+        }
+
+        /**
+         * 정렬 후보에서 요청한 페이지의 ID 조회
+         * 후보가 SEARCH_FILTER_CHUNK_SIZE 를 넘으면 묶음별 정렬 상위만 남기는 과정을 반복하여 줄인 뒤
+         * 마지막 한 번의 쿼리로 페이지를 자름 (1000건 이후의 깊은 페이지는 후보 전체를 한 번에 정렬)
+         */
+        private List<Long> sortedPageIds(List<Long> candidates, Long categoryId, CategoryType categoryType,
+                        Boolean isOffline, CourseStatus status, Pageable pageable) {
+                int pageEnd = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+                Pageable top = PageRequest.of(0, Math.max(pageEnd, 1), pageable.getSort());
+                while (candidates.size() > SEARCH_FILTER_CHUNK_SIZE && pageEnd < SEARCH_FILTER_CHUNK_SIZE) {
+                        List<Long> reduced = new ArrayList<>();
+                        for (List<Long> chunk : chunks(candidates)) {
+                                reduced.addAll(courseRepository.filterSearchCourseIds(chunk, categoryId, categoryType,
+                                                isOffline, status, top));
+                        }
+                        candidates = reduced;
+                }
+                if (candidates.isEmpty()) {
+                        return List.of();
+                }
+                return courseRepository.filterSearchCourseIds(candidates, categoryId, categoryType, isOffline,
+                                status, pageable);
+        }
+
+        private List<List<Long>> chunks(List<Long> ids) {
+                List<List<Long>> chunks = new ArrayList<>();
+                for (int start = 0; start < ids.size(); start += SEARCH_FILTER_CHUNK_SIZE) {
+                        chunks.add(ids.subList(start, Math.min(start + SEARCH_FILTER_CHUNK_SIZE, ids.size())));
+                }
+                return chunks;
+        }
+
+        /**
+         * ID 목록 순서대로 과정 로딩 (이미지/기관/카테고리 함께 조회)
+         */
+        private List<CourseResponseDTO> loadInOrder(List<Long> ids) {
+                if (ids.isEmpty()) {
+                        return List.of();
+                }
+                Map<Long, Course> courses = courseRepository.findByIdIn(ids)
+                                .stream()
+                                .collect(Collectors.toMap(Course::getId, c -> c));
+                return ids.stream()
+                                .map(courses::get)
+                                .filter(Objects::nonNull)
+                                .map(CourseResponseDTO::fromEntity)
+                                .toList();
+        }
+
         /**
          * @deprecated This method fetches all courses without pagination, which can
          *             cause performance issues.
@@ -93,6 +226,7 @@ public class CourseServiceImpl implements CourseService {
                                 .orElseThrow(() -> new EntityNotFoundException("해당 과정이 존재하지 않습니다. ID=" + courseId));
 
                 course.setIsApproved(ApprovalStatus.APPROVED);
+                eventPublisher.publishEvent(CourseChangedEvent.of(courseId, CourseChangedEvent.Type.APPROVAL));
                 return CourseResponseDTO.fromEntity(course);
         }
 
@@ -151,6 +285,7 @@ public class CourseServiceImpl implements CourseService {
                 addCurriculumsToCourse(course, dto.getCurriculums());
 
                 courseRepository.save(course);
+                eventPublisher.publishEvent(CourseChangedEvent.of(course.getId(), CourseChangedEvent.Type.CREATED));
                 return CourseResponseDTO.fromEntity(course);
         }
 
@@ -179,6 +314,7 @@ public class CourseServiceImpl implements CourseService {
                         course.setRejectionReason(null); // 거부 사유 초기화
                 }
 
+                eventPublisher.publishEvent(CourseChangedEvent.of(courseId, CourseChangedEvent.Type.UPDATED));
                 return CourseResponseDTO.fromEntity(course);
         }
 
@@ -221,21 +357,21 @@ public class CourseServiceImpl implements CourseService {
                 Course course = courseRepository.findByIdAndDeletedAtIsNull(courseId)
                                 .orElseThrow(() -> new EntityNotFoundException("해당 과정이 존재하지 않습니다."));
                 course.markDeleted();
+                eventPublisher.publishEvent(CourseChangedEvent.of(courseId, CourseChangedEvent.Type.DELETED));
         }
 
         /**
          * 과정 상세 조회 (조회수 증가 포함)
-         * 수정일: 2025-12-02 - @Transactional 추가 (viewCount 증가 반영을 위해)
          * 수정일: 2025-12-02 - curriculums 초기화 추가 (MultipleBagFetchException 방지)
+         * 수정일: 2026-10-16 - 조회수는 ViewCountService 에 누적 후 일괄 반영 (읽기 전용 트랜잭션)
          */
         @Override
-        @Transactional
         public CourseDetailResponseDTO getCourseDetail(@NonNull Long courseId) {
                 Course course = courseRepository.findWithDetailsByIdAndDeletedAtIsNull(courseId)
                                 .orElseThrow(() -> new EntityNotFoundException("해당 과정이 존재하지 않습니다. ID=" + courseId));
 
-                // 조회수 증가
-                course.incrementViewCount();
+                // 조회수 증가 (행 UPDATE 없이 메모리 누적)
+                viewCountService.increase(ViewCountTarget.COURSE, courseId);
 
                 // curriculums 초기화 (Lazy Loading - MultipleBagFetchException 방지)
                 org.hibernate.Hibernate.initialize(course.getCurriculums());
@@ -261,6 +397,7 @@ public class CourseServiceImpl implements CourseService {
                                 .orElseThrow(() -> new EntityNotFoundException("해당 과정이 존재하지 않습니다. ID=" + courseId));
 
                 course.reject(reason); // 거부 상태 변경 및 사유 저장
+                eventPublisher.publishEvent(CourseChangedEvent.of(courseId, CourseChangedEvent.Type.APPROVAL));
 
                 return CourseResponseDTO.fromEntity(course);
         }
@@ -0,0 +1,28 @@
+package com.softwarecampus.backend.service.course;
+
+import com.softwarecampus.backend.domain.course.CourseReview;
+
+/**
+ * 과정 집계 통계(CourseStats) 갱신 서비스
+ * 찜/리뷰 변경 트랜잭션 안에서 호출되어 같은 트랜잭션으로 커밋/롤백됨
+ */
+public interface CourseStatsService {
+
+    /** 찜 추가 시 찜 수 +1 */
+    void increaseFavoriteCount(Long courseId);
+
+    /** 찜 삭제 시 찜 수 -1 */
+    void decreaseFavoriteCount(Long courseId);
+
+    /**
+     * 리뷰가 유효 리뷰(승인 + 미삭제)가 될 때 호출
+     * 리뷰 수, 평점 합계, 섹션별 점수에 현재 섹션 기준 값을 더함
+     */
+    void addApprovedReview(CourseReview review);
+
+    /**
+     * 유효 리뷰가 승인 해제/거부/삭제되거나 점수가 바뀌기 직전에 호출
+     * 현재 섹션 기준 값을 차감함
+     */
+    void removeApprovedReview(CourseReview review);
+}
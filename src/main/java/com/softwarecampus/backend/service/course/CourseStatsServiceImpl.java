@@ -0,0 +1,51 @@
+package com.softwarecampus.backend.service.course;
+
+import com.softwarecampus.backend.domain.course.CourseReview;
+import com.softwarecampus.backend.domain.course.CourseStats;
+import com.softwarecampus.backend.repository.course.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 과정 집계 통계 갱신 구현
+ * - 읽고 쓰는(read-modify-write) 방식 대신 증감 bulk update 로 동시 요청에도 카운트 유실 없음
+ * - 호출 측 트랜잭션에 참여 (MANDATORY): 원본 데이터 변경과 통계 변경이 함께 커밋됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class CourseStatsServiceImpl implements CourseStatsService {
+
+    private final CourseRepository courseRepository;
+
+    @Override
+    public void increaseFavoriteCount(Long courseId) {
+        apply(courseId, CourseStats.ofFavorite(1));
+    }
+
+    @Override
+    public void decreaseFavoriteCount(Long courseId) {
+        apply(courseId, CourseStats.ofFavorite(-1));
+    }
+
+    @Override
+    public void addApprovedReview(CourseReview review) {
+        apply(review.getCourse().getId(), CourseStats.ofReview(review));
+    }
+
+    @Override
+    public void removeApprovedReview(CourseReview review) {
+        apply(review.getCourse().getId(), CourseStats.ofReview(review).negate());
+    }
+
+    private void apply(Long courseId, CourseStats delta) {
+        int updated = courseRepository.addStats(courseId, delta);
+        if (updated == 0) {
+            log.warn("과정 통계 갱신 대상 없음 - courseId: {}", courseId);
+        }
+    }
+}
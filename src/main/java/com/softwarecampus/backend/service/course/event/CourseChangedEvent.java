@@ -0,0 +1,25 @@
+package com.softwarecampus.backend.service.course.event;
+
+/**
+ * 과정 관련 데이터 변경 이벤트
+ * - 과정/찜/후기 변경 시 발행되며, 메인페이지 스냅샷 등 파생 데이터 갱신에 사용
+ * - 트랜잭션 커밋 이후(AFTER_COMMIT) 리스너에서 처리하는 것을 전제로 함
+ *
+ * @param courseId 변경된 과정 ID
+ * @param type     변경 유형
+ */
+public record CourseChangedEvent(Long courseId, Type type) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        APPROVAL,
+        FAVORITE,
+        REVIEW
+    }
+
+    public static CourseChangedEvent of(Long courseId, Type type) {
+        return new CourseChangedEvent(courseId, type);
+    }
+}
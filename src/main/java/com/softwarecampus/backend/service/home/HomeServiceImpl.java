@@ -1,24 +1,13 @@
 package com.softwarecampus.backend.service.home;
 
-import com.softwarecampus.backend.domain.common.ApprovalStatus;
-import com.softwarecampus.backend.domain.course.CategoryType;
-import com.softwarecampus.backend.domain.course.Course;
-import com.softwarecampus.backend.domain.course.CourseReview;
 import com.softwarecampus.backend.dto.home.HomeCommunityDTO;
-import com.softwarecampus.backend.dto.home.HomeCourseDTO;
 import com.softwarecampus.backend.dto.home.HomeResponseDTO;
 import com.softwarecampus.backend.repository.board.BoardRepository;
-import com.softwarecampus.backend.repository.course.CourseRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Stream;
 
 /**
  * 메인페이지 전용 서비스 구현
@@ -29,94 +18,19 @@ import java.util.stream.Stream;
 @Transactional(readOnly = true)
 public class HomeServiceImpl implements HomeService {
 
-        private final CourseRepository courseRepository;
         private final BoardRepository boardRepository;
+        private final HomeSnapshotManager homeSnapshotManager;
 
         /**
          * 메인페이지 데이터 조회
          * 재직자/취업예정자 베스트, 마감 임박 과정을 한번에 조회
+         * - 요청마다 과정/리뷰/찜을 조회하지 않고 메모리 스냅샷에서 제공 (HomeSnapshotManager)
+         * - 베스트 정렬: (찜 + 리뷰 수) DESC, 리뷰 수 DESC, ID ASC
+         * - 마감 임박: 모집 종료일이 오늘 ~ 7일 후 이내, 종료일 가까운 순
          */
         @Override
         public HomeResponseDTO getHomePageData() {
-                return HomeResponseDTO.builder()
-                                .employeeBest(getEmployeeBestCourses(4))
-                                .jobSeekerBest(getJobSeekerBestCourses(4))
-                                .closingSoon(getClosingSoonCourses(4))
-                                .build();
-        }
-
-        /**
-         * 재직자 베스트 과정 조회
-         * - 승인된 과정만 (APPROVED)
-         * - 삭제되지 않은 과정 (deletedAt is null)
-         * - 정렬: (찜 + 리뷰 수) DESC, 리뷰 수 DESC, ID ASC
-         */
-        private List<HomeCourseDTO> getEmployeeBestCourses(int limit) {
-                return courseRepository.findHomeCoursesByCategory(CategoryType.EMPLOYEE)
-                                .stream()
-                                .filter(course -> course.getIsApproved() == ApprovalStatus.APPROVED)
-                                .sorted(Comparator
-                                                .comparingInt((Course c) -> c.getFavorites().size()
-                                                                + c.getReviews().size())
-                                                .reversed()
-                                                .thenComparing(Comparator
-                                                                .comparingInt((Course c) -> c.getReviews().size())
-                                                                .reversed())
-                                                .thenComparing(Course::getId))
-                                .limit(limit)
-                                .map(this::convertToHomeCourseDTO)
-                                .toList();
-        }
-
-        /**
-         * 취업예정자 베스트 과정 조회
-         * - 승인된 과정만 (APPROVED)
-         * - 삭제되지 않은 과정 (deletedAt is null)
-         * - 정렬: (찜 + 리뷰 수) DESC, 리뷰 수 DESC, ID ASC
-         */
-        private List<HomeCourseDTO> getJobSeekerBestCourses(int limit) {
-                return courseRepository.findHomeCoursesByCategory(CategoryType.JOB_SEEKER)
-                                .stream()
-                                .filter(course -> course.getIsApproved() == ApprovalStatus.APPROVED)
-                                .sorted(Comparator
-                                                .comparingInt((Course c) -> c.getFavorites().size()
-                                                                + c.getReviews().size())
-                                                .reversed()
-                                                .thenComparing(Comparator
-                                                                .comparingInt((Course c) -> c.getReviews().size())
-                                                                .reversed())
-                                                .thenComparing(Course::getId))
-                                .limit(limit)
-                                .map(this::convertToHomeCourseDTO)
-                                .toList();
-        }
-
-        /**
-         * 마감 임박 과정 조회
-         * - 승인된 과정만 (APPROVED)
-         * - 삭제되지 않은 과정 (deletedAt is null)
-         * - 모집 종료일이 오늘 ~ 7일 후 이내
-         * - 모집 종료일 가까운 순으로 정렬
-         */
-        private List<HomeCourseDTO> getClosingSoonCourses(int limit) {
-                LocalDate today = LocalDate.now();
-                LocalDate endDate = today.plusDays(7);
-
-                // 재직자 + 취업예정자 모두 조회 (최적화된 쿼리 사용)
-                List<Course> employeeCourses = courseRepository
-                                .findHomeCoursesByCategory(CategoryType.EMPLOYEE);
-                List<Course> jobSeekerCourses = courseRepository
-                                .findHomeCoursesByCategory(CategoryType.JOB_SEEKER);
-
-                return Stream.concat(employeeCourses.stream(), jobSeekerCourses.stream())
-                                .filter(course -> course.getIsApproved() == ApprovalStatus.APPROVED)
-                                .filter(course -> course.getRecruitEnd() != null
-                                                && !course.getRecruitEnd().isBefore(today)
-                                                && !course.getRecruitEnd().isAfter(endDate))
-                                .sorted(Comparator.comparing(Course::getRecruitEnd))
-                                .limit(limit)
-                                .map(this::convertToHomeCourseDTO)
-                                .toList();
+                return homeSnapshotManager.getHomePageData();
         }
 
         /**
@@ -132,26 +46,4 @@ public class HomeServiceImpl implements HomeService {
                                 .map(HomeCommunityDTO::fromEntity)
                                 .toList();
         }
-
-        /**
-         * Course 엔티티를 HomeCourseDTO로 변환 (평점 계산 포함)
-         */
-        private HomeCourseDTO convertToHomeCourseDTO(Course course) {
-                // 유효한 리뷰 필터링 (삭제되지 않고, 활성화되고, 승인된 리뷰만)
-                List<CourseReview> validReviews = Optional.ofNullable(course.getReviews())
-                                .orElse(Collections.emptyList())
-                                .stream()
-                                .filter(r -> !Boolean.TRUE.equals(r.getIsDeleted()))
-                                .filter(r -> r.isActive())
-                                .filter(r -> r.getApprovalStatus() == ApprovalStatus.APPROVED)
-                                .toList();
-
-                // 평점 평균 계산
-                double avgRating = validReviews.stream()
-                                .mapToDouble(CourseReview::calculateAverageScore)
-                                .average()
-                                .orElse(0.0);
-
-                return HomeCourseDTO.fromEntity(course, Math.round(avgRating * 10) / 10.0, validReviews.size());
-        }
 }
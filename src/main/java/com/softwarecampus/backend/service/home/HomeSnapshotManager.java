@@ -0,0 +1,237 @@
+package com.softwarecampus.backend.service.home;
+
+import com.softwarecampus.backend.domain.course.CategoryType;
+import com.softwarecampus.backend.domain.course.Course;
+import com.softwarecampus.backend.dto.home.HomeCourseDTO;
+import com.softwarecampus.backend.dto.home.HomeCourseRankDTO;
+import com.softwarecampus.backend.dto.home.HomeResponseDTO;
+import com.softwarecampus.backend.repository.course.CourseRepository;
+import com.softwarecampus.backend.service.course.event.CourseChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 메인페이지 스냅샷 관리
+ *
+ * 기존에는 요청마다 카테고리별 과정 전체를 리뷰/찜과 함께 fetch join 한 뒤
+ * 자바에서 정렬하여 4개만 사용했음. 이를 메모리 스냅샷으로 대체한다.
+ *
+ * - 전체 빌드: 승인된 과정의 랭킹 지표(찜/승인 리뷰 수, 모집 종료일)만 집계 컬럼에서 조회,
+ *   노출 대상 과정(섹션당 4개)만 엔티티로 로딩
+ * - 부분 갱신: 찜/후기/승인 변경 이벤트로 표시된 과정의 지표만 다시 조회 후 재정렬
+ * - 최대 허용 지연(home.snapshot.max-staleness-seconds) 초과 또는 날짜 변경 시 전체 재빌드
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeSnapshotManager {
+
+        private static final int SECTION_SIZE = 4;
+        private static final int CLOSING_SOON_DAYS = 7;
+
+        private static final Comparator<HomeCourseRankDTO> BEST_ORDER = Comparator
+                        .comparingLong(HomeCourseRankDTO::getPopularity).reversed()
+                        .thenComparing(Comparator.comparingLong(HomeCourseRankDTO::getReviewCount).reversed())
+                        .thenComparing(HomeCourseRankDTO::getId);
+
+        private static final Comparator<HomeCourseRankDTO> CLOSING_SOON_ORDER = Comparator
+                        .comparing(HomeCourseRankDTO::getRecruitEnd)
+                        .thenComparing(HomeCourseRankDTO::getId);
+
+        private final CourseRepository courseRepository;
+
+        @Value("${home.snapshot.max-staleness-seconds:300}")
+        private long maxStalenessSeconds;
+
+        /** 마지막 스냅샷 이후 변경된 과정 ID (커밋 이후 이벤트로 적재) */
+        private final Set<Long> dirtyCourseIds = ConcurrentHashMap.newKeySet();
+
+        private volatile Snapshot snapshot;
+
+        /**
+         * 메인페이지 데이터 조회
+         * 스냅샷이 유효하면 메모리에서 바로 반환하고, 변경된 과정이 있으면 해당 과정만 반영
+         */
+        @Transactional(readOnly = true)
+        public HomeResponseDTO getHomePageData() {
+                Snapshot current = snapshot;
+                if (current == null || isExpired(current)) {
+                        return rebuild();
+                }
+                if (!dirtyCourseIds.isEmpty()) {
+                        return refreshDirty();
+                }
+                return current.response();
+        }
+
+        /**
+         * 과정 변경 이벤트 수신 - 커밋된 변경만 반영하기 위해 AFTER_COMMIT 단계에서 처리
+         */
+        @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+        public void onCourseChanged(CourseChangedEvent event) {
+                if (event.courseId() != null) {
+                        dirtyCourseIds.add(event.courseId());
+                }
+        }
+
+        private boolean isExpired(Snapshot current) {
+                return !current.builtOn().equals(LocalDate.now())
+                                || Duration.between(current.builtAt(), LocalDateTime.now())
+                                                .getSeconds() >= maxStalenessSeconds;
+        }
+
+        /**
+         * 전체 재빌드
+         */
+        private synchronized HomeResponseDTO rebuild() {
+                Snapshot current = snapshot;
+                if (current != null && !isExpired(current)) {
+                        return current.response();
+                }
+
+                // 재빌드 시작 전에 쌓인 변경분은 전체 조회에 포함되므로 비움
+                dirtyCourseIds.clear();
+                Map<Long, HomeCourseRankDTO> ranks = courseRepository.findHomeCourseRanks()
+                                .stream()
+                                .collect(Collectors.toMap(HomeCourseRankDTO::getId, r -> r));
+
+                snapshot = assemble(ranks, Map.of(), LocalDateTime.now());
+                log.debug("메인페이지 스냅샷 전체 빌드 완료 - 후보 과정 수: {}", ranks.size());
+                return snapshot.response();
+        }
+
+        /**
+         * 변경된 과정만 부분 갱신
+         */
+        private synchronized HomeResponseDTO refreshDirty() {
+                Snapshot current = snapshot;
+                if (current == null || isExpired(current)) {
+                        return rebuild();
+                }
+
+                List<Long> changedIds = List.copyOf(dirtyCourseIds);
+                if (changedIds.isEmpty()) {
+                        return current.response();
+                }
+                changedIds.forEach(dirtyCourseIds::remove);
+
+                Map<Long, HomeCourseRankDTO> ranks = new HashMap<>(current.ranks());
+                changedIds.forEach(ranks::remove);
+                courseRepository.findHomeCourseRanksByIdIn(changedIds)
+                                .forEach(rank -> ranks.put(rank.getId(), rank));
+
+                Map<Long, HomeCourseDTO> cards = new HashMap<>(current.cards());
+                changedIds.forEach(cards::remove);
+
+                snapshot = assemble(ranks, cards, current.builtAt());
+                log.debug("메인페이지 스냅샷 부분 갱신 완료 - 변경 과정: {}", changedIds);
+                return snapshot.response();
+        }
+
+        /**
+         * 랭킹 지표로 섹션별 노출 과정을 선정하고, 카드가 없는 과정만 로딩하여 스냅샷 구성
+         */
+        private Snapshot assemble(Map<Long, HomeCourseRankDTO> ranks, Map<Long, HomeCourseDTO> cachedCards,
+                        LocalDateTime builtAt) {
+                LocalDate today = LocalDate.now();
+                LocalDate endDate = today.plusDays(CLOSING_SOON_DAYS);
+
+                List<Long> employeeBest = selectBest(ranks.values(), CategoryType.EMPLOYEE);
+                List<Long> jobSeekerBest = selectBest(ranks.values(), CategoryType.JOB_SEEKER);
+                List<Long> closingSoon = ranks.values().stream()
+                                .filter(r -> r.getRecruitEnd() != null
+                                                && !r.getRecruitEnd().isBefore(today)
+                                                && !r.getRecruitEnd().isAfter(endDate))
+                                .sorted(CLOSING_SOON_ORDER)
+                                .limit(SECTION_SIZE)
+                                .map(HomeCourseRankDTO::getId)
+                                .toList();
+
+                Set<Long> visibleIds = new LinkedHashSet<>();
+                visibleIds.addAll(employeeBest);
+                visibleIds.addAll(jobSeekerBest);
+                visibleIds.addAll(closingSoon);
+
+                Map<Long, HomeCourseDTO> cards = new HashMap<>();
+                visibleIds.stream()
+                                .filter(cachedCards::containsKey)
+                                .forEach(id -> cards.put(id, cachedCards.get(id)));
+                List<Long> missingIds = visibleIds.stream()
+                                .filter(id -> !cards.containsKey(id))
+                                .toList();
+                cards.putAll(loadCards(missingIds));
+
+                HomeResponseDTO response = HomeResponseDTO.builder()
+                                .employeeBest(toCards(employeeBest, cards))
+                                .jobSeekerBest(toCards(jobSeekerBest, cards))
+                                .closingSoon(toCards(closingSoon, cards))
+                                .build();
+
+                return new Snapshot(Map.copyOf(ranks), Map.copyOf(cards), response, builtAt, today);
+        }
+
+        private List<Long> selectBest(Collection<HomeCourseRankDTO> ranks, CategoryType categoryType) {
+                return ranks.stream()
+                                .filter(r -> r.getCategoryType() == categoryType)
+                                .sorted(BEST_ORDER)
+                                .limit(SECTION_SIZE)
+                                .map(HomeCourseRankDTO::getId)
+                                .toList();
+        }
+
+        private List<HomeCourseDTO> toCards(List<Long> ids, Map<Long, HomeCourseDTO> cards) {
+                return ids.stream()
+                                .map(cards::get)
+                                .filter(Objects::nonNull)
+                                .toList();
+        }
+
+        /**
+         * 노출 대상 과정 카드 로딩
+         * - 평점/리뷰 수는 과정 집계 통계(유효 리뷰 기준)에서 읽음
+         */
+        private Map<Long, HomeCourseDTO> loadCards(List<Long> courseIds) {
+                if (courseIds.isEmpty()) {
+                        return Map.of();
+                }
+
+                return courseRepository.findByIdIn(courseIds)
+                                .stream()
+                                .collect(Collectors.toMap(Course::getId, HomeCourseDTO::fromEntity));
+        }
+
+        /**
+         * 불변 스냅샷
+         *
+         * @param ranks    승인된 과정 전체의 랭킹 지표
+         * @param cards    현재 노출 중인 과정 카드
+         * @param response 응답 DTO
+         * @param builtAt  마지막 전체 빌드 시각 (부분 갱신으로는 연장되지 않음)
+         * @param builtOn  갱신 기준 날짜 (마감 임박 계산 기준)
+         */
+        private record Snapshot(Map<Long, HomeCourseRankDTO> ranks,
+                        Map<Long, HomeCourseDTO> cards,
+                        HomeResponseDTO response,
+                        LocalDateTime builtAt,
+                        LocalDate builtOn) {
+        }
+}
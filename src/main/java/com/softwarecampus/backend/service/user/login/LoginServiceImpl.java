@@ -10,6 +10,7 @@ import com.softwarecampus.backend.exception.user.AccountNotFoundException;
 import com.softwarecampus.backend.exception.user.InvalidCredentialsException;
 import com.softwarecampus.backend.repository.user.AccountRepository;
 import com.softwarecampus.backend.security.jwt.JwtTokenProvider;
+import com.softwarecampus.backend.service.auth.TokenVersionService;
 import com.softwarecampus.backend.util.EmailUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,6 +45,7 @@ public class LoginServiceImpl implements LoginService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisTemplate<String, String> redisTemplate;
+    private final TokenVersionService tokenVersionService;
 
     /**
      * 로그인 처리
@@ -88,10 +90,13 @@ public class LoginServiceImpl implements LoginService {
             throw new InvalidCredentialsException("계정 승인이 필요합니다");
         }
 
-        // 4. JWT 토큰 생성 (TokenService 활용)
+        // 4. JWT 토큰 생성 (무상태 인증용 계정 ID/승인 상태/토큰 버전 포함)
         String accessToken = jwtTokenProvider.generateToken(
                 account.getEmail(),
-                account.getAccountType().name());
+                account.getAccountType().name(),
+                account.getId(),
+                account.getAccountApproved() != null ? account.getAccountApproved().name() : null,
+                tokenVersionService.currentVersion(account.getEmail()));
 
         // 5. Refresh Token 생성 및 Redis 저장
         String refreshToken = UUID.randomUUID().toString();
@@ -19,10 +19,13 @@ import com.softwarecampus.backend.repository.course.CourseFavoriteRepository;
 import com.softwarecampus.backend.repository.user.AccountRepository;
 import com.softwarecampus.backend.repository.user.EmailVerificationRepository;
 import com.softwarecampus.backend.security.CustomUserDetailsService;
+import com.softwarecampus.backend.service.common.ImageTarget;
+import com.softwarecampus.backend.service.common.event.ImageUploadedEvent;
 import com.softwarecampus.backend.service.user.email.EmailVerificationService;
 import com.softwarecampus.backend.util.EmailUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -49,6 +52,7 @@ public class ProfileServiceImpl implements ProfileService {
     private final BoardRepository boardRepository;
     private final CommentRepository commentRepository;
     private final CourseFavoriteRepository courseFavoriteRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * ID로 계정 조회
@@ -131,6 +135,7 @@ public class ProfileServiceImpl implements ProfileService {
 
         // 4. Account 필드 업데이트
         updateAccountFields(account, request);
+        customUserDetailsService.refreshUserDetailsCache(email);
 
         // 5. 저장 및 응답 (JPA dirty checking으로 자동 저장)
         log.info("프로필 수정 완료: email={}, accountId={}", EmailUtils.maskEmail(email), account.getId());
@@ -154,6 +159,9 @@ public class ProfileServiceImpl implements ProfileService {
         // 3. 소프트 삭제
         account.markDeleted();
 
+        // 4. 캐시 무효화 및 발급된 토큰 폐기
+        customUserDetailsService.evictUserDetailsCache(email);
+
         log.info("계정 삭제 완료 (소프트): email={}, accountId={}", EmailUtils.maskEmail(email), account.getId());
     }
 
@@ -247,8 +255,12 @@ public class ProfileServiceImpl implements ProfileService {
         if (request.getPosition() != null) {
             account.setPosition(request.getPosition());
         }
-        if (request.getProfileImage() != null) {
+        if (request.getProfileImage() != null && !request.getProfileImage().equals(account.getProfileImage())) {
             account.setProfileImage(request.getProfileImage());
+            account.setImageDerivatives(null);
+            // 커밋 이후 축소 이미지 생성 (비동기)
+            eventPublisher.publishEvent(
+                    ImageUploadedEvent.of(ImageTarget.ACCOUNT_PROFILE, request.getProfileImage()));
         }
     }
 
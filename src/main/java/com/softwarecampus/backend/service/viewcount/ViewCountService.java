@@ -0,0 +1,28 @@
+package com.softwarecampus.backend.service.viewcount;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 서비스
+ *
+ * 상세 조회마다 행 UPDATE 를 실행하지 않고 메모리에 증가분을 누적한 뒤,
+ * 스케줄러(ViewCountFlushScheduler)가 주기적으로 일괄 UPDATE 로 반영한다.
+ */
+public interface ViewCountService {
+
+    /**
+     * 조회수 1 증가 (메모리 누적, DB 접근 없음)
+     */
+    void increase(ViewCountTarget target, Long id);
+
+    /**
+     * 아직 DB 에 반영되지 않은 증가분
+     * 화면 표시 시 DB 값 + 미반영분으로 사용
+     */
+    long getPendingCount(ViewCountTarget target, Long id);
+
+    /**
+     * 누적된 증가분을 DB 에 일괄 반영
+     *
+     * @return 반영된 대상 행 수
+     */
+    int flush();
+}
@@ -0,0 +1,130 @@
+package com.softwarecampus.backend.service.viewcount;
+
+import com.softwarecampus.backend.repository.board.BoardRepository;
+import com.softwarecampus.backend.repository.course.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수 쓰기 지연 구현 (인메모리)
+ *
+ * - 증가: ConcurrentHashMap#merge (키 단위 잠금) 로 누적, 행 잠금 없음
+ * - 반영: 누적분을 꺼내(drain) 같은 증가량끼리 묶어 "SET cnt = cnt + :delta WHERE id IN (...)" 일괄 실행
+ *   증가량을 더하는 UPDATE 이므로 서버가 여러 대여도 값이 덮어써지지 않음
+ * - 반영 중인 값은 inFlight 에 보관하여 조회 시 누락되지 않게 하고, 실패 시 다시 누적분으로 되돌림
+ * - 프로세스 비정상 종료 시 마지막 반영 이후 증가분(최대 반영 주기만큼)은 유실될 수 있음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountServiceImpl implements ViewCountService {
+
+    /** UPDATE ... IN 절 최대 ID 수 */
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final CourseRepository courseRepository;
+    private final BoardRepository boardRepository;
+
+    private final Map<ViewCountTarget, ConcurrentHashMap<Long, Long>> pending = newCounters();
+    private final Map<ViewCountTarget, ConcurrentHashMap<Long, Long>> inFlight = newCounters();
+
+    @Override
+    public void increase(ViewCountTarget target, Long id) {
+        if (id != null) {
+            pending.get(target).merge(id, 1L, Long::sum);
+        }
+    }
+
+    @Override
+    public long getPendingCount(ViewCountTarget target, Long id) {
+        return pending.get(target).getOrDefault(id, 0L) + inFlight.get(target).getOrDefault(id, 0L);
+    }
+
+    @Override
+    public synchronized int flush() {
+        int updated = 0;
+        for (ViewCountTarget target : ViewCountTarget.values()) {
+            updated += flush(target);
+        }
+        return updated;
+    }
+
+    private int flush(ViewCountTarget target) {
+        Map<Long, Long> drained = drain(target);
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        // 같은 증가량끼리 묶어 UPDATE 횟수 최소화 (대부분 1~수 건)
+        Map<Long, List<Long>> idsByDelta = new HashMap<>();
+        drained.forEach((id, delta) -> idsByDelta.computeIfAbsent(delta, k -> new ArrayList<>()).add(id));
+
+        int updated = 0;
+        for (Map.Entry<Long, List<Long>> entry : idsByDelta.entrySet()) {
+            long delta = entry.getKey();
+            List<Long> ids = entry.getValue();
+            for (int from = 0; from < ids.size(); from += FLUSH_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, ids.size()));
+                try {
+                    updated += apply(target, chunk, delta);
+                    chunk.forEach(id -> release(target, id, delta, false));
+                } catch (Exception e) {
+                    log.warn("조회수 반영 실패 - 다음 주기에 재시도 (target: {}, 건수: {})", target, chunk.size(), e);
+                    chunk.forEach(id -> release(target, id, delta, true));
+                }
+            }
+        }
+        log.debug("조회수 반영 완료 - target: {}, 대상: {}건", target, drained.size());
+        return updated;
+    }
+
+    /**
+     * 누적분을 꺼내 inFlight 로 이동 (키 단위로 원자적)
+     */
+    private Map<Long, Long> drain(ViewCountTarget target) {
+        ConcurrentHashMap<Long, Long> counters = pending.get(target);
+        ConcurrentHashMap<Long, Long> flushing = inFlight.get(target);
+        Map<Long, Long> drained = new HashMap<>();
+        for (Long id : counters.keySet()) {
+            counters.computeIfPresent(id, (k, delta) -> {
+                flushing.merge(k, delta, Long::sum);
+                drained.put(k, delta);
+                return null;
+            });
+        }
+        return drained;
+    }
+
+    /**
+     * inFlight 에서 제거 (실패 시 누적분으로 복구)
+     */
+    private void release(ViewCountTarget target, Long id, long delta, boolean restore) {
+        if (restore) {
+            pending.get(target).merge(id, delta, Long::sum);
+        }
+        inFlight.get(target).computeIfPresent(id, (k, v) -> v - delta == 0 ? null : v - delta);
+    }
+
+    private int apply(ViewCountTarget target, List<Long> ids, long delta) {
+        return switch (target) {
+            case COURSE -> courseRepository.increaseViewCount(ids, delta);
+            case BOARD -> boardRepository.increaseHits(ids, delta);
+        };
+    }
+
+    private static Map<ViewCountTarget, ConcurrentHashMap<Long, Long>> newCounters() {
+        Map<ViewCountTarget, ConcurrentHashMap<Long, Long>> counters = new EnumMap<>(ViewCountTarget.class);
+        for (ViewCountTarget target : ViewCountTarget.values()) {
+            counters.put(target, new ConcurrentHashMap<>());
+        }
+        return counters;
+    }
+}
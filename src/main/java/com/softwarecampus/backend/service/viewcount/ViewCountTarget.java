@@ -0,0 +1,11 @@
+package com.softwarecampus.backend.service.viewcount;
+
+/**
+ * 조회수 버퍼 대상
+ */
+public enum ViewCountTarget {
+    /** 과정 조회수 (course.view_count) */
+    COURSE,
+    /** 게시글 조회수 (board.hits) */
+    BOARD
+}
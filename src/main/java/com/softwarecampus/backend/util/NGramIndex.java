@@ -0,0 +1,287 @@
+package com.softwarecampus.backend.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * 한글 대응 N-gram 역색인 (인메모리)
+ *
+ * LIKE '%keyword%' 는 인덱스를 사용할 수 없어 항상 전체 스캔이 발생하므로,
+ * 문서의 각 필드를 음절 단위 1~3-gram 으로 분해한 역색인으로 후보를 좁힌 뒤 부분 문자열 일치를 검증한다.
+ * 형태소 분석 없이도 한글 부분 검색("스프링" → "자바스프링부트")이 가능하다.
+ *
+ * - 정규화: NFKC + 소문자, 문자/숫자 외(공백·기호) 제거 → "Spring Boot" 와 "springboot" 동일 취급
+ * - 검색어: 공백 단위 토큰, 모든 토큰이 (검색 대상) 필드 중 하나에 포함되어야 일치 (AND)
+ * - 순위: 토큰이 포함된 필드 가중치 합 (필드 앞부분 일치 가산), 동점 시 ID 내림차순(최신순)
+ *
+ * 읽기/쓰기 락으로 보호되며 문서 단위로 추가/삭제할 수 있다.
+ *
+ * @since 2026-10-16
+ */
+public class NGramIndex {
+
+    private static final int MAX_GRAM = 3;
+
+    private final int[] fieldWeights;
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param fieldWeights 필드별 순위 가중치 (put 시 전달하는 필드 순서와 동일)
+     */
+    public NGramIndex(int... fieldWeights) {
+        this.fieldWeights = fieldWeights.clone();
+    }
+
+    /**
+     * 문서 추가 (같은 ID가 있으면 교체)
+     */
+    public void put(Long id, String... fields) {
+        String[] normalized = new String[fieldWeights.length];
+        for (int i = 0; i < normalized.length; i++) {
+            normalized[i] = i < fields.length ? normalize(fields[i]) : "";
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            documents.put(id, normalized);
+            for (String field : normalized) {
+                for (String gram : grams(field)) {
+                    postings.computeIfAbsent(gram, k -> new HashSet<>()).add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 삭제
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 (전체 필드 대상)
+     *
+     * @param keyword    검색어 (공백으로 구분된 토큰은 AND 조건)
+     * @param maxResults 최대 결과 수
+     * @return 순위순 문서 ID 목록 (유효한 토큰이 없으면 빈 목록)
+     */
+    public List<Long> search(String keyword, int maxResults) {
+        return search(keyword, maxResults, new int[0]);
+    }
+
+    /**
+     * 검색 (지정 필드 대상)
+     *
+     * @param keyword    검색어 (공백으로 구분된 토큰은 AND 조건)
+     * @param maxResults 최대 결과 수
+     * @param fields     검색 대상 필드 인덱스 (비어 있으면 전체 필드)
+     * @return 순위순 문서 ID 목록 (유효한 토큰이 없으면 빈 목록)
+     */
+    public List<Long> search(String keyword, int maxResults, int... fields) {
+        return search(keyword, maxResults, id -> true, fields);
+    }
+
+    /**
+     * 검색 (지정 필드 대상, 문서 조건 적용)
+     * 조건은 순위 상위를 자르기 전에 적용되므로 조건에 맞는 문서가 최대 결과 수 밖으로 밀려나지 않는다.
+     *
+     * @param keyword    검색어 (공백으로 구분된 토큰은 AND 조건)
+     * @param maxResults 최대 결과 수
+     * @param filter     결과에 포함할 문서 ID 조건
+     * @param fields     검색 대상 필드 인덱스 (비어 있으면 전체 필드)
+     * @return 순위순 문서 ID 목록 (유효한 토큰이 없으면 빈 목록)
+     */
+    public List<Long> search(String keyword, int maxResults, LongPredicate filter, int... fields) {
+        List<String> tokens = tokenize(keyword);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        boolean[] targetFields = new boolean[fieldWeights.length];
+        if (fields.length == 0) {
+            Arrays.fill(targetFields, true);
+        } else {
+            for (int field : fields) {
+                targetFields[field] = true;
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = candidates(tokens);
+            List<long[]> scored = new ArrayList<>();
+            for (Long id : candidates) {
+                if (!filter.test(id)) {
+                    continue;
+                }
+                int score = score(documents.get(id), tokens, targetFields);
+                if (score > 0) {
+                    scored.add(new long[] { id, score });
+                }
+            }
+            return scored.stream()
+                    .sorted(Comparator.<long[]>comparingLong(s -> s[1]).reversed()
+                            .thenComparing(Comparator.<long[]>comparingLong(s -> s[0]).reversed()))
+                    .limit(maxResults)
+                    .map(s -> s[0])
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어 토큰 분리 (정규화 후 빈 토큰 제외, 중복 제거)
+     */
+    public static List<String> tokenize(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String raw : keyword.trim().split("\\s+")) {
+            String token = normalize(raw);
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return List.copyOf(tokens);
+    }
+
+    /**
+     * NFKC 정규화 + 소문자 변환 후 문자/숫자만 남김
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String nfkc = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfkc.length());
+        nfkc.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    /**
+     * 색인용 1~3-gram
+     */
+    static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= text.length(); i++) {
+                grams.add(text.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색용 gram - 가장 선택도가 높은 길이(최대 3)만 사용
+     */
+    static Set<String> queryGrams(String token) {
+        int n = Math.min(MAX_GRAM, token.length());
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + n <= token.length(); i++) {
+            grams.add(token.substring(i, i + n));
+        }
+        return grams;
+    }
+
+    /**
+     * 모든 검색 gram 의 posting 교집합 (작은 posting 부터 교차)
+     */
+    private Set<Long> candidates(List<String> tokens) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String token : tokens) {
+            for (String gram : queryGrams(token)) {
+                Set<Long> posting = postings.get(gram);
+                if (posting == null) {
+                    return Set.of();
+                }
+                lists.add(posting);
+            }
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 후보 검증 및 점수 계산 - gram 교집합의 오탐을 부분 문자열 일치로 제거 (불일치 시 0)
+     */
+    private int score(String[] fields, List<String> tokens, boolean[] targetFields) {
+        int total = 0;
+        for (String token : tokens) {
+            int best = 0;
+            for (int i = 0; i < fields.length; i++) {
+                if (!targetFields[i]) {
+                    continue;
+                }
+                int pos = fields[i].indexOf(token);
+                if (pos >= 0) {
+                    int weight = fieldWeights[i] * 2 + (pos == 0 ? 1 : 0);
+                    best = Math.max(best, weight);
+                }
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    private void removeInternal(Long id) {
+        String[] previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        Arrays.stream(previous)
+                .flatMap(field -> grams(field).stream())
+                .distinct()
+                .forEach(gram -> {
+                    Set<Long> posting = postings.get(gram);
+                    if (posting != null) {
+                        posting.remove(id);
+                        if (posting.isEmpty()) {
+                            postings.remove(gram);
+                        }
+                    }
+                });
+    }
+}
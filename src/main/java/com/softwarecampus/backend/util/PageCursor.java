@@ -0,0 +1,97 @@
+package com.softwarecampus.backend.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+/**
+ * 커서(keyset) 페이지네이션 커서
+ * - 마지막으로 조회한 행의 정렬 키 + ID 를 Base64(URL-safe) 로 인코딩한 불투명 문자열
+ * - 클라이언트는 값을 해석하지 않고 nextCursor 를 그대로 다시 전달
+ * - 형식이 잘못된 커서는 IllegalArgumentException (400 Bad Request)
+ */
+public final class PageCursor {
+
+    /** 커서 페이지 최대 크기 */
+    public static final int MAX_SIZE = 100;
+
+    private static final String DELIMITER = "|";
+
+    private final String[] values;
+
+    private PageCursor(String[] values) {
+        this.values = values;
+    }
+
+    /**
+     * 커서 인코딩 (값은 toString 으로 직렬화, LocalDateTime 은 ISO-8601)
+     */
+    public static String encode(Object... values) {
+        String raw = Arrays.stream(values)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩
+     *
+     * @param cursor 클라이언트가 전달한 커서 (null/빈 값이면 첫 페이지)
+     * @param size   기대하는 값 개수
+     * @return 커서 (첫 페이지면 null)
+     */
+    public static PageCursor decode(String cursor, int size) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        String[] values = raw.split("\\" + DELIMITER, -1);
+        if (values.length != size) {
+            throw invalid();
+        }
+        return new PageCursor(values);
+    }
+
+    /**
+     * 커서 페이지 요청 (첫 페이지 고정, 정렬은 쿼리의 ORDER BY 사용)
+     * Slice 조회 시 size + 1 건을 조회하여 다음 페이지 여부만 판단 (COUNT 쿼리 없음)
+     */
+    public static Pageable pageRequest(int size) {
+        return PageRequest.of(0, Math.min(Math.max(size, 1), MAX_SIZE));
+    }
+
+    public String getString(int index) {
+        return values[index];
+    }
+
+    public long getLong(int index) {
+        try {
+            return Long.parseLong(values[index]);
+        } catch (NumberFormatException e) {
+            throw invalid();
+        }
+    }
+
+    public LocalDateTime getDateTime(int index) {
+        try {
+            return LocalDateTime.parse(values[index]);
+        } catch (DateTimeParseException e) {
+            throw invalid();
+        }
+    }
+
+    private static IllegalArgumentException invalid() {
+        return new IllegalArgumentException("잘못된 커서입니다.");
+    }
+}
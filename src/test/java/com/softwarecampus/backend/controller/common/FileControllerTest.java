@@ -4,6 +4,8 @@ import com.softwarecampus.backend.exception.GlobalExceptionHandler;
 import com.softwarecampus.backend.exception.S3UploadException;
 import com.softwarecampus.backend.security.SecurityConfig;
 import com.softwarecampus.backend.service.common.FileType;
+import com.softwarecampus.backend.service.common.PublicFileCache;
+import com.softwarecampus.backend.service.common.S3MultipartUploader;
 import com.softwarecampus.backend.service.common.S3Service;
 import com.softwarecampus.backend.security.JwtAuthenticationFilter;
 import com.softwarecampus.backend.security.JwtAuthenticationEntryPoint;
@@ -20,14 +22,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -61,6 +70,12 @@ class FileControllerTest {
         @MockBean
         private S3Service s3Service;
 
+        @MockBean
+        private PublicFileCache publicFileCache;
+
+        @MockBean
+        private S3MultipartUploader multipartUploader;
+
         @MockBean
         private JwtTokenProvider jwtTokenProvider;
 
@@ -375,19 +390,108 @@ class FileControllerTest {
                 // given
                 String key = "profile/test-file.jpg";
                 byte[] fileBytes = "test image content".getBytes();
-                when(s3Service.downloadFile(key)).thenReturn(fileBytes);
-                when(s3Service.getContentType(key)).thenReturn("image/jpeg");
+                when(s3Service.openDownloadStream(key, null, null))
+                                .thenReturn(Optional.of(objectStream(fileBytes, GetObjectResponse.builder()
+                                                .contentType("image/jpeg")
+                                                .contentLength((long) fileBytes.length)
+                                                .eTag("\"abc\"")
+                                                .build())));
 
                 // when & then - 인증 없이 접근 가능
-                mockMvc.perform(get("/api/files/public")
+                MvcResult result = mockMvc.perform(get("/api/files/public")
                                 .param("key", key))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                mockMvc.perform(asyncDispatch(result))
                                 .andDo(print())
                                 .andExpect(status().isOk())
                                 .andExpect(content().contentType(MediaType.IMAGE_JPEG))
+                                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""))
+                                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
                                 .andExpect(content().bytes(fileBytes));
 
-                verify(s3Service, times(1)).downloadFile(key);
-                verify(s3Service, times(1)).getContentType(key);
+                verify(s3Service, times(1)).openDownloadStream(key, null, null);
+        }
+
+        @Test
+        @DisplayName("공개 파일 서빙 - Range 요청 시 206 Partial Content")
+        void testGetPublicFile_Range() throws Exception {
+                // given
+                String key = "profile/test-file.jpg";
+                byte[] partBytes = "test".getBytes();
+                when(s3Service.openDownloadStream(key, "bytes=0-3", null))
+                                .thenReturn(Optional.of(objectStream(partBytes, GetObjectResponse.builder()
+                                                .contentType("image/jpeg")
+                                                .contentLength((long) partBytes.length)
+                                                .contentRange("bytes 0-3/18")
+                                                .build())));
+
+                // when & then
+                MvcResult result = mockMvc.perform(get("/api/files/public")
+                                .param("key", key)
+                                .header(HttpHeaders.RANGE, "bytes=0-3"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isPartialContent())
+                                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-3/18"))
+                                .andExpect(content().bytes(partBytes));
+        }
+
+        @Test
+        @DisplayName("공개 파일 서빙 - 범위 초과 시 416 과 전체 크기(Content-Range)")
+        void testGetPublicFile_RangeNotSatisfiable() throws Exception {
+                // given
+                String key = "profile/test-file.jpg";
+                when(s3Service.openDownloadStream(key, "bytes=100-", null))
+                                .thenThrow(new S3UploadException("요청한 범위가 파일 크기를 벗어났습니다: bytes=100-",
+                                                S3UploadException.FailureReason.RANGE_NOT_SATISFIABLE));
+                when(s3Service.findFileSize(key)).thenReturn(Optional.of(18L));
+
+                // when & then
+                mockMvc.perform(get("/api/files/public")
+                                .param("key", key)
+                                .header(HttpHeaders.RANGE, "bytes=100-"))
+                                .andDo(print())
+                                .andExpect(status().isRequestedRangeNotSatisfiable())
+                                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */18"));
+        }
+
+        @Test
+        @DisplayName("공개 파일 서빙 - 범위 초과 시 크기를 확인하지 못하면 Content-Range 생략")
+        void testGetPublicFile_RangeNotSatisfiable_UnknownSize() throws Exception {
+                // given
+                String key = "profile/test-file.jpg";
+                when(s3Service.openDownloadStream(key, "bytes=100-", null))
+                                .thenThrow(new S3UploadException("요청한 범위가 파일 크기를 벗어났습니다: bytes=100-",
+                                                S3UploadException.FailureReason.RANGE_NOT_SATISFIABLE));
+                when(s3Service.findFileSize(key)).thenReturn(Optional.empty());
+
+                // when & then
+                mockMvc.perform(get("/api/files/public")
+                                .param("key", key)
+                                .header(HttpHeaders.RANGE, "bytes=100-"))
+                                .andDo(print())
+                                .andExpect(status().isRequestedRangeNotSatisfiable())
+                                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE));
+        }
+
+        @Test
+        @DisplayName("공개 파일 서빙 - ETag 일치 시 304 Not Modified")
+        void testGetPublicFile_NotModified() throws Exception {
+                // given
+                String key = "profile/test-file.jpg";
+                when(s3Service.openDownloadStream(key, null, "\"abc\"")).thenReturn(Optional.empty());
+
+                // when & then
+                mockMvc.perform(get("/api/files/public")
+                                .param("key", key)
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+                                .andDo(print())
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""));
         }
 
         @Test
@@ -404,7 +508,7 @@ class FileControllerTest {
         void testGetPublicFile_S3Exception() throws Exception {
                 // given
                 String key = "profile/test-file.jpg";
-                when(s3Service.downloadFile(key))
+                when(s3Service.openDownloadStream(key, null, null))
                                 .thenThrow(new S3UploadException("S3 download failed"));
 
                 // when & then
@@ -539,4 +643,9 @@ class FileControllerTest {
 
                 verify(s3Service, times(1)).deleteFile(key);
         }
+
+        private ResponseInputStream<GetObjectResponse> objectStream(byte[] bytes, GetObjectResponse response) {
+                return new ResponseInputStream<>(response,
+                                AbortableInputStream.create(new ByteArrayInputStream(bytes)));
+        }
 }
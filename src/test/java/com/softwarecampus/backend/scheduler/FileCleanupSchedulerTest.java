@@ -0,0 +1,198 @@
+package com.softwarecampus.backend.scheduler;
+
+import com.softwarecampus.backend.domain.common.FileCleanupRun;
+import com.softwarecampus.backend.dto.common.FileCleanupRowDTO;
+import com.softwarecampus.backend.repository.academy.academyQA.AttachmentRepository;
+import com.softwarecampus.backend.repository.board.BoardAttachRepository;
+import com.softwarecampus.backend.repository.common.FileCleanupRunRepository;
+import com.softwarecampus.backend.repository.course.CourseImageRepository;
+import com.softwarecampus.backend.repository.course.CourseReviewAttachmentRepository;
+import com.softwarecampus.backend.repository.course.CourseReviewFileRepository;
+import com.softwarecampus.backend.service.common.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * FileCleanupScheduler 테스트
+ * - 체크포인트 재개, S3/DB 삭제 이후에만 체크포인트가 이동하는지, 부분 삭제 실패 행이 남는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FileCleanupScheduler 테스트")
+class FileCleanupSchedulerTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private CourseReviewFileRepository reviewFileRepository;
+    @Mock
+    private CourseReviewAttachmentRepository reviewAttachmentRepository;
+    @Mock
+    private BoardAttachRepository boardAttachRepository;
+    @Mock
+    private AttachmentRepository attachmentRepository;
+    @Mock
+    private CourseImageRepository courseImageRepository;
+    @Mock
+    private FileCleanupRunRepository fileCleanupRunRepository;
+    @Mock
+    private S3Service s3Service;
+
+    @InjectMocks
+    private FileCleanupScheduler scheduler;
+
+    /** save 시점의 체크포인트 (같은 객체를 계속 갱신하므로 호출 시점 값을 기록) */
+    private final List<String> savedCheckpoints = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "cleanupDays", 1);
+        ReflectionTestUtils.setField(scheduler, "orphanCleanupHours", 24);
+        ReflectionTestUtils.setField(scheduler, "chunkSize", CHUNK_SIZE);
+        lenient().when(fileCleanupRunRepository.save(any(FileCleanupRun.class))).thenAnswer(invocation -> {
+            FileCleanupRun run = invocation.getArgument(0);
+            savedCheckpoints.add(run.getPhase() + ":" + run.getLastId());
+            return run;
+        });
+    }
+
+    @Test
+    @DisplayName("중단된 실행(RUNNING)은 저장된 기준 시각으로 체크포인트 단계/ID 이후부터 재개")
+    void runCleanup_ResumesFromCheckpoint() {
+        // given - BoardAttach 단계의 ID 42 까지 처리된 실행
+        LocalDateTime deletedBefore = LocalDateTime.of(2026, 10, 1, 5, 0);
+        FileCleanupRun interrupted = FileCleanupRun.start(deletedBefore, deletedBefore);
+        ReflectionTestUtils.setField(interrupted, "id", 7L);
+        interrupted.enterPhase("BoardAttach");
+        interrupted.recordChunk(42L, 2, 2, 0);
+        when(fileCleanupRunRepository.findFirstByStatusOrderByIdDesc(FileCleanupRun.Status.RUNNING))
+                .thenReturn(Optional.of(interrupted));
+        when(boardAttachRepository.findCleanupRowsAfter(eq(deletedBefore), eq(42L), any(Pageable.class)))
+                .thenReturn(List.of(new FileCleanupRowDTO(43L, "board/c.pdf")));
+        when(boardAttachRepository.hardDeleteByIdIn(List.of(43L))).thenReturn(1);
+
+        // when
+        FileCleanupRun result = scheduler.runCleanup();
+
+        // then - 앞 단계는 다시 조회하지 않고, 기준 시각은 유지
+        verifyNoInteractions(reviewFileRepository, reviewAttachmentRepository);
+        verify(boardAttachRepository, never()).findCleanupRowsAfter(any(), eq(0L), any());
+        verify(s3Service).deleteFiles(List.of("board/c.pdf"));
+        verify(attachmentRepository).findCleanupRowsAfter(eq(deletedBefore), eq(0L), any(Pageable.class));
+        verify(attachmentRepository).findOrphanRowsAfter(eq(deletedBefore), eq(0L), any(Pageable.class));
+        assertThat(result).isSameAs(interrupted);
+        assertThat(result.getStatus()).isEqualTo(FileCleanupRun.Status.COMPLETED);
+        assertThat(result.getDeletedRows()).isEqualTo(3L);
+        assertThat(savedCheckpoints).contains("BoardAttach:43");
+    }
+
+    @Test
+    @DisplayName("체크포인트는 S3 삭제와 DB 삭제가 모두 끝난 뒤에 저장")
+    void runCleanup_CheckpointAfterBothDeletes() {
+        // given
+        givenNewRun();
+        when(reviewFileRepository.findCleanupRowsAfter(any(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(new FileCleanupRowDTO(1L, "review/a.png"), new FileCleanupRowDTO(2L, "review/b.png")));
+        when(reviewFileRepository.findCleanupRowsAfter(any(), eq(2L), any(Pageable.class))).thenReturn(List.of());
+        when(reviewFileRepository.hardDeleteByIdIn(List.of(1L, 2L))).thenReturn(2);
+
+        // when
+        scheduler.runCleanup();
+
+        // then
+        InOrder inOrder = inOrder(s3Service, reviewFileRepository, fileCleanupRunRepository);
+        inOrder.verify(s3Service).deleteFiles(List.of("review/a.png", "review/b.png"));
+        inOrder.verify(reviewFileRepository).hardDeleteByIdIn(List.of(1L, 2L));
+        inOrder.verify(fileCleanupRunRepository).save(any(FileCleanupRun.class));
+        assertThat(savedCheckpoints).containsSubsequence("CourseReviewFile:0", "CourseReviewFile:2");
+    }
+
+    @Test
+    @DisplayName("DB 삭제가 실패하면 체크포인트를 옮기지 않고 실행을 실패로 기록")
+    void runCleanup_DbDeleteFailure_CheckpointNotMoved() {
+        // given
+        givenNewRun();
+        when(reviewFileRepository.findCleanupRowsAfter(any(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(new FileCleanupRowDTO(1L, "review/a.png")));
+        when(reviewFileRepository.hardDeleteByIdIn(List.of(1L))).thenThrow(new IllegalStateException("db down"));
+
+        // when
+        FileCleanupRun result = scheduler.runCleanup();
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(FileCleanupRun.Status.FAILED);
+        assertThat(result.getPhase()).isEqualTo("CourseReviewFile");
+        assertThat(result.getLastId()).isZero();
+        assertThat(result.getChunks()).isZero();
+        assertThat(savedCheckpoints).doesNotContain("CourseReviewFile:1");
+        verifyNoInteractions(reviewAttachmentRepository);
+    }
+
+    @Test
+    @DisplayName("S3 삭제가 실패하면 DB 삭제 없이 체크포인트를 옮기지 않음")
+    void runCleanup_S3Failure_CheckpointNotMoved() {
+        // given
+        givenNewRun();
+        when(reviewFileRepository.findCleanupRowsAfter(any(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(new FileCleanupRowDTO(1L, "review/a.png")));
+        when(s3Service.deleteFiles(anyList())).thenThrow(new IllegalStateException("storage down"));
+
+        // when
+        FileCleanupRun result = scheduler.runCleanup();
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(FileCleanupRun.Status.FAILED);
+        assertThat(result.getLastId()).isZero();
+        verify(reviewFileRepository, never()).hardDeleteByIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("DeleteObjects 가 일부 키만 실패하면 해당 행은 남겨 다음 실행에서 재시도")
+    void runCleanup_PartialDeleteFailure_KeepsFailedRows() {
+        // given
+        givenNewRun();
+        when(boardAttachRepository.findCleanupRowsAfter(any(), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(new FileCleanupRowDTO(10L, "board/ok.png"), new FileCleanupRowDTO(11L, "board/fail.png")));
+        when(boardAttachRepository.findCleanupRowsAfter(any(), eq(11L), any(Pageable.class)))
+                .thenReturn(List.of(new FileCleanupRowDTO(12L, null)));
+        when(s3Service.deleteFiles(List.of("board/ok.png", "board/fail.png"))).thenReturn(Set.of("board/fail.png"));
+        when(boardAttachRepository.hardDeleteByIdIn(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        // when
+        FileCleanupRun result = scheduler.runCleanup();
+
+        // then - 실패한 키의 행(11)은 삭제하지 않고, 키가 없는 행(12)은 S3 호출 없이 삭제
+        verify(boardAttachRepository).hardDeleteByIdIn(List.of(10L));
+        verify(boardAttachRepository).hardDeleteByIdIn(List.of(12L));
+        verify(boardAttachRepository, never()).hardDeleteByIdIn(argThat(ids -> ids.contains(11L)));
+        verify(s3Service, times(1)).deleteFiles(anyList());
+        assertThat(result.getStatus()).isEqualTo(FileCleanupRun.Status.COMPLETED);
+        assertThat(result.getDeletedRows()).isEqualTo(2L);
+        assertThat(result.getDeletedObjects()).isEqualTo(1L);
+        assertThat(result.getFailedObjects()).isEqualTo(1L);
+    }
+
+    private void givenNewRun() {
+        when(fileCleanupRunRepository.findFirstByStatusOrderByIdDesc(FileCleanupRun.Status.RUNNING))
+                .thenReturn(Optional.empty());
+    }
+}
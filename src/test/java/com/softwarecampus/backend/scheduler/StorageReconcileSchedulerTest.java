@@ -0,0 +1,222 @@
+package com.softwarecampus.backend.scheduler;
+
+import com.softwarecampus.backend.dto.common.StorageReconcileResponse;
+import com.softwarecampus.backend.repository.academy.AcademyFileRepository;
+import com.softwarecampus.backend.repository.academy.AcademyRepository;
+import com.softwarecampus.backend.repository.academy.academyQA.AttachmentRepository;
+import com.softwarecampus.backend.repository.banner.BannerRepository;
+import com.softwarecampus.backend.repository.board.BoardAttachRepository;
+import com.softwarecampus.backend.repository.course.CourseImageRepository;
+import com.softwarecampus.backend.repository.course.CourseReviewAttachmentRepository;
+import com.softwarecampus.backend.repository.course.CourseReviewFileRepository;
+import com.softwarecampus.backend.repository.user.AccountRepository;
+import com.softwarecampus.backend.service.common.S3Service;
+import com.softwarecampus.backend.service.common.StorageMetadataRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * StorageReconcileScheduler 테스트
+ * - 버킷 객체를 영구 삭제하므로 참조 중이거나 유예 시간 안의 객체가 삭제되지 않는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StorageReconcileScheduler 테스트")
+class StorageReconcileSchedulerTest {
+
+    private static final int PAGE_SIZE = 500;
+    private static final Instant OLD = Instant.now().minus(Duration.ofDays(3));
+
+    @Mock
+    private BoardAttachRepository boardAttachRepository;
+    @Mock
+    private AttachmentRepository attachmentRepository;
+    @Mock
+    private CourseReviewFileRepository reviewFileRepository;
+    @Mock
+    private CourseReviewAttachmentRepository reviewAttachmentRepository;
+    @Mock
+    private CourseImageRepository courseImageRepository;
+    @Mock
+    private AcademyFileRepository academyFileRepository;
+    @Mock
+    private AcademyRepository academyRepository;
+    @Mock
+    private BannerRepository bannerRepository;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private StorageMetadataRegistry metadataRegistry;
+    @Mock
+    private S3Service s3Service;
+
+    @InjectMocks
+    private StorageReconcileScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "graceHours", 24);
+        ReflectionTestUtils.setField(scheduler, "pageSize", PAGE_SIZE);
+        // 기본: 모든 폴더가 비어 있음
+        lenient().when(s3Service.listObjects(anyString(), any(), anyInt())).thenAnswer(invocation -> pages());
+    }
+
+    @Test
+    @DisplayName("유예 시간 안의 객체는 DB 대조 없이 유지")
+    void recentObject_Kept() {
+        // given
+        givenBoardObjects(object("board/new.png", Instant.now().minus(Duration.ofHours(1))));
+
+        // when
+        StorageReconcileResponse.FolderResult result = folder(scheduler.runReconcile(false), "board");
+
+        // then
+        assertThat(result.recent()).isEqualTo(1);
+        assertThat(result.orphans()).isZero();
+        verifyNoInteractions(boardAttachRepository, metadataRegistry);
+        verify(s3Service, never()).deleteFiles(anyList());
+    }
+
+    @Test
+    @DisplayName("Soft-Delete 된 행이 참조하는 키는 유지 (행 정리는 FileCleanupScheduler 담당)")
+    void softDeletedRowReference_Kept() {
+        // given - findReferencedKeys 는 is_deleted 와 무관하게 키를 반환
+        givenBoardObjects(object("board/deleted.pdf", OLD));
+        when(boardAttachRepository.findReferencedKeys(List.of("board/deleted.pdf")))
+                .thenReturn(List.of("board/deleted.pdf"));
+
+        // when
+        StorageReconcileResponse.FolderResult result = folder(scheduler.runReconcile(false), "board");
+
+        // then
+        assertThat(result.referenced()).isEqualTo(1);
+        assertThat(result.orphans()).isZero();
+        verify(s3Service, never()).deleteFiles(anyList());
+    }
+
+    @Test
+    @DisplayName("축소본(파생 이미지) 컬럼이 참조하는 키는 유지")
+    void derivativeReference_Kept() {
+        // given
+        String smallKey = "course/thumb_small.webp";
+        when(s3Service.listObjects("course/", null, PAGE_SIZE)).thenAnswer(invocation -> pages(object(smallKey, OLD)));
+        when(courseImageRepository.findReferencedKeys(List.of(smallKey))).thenReturn(List.of(smallKey));
+
+        // when
+        StorageReconcileResponse.FolderResult result = folder(scheduler.runReconcile(false), "course");
+
+        // then
+        assertThat(result.referenced()).isEqualTo(1);
+        verify(s3Service, never()).deleteFiles(anyList());
+    }
+
+    @Test
+    @DisplayName("중복 제거로 참조 수가 남아 있는 공유 객체는 유지")
+    void sharedRefCount_Kept() {
+        // given
+        givenBoardObjects(object("board/shared.pdf", OLD));
+        when(metadataRegistry.findShared(List.of("board/shared.pdf"))).thenReturn(List.of("board/shared.pdf"));
+
+        // when
+        StorageReconcileResponse.FolderResult result = folder(scheduler.runReconcile(false), "board");
+
+        // then
+        assertThat(result.referenced()).isEqualTo(1);
+        verify(s3Service, never()).deleteFiles(anyList());
+    }
+
+    @Test
+    @DisplayName("dryRun 이면 고아 객체를 보고만 하고 삭제하지 않음")
+    void dryRun_NeverDeletes() {
+        // given
+        givenBoardObjects(object("board/orphan.png", OLD));
+
+        // when
+        StorageReconcileResponse response = scheduler.runReconcile(true);
+
+        // then
+        StorageReconcileResponse.FolderResult result = folder(response, "board");
+        assertThat(response.dryRun()).isTrue();
+        assertThat(result.orphans()).isEqualTo(1);
+        assertThat(result.orphanBytes()).isEqualTo(100);
+        assertThat(result.deleted()).isZero();
+        assertThat(result.sampleKeys()).containsExactly("board/orphan.png");
+        verify(s3Service, never()).deleteFiles(anyList());
+    }
+
+    @Test
+    @DisplayName("루트 폴더는 구분자로 최상위 객체만, 다른 폴더는 접두사로 조회")
+    void listing_RootUsesDelimiter() {
+        // when
+        scheduler.runReconcile(true);
+
+        // then
+        verify(s3Service).listObjects("", "/", PAGE_SIZE);
+        verify(s3Service).listObjects(eq("board/"), isNull(), eq(PAGE_SIZE));
+        verify(s3Service).listObjects(eq("profile/"), isNull(), eq(PAGE_SIZE));
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 고아 객체는 dryRun 이 아니면 삭제하고 실패 건수를 집계")
+    void orphan_DeletedWhenNotDryRun() {
+        // given
+        givenBoardObjects(object("board/orphan1.png", OLD), object("board/orphan2.png", OLD),
+                object("board/kept.png", OLD));
+        when(boardAttachRepository.findReferencedKeys(anyList())).thenReturn(List.of("board/kept.png"));
+        when(s3Service.deleteFiles(List.of("board/orphan1.png", "board/orphan2.png")))
+                .thenReturn(Set.of("board/orphan2.png"));
+
+        // when
+        StorageReconcileResponse.FolderResult result = folder(scheduler.runReconcile(false), "board");
+
+        // then
+        verify(s3Service, times(1)).deleteFiles(anyList());
+        assertThat(result.orphans()).isEqualTo(2);
+        assertThat(result.deleted()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.completed()).isTrue();
+    }
+
+    private void givenBoardObjects(S3Object... objects) {
+        when(s3Service.listObjects("board/", null, PAGE_SIZE)).thenAnswer(invocation -> pages(objects));
+    }
+
+    private static S3Object object(String key, Instant lastModified) {
+        return S3Object.builder().key(key).lastModified(lastModified).size(100L).build();
+    }
+
+    private static ListObjectsV2Iterable pages(S3Object... objects) {
+        ListObjectsV2Iterable iterable = mock(ListObjectsV2Iterable.class);
+        ListObjectsV2Response page = ListObjectsV2Response.builder().contents(objects).build();
+        lenient().when(iterable.iterator()).thenAnswer(invocation -> List.of(page).iterator());
+        return iterable;
+    }
+
+    private static StorageReconcileResponse.FolderResult folder(StorageReconcileResponse response, String path) {
+        return response.folders().stream()
+                .filter(result -> result.folder().equals(path))
+                .findFirst()
+                .orElseThrow();
+    }
+}
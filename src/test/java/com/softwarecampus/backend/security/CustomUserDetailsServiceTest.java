@@ -3,7 +3,9 @@ package com.softwarecampus.backend.security;
 import com.softwarecampus.backend.domain.common.AccountType;
 import com.softwarecampus.backend.domain.common.ApprovalStatus;
 import com.softwarecampus.backend.domain.user.Account;
+import com.softwarecampus.backend.dto.user.AccountCacheDto;
 import com.softwarecampus.backend.repository.user.AccountRepository;
+import com.softwarecampus.backend.service.auth.TokenVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,9 +19,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -39,6 +43,12 @@ class CustomUserDetailsServiceTest {
         @Mock
         private AccountRepository accountRepository;
 
+        @Mock
+        private TokenVersionService tokenVersionService;
+
+        @Mock
+        private UserDetailsCache userDetailsCache;
+
         @InjectMocks
         private CustomUserDetailsService customUserDetailsService;
 
@@ -48,6 +58,11 @@ class CustomUserDetailsServiceTest {
 
         @BeforeEach
         void setUp() {
+                // 캐시는 항상 미적중 (조회 로직만 검증)
+                lenient().when(userDetailsCache.get(anyString(), any()))
+                                .thenAnswer(invocation -> invocation.<Function<String, AccountCacheDto>>getArgument(1)
+                                                .apply(invocation.getArgument(0)));
+
                 // 일반 사용자 계정
                 testUserAccount = Account.builder()
                                 .id(1L)
@@ -212,4 +227,26 @@ class CustomUserDetailsServiceTest {
                 // 단위 테스트에서는 메서드 호출만 확인
                 verifyNoInteractions(accountRepository);
         }
+
+        @Test
+        @DisplayName("evictUserDetailsCache 호출 시 토큰 버전 증가 (기존 Access Token 무효화)")
+        void evictUserDetailsCache_BumpsTokenVersion() {
+                // when
+                customUserDetailsService.evictUserDetailsCache("user@test.com");
+
+                // then
+                verify(userDetailsCache).evict("user@test.com");
+                verify(tokenVersionService).bumpVersion("user@test.com");
+        }
+
+        @Test
+        @DisplayName("refreshUserDetailsCache 호출 시 캐시만 삭제하고 토큰 버전은 유지")
+        void refreshUserDetailsCache_KeepsTokenVersion() {
+                // when
+                customUserDetailsService.refreshUserDetailsCache("user@test.com");
+
+                // then
+                verify(userDetailsCache).evict("user@test.com");
+                verifyNoInteractions(tokenVersionService);
+        }
 }
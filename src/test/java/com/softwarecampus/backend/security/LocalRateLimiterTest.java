@@ -0,0 +1,167 @@
+package com.softwarecampus.backend.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * LocalRateLimiter 테스트
+ * - 로컬 토큰 버킷 판단과 Redis 동기화(소비량 반영, 다른 인스턴스 소비량 차감) 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocalRateLimiter 테스트")
+class LocalRateLimiterTest {
+
+    private static final String KEY = "ratelimit:127.0.0.1";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private LocalRateLimiter localRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        localRateLimiter = new LocalRateLimiter(redisTemplate);
+        ReflectionTestUtils.setField(localRateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(localRateLimiter, "maxKeys", 100_000);
+    }
+
+    @Test
+    @DisplayName("한도까지 Redis 호출 없이 허용하고 초과 시 거부")
+    void tryAcquire_LimitsLocally() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(localRateLimiter.tryAcquire(KEY, 5).allowed()).isTrue();
+        }
+        LocalRateLimiter.Decision rejected = localRateLimiter.tryAcquire(KEY, 5);
+
+        // then
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.retryAfterSeconds()).isBetween(1L, 12L); // 분당 5개 → 12초마다 1개 충전
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("동기화 시 로컬 소비량을 한 번에 반영")
+    @SuppressWarnings("unchecked")
+    void sync_PushesPendingConsumption() {
+        // given
+        localRateLimiter.tryAcquire(KEY, 10);
+        localRateLimiter.tryAcquire(KEY, 10);
+        localRateLimiter.tryAcquire(KEY, 10);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(3L));
+
+        // when
+        int synced = localRateLimiter.sync();
+
+        // then
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), args.capture());
+        assertThat(args.getValue()).containsExactly("60", "3");
+        assertThat(synced).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 소비한 만큼 로컬 토큰 차감")
+    @SuppressWarnings("unchecked")
+    void sync_SubtractsOtherInstances() {
+        // given - 로컬 2건, 클러스터 전체 9건 (다른 인스턴스 7건)
+        localRateLimiter.tryAcquire(KEY, 10);
+        localRateLimiter.tryAcquire(KEY, 10);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(9L));
+
+        // when
+        localRateLimiter.sync();
+
+        // then - 남은 토큰 1개
+        assertThat(localRateLimiter.tryAcquire(KEY, 10).allowed()).isTrue();
+        assertThat(localRateLimiter.tryAcquire(KEY, 10).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 로컬 판단은 계속되고 소비량은 다음 동기화에 다시 반영")
+    @SuppressWarnings("unchecked")
+    void sync_RetriesAfterRedisFailure() {
+        // given
+        localRateLimiter.tryAcquire(KEY, 10);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new IllegalStateException("connection refused"))
+                .thenReturn(List.of(2L));
+
+        // when
+        assertThat(localRateLimiter.sync()).isZero();
+        localRateLimiter.tryAcquire(KEY, 10);
+        localRateLimiter.sync();
+
+        // then
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), args.capture());
+        assertThat(args.getAllValues().get(1)).containsExactly("60", "2");
+    }
+
+    @Test
+    @DisplayName("유휴 버킷을 제거 후 같은 윈도우 안에서 다시 만들면 자신의 이전 소비량을 다른 인스턴스 소비로 차감하지 않음")
+    @SuppressWarnings("unchecked")
+    void sync_RecreatedBucketKeepsClusterBaseline() throws InterruptedException {
+        // given - 분당 600 (초당 10개 충전), 로컬 5건 동기화
+        for (int i = 0; i < 5; i++) {
+            localRateLimiter.tryAcquire(KEY, 600);
+        }
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(5L), List.of(6L));
+        localRateLimiter.sync();
+
+        // 가득 찰 때까지 사용하지 않으면 다음 동기화에서 제거
+        Thread.sleep(600);
+        localRateLimiter.sync();
+        assertThat(localRateLimiter.size()).isZero();
+
+        // when - 같은 윈도우에서 다시 1건 (클러스터 카운트 6 = 이전 5 + 이번 1)
+        localRateLimiter.tryAcquire(KEY, 600);
+        localRateLimiter.sync();
+
+        // then - 다른 인스턴스 소비 0 → 600 - 2
+        assertThat(localRateLimiter.tryAcquire(KEY, 600).remaining()).isEqualTo(598);
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("로컬 키 수 상한에 도달하면 새 키는 판단하지 않음 (null)")
+    void tryAcquire_ReturnsNullWhenFull() {
+        // given - 구역당 1개
+        ReflectionTestUtils.setField(localRateLimiter, "maxKeys", 1);
+        String first = "ratelimit:10.0.0.1";
+        assertThat(localRateLimiter.tryAcquire(first, 10)).isNotNull();
+
+        // 같은 구역에 배정되는 다른 키
+        String second = null;
+        for (int i = 2; second == null; i++) {
+            String candidate = "ratelimit:10.0.0." + i;
+            if (Math.floorMod(candidate.hashCode(), 64) == Math.floorMod(first.hashCode(), 64)) {
+                second = candidate;
+            }
+        }
+
+        // when & then
+        assertThat(localRateLimiter.tryAcquire(second, 10)).isNull();
+        assertThat(localRateLimiter.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,169 @@
+package com.softwarecampus.backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softwarecampus.backend.util.ClientIpUtils;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * RateLimitFilter 테스트
+ * - 엄격 모드 단계 일괄 판정(Redis 1회 호출), 엄격 단계 우선 판정과 응답 헤더 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitFilter 테스트")
+class RateLimitFilterTest {
+
+    private static final String CLIENT_IP = "10.0.0.1";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ClientIpUtils clientIpUtils;
+
+    @Mock
+    private LocalRateLimiter localRateLimiter;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private RateLimitFilter rateLimitFilter;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitFilter = new RateLimitFilter(redisTemplate, new ObjectMapper(), clientIpUtils, localRateLimiter);
+        ReflectionTestUtils.setField(rateLimitFilter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimitFilter, "requestsPerMinute", 100);
+        ReflectionTestUtils.setField(rateLimitFilter, "loginRequestsPerMinute", 5);
+        ReflectionTestUtils.setField(rateLimitFilter, "passwordVerificationRequestsPerMinute", 10);
+        ReflectionTestUtils.setField(rateLimitFilter, "loginStrict", true);
+        ReflectionTestUtils.setField(rateLimitFilter, "passwordVerificationStrict", true);
+
+        when(clientIpUtils.getClientIp(any())).thenReturn(CLIENT_IP);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("일반 API - 로컬 버킷으로 판단하고 Redis 호출 없음")
+    void globalTier_DecidedLocally() throws Exception {
+        // given
+        when(localRateLimiter.isEnabled()).thenReturn(true);
+        when(localRateLimiter.tryAcquire("ratelimit:" + CLIENT_IP, 100))
+                .thenReturn(new LocalRateLimiter.Decision(true, 42, 0));
+
+        // when
+        rateLimitFilter.doFilter(new MockHttpServletRequest("GET", "/api/courses"), response, filterChain);
+
+        // then
+        verify(filterChain).doFilter(any(), any());
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("42");
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("로그인 API - 로그인/전역 단계를 한 번의 스크립트 호출로 판정")
+    @SuppressWarnings("unchecked")
+    void loginTiers_SingleRedisCall() throws Exception {
+        // given - 로컬 모드 비활성화: 모든 단계가 Redis 판정
+        when(localRateLimiter.isEnabled()).thenReturn(false);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(1L, 3L, 55L, 1L, 90L, 55L));
+
+        // when
+        rateLimitFilter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), response, filterChain);
+
+        // then
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), keys.capture(), args.capture());
+        assertThat(keys.getValue()).containsExactly("ratelimit:login:" + CLIENT_IP, "ratelimit:" + CLIENT_IP);
+        assertThat(args.getValue()).containsExactly("60", "5", "100");
+        verify(filterChain).doFilter(any(), any());
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("로그인 한도 초과 - 429, Retry-After 는 윈도우 남은 시간")
+    @SuppressWarnings("unchecked")
+    void loginTier_Rejected() throws Exception {
+        // given - 로그인 단계는 엄격 모드, 전역 단계는 로컬 모드
+        when(localRateLimiter.isEnabled()).thenReturn(true);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("ratelimit:login:" + CLIENT_IP)),
+                any(Object[].class)))
+                .thenReturn(List.of(0L, 0L, 17L));
+
+        // when
+        rateLimitFilter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), response, filterChain);
+
+        // then
+        verify(filterChain, never()).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("17");
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("0");
+        assertThat(response.getContentAsString()).contains("로그인 시도가 너무 많습니다");
+        // 엄격 단계에서 거부된 요청은 전역 단계의 로컬 토큰을 소비하지 않음
+        verify(localRateLimiter, never()).tryAcquire(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("로그인 허용 후에만 전역 단계 로컬 토큰 소비, 남은 수는 더 적은 쪽")
+    @SuppressWarnings("unchecked")
+    void loginTier_AllowedThenLocalGlobal() throws Exception {
+        // given
+        when(localRateLimiter.isEnabled()).thenReturn(true);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("ratelimit:login:" + CLIENT_IP)),
+                any(Object[].class)))
+                .thenReturn(List.of(1L, 4L, 60L));
+        when(localRateLimiter.tryAcquire("ratelimit:" + CLIENT_IP, 100))
+                .thenReturn(new LocalRateLimiter.Decision(true, 99, 0));
+
+        // when
+        rateLimitFilter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), response, filterChain);
+
+        // then
+        InOrder order = inOrder(redisTemplate, localRateLimiter);
+        order.verify(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        order.verify(localRateLimiter).tryAcquire("ratelimit:" + CLIENT_IP, 100);
+        verify(filterChain).doFilter(any(), any());
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("4");
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 요청 허용 (체인은 한 번만 실행)")
+    @SuppressWarnings("unchecked")
+    void redisFailure_AllowsRequestOnce() throws Exception {
+        // given
+        when(localRateLimiter.isEnabled()).thenReturn(false);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        // when
+        rateLimitFilter.doFilter(new MockHttpServletRequest("GET", "/api/courses"), response, filterChain);
+
+        // then
+        verify(filterChain, times(1)).doFilter(any(), any());
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isNull();
+    }
+}
@@ -0,0 +1,263 @@
+package com.softwarecampus.backend.security;
+
+import com.softwarecampus.backend.domain.common.AccountType;
+import com.softwarecampus.backend.dto.user.AccountCacheDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserDetailsCache 테스트
+ * - 로컬(L1) → Redis(L2) → DB 조회 순서와 무효화 메시지 처리 검증
+ * - L1 은 무효화 채널을 구독 중일 때만 사용
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserDetailsCache 테스트")
+class UserDetailsCacheTest {
+
+    private static final String EMAIL = "user@test.com";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ObjectProvider<CacheManager> cacheManagerProvider;
+
+    @Mock
+    private ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache remoteCache;
+
+    private UserDetailsCache userDetailsCache;
+    private AccountCacheDto account;
+    private AtomicInteger loads;
+    private Function<String, AccountCacheDto> loader;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsCache = new UserDetailsCache(redisTemplate, cacheManagerProvider, listenerContainerProvider);
+        ReflectionTestUtils.setField(userDetailsCache, "localMaxSize", 2);
+        ReflectionTestUtils.setField(userDetailsCache, "localTtl", Duration.ofMinutes(1));
+
+        lenient().when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+        lenient().when(cacheManager.getCache(UserDetailsCache.CACHE_NAME)).thenReturn(remoteCache);
+        lenient().when(listenerContainerProvider.getIfAvailable()).thenReturn(listenerContainer);
+        lenient().when(listenerContainer.isListening()).thenReturn(true);
+        subscribe(userDetailsCache);
+
+        account = AccountCacheDto.builder()
+                .id(1L)
+                .email(EMAIL)
+                .password("$2a$10$hashedPassword")
+                .accountType(AccountType.USER)
+                .build();
+        loads = new AtomicInteger();
+        loader = email -> {
+            loads.incrementAndGet();
+            return account;
+        };
+    }
+
+    @Test
+    @DisplayName("미적중 시 DB 조회 후 Redis/로컬에 적재, 이후 로컬 적중으로 Redis 조회 생략")
+    void get_LoadsOnceThenServesLocally() {
+        // when
+        AccountCacheDto first = userDetailsCache.get(EMAIL, loader);
+        AccountCacheDto second = userDetailsCache.get(EMAIL, loader);
+
+        // then
+        assertThat(first).isSameAs(account);
+        assertThat(second).isSameAs(account);
+        assertThat(loads).hasValue(1);
+        verify(remoteCache, times(1)).get(EMAIL, AccountCacheDto.class);
+        verify(remoteCache).put(EMAIL, account);
+    }
+
+    @Test
+    @DisplayName("Redis 적중 시 DB 조회 없이 로컬에 적재")
+    void get_RemoteHit() {
+        // given
+        when(remoteCache.get(EMAIL, AccountCacheDto.class)).thenReturn(account);
+
+        // when
+        AccountCacheDto result = userDetailsCache.get(EMAIL, loader);
+
+        // then
+        assertThat(result).isSameAs(account);
+        assertThat(loads).hasValue(0);
+        assertThat(userDetailsCache.localSize()).isEqualTo(1);
+        verify(remoteCache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 조회로 대체")
+    void get_RemoteFailureFallsBackToLoader() {
+        // given
+        when(remoteCache.get(EMAIL, AccountCacheDto.class)).thenThrow(new IllegalStateException("connection refused"));
+        doThrow(new IllegalStateException("connection refused")).when(remoteCache).put(any(), any());
+
+        // when
+        AccountCacheDto result = userDetailsCache.get(EMAIL, loader);
+
+        // then
+        assertThat(result).isSameAs(account);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("무효화 시 로컬/Redis 삭제 및 다른 인스턴스에 메시지 발행")
+    void evict_RemovesAndPublishes() {
+        // given
+        userDetailsCache.get(EMAIL, loader);
+
+        // when
+        userDetailsCache.evict(EMAIL);
+        userDetailsCache.get(EMAIL, loader);
+
+        // then
+        verify(remoteCache).evict(EMAIL);
+        verify(redisTemplate).convertAndSend(UserDetailsCache.INVALIDATION_CHANNEL, EMAIL);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화 메시지 수신 시 로컬 항목만 삭제")
+    void onMessage_RemovesLocalEntry() {
+        // given
+        userDetailsCache.get(EMAIL, loader);
+        when(remoteCache.get(EMAIL, AccountCacheDto.class)).thenReturn(account);
+
+        // when
+        userDetailsCache.onMessage(new DefaultMessage(
+                UserDetailsCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                EMAIL.getBytes(StandardCharsets.UTF_8)), null);
+        userDetailsCache.get(EMAIL, loader);
+
+        // then - 로컬 미적중 후 Redis 에서 다시 적재
+        assertThat(loads).hasValue(1);
+        verify(remoteCache, times(2)).get(EMAIL, AccountCacheDto.class);
+        verify(remoteCache, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("로컬 최대 크기를 넘으면 새 항목은 로컬에 보관하지 않음")
+    void get_LocalBounded() {
+        // when
+        userDetailsCache.get("a@test.com", loader);
+        userDetailsCache.get("b@test.com", loader);
+        userDetailsCache.get("c@test.com", loader);
+
+        // then
+        assertThat(userDetailsCache.localSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 발행한 무효화 메시지가 이 인스턴스의 로컬 항목을 삭제")
+    void evict_OnOtherInstanceClearsLocalEntry() {
+        // given - 두 인스턴스가 같은 채널을 구독 (발행 메시지는 양쪽 모두 수신)
+        UserDetailsCache other = new UserDetailsCache(redisTemplate, cacheManagerProvider, listenerContainerProvider);
+        ReflectionTestUtils.setField(other, "localMaxSize", 2);
+        ReflectionTestUtils.setField(other, "localTtl", Duration.ofMinutes(1));
+        subscribe(other);
+        doAnswer(invocation -> {
+            DefaultMessage message = new DefaultMessage(
+                    UserDetailsCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    invocation.getArgument(1, String.class).getBytes(StandardCharsets.UTF_8));
+            userDetailsCache.onMessage(message, null);
+            other.onMessage(message, null);
+            return 1L;
+        }).when(redisTemplate).convertAndSend(eq(UserDetailsCache.INVALIDATION_CHANNEL), any(Object.class));
+
+        userDetailsCache.get(EMAIL, loader);
+        other.get(EMAIL, loader);
+        assertThat(loads).hasValue(2);
+
+        // when - 다른 인스턴스에서 계정 변경
+        other.evict(EMAIL);
+        userDetailsCache.get(EMAIL, loader);
+
+        // then - 로컬 적중 없이 다시 조회
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("무효화 채널 구독이 끊긴 동안에는 로컬 보관 없이 매번 Redis/DB 조회")
+    void get_SkipsLocalWhileNotListening() {
+        // given
+        when(listenerContainer.isListening()).thenReturn(false);
+
+        // when
+        userDetailsCache.get(EMAIL, loader);
+        userDetailsCache.get(EMAIL, loader);
+
+        // then
+        assertThat(loads).hasValue(2);
+        assertThat(userDetailsCache.localSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 메시지 리스너 컨테이너가 없으면 로컬 단계를 사용하지 않음")
+    void get_SkipsLocalWithoutContainer() {
+        // given
+        when(listenerContainerProvider.getIfAvailable()).thenReturn(null);
+        UserDetailsCache standalone = new UserDetailsCache(redisTemplate, cacheManagerProvider,
+                listenerContainerProvider);
+        ReflectionTestUtils.setField(standalone, "localMaxSize", 2);
+        ReflectionTestUtils.setField(standalone, "localTtl", Duration.ofMinutes(1));
+        standalone.subscribe();
+
+        // when
+        standalone.get(EMAIL, loader);
+        standalone.get(EMAIL, loader);
+
+        // then
+        assertThat(loads).hasValue(2);
+        assertThat(standalone.localSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("재구독 시 끊긴 동안 놓친 메시지에 대비해 로컬 항목을 모두 삭제")
+    void onChannelSubscribed_ClearsLocalEntries() {
+        // given
+        userDetailsCache.get(EMAIL, loader);
+        assertThat(userDetailsCache.localSize()).isEqualTo(1);
+
+        // when
+        userDetailsCache.onChannelSubscribed(UserDetailsCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), 1);
+
+        // then
+        assertThat(userDetailsCache.localSize()).isZero();
+    }
+
+    private void subscribe(UserDetailsCache cache) {
+        cache.subscribe();
+        cache.onChannelSubscribed(UserDetailsCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), 1);
+    }
+}
@@ -263,4 +263,72 @@ class JwtTokenProviderTest {
         assertThat(actualDuration).isBetween(TEST_EXPIRATION - 1000, TEST_EXPIRATION + 1000);
         assertThat(issuedTime).isLessThanOrEqualTo(System.currentTimeMillis());
     }
+    
+    @Test
+    @DisplayName("verify - 한 번의 파싱으로 email/role/만료 시각 반환")
+    void verify_returnsPrincipal() {
+        // given
+        String token = jwtTokenProvider.generateToken("user@example.com", "USER");
+        
+        // when
+        JwtPrincipal principal = jwtTokenProvider.verify(token).orElseThrow();
+        
+        // then
+        assertThat(principal.email()).isEqualTo("user@example.com");
+        assertThat(principal.role()).isEqualTo("USER");
+        assertThat(principal.expiresAt()).isAfter(java.time.Instant.now());
+        // 캐시 적중 시에도 같은 결과
+        assertThat(jwtTokenProvider.verify(token)).contains(principal);
+    }
+    
+    @Test
+    @DisplayName("verify - 계정 ID/승인 상태/토큰 버전 클레임 포함 토큰은 자체 인가 가능")
+    void verify_selfContainedClaims() {
+        // given
+        String token = jwtTokenProvider.generateToken("user@example.com", "USER", 7L, "APPROVED", 2L);
+        String legacyToken = jwtTokenProvider.generateToken("user@example.com", "USER");
+        
+        // when
+        JwtPrincipal principal = jwtTokenProvider.verify(token).orElseThrow();
+        JwtPrincipal legacy = jwtTokenProvider.verify(legacyToken).orElseThrow();
+        
+        // then
+        assertThat(principal.accountId()).isEqualTo(7L);
+        assertThat(principal.approval()).isEqualTo("APPROVED");
+        assertThat(principal.tokenVersion()).isEqualTo(2L);
+        assertThat(principal.isSelfContained()).isTrue();
+        assertThat(legacy.isSelfContained()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("verify - 검증된 토큰의 서명을 다른 payload 에 붙인 위조 토큰은 캐시에 적중하지 않음")
+    void verify_forgedPayloadWithCachedSignature() {
+        // given
+        String token = jwtTokenProvider.generateToken("user@example.com", "USER");
+        jwtTokenProvider.verify(token);
+        String[] parts = token.split("\\.");
+        String forgedPayload = java.util.Base64.getUrlEncoder().withoutPadding().encodeToString(
+                "{\"sub\":\"admin@example.com\",\"role\":\"ADMIN\"}".getBytes(StandardCharsets.UTF_8));
+        String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+        
+        // when & then
+        assertThat(jwtTokenProvider.verify(forged)).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("verify - 캐시 크기 0 이면 캐시 없이 매번 검증")
+    void verify_cacheDisabled() {
+        // given
+        JwtProperties noCacheProperties = new JwtProperties();
+        ReflectionTestUtils.setField(noCacheProperties, "secret", TEST_SECRET);
+        ReflectionTestUtils.setField(noCacheProperties, "expiration", TEST_EXPIRATION);
+        noCacheProperties.setVerifiedCacheSize(0);
+        JwtTokenProvider noCacheProvider = new JwtTokenProvider(noCacheProperties);
+        String token = noCacheProvider.generateToken("test@example.com");
+        
+        // when & then
+        assertThat(noCacheProvider.verify(token)).map(JwtPrincipal::email).contains("test@example.com");
+        assertThat(noCacheProvider.verify(token)).map(JwtPrincipal::email).contains("test@example.com");
+        assertThat(noCacheProvider.verify("invalid")).isEmpty();
+    }
 }
@@ -6,6 +6,7 @@ import com.softwarecampus.backend.domain.user.Account;
 import com.softwarecampus.backend.dto.user.AccountResponse;
 import com.softwarecampus.backend.dto.user.AccountUpdateRequest;
 import com.softwarecampus.backend.repository.user.AccountRepository;
+import com.softwarecampus.backend.security.CustomUserDetailsService;
 import com.softwarecampus.backend.service.admin.AccountAdminServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,6 +38,9 @@ class AccountAdminServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+
     @InjectMocks
     private AccountAdminServiceImpl accountAdminService;
 
@@ -239,6 +243,9 @@ class AccountAdminServiceTest {
 
         // 2. findById는 한 번 호출되었는지 확인
         verify(accountRepository, times(1)).findById(activeUser.getId());
+
+        // 3. 인증 캐시 제거 및 기존 Access Token 무효화
+        verify(customUserDetailsService).evictUserDetailsCache(activeUser.getEmail());
     }
 
     @Test
@@ -1,6 +1,7 @@
 package com.softwarecampus.backend.service.auth;
 
 import com.softwarecampus.backend.dto.auth.TokenResponse;
+import com.softwarecampus.backend.repository.user.AccountRepository;
 import com.softwarecampus.backend.security.jwt.JwtTokenProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -41,6 +42,12 @@ class TokenServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TokenVersionService tokenVersionService;
+
     @InjectMocks
     private TokenService tokenService;
 
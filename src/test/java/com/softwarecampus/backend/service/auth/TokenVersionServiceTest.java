@@ -0,0 +1,76 @@
+package com.softwarecampus.backend.service.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * TokenVersionService 테스트
+ * - 버전은 만료 없이 단조 증가하고, 이전 버전 토큰은 거부되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenVersionService 테스트")
+class TokenVersionServiceTest {
+
+    private static final String EMAIL = "user@test.com";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private TokenVersionService tokenVersionService;
+
+    @Test
+    @DisplayName("버전 증가 시 TTL 을 두지 않음 - 키가 만료되어 버전이 0 으로 돌아가지 않도록")
+    void bumpVersion_NoExpiry() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment("tokenver:" + EMAIL)).thenReturn(3L);
+
+        // when
+        tokenVersionService.bumpVersion(EMAIL);
+
+        // then
+        verify(valueOperations).increment("tokenver:" + EMAIL);
+        verify(redisTemplate, never()).expire(anyString(), anyLong(), any());
+        verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("현재 버전보다 낮은 ver 토큰은 거부, 같거나 높으면 허용")
+    void isCurrent_ComparesVersion() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("tokenver:" + EMAIL)).thenReturn("2");
+
+        // when & then
+        assertThat(tokenVersionService.isCurrent(EMAIL, 1L)).isFalse();
+        assertThat(tokenVersionService.isCurrent(EMAIL, 2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 확인 결과는 null")
+    void isCurrent_NullOnRedisFailure() {
+        // given
+        when(redisTemplate.opsForValue()).thenThrow(new IllegalStateException("connection refused"));
+
+        // when & then
+        assertThat(tokenVersionService.isCurrent(EMAIL, 0L)).isNull();
+    }
+}
@@ -11,6 +11,8 @@ import com.softwarecampus.backend.exception.banner.BannerErrorCode;
 import com.softwarecampus.backend.exception.banner.BannerException;
 import com.softwarecampus.backend.repository.banner.BannerRepository;
 import com.softwarecampus.backend.service.academy.qna.AttachmentService;
+import com.softwarecampus.backend.service.common.ImageTarget;
+import com.softwarecampus.backend.service.common.event.ImageUploadedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -38,6 +41,9 @@ class BannerServiceImplTest {
         @Mock
         private AttachmentService attachmentService;
 
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
         @InjectMocks
         private BannerServiceImpl bannerService;
 
@@ -54,15 +60,15 @@ class BannerServiceImplTest {
         void setUp() {
                 activeBanner = spy(new Banner(
                                 bannerId, "Title A", "http://old.url/image.jpg",
-                                "http://link.com", "Description A", 1, true));
+                                "http://link.com", "Description A", 1, true, null));
 
                 deletedBanner = spy(new Banner(
-                                2L, "Deleted", "http://del.url", "http://link.com", "Description Deleted", 2, true));
+                                2L, "Deleted", "http://del.url", "http://link.com", "Description Deleted", 2, true, null));
                 deletedBanner.markDeleted();
 
                 inactiveBanner = new Banner(
                                 3L, "Inactive", "http://inactive.url", "http://link.com", "Description Inactive", 3,
-                                false);
+                                false, null);
 
                 mockFileDetail = QAFileDetail.builder()
                                 .id(10L)
@@ -83,7 +89,7 @@ class BannerServiceImplTest {
                                 .build();
 
                 Banner savedBanner = spy(new Banner(
-                                bannerId, "New Banner", null, "http://new.link", null, 10, true));
+                                bannerId, "New Banner", null, "http://new.link", null, 10, true, null));
                 when(bannerRepository.save(any(Banner.class))).thenReturn(savedBanner);
 
                 QAFileDetail confirmedFile = QAFileDetail.builder()
@@ -126,7 +132,7 @@ class BannerServiceImplTest {
                                 .build();
 
                 Banner savedBanner = spy(new Banner(
-                                bannerId, "No File Banner", null, null, null, 1, true));
+                                bannerId, "No File Banner", null, null, null, 1, true, null));
                 when(bannerRepository.save(any(Banner.class))).thenReturn(savedBanner);
 
                 bannerService.createBanner(request);
@@ -190,6 +196,7 @@ class BannerServiceImplTest {
                                 eq(true));
 
                 assertEquals(NEW_URL, response.getImageUrl());
+                verify(eventPublisher, times(1)).publishEvent(ImageUploadedEvent.of(ImageTarget.BANNER, NEW_URL));
         }
 
         @Test
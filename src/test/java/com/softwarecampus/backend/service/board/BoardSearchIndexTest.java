@@ -0,0 +1,94 @@
+package com.softwarecampus.backend.service.board;
+
+import com.softwarecampus.backend.domain.board.BoardCategory;
+import com.softwarecampus.backend.dto.board.BoardSearchDocumentDTO;
+import com.softwarecampus.backend.repository.board.BoardRepository;
+import com.softwarecampus.backend.repository.board.CommentRepository;
+import com.softwarecampus.backend.service.board.event.BoardChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardSearchIndexTest {
+
+    @InjectMocks
+    private BoardSearchIndex boardSearchIndex;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(boardSearchIndex, "maxStalenessSeconds", 600L);
+        boardSearchIndex.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardSearchIndex.stop();
+    }
+
+    @Test
+    @DisplayName("카테고리 조건은 색인 안에서 적용되어 순위와 무관하게 일치 게시글 전체를 반환한다")
+    void search_filtersCategoryInsideIndex() {
+        // 자유게시판 1500건이 순위 상위를 차지해도 질문게시판 게시글이 누락되지 않아야 함
+        List<BoardSearchDocumentDTO> docs = new ArrayList<>();
+        for (long id = 1; id <= 1500; id++) {
+            docs.add(new BoardSearchDocumentDTO(id, BoardCategory.CODING_STORY, "스프링 질문", "", "작성자"));
+        }
+        docs.add(new BoardSearchDocumentDTO(2000L, BoardCategory.QUESTION, "게시판", "스프링", "작성자"));
+        when(boardRepository.findSearchDocuments()).thenReturn(docs);
+        when(commentRepository.findSearchComments()).thenReturn(List.of());
+
+        assertThat(boardSearchIndex.search("스프링", BoardCategory.QUESTION, BoardSearchIndex.TITLE,
+                BoardSearchIndex.TEXT)).containsExactly(2000L);
+        assertThat(boardSearchIndex.search("스프링", null, BoardSearchIndex.TITLE)).hasSize(1500);
+    }
+
+    @Test
+    @DisplayName("기동 직후 전용 스레드에서 전체 빌드하고, 이후 검색은 빌드를 다시 하지 않는다")
+    void buildOnStartup_buildsInBackground() {
+        when(boardRepository.findSearchDocuments())
+                .thenReturn(List.of(new BoardSearchDocumentDTO(1L, BoardCategory.NOTICE, "공지", "점검 안내", "관리자")));
+        when(commentRepository.findSearchComments()).thenReturn(List.of());
+
+        boardSearchIndex.buildOnStartup();
+
+        verify(boardRepository, timeout(5000)).findSearchDocuments();
+        assertThat(boardSearchIndex.search("점검", BoardCategory.NOTICE)).containsExactly(1L);
+        verify(boardRepository, times(1)).findSearchDocuments();
+    }
+
+    @Test
+    @DisplayName("변경 이벤트로 표시된 게시글은 다음 검색에서 카테고리와 함께 교체된다")
+    void onBoardChanged_refreshesCategory() {
+        when(boardRepository.findSearchDocuments())
+                .thenReturn(List.of(new BoardSearchDocumentDTO(1L, BoardCategory.QUESTION, "자바 질문", "", "작성자")));
+        when(commentRepository.findSearchComments()).thenReturn(List.of());
+        assertThat(boardSearchIndex.search("자바", BoardCategory.QUESTION)).containsExactly(1L);
+
+        when(boardRepository.findSearchDocumentsByIdIn(List.of(1L)))
+                .thenReturn(List.of(new BoardSearchDocumentDTO(1L, BoardCategory.CODING_STORY, "자바 질문", "", "작성자")));
+        when(commentRepository.findSearchCommentsByBoardIdIn(List.of(1L))).thenReturn(List.of());
+        boardSearchIndex.onBoardChanged(new BoardChangedEvent(1L));
+
+        assertThat(boardSearchIndex.search("자바", BoardCategory.QUESTION)).isEmpty();
+        assertThat(boardSearchIndex.search("자바", BoardCategory.CODING_STORY)).containsExactly(1L);
+    }
+}
@@ -0,0 +1,178 @@
+package com.softwarecampus.backend.service.board;
+
+import com.softwarecampus.backend.domain.board.Board;
+import com.softwarecampus.backend.domain.board.BoardRecommend;
+import com.softwarecampus.backend.domain.board.Comment;
+import com.softwarecampus.backend.domain.user.Account;
+import com.softwarecampus.backend.dto.board.CommentCreateRequestDTO;
+import com.softwarecampus.backend.exception.board.BoardException;
+import com.softwarecampus.backend.repository.board.BoardRecommendRepository;
+import com.softwarecampus.backend.repository.board.BoardRepository;
+import com.softwarecampus.backend.repository.board.CommentRepository;
+import com.softwarecampus.backend.repository.user.AccountRepository;
+import com.softwarecampus.backend.service.board.event.BoardChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * BoardServiceImpl 테스트
+ * - 댓글 작성/삭제, 추천/추천 취소 시 게시글의 comment_count / recommend_count 증감 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardServiceImpl 테스트")
+class BoardServiceImplTest {
+
+    private static final Long BOARD_ID = 1L;
+    private static final Long USER_ID = 10L;
+
+    @Mock
+    private BoardRepository boardRepository;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private BoardRecommendRepository boardRecommendRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private BoardServiceImpl boardService;
+
+    private Board board;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        board = Board.builder().id(BOARD_ID).title("제목").text("본문").build();
+        account = Account.builder().id(USER_ID).build();
+    }
+
+    @Test
+    @DisplayName("댓글 작성 시 게시글 댓글 수 +1")
+    void createComment_IncrementsCommentCount() {
+        // given
+        when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
+        when(accountRepository.findById(USER_ID)).thenReturn(Optional.of(account));
+
+        // when
+        boardService.createComment(CommentCreateRequestDTO.builder().boardId(BOARD_ID).text("댓글").build(), USER_ID);
+
+        // then
+        verify(commentRepository).save(any(Comment.class));
+        verify(boardRepository).addCommentCount(BOARD_ID, 1);
+        verify(eventPublisher).publishEvent(any(BoardChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글에는 댓글을 달 수 없고 댓글 수도 바뀌지 않음")
+    void createComment_DeletedBoard_CountUnchanged() {
+        // given
+        board.markDeleted();
+        when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
+
+        // when & then
+        assertThatThrownBy(() -> boardService.createComment(
+                CommentCreateRequestDTO.builder().boardId(BOARD_ID).text("댓글").build(), USER_ID))
+                .isInstanceOf(BoardException.class);
+        verify(boardRepository, never()).addCommentCount(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("댓글 Soft-Delete 시 게시글 댓글 수 -1")
+    void deleteComment_DecrementsCommentCount() {
+        // given
+        Comment comment = Comment.builder().id(5L).board(board).account(account).text("댓글").build();
+        when(commentRepository.findById(5L)).thenReturn(Optional.of(comment));
+
+        // when
+        boardService.deleteComment(5L);
+
+        // then
+        assertThat(comment.isActive()).isFalse();
+        verify(boardRepository).addCommentCount(BOARD_ID, -1);
+    }
+
+    @Test
+    @DisplayName("이미 삭제된 댓글은 다시 삭제되지 않으므로 댓글 수가 두 번 줄지 않음")
+    void deleteComment_AlreadyDeleted_CountUnchanged() {
+        // given
+        Comment comment = Comment.builder().id(5L).board(board).account(account).text("댓글").build();
+        comment.markDeleted();
+        when(commentRepository.findById(5L)).thenReturn(Optional.of(comment));
+
+        // when & then
+        assertThatThrownBy(() -> boardService.deleteComment(5L)).isInstanceOf(BoardException.class);
+        verify(boardRepository, never()).addCommentCount(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("추천 시 게시글 추천 수 +1")
+    void recommendBoard_IncrementsRecommendCount() {
+        // given
+        when(accountRepository.findById(USER_ID)).thenReturn(Optional.of(account));
+        when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
+
+        // when
+        boardService.recommendBoard(BOARD_ID, USER_ID);
+
+        // then
+        verify(boardRecommendRepository).save(any(BoardRecommend.class));
+        verify(boardRepository).addRecommendCount(BOARD_ID, 1);
+    }
+
+    @Test
+    @DisplayName("이미 추천한 게시글은 추천 수가 바뀌지 않음")
+    void recommendBoard_AlreadyRecommended_CountUnchanged() {
+        // given
+        when(accountRepository.findById(USER_ID)).thenReturn(Optional.of(account));
+        when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
+        when(boardRecommendRepository.findByBoardIdAndUserId(BOARD_ID, USER_ID)).thenReturn(new BoardRecommend());
+
+        // when & then
+        assertThatThrownBy(() -> boardService.recommendBoard(BOARD_ID, USER_ID)).isInstanceOf(BoardException.class);
+        verify(boardRepository, never()).addRecommendCount(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("추천 취소 시 게시글 추천 수 -1")
+    void unRecommendBoard_DecrementsRecommendCount() {
+        // given
+        BoardRecommend recommend = new BoardRecommend();
+        recommend.setBoard(board);
+        recommend.setAccount(account);
+        when(boardRecommendRepository.findByBoardIdAndUserId(BOARD_ID, USER_ID)).thenReturn(recommend);
+
+        // when
+        boardService.unRecommendBoard(BOARD_ID, USER_ID);
+
+        // then
+        verify(boardRecommendRepository).delete(recommend);
+        verify(boardRepository).addRecommendCount(BOARD_ID, -1);
+    }
+
+    @Test
+    @DisplayName("추천하지 않은 게시글의 추천 취소는 추천 수를 줄이지 않음")
+    void unRecommendBoard_NotRecommended_CountUnchanged() {
+        // given
+        when(boardRecommendRepository.findByBoardIdAndUserId(BOARD_ID, USER_ID)).thenReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> boardService.unRecommendBoard(BOARD_ID, USER_ID)).isInstanceOf(BoardException.class);
+        verify(boardRepository, never()).addRecommendCount(anyLong(), anyLong());
+    }
+}
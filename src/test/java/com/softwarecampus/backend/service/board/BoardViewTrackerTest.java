@@ -0,0 +1,89 @@
+package com.softwarecampus.backend.service.board;
+
+import com.softwarecampus.backend.domain.board.Board;
+import com.softwarecampus.backend.domain.board.BoardView;
+import com.softwarecampus.backend.repository.board.BoardRepository;
+import com.softwarecampus.backend.repository.board.BoardViewRepository;
+import com.softwarecampus.backend.repository.user.AccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardViewTrackerTest {
+
+    @InjectMocks
+    private BoardViewTracker boardViewTracker;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private BoardViewRepository boardViewRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Test
+    @DisplayName("로그인 사용자는 게시글·날짜별 Set 에 account 기준으로 기록되고, 첫 조회만 true")
+    void markViewedToday_account() {
+        String key = "board:view:" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + ":10";
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(key)), eq("a:1"), anyString()))
+                .thenReturn(1L, 0L);
+
+        assertThat(boardViewTracker.markViewedToday(10L, 1L, "127.0.0.1")).isTrue();
+        assertThat(boardViewTracker.markViewedToday(10L, 1L, "127.0.0.1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 IP 기준으로 기록된다")
+    void markViewedToday_ip() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("ip:127.0.0.1"), anyString()))
+                .thenReturn(0L);
+
+        assertThat(boardViewTracker.markViewedToday(10L, null, "127.0.0.1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 첫 조회로 간주한다")
+    void markViewedToday_redisFailure() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(boardViewTracker.markViewedToday(10L, 1L, null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("감사 기록은 비로그인 사용자만 IP 를 남긴다")
+    void recordAudit_anonymous() {
+        Board board = mock(Board.class);
+        when(boardRepository.getReferenceById(10L)).thenReturn(board);
+
+        boardViewTracker.recordAudit(10L, null, "127.0.0.1");
+
+        ArgumentCaptor<BoardView> saved = ArgumentCaptor.forClass(BoardView.class);
+        verify(boardViewRepository).save(saved.capture());
+        assertThat(saved.getValue().getBoard()).isSameAs(board);
+        assertThat(saved.getValue().getAccount()).isNull();
+        assertThat(saved.getValue().getIpAddress()).isEqualTo("127.0.0.1");
+        verifyNoInteractions(accountRepository);
+    }
+}
@@ -0,0 +1,99 @@
+package com.softwarecampus.backend.service.board;
+
+import com.softwarecampus.backend.dto.board.CommentReplyCountDTO;
+import com.softwarecampus.backend.dto.board.CommentResponseDTO;
+import com.softwarecampus.backend.dto.board.CommentRowDTO;
+import com.softwarecampus.backend.dto.common.CursorPageResponse;
+import com.softwarecampus.backend.repository.board.CommentRepository;
+import com.softwarecampus.backend.util.PageCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentPageLoaderTest {
+
+    @InjectMocks
+    private CommentPageLoader commentPageLoader;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Test
+    @DisplayName("원댓글 구간을 대댓글 수와 함께 반환하고, 마지막 댓글 ID 로 다음 커서를 만든다")
+    void loadRoots_withReplyCounts() {
+        when(commentRepository.findRootRowsAfter(eq(1L), eq(null), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(row(10L, null, 100L, false), row(11L, null, 101L, false)),
+                        Pageable.ofSize(2), true));
+        when(commentRepository.countRepliesByParentIdIn(List.of(10L, 11L)))
+                .thenReturn(List.of(new CommentReplyCountDTO(10L, 3L)));
+
+        CursorPageResponse<CommentResponseDTO> page = commentPageLoader.loadRoots(1L, 100L, null, 2);
+
+        assertThat(page.content()).extracting(CommentResponseDTO::getId).containsExactly(10L, 11L);
+        assertThat(page.content()).extracting(CommentResponseDTO::getReplyCount).containsExactly(3L, 0L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(PageCursor.decode(page.nextCursor(), 1).getLong(0)).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("대댓글은 커서 이후의 직계 대댓글만 조회한다")
+    void loadReplies_afterCursor() {
+        when(commentRepository.findReplyRowsAfter(eq(1L), eq(10L), eq(12L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(row(13L, 10L, 100L, false)), Pageable.ofSize(20), false));
+        when(commentRepository.countRepliesByParentIdIn(List.of(13L))).thenReturn(List.of());
+
+        CursorPageResponse<CommentResponseDTO> page = commentPageLoader.loadReplies(1L, 10L, null,
+                PageCursor.encode(12L), 20);
+
+        assertThat(page.content()).extracting(CommentResponseDTO::getId).containsExactly(13L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("비밀 댓글은 작성자 본인에게만 내용이 보인다")
+    void loadRoots_masksSecretComments() {
+        when(commentRepository.findRootRowsAfter(eq(1L), eq(null), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(row(10L, null, 100L, true))));
+        when(commentRepository.countRepliesByParentIdIn(List.of(10L))).thenReturn(List.of());
+
+        CommentResponseDTO forOwner = commentPageLoader.loadRoots(1L, 100L, null, 20).content().get(0);
+        CommentResponseDTO forOther = commentPageLoader.loadRoots(1L, 200L, null, 20).content().get(0);
+
+        assertThat(forOwner.getText()).isEqualTo("댓글 10");
+        assertThat(forOther.getText()).isEqualTo("비밀글입니다");
+        assertThat(forOther.getUserNickName()).isEqualTo("익명");
+        assertThat(forOther.getAccountId()).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글이 없으면 대댓글 수를 조회하지 않는다")
+    void loadRoots_empty() {
+        when(commentRepository.findRootRowsAfter(eq(1L), eq(null), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
+
+        CursorPageResponse<CommentResponseDTO> page = commentPageLoader.loadRoots(1L, null, null, 20);
+
+        assertThat(page.content()).isEmpty();
+        verify(commentRepository, never()).countRepliesByParentIdIn(any());
+    }
+
+    private CommentRowDTO row(Long id, Long parentId, Long accountId, boolean secret) {
+        return new CommentRowDTO(id, parentId, accountId, "user" + accountId, "댓글 " + id, secret,
+                LocalDateTime.of(2026, 10, 16, 12, 0));
+    }
+}
@@ -0,0 +1,209 @@
+package com.softwarecampus.backend.service.common;
+
+import com.softwarecampus.backend.repository.academy.AcademyRepository;
+import com.softwarecampus.backend.repository.banner.BannerRepository;
+import com.softwarecampus.backend.repository.course.CourseImageRepository;
+import com.softwarecampus.backend.repository.user.AccountRepository;
+import com.softwarecampus.backend.service.common.event.ImageUploadedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDerivativeProcessorTest {
+
+    @InjectMocks
+    private ImageDerivativeProcessor imageDerivativeProcessor;
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private CourseImageRepository courseImageRepository;
+
+    @Mock
+    private AcademyRepository academyRepository;
+
+    @Mock
+    private BannerRepository bannerRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Test
+    @DisplayName("원본을 너비 200/800px 이하로 축소해 원본 옆 키에 저장하고 엔티티에 기록한다")
+    void process_storesDerivativesAndRecordsKeys() throws IOException {
+        when(s3Service.downloadFile("course/a.jpg")).thenReturn(image(1600, 900, "jpg"));
+        when(courseImageRepository.updateImageDerivatives("course/a.jpg", "course/a_w200.jpg", "course/a_w800.jpg"))
+                .thenReturn(1);
+
+        assertThat(imageDerivativeProcessor.process(ImageTarget.COURSE_IMAGE, "course/a.jpg")).isEqualTo(1);
+
+        ArgumentCaptor<byte[]> small = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service).putBytes(eq("course/a_w200.jpg"), small.capture(), eq("image/jpeg"));
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(small.getValue()));
+        assertThat(decoded.getWidth()).isEqualTo(200);
+        assertThat(decoded.getHeight()).isEqualTo(113);
+        verify(s3Service).putBytes(eq("course/a_w800.jpg"), any(byte[].class), eq("image/jpeg"));
+    }
+
+    @Test
+    @DisplayName("PNG 원본은 PNG 로, 원본보다 큰 규격은 원본 크기로 만든다")
+    void process_pngKeepsFormatAndDoesNotUpscale() throws IOException {
+        when(s3Service.downloadFile("banner/b.png")).thenReturn(image(300, 100, "png"));
+        when(bannerRepository.updateImageDerivatives(anyString(), anyString(), anyString())).thenReturn(1);
+
+        imageDerivativeProcessor.process(ImageTarget.BANNER, "banner/b.png");
+
+        ArgumentCaptor<byte[]> medium = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service).putBytes(eq("banner/b_w800.png"), medium.capture(), eq("image/png"));
+        assertThat(ImageIO.read(new ByteArrayInputStream(medium.getValue())).getWidth()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("EXIF 방향(시계 방향 90도)이 있는 세로 사진은 회전을 적용한 뒤 축소한다")
+    void process_appliesExifOrientation() throws IOException {
+        // 저장된 픽셀은 가로 400x200 (왼쪽 빨강, 오른쪽 파랑), 표시 방향은 세로
+        BufferedImage stored = new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = stored.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 200, 200);
+        g.setColor(Color.BLUE);
+        g.fillRect(200, 0, 200, 200);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(stored, "jpg", out);
+        when(s3Service.downloadFile("profile/e.jpg")).thenReturn(withExifOrientation(out.toByteArray(), 6));
+        when(accountRepository.updateImageDerivatives(anyString(), anyString(), anyString())).thenReturn(1);
+
+        imageDerivativeProcessor.process(ImageTarget.ACCOUNT_PROFILE, "profile/e.jpg");
+
+        ArgumentCaptor<byte[]> medium = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service).putBytes(eq("profile/e_w800.jpg"), medium.capture(), eq("image/jpeg"));
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(medium.getValue()));
+        assertThat(decoded.getWidth()).isEqualTo(200);
+        assertThat(decoded.getHeight()).isEqualTo(400);
+        // 시계 방향 회전: 왼쪽(빨강)이 위로, 오른쪽(파랑)이 아래로
+        assertThat(new Color(decoded.getRGB(100, 50)).getRed()).isGreaterThan(200);
+        assertThat(new Color(decoded.getRGB(100, 350)).getBlue()).isGreaterThan(200);
+    }
+
+    @Test
+    @DisplayName("작업 큐가 가득 차면 보류했다가 큐에 여유가 생기면 다시 제출한다")
+    void onImageUploaded_defersWhenQueueFull() throws Exception {
+        ReflectionTestUtils.setField(imageDerivativeProcessor, "enabled", true);
+        ReflectionTestUtils.setField(imageDerivativeProcessor, "threads", 1);
+        ReflectionTestUtils.setField(imageDerivativeProcessor, "queueCapacity", 1);
+        ReflectionTestUtils.setField(imageDerivativeProcessor, "deferredCapacity", 10);
+        imageDerivativeProcessor.start();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(s3Service.downloadFile(anyString())).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "not an image".getBytes();
+        });
+
+        try {
+            // 1건 처리 중, 1건 대기, 1건 보류
+            imageDerivativeProcessor.onImageUploaded(ImageUploadedEvent.of(ImageTarget.BANNER, "banner/1.jpg"));
+            running.await(5, TimeUnit.SECONDS);
+            imageDerivativeProcessor.onImageUploaded(ImageUploadedEvent.of(ImageTarget.BANNER, "banner/2.jpg"));
+            imageDerivativeProcessor.onImageUploaded(ImageUploadedEvent.of(ImageTarget.BANNER, "banner/3.jpg"));
+            assertThat(imageDerivativeProcessor.deferredCount()).isEqualTo(1);
+            assertThat(imageDerivativeProcessor.retryDeferred()).isZero();
+
+            release.countDown();
+            verify(s3Service, timeout(5000)).downloadFile("banner/2.jpg"); // 대기 작업이 큐에서 빠짐
+            assertThat(imageDerivativeProcessor.retryDeferred()).isEqualTo(1);
+            verify(s3Service, timeout(5000)).downloadFile("banner/3.jpg");
+            assertThat(imageDerivativeProcessor.deferredCount()).isZero();
+        } finally {
+            imageDerivativeProcessor.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("처리 중 원본이 교체되어 기록할 엔티티가 없으면 만든 파생본을 삭제한다")
+    void process_discardsWhenOriginalReplaced() throws IOException {
+        when(s3Service.downloadFile("academy/1/profile/c.jpg")).thenReturn(image(400, 400, "jpg"));
+        when(academyRepository.updateImageDerivatives(anyString(), anyString(), anyString())).thenReturn(0);
+
+        assertThat(imageDerivativeProcessor.process(ImageTarget.ACADEMY_LOGO, "academy/1/profile/c.jpg")).isZero();
+
+        verify(s3Service).deleteFile("academy/1/profile/c_w200.jpg");
+        verify(s3Service).deleteFile("academy/1/profile/c_w800.jpg");
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 파일은 파생본을 만들지 않는다")
+    void process_skipsUndecodable() throws IOException {
+        when(s3Service.downloadFile("profile/d.webp")).thenReturn("not an image".getBytes());
+
+        assertThat(imageDerivativeProcessor.process(ImageTarget.ACCOUNT_PROFILE, "profile/d.webp")).isZero();
+
+        verify(s3Service, never()).putBytes(anyString(), any(byte[].class), anyString());
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    @DisplayName("파생본 키 규칙 - 이미지가 아니거나 이미 파생본인 키는 대상이 아니다")
+    void imageVariant_keys() {
+        assertThat(ImageVariant.SMALL.derivativeKey("course/uuid.JPEG")).isEqualTo("course/uuid_w200.jpg");
+        assertThat(ImageVariant.MEDIUM.derivativeKey("course/uuid.gif")).isEqualTo("course/uuid_w800.png");
+        assertThat(ImageVariant.SMALL.derivativeKey("board/file.pdf")).isNull();
+        assertThat(ImageVariant.SMALL.derivativeKey("course/uuid_w200.jpg")).isNull();
+        assertThat(ImageVariant.SMALL.derivativeKey("course.v2/uuid")).isNull();
+        assertThat(ImageVariant.fromHint("Medium")).isEqualTo(ImageVariant.MEDIUM);
+        assertThatThrownBy(() -> ImageVariant.fromHint("huge")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * JPEG 의 SOI 바로 뒤에 방향 태그만 담은 APP1(Exif) 세그먼트 삽입
+     */
+    private byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] app1 = {
+                (byte) 0xFF, (byte) 0xE1, 0, 34,
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,            // TIFF 헤더 (big endian, IFD0 오프셋 8)
+                0, 1,                                   // IFD0 항목 수
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0, // Orientation (SHORT)
+                0, 0, 0, 0                              // 다음 IFD 없음
+        };
+        byte[] result = new byte[jpeg.length + app1.length];
+        System.arraycopy(jpeg, 0, result, 0, 2);
+        System.arraycopy(app1, 0, result, 2, app1.length);
+        System.arraycopy(jpeg, 2, result, 2 + app1.length, jpeg.length - 2);
+        return result;
+    }
+
+    private byte[] image(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height,
+                "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,262 @@
+package com.softwarecampus.backend.service.common;
+
+import com.softwarecampus.backend.service.common.event.StorageObjectDeletedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PublicFileCacheTest {
+
+    @InjectMocks
+    private PublicFileCache publicFileCache;
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(publicFileCache, "enabled", true);
+        ReflectionTestUtils.setField(publicFileCache, "memoryMaxSize", DataSize.ofBytes(10));
+        ReflectionTestUtils.setField(publicFileCache, "memoryMaxObjectSize", DataSize.ofBytes(4));
+        ReflectionTestUtils.setField(publicFileCache, "diskDirectory", tempDir);
+        ReflectionTestUtils.setField(publicFileCache, "diskMaxSize", DataSize.ofBytes(100));
+        ReflectionTestUtils.setField(publicFileCache, "diskMaxObjectSize", DataSize.ofBytes(50));
+        lenient().when(listenerContainerProvider.getIfAvailable()).thenReturn(listenerContainer);
+        lenient().when(listenerContainer.isListening()).thenReturn(true);
+        publicFileCache.start();
+        publicFileCache.onChannelSubscribed(PublicFileCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), 1);
+    }
+
+    @Test
+    @DisplayName("작은 객체는 메모리 계층에 적재되고 두 번째 조회부터 스토리지를 호출하지 않는다")
+    void get_memoryTier() {
+        when(s3Service.openDownloadStream("profile/a.jpg", null, null)).thenReturn(object("abcd", "image/jpeg"));
+
+        PublicFileCache.CachedFile first = publicFileCache.get("profile/a.jpg").orElseThrow();
+        PublicFileCache.CachedFile second = publicFileCache.get("profile/a.jpg").orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.inMemory()).isTrue();
+        assertThat(first.contentType()).isEqualTo("image/jpeg");
+        verify(s3Service, times(1)).openDownloadStream("profile/a.jpg", null, null);
+        assertThat(publicFileCache.getStats().memoryHits()).isEqualTo(1L);
+        assertThat(publicFileCache.getStats().misses()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("큰 객체는 디스크 계층에 적재되고, 삭제 이벤트로 파일까지 제거된다")
+    void get_diskTier_evictedOnDelete() throws Exception {
+        when(s3Service.openDownloadStream("board/b.pdf", null, null))
+                .thenReturn(object("0123456789", "application/pdf"));
+
+        PublicFileCache.CachedFile file = publicFileCache.get("board/b.pdf").orElseThrow();
+
+        assertThat(file.inMemory()).isFalse();
+        assertThat(Files.readString(file.path())).isEqualTo("0123456789");
+        assertThat(publicFileCache.getStats().diskBytes()).isEqualTo(10L);
+
+        publicFileCache.release(file);
+        publicFileCache.onStorageObjectDeleted(StorageObjectDeletedEvent.of("board/b.pdf"));
+
+        assertThat(Files.exists(file.path())).isFalse();
+        assertThat(publicFileCache.getStats().diskEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송 중인 디스크 파일은 색인에서 빠져도 마지막 전송이 끝날 때까지 삭제되지 않는다")
+    void get_diskTier_pinnedUntilReleased() throws Exception {
+        when(s3Service.openDownloadStream("board/e.pdf", null, null))
+                .thenReturn(object("0123456789", "application/pdf"));
+
+        PublicFileCache.CachedFile first = publicFileCache.get("board/e.pdf").orElseThrow();
+        PublicFileCache.CachedFile second = publicFileCache.get("board/e.pdf").orElseThrow();
+        publicFileCache.evict("board/e.pdf");
+
+        publicFileCache.release(first);
+        assertThat(Files.readString(second.path())).isEqualTo("0123456789");
+
+        publicFileCache.release(second);
+        assertThat(Files.exists(second.path())).isFalse();
+    }
+
+    @Test
+    @DisplayName("디스크 객체 상한을 넘는 객체는 캐시하지 않고, 이후 요청은 스토리지 조회 없이 우회한다")
+    void get_oversizedBypass() {
+        when(s3Service.openDownloadStream("course/c.mp4", null, null))
+                .thenReturn(object("x".repeat(60), "video/mp4"));
+
+        assertThat(publicFileCache.get("course/c.mp4")).isEmpty();
+        assertThat(publicFileCache.get("course/c.mp4")).isEmpty();
+
+        verify(s3Service, times(1)).openDownloadStream("course/c.mp4", null, null);
+        assertThat(publicFileCache.getStats().bypasses()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("기록된 크기가 디스크 객체 상한을 넘으면 다운로드하지 않고 우회한다")
+    void get_oversizedByRecordedSize_skipsDownload() {
+        when(s3Service.getFileSize("course/big.mp4")).thenReturn(60L);
+
+        assertThat(publicFileCache.get("course/big.mp4")).isEmpty();
+        assertThat(publicFileCache.get("course/big.mp4")).isEmpty();
+
+        verify(s3Service, times(1)).getFileSize("course/big.mp4");
+        verify(s3Service, never()).openDownloadStream(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("적재 없는 조회는 미적중 시 스토리지를 호출하지 않고, 적중 시에만 캐시된 객체를 돌려준다")
+    void getCached_doesNotLoadOnMiss() {
+        when(s3Service.openDownloadStream("profile/r.jpg", null, null)).thenReturn(object("rrrr", "image/jpeg"));
+
+        assertThat(publicFileCache.getCached("profile/r.jpg")).isEmpty();
+        verify(s3Service, never()).openDownloadStream(any(), any(), any());
+
+        PublicFileCache.CachedFile loaded = publicFileCache.get("profile/r.jpg").orElseThrow();
+        assertThat(publicFileCache.getCached("profile/r.jpg")).containsSame(loaded);
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트는 채널로 발행되고, 다른 인스턴스는 메시지를 받아 자신의 캐시를 지운다")
+    void onStorageObjectDeleted_evictsOtherInstances() {
+        PublicFileCache other = new PublicFileCache(s3Service, redisTemplate, listenerContainerProvider);
+        ReflectionTestUtils.setField(other, "enabled", true);
+        ReflectionTestUtils.setField(other, "memoryMaxSize", DataSize.ofBytes(10));
+        ReflectionTestUtils.setField(other, "memoryMaxObjectSize", DataSize.ofBytes(4));
+        ReflectionTestUtils.setField(other, "diskMaxSize", DataSize.ofBytes(0));
+        ReflectionTestUtils.setField(other, "diskMaxObjectSize", DataSize.ofBytes(0));
+        other.start();
+        other.onChannelSubscribed(PublicFileCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), 1);
+        doAnswer(invocation -> {
+            DefaultMessage message = new DefaultMessage(
+                    PublicFileCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    invocation.<String>getArgument(1).getBytes(StandardCharsets.UTF_8));
+            publicFileCache.onMessage(message, null);
+            other.onMessage(message, null);
+            return 1L;
+        }).when(redisTemplate).convertAndSend(eq(PublicFileCache.INVALIDATION_CHANNEL), anyString());
+        when(s3Service.openDownloadStream("profile/x.jpg", null, null))
+                .thenReturn(object("xxxx", "image/jpeg"), object("xxxx", "image/jpeg"));
+        publicFileCache.get("profile/x.jpg");
+        other.get("profile/x.jpg");
+
+        publicFileCache.onStorageObjectDeleted(StorageObjectDeletedEvent.of("profile/x.jpg"));
+
+        assertThat(publicFileCache.getCached("profile/x.jpg")).isEmpty();
+        assertThat(other.getCached("profile/x.jpg")).isEmpty();
+        assertThat(other.getStats().memoryEntries()).isZero();
+    }
+
+    @Test
+    @DisplayName("무효화 채널 구독이 끊기면 캐시를 비우고 스토리지에서 직접 제공한다")
+    void get_bypassesWhileUnsubscribed() {
+        when(s3Service.openDownloadStream("profile/u.jpg", null, null)).thenReturn(object("uuuu", "image/jpeg"));
+        publicFileCache.get("profile/u.jpg");
+
+        publicFileCache.onChannelUnsubscribed(PublicFileCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), 0);
+
+        assertThat(publicFileCache.get("profile/u.jpg")).isEmpty();
+        assertThat(publicFileCache.getStats().memoryEntries()).isZero();
+        verify(s3Service, times(1)).openDownloadStream("profile/u.jpg", null, null);
+    }
+
+    @Test
+    @DisplayName("메모리 총량을 넘으면 가장 오래 사용하지 않은 객체부터 제거한다")
+    void get_memoryLruEviction() {
+        when(s3Service.openDownloadStream("profile/1.jpg", null, null)).thenReturn(object("1111", "image/jpeg"));
+        when(s3Service.openDownloadStream("profile/2.jpg", null, null)).thenReturn(object("2222", "image/jpeg"));
+        when(s3Service.openDownloadStream("profile/3.jpg", null, null)).thenReturn(object("3333", "image/jpeg"));
+
+        publicFileCache.get("profile/1.jpg");
+        publicFileCache.get("profile/2.jpg");
+        publicFileCache.get("profile/1.jpg");
+        publicFileCache.get("profile/3.jpg");
+
+        assertThat(publicFileCache.getStats().memoryEntries()).isEqualTo(2L);
+        assertThat(publicFileCache.getStats().evictions()).isEqualTo(1L);
+        publicFileCache.get("profile/1.jpg");
+        verify(s3Service, times(1)).openDownloadStream("profile/1.jpg", null, null);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미적중은 스토리지를 한 번만 조회한다")
+    void get_singleFlight() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(s3Service.openDownloadStream("profile/d.jpg", null, null)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return object("dddd", "image/jpeg");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<PublicFileCache.CachedFile>> owner = executor.submit(() -> publicFileCache.get("profile/d.jpg"));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<Optional<PublicFileCache.CachedFile>> waiter = executor.submit(() -> publicFileCache.get("profile/d.jpg"));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(owner.get(5, TimeUnit.SECONDS)).isPresent();
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isPresent();
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(s3Service, times(1)).openDownloadStream("profile/d.jpg", null, null);
+    }
+
+    private Optional<ResponseInputStream<GetObjectResponse>> object(String content, String contentType) {
+        byte[] bytes = content.getBytes();
+        GetObjectResponse response = GetObjectResponse.builder()
+                .contentType(contentType)
+                .contentLength((long) bytes.length)
+                .eTag("\"" + content.hashCode() + "\"")
+                .build();
+        return Optional.of(new ResponseInputStream<>(response,
+                AbortableInputStream.create(new ByteArrayInputStream(bytes))));
+    }
+}
@@ -0,0 +1,162 @@
+package com.softwarecampus.backend.service.common;
+
+import com.softwarecampus.backend.domain.common.StorageObjectMetadata;
+import com.softwarecampus.backend.exception.S3UploadException;
+import com.softwarecampus.backend.service.common.event.StorageObjectDeletedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3AsyncServiceTest {
+
+    @InjectMocks
+    private S3AsyncService s3AsyncService;
+
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StorageMetadataRegistry metadataRegistry;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(s3AsyncService, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(s3AsyncService, "callbackThreads", 2);
+        ReflectionTestUtils.setField(s3AsyncService, "callbackQueueCapacity", 10);
+        s3AsyncService.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        s3AsyncService.stop();
+    }
+
+    @Test
+    @DisplayName("여러 파일 크기를 동시에 조회하고, 실패한 키는 0 으로 반환한다")
+    void getFileSizes_fansOutHeads() {
+        when(s3AsyncClient.headObject(argThat((HeadObjectRequest r) -> r != null && "board/a.png".equals(r.key()))))
+                .thenReturn(CompletableFuture.completedFuture(HeadObjectResponse.builder().contentLength(10L).build()));
+        when(s3AsyncClient.headObject(argThat((HeadObjectRequest r) -> r != null && "board/b.png".equals(r.key()))))
+                .thenReturn(CompletableFuture.failedFuture(NoSuchKeyException.builder().message("missing").build()));
+
+        Map<String, Long> sizes = s3AsyncService
+                .getFileSizes(List.of("board/a.png", "board/b.png", "board/a.png", "../x"))
+                .join();
+
+        assertThat(sizes).containsExactly(
+                Map.entry("board/a.png", 10L), Map.entry("board/b.png", 0L), Map.entry("../x", 0L));
+        verify(s3AsyncClient, times(2)).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("기록된 메타데이터가 있는 키는 HEAD 요청을 보내지 않는다")
+    void getFileSizes_usesRecordedMetadata() {
+        StorageObjectMetadata metadata = mock(StorageObjectMetadata.class);
+        when(metadata.getSize()).thenReturn(7L);
+        when(metadataRegistry.findAll(List.of("board/a.png", "board/b.png")))
+                .thenReturn(Map.of("board/a.png", metadata));
+        when(s3AsyncClient.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(HeadObjectResponse.builder().contentLength(3L).build()));
+
+        Map<String, Long> sizes = s3AsyncService.getFileSizes(List.of("board/a.png", "board/b.png")).join();
+
+        assertThat(sizes).containsExactly(Map.entry("board/a.png", 7L), Map.entry("board/b.png", 3L));
+        verify(s3AsyncClient, times(1)).headObject(any(HeadObjectRequest.class));
+        verify(metadataRegistry).record("board/b.png", 3L, null, null, null);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 1000개 단위 요청을 동시에 보내고 성공한 키만 삭제 이벤트를 발행한다")
+    void deleteFiles_batchesAndReportsFailures() {
+        List<String> keys = IntStream.range(0, 1001).mapToObj(i -> "academy/f" + i + ".pdf").toList();
+        when(s3AsyncClient.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DeleteObjectsResponse.builder()
+                        .errors(S3Error.builder().key("academy/f0.pdf").code("AccessDenied").build())
+                        .build()))
+                .thenReturn(CompletableFuture.failedFuture(S3Exception.builder().message("boom").build()));
+
+        Set<String> failed = s3AsyncService.deleteFiles(keys).join();
+
+        assertThat(failed).containsExactlyInAnyOrder("academy/f0.pdf", "academy/f1000.pdf");
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3AsyncClient, times(2)).deleteObjects(captor.capture());
+        assertThat(captor.getAllValues().get(0).delete().objects()).hasSize(1000);
+        verify(eventPublisher, times(999)).publishEvent(any(StorageObjectDeletedEvent.class));
+        verify(eventPublisher, never()).publishEvent(StorageObjectDeletedEvent.of("academy/f0.pdf"));
+        verify(metadataRegistry).restore(List.of("academy/f0.pdf", "academy/f1000.pdf"));
+    }
+
+    @Test
+    @DisplayName("단건 삭제 실패 시 S3UploadException 으로 완료된다")
+    void deleteFile_failureCompletesExceptionally() {
+        when(s3AsyncClient.deleteObject(any(DeleteObjectRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(S3Exception.builder().message("boom").build()));
+
+        assertThatThrownBy(() -> s3AsyncService.deleteFile("board/a.png").join())
+                .hasCauseInstanceOf(S3UploadException.class);
+        verifyNoInteractions(eventPublisher);
+        verify(metadataRegistry).restore(List.of("board/a.png"));
+    }
+
+    @Test
+    @DisplayName("업로드는 비동기 요청 본문으로 PUT 한다")
+    void putBytes_putsObject() {
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+        s3AsyncService.putBytes("course/a_w200.jpg", new byte[]{1, 2, 3}, "image/jpeg").join();
+
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3AsyncClient).putObject(captor.capture(), any(AsyncRequestBody.class));
+        assertThat(captor.getValue().bucket()).isEqualTo("test-bucket");
+        assertThat(captor.getValue().contentType()).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    @DisplayName("완료 후처리(메타데이터 기록)는 SDK 완료 스레드가 아닌 전용 스레드 풀에서 실행한다")
+    void putBytes_recordsMetadataOnCallbackExecutor() {
+        CompletableFuture<PutObjectResponse> sdkFuture = new CompletableFuture<>();
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenReturn(sdkFuture);
+        AtomicReference<String> recordThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            recordThread.set(Thread.currentThread().getName());
+            return null;
+        }).when(metadataRegistry).record(any(), anyLong(), any(), any(), any());
+
+        CompletableFuture<Void> result = s3AsyncService.putBytes("board/a.png", new byte[]{1}, "image/png");
+        sdkFuture.complete(PutObjectResponse.builder().eTag("e1").build());
+        result.join();
+
+        assertThat(recordThread.get()).startsWith("storage-async-callback-");
+        verify(metadataRegistry).record("board/a.png", 1L, "image/png", "e1", null);
+    }
+}
@@ -0,0 +1,129 @@
+package com.softwarecampus.backend.service.common;
+
+import com.softwarecampus.backend.exception.S3UploadException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3MultipartUploaderTest {
+
+    private static final int MB = 1024 * 1024;
+
+    @InjectMocks
+    private S3MultipartUploader multipartUploader;
+
+    @Mock
+    private S3Client s3Client;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(multipartUploader, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(multipartUploader, "enabled", true);
+        ReflectionTestUtils.setField(multipartUploader, "threshold", DataSize.ofMegabytes(16));
+        ReflectionTestUtils.setField(multipartUploader, "partSize", DataSize.ofMegabytes(5));
+        ReflectionTestUtils.setField(multipartUploader, "threads", 3);
+        ReflectionTestUtils.setField(multipartUploader, "maxAttempts", 3);
+        multipartUploader.start();
+
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        multipartUploader.stop();
+    }
+
+    @Test
+    @DisplayName("파트로 나누어 업로드하고 파트 번호 순서로 완료한다")
+    void upload_completesPartsInOrder() throws Exception {
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenAnswer(invocation -> UploadPartResponse.builder()
+                        .eTag("etag-" + invocation.<UploadPartRequest>getArgument(0).partNumber())
+                        .build());
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(CompleteMultipartUploadResponse.builder().eTag("\"etag-all-3\"").build());
+
+        String eTag = multipartUploader.upload("board/a.zip", "application/zip",
+                new ByteArrayInputStream(new byte[12 * MB]), 12L * MB);
+
+        assertThat(eTag).isEqualTo("\"etag-all-3\"");
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(captor.capture());
+        assertThat(captor.getValue().multipartUpload().parts())
+                .extracting(CompletedPart::partNumber, CompletedPart::eTag)
+                .containsExactly(
+                        tuple(1, "etag-1"),
+                        tuple(2, "etag-2"),
+                        tuple(3, "etag-3"));
+        assertThat(multipartUploader.getStats().parts()).isEqualTo(3L);
+        assertThat(multipartUploader.getStats().uploadedBytes()).isEqualTo(12L * MB);
+    }
+
+    @Test
+    @DisplayName("일시적 오류(5xx)는 파트 단위로 재시도한다")
+    void upload_retriesPart() throws Exception {
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().statusCode(503).build())
+                .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(CompleteMultipartUploadResponse.builder().eTag("etag-all-1").build());
+
+        multipartUploader.upload("board/b.zip", "application/zip", new ByteArrayInputStream(new byte[MB]), MB);
+
+        verify(s3Client, times(2)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3Client).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        assertThat(multipartUploader.getStats().partRetries()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("파트가 최종 실패하면 멀티파트 업로드를 중단한다")
+    void upload_abortsOnFailure() {
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().statusCode(403).build());
+
+        assertThatThrownBy(() -> multipartUploader.upload("board/c.zip", "application/zip",
+                new ByteArrayInputStream(new byte[12 * MB]), 12L * MB))
+                .isInstanceOf(S3UploadException.class);
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        assertThat(multipartUploader.getStats().failedUploads()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("입력이 선언한 크기보다 짧으면 중단한다")
+    void upload_abortsOnShortInput() {
+        lenient().when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+
+        assertThatThrownBy(() -> multipartUploader.upload("board/d.zip", "application/zip",
+                new ByteArrayInputStream(new byte[6 * MB]), 12L * MB))
+                .isInstanceOf(IOException.class);
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+}
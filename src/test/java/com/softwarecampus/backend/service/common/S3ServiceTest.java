@@ -1,6 +1,8 @@
 package com.softwarecampus.backend.service.common;
 
+import com.softwarecampus.backend.domain.common.StorageObjectMetadata;
 import com.softwarecampus.backend.exception.S3UploadException;
+import com.softwarecampus.backend.service.common.event.StorageObjectDeletedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,20 +10,40 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -30,8 +52,10 @@ import static org.mockito.Mockito.*;
  * 테스트 대상:
  * - uploadFile: 파일 업로드 후 key 반환
  * - deleteFile: key 기반 파일 삭제
+ * - deleteFiles: DeleteObjects 일괄 삭제
  * - validateFile: 파일 검증
  * - validateS3Key: S3 키 보안 검증
+ * - presignUpload / confirmUpload: 직접 업로드 URL 발급 및 HEAD 검증
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("S3Service 단위 테스트")
@@ -46,13 +70,23 @@ class S3ServiceTest {
         @Mock
         private S3Presigner s3Presigner;
 
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
+        @Mock
+        private S3MultipartUploader multipartUploader;
+
+        @Mock
+        private StorageMetadataRegistry metadataRegistry;
+
         private S3Service s3Service;
 
         private FileType.FileTypeConfig profileConfig;
 
         @BeforeEach
         void setUp() {
-                s3Service = new S3Service(s3Client, s3Presigner, fileType);
+                s3Service = new S3Service(s3Client, s3Presigner, fileType, eventPublisher, multipartUploader,
+                                metadataRegistry);
 
                 // @Value 필드 주입
                 ReflectionTestUtils.setField(s3Service, "bucketName", "test-bucket");
@@ -81,7 +115,7 @@ class S3ServiceTest {
                                 "image/jpeg",
                                 "test content".getBytes());
 
-                PutObjectResponse putObjectResponse = PutObjectResponse.builder().build();
+                PutObjectResponse putObjectResponse = PutObjectResponse.builder().eTag("\"abc123\"").build();
                 when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
                                 .thenReturn(putObjectResponse);
 
@@ -95,6 +129,75 @@ class S3ServiceTest {
                 assertThat(key).doesNotContain("https://"); // URL이 아닌 key여야 함
 
                 verify(s3Client, times(1)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+                verify(metadataRegistry).record(key, file.getSize(), "image/jpeg", "\"abc123\"", null);
+        }
+
+        @Test
+        @DisplayName("파일 업로드 - 임계값 이상은 멀티파트 업로드로 전달")
+        void testUploadFile_Multipart() throws IOException {
+                // given
+                MockMultipartFile file = new MockMultipartFile(
+                                "file",
+                                "large.png",
+                                "image/png",
+                                "large content".getBytes());
+                when(multipartUploader.supports(file.getSize())).thenReturn(true);
+
+                // when
+                String key = s3Service.uploadFile(file, "profile", FileType.FileTypeEnum.PROFILE);
+
+                // then
+                verify(multipartUploader).upload(eq(key), eq("image/png"), any(), eq(file.getSize()));
+                verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        }
+
+        @Test
+        @DisplayName("파일 업로드 - 중복 제거 사용 시 같은 내용이 있으면 업로드 사본을 지우고 기존 key 반환")
+        void testUploadFile_DedupReusesExisting() throws Exception {
+                // given
+                ReflectionTestUtils.setField(s3Service, "dedupEnabled", true);
+                byte[] content = "same certificate".getBytes();
+                MockMultipartFile file = new MockMultipartFile("file", "cert.jpg", "image/jpeg", content);
+                String expectedHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+
+                when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                                .thenAnswer(invocation -> consume(invocation.getArgument(1), null));
+                when(metadataRegistry.acquireDuplicate(expectedHash, "profile", "image/jpeg"))
+                                .thenReturn(Optional.of("profile/existing.jpg"));
+
+                // when
+                String key = s3Service.uploadFile(file, "profile", FileType.FileTypeEnum.PROFILE);
+
+                // then
+                assertThat(key).isEqualTo("profile/existing.jpg");
+                ArgumentCaptor<PutObjectRequest> uploaded = ArgumentCaptor.forClass(PutObjectRequest.class);
+                verify(s3Client).putObject(uploaded.capture(), any(RequestBody.class));
+                verify(s3Client).deleteObject(argThat((DeleteObjectRequest r) -> r != null
+                                && r.key().equals(uploaded.getValue().key())));
+                verify(metadataRegistry, never()).recordShared(any(), anyLong(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("파일 업로드 - 중복 제거 사용 시 새 내용은 해시와 함께 공유 객체로 기록")
+        void testUploadFile_DedupRecordsNewBlob() throws Exception {
+                // given
+                ReflectionTestUtils.setField(s3Service, "dedupEnabled", true);
+                byte[] content = "new content".getBytes();
+                MockMultipartFile file = new MockMultipartFile("file", "a.png", "image/png", content);
+                String expectedHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+
+                when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                                .thenAnswer(invocation -> consume(invocation.getArgument(1), "e"));
+                when(metadataRegistry.acquireDuplicate(expectedHash, "profile", "image/png"))
+                                .thenReturn(Optional.empty());
+
+                // when
+                String key = s3Service.uploadFile(file, "profile", FileType.FileTypeEnum.PROFILE);
+
+                // then
+                verify(metadataRegistry).recordShared(key, content.length, "image/png", "e", null,
+                                expectedHash, "profile");
+                verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
         }
 
         @Test
@@ -274,6 +377,21 @@ class S3ServiceTest {
                 DeleteObjectRequest request = captor.getValue();
                 assertThat(request.bucket()).isEqualTo("test-bucket");
                 assertThat(request.key()).isEqualTo("profile/test-file.jpg");
+                verify(eventPublisher).publishEvent(StorageObjectDeletedEvent.of(key));
+        }
+
+        @Test
+        @DisplayName("파일 삭제 - 다른 행이 참조 중인 공유 객체는 삭제하지 않음")
+        void testDeleteFile_SharedStillReferenced() {
+                // given
+                when(metadataRegistry.release(List.of("board/shared.pdf"))).thenReturn(Set.of("board/shared.pdf"));
+
+                // when
+                s3Service.deleteFile("board/shared.pdf");
+
+                // then
+                verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+                verifyNoInteractions(eventPublisher);
         }
 
         @Test
@@ -326,6 +444,268 @@ class S3ServiceTest {
                                 .hasMessageContaining("S3 파일 삭제에 실패했습니다");
         }
 
+        @Test
+        @DisplayName("파일 크기 조회 - 기록된 메타데이터가 있으면 HEAD 요청 생략")
+        void testGetFileSize_FromMetadata() {
+                // given
+                StorageObjectMetadata metadata = mock(StorageObjectMetadata.class);
+                when(metadata.getSize()).thenReturn(2048L);
+                when(metadataRegistry.find("board/a.png")).thenReturn(Optional.of(metadata));
+
+                // when & then
+                assertThat(s3Service.getFileSize("board/a.png")).isEqualTo(2048L);
+                verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+        }
+
+        @Test
+        @DisplayName("파일 크기 조회 - 기록이 없으면 HEAD 요청 후 기록")
+        void testGetFileSize_HeadOnMiss() {
+                // given
+                when(metadataRegistry.find("board/a.png")).thenReturn(Optional.empty());
+                when(s3Client.headObject(any(HeadObjectRequest.class)))
+                                .thenReturn(HeadObjectResponse.builder()
+                                                .contentLength(512L)
+                                                .contentType("image/png")
+                                                .eTag("\"e1\"")
+                                                .build());
+
+                // when & then
+                assertThat(s3Service.getFileSize("board/a.png")).isEqualTo(512L);
+                verify(metadataRegistry).record("board/a.png", 512L, "image/png", "\"e1\"", null);
+        }
+
+        @Test
+        @DisplayName("파일 크기 조회 실패 - getFileSize 는 0, findFileSize 는 빈 값으로 구분")
+        void testFindFileSize_Failure() {
+                // given
+                when(metadataRegistry.find("board/a.png")).thenReturn(Optional.empty());
+                when(s3Client.headObject(any(HeadObjectRequest.class)))
+                                .thenThrow(S3Exception.builder().statusCode(404).message("missing").build());
+
+                // when & then
+                assertThat(s3Service.findFileSize("board/a.png")).isEmpty();
+                assertThat(s3Service.getFileSize("board/a.png")).isZero();
+        }
+
+        @Test
+        @DisplayName("일괄 삭제 - 1000개 단위 DeleteObjects 요청으로 나누어 삭제")
+        void testDeleteFiles_Batches() {
+                // given
+                List<String> keys = IntStream.range(0, 1500)
+                                .mapToObj(i -> "board/file-" + i + ".pdf")
+                                .toList();
+                when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                                .thenReturn(DeleteObjectsResponse.builder().build());
+
+                // when
+                Set<String> failed = s3Service.deleteFiles(keys);
+
+                // then
+                assertThat(failed).isEmpty();
+                ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+                verify(s3Client, times(2)).deleteObjects(captor.capture());
+                assertThat(captor.getAllValues().get(0).delete().objects()).hasSize(1000);
+                assertThat(captor.getAllValues().get(1).delete().objects()).hasSize(500);
+                assertThat(captor.getAllValues().get(0).delete().quiet()).isTrue();
+                verify(eventPublisher, times(1500)).publishEvent(any(StorageObjectDeletedEvent.class));
+        }
+
+        @Test
+        @DisplayName("일괄 삭제 - 실패한 키와 잘못된 키를 반환하고 성공한 키만 삭제 이벤트 발행")
+        void testDeleteFiles_PartialFailure() {
+                // given
+                when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                                .thenReturn(DeleteObjectsResponse.builder()
+                                                .errors(S3Error.builder().key("board/b.pdf").code("AccessDenied").build())
+                                                .build());
+
+                // when
+                Set<String> failed = s3Service.deleteFiles(List.of("board/a.pdf", "board/b.pdf", "../etc/passwd"));
+
+                // then
+                assertThat(failed).containsExactlyInAnyOrder("board/b.pdf", "../etc/passwd");
+                verify(eventPublisher).publishEvent(StorageObjectDeletedEvent.of("board/a.pdf"));
+                verify(eventPublisher, never()).publishEvent(StorageObjectDeletedEvent.of("board/b.pdf"));
+                // 삭제에 실패한 키만 해제한 참조를 되돌림
+                verify(metadataRegistry).restore(List.of("board/b.pdf"));
+        }
+
+        @Test
+        @DisplayName("일괄 삭제 - 요청 자체가 실패하면 배치 전체를 실패로 반환")
+        void testDeleteFiles_RequestFailure() {
+                // given
+                when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+                                .thenThrow(S3Exception.builder().message("S3 delete error").build());
+
+                // when - 공유 객체 a 는 두 행이 참조
+                Set<String> failed = s3Service.deleteFiles(List.of("board/a.pdf", "board/a.pdf", "board/b.pdf"));
+
+                // then - 재시도 시 다시 해제되므로 행 수만큼 참조를 되돌림
+                assertThat(failed).containsExactlyInAnyOrder("board/a.pdf", "board/b.pdf");
+                verifyNoInteractions(eventPublisher);
+                verify(metadataRegistry).restore(List.of("board/a.pdf", "board/a.pdf", "board/b.pdf"));
+        }
+
+        @Test
+        @DisplayName("파일 스트림 열기 - Range/If-None-Match 를 GET 요청에 그대로 전달")
+        void testOpenDownloadStream_PassThroughHeaders() {
+                // given
+                ResponseInputStream<GetObjectResponse> stream = new ResponseInputStream<>(
+                                GetObjectResponse.builder().contentRange("bytes 0-3/18").build(),
+                                AbortableInputStream.create(new ByteArrayInputStream("test".getBytes())));
+                when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(stream);
+
+                // when
+                Optional<ResponseInputStream<GetObjectResponse>> result = s3Service.openDownloadStream(
+                                "profile/test-file.jpg", "bytes=0-3", "\"abc\"");
+
+                // then
+                assertThat(result).containsSame(stream);
+                ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+                verify(s3Client).getObject(captor.capture());
+                assertThat(captor.getValue().range()).isEqualTo("bytes=0-3");
+                assertThat(captor.getValue().ifNoneMatch()).isEqualTo("\"abc\"");
+        }
+
+        @Test
+        @DisplayName("파일 스트림 열기 - ETag 일치(304) 시 빈 결과")
+        void testOpenDownloadStream_NotModified() {
+                // given
+                when(s3Client.getObject(any(GetObjectRequest.class)))
+                                .thenThrow(S3Exception.builder().statusCode(304).build());
+
+                // when & then
+                assertThat(s3Service.openDownloadStream("profile/test-file.jpg", null, "\"abc\"")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("파일 스트림 열기 실패 - 범위 초과(416)는 범위 오류로 구분")
+        void testOpenDownloadStream_RangeNotSatisfiable() {
+                // given
+                when(s3Client.getObject(any(GetObjectRequest.class)))
+                                .thenThrow(S3Exception.builder().statusCode(416).build());
+
+                // when & then
+                assertThatThrownBy(() -> s3Service.openDownloadStream("profile/test-file.jpg", "bytes=100-", null))
+                                .isInstanceOf(S3UploadException.class)
+                                .extracting("reason")
+                                .isEqualTo(S3UploadException.FailureReason.RANGE_NOT_SATISFIABLE);
+        }
+
+        @Test
+        @DisplayName("직접 업로드 URL 발급 - Content-Type/크기/업로더 메타데이터를 서명에 포함")
+        void testPresignUpload_Success() throws Exception {
+                // given
+                ReflectionTestUtils.setField(s3Service, "uploadUrlTtl", Duration.ofMinutes(10));
+                PresignedPutObjectRequest presigned = mock(PresignedPutObjectRequest.class);
+                when(presigned.url()).thenReturn(new URL("https://storage.example.com/profile/x.jpg?X-Amz-Signature=s"));
+                when(presigned.expiration()).thenReturn(Instant.parse("2026-10-16T00:10:00Z"));
+                when(presigned.signedHeaders()).thenReturn(Map.of(
+                                "host", List.of("storage.example.com"),
+                                "content-length", List.of("1024"),
+                                "content-type", List.of("image/jpeg")));
+                when(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).thenReturn(presigned);
+
+                // when
+                S3Service.PresignedUpload upload = s3Service.presignUpload(
+                                "profile", FileType.FileTypeEnum.PROFILE, "내 사진.jpg", "image/jpeg", 1024L, 7L);
+
+                // then
+                assertThat(upload.key()).startsWith("profile/").endsWith(".jpg");
+                assertThat(upload.headers()).containsOnlyKeys("content-type");
+                ArgumentCaptor<PutObjectPresignRequest> captor = ArgumentCaptor.forClass(PutObjectPresignRequest.class);
+                verify(s3Presigner).presignPutObject(captor.capture());
+                PutObjectRequest put = captor.getValue().putObjectRequest();
+                assertThat(put.key()).isEqualTo(upload.key());
+                assertThat(put.contentLength()).isEqualTo(1024L);
+                assertThat(put.metadata()).containsEntry("uploader-id", "7").containsEntry("file-type", "PROFILE");
+        }
+
+        @Test
+        @DisplayName("직접 업로드 URL 발급 실패 - 정책 위반은 서명 전에 거부")
+        void testPresignUpload_FileSizeExceeded() {
+                // when & then
+                assertThatThrownBy(() -> s3Service.presignUpload(
+                                "profile", FileType.FileTypeEnum.PROFILE, "a.jpg", "image/jpeg", 6_000_000L, 7L))
+                                .isInstanceOf(S3UploadException.class)
+                                .extracting("reason")
+                                .isEqualTo(S3UploadException.FailureReason.FILE_TOO_LARGE);
+                verifyNoInteractions(s3Presigner);
+        }
+
+        @Test
+        @DisplayName("직접 업로드 확정 - HEAD 메타데이터로 업로더/크기/형식 검증")
+        void testConfirmUpload_Success() {
+                // given
+                when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(head(7L, "image/jpeg", 2048L));
+
+                // when
+                S3Service.UploadedObject uploaded = s3Service.confirmUpload(
+                                "profile/x.jpg", "profile", FileType.FileTypeEnum.PROFILE, 7L);
+
+                // then
+                assertThat(uploaded.originalFilename()).isEqualTo("내 사진.jpg");
+                assertThat(uploaded.contentLength()).isEqualTo(2048L);
+                verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+        }
+
+        @Test
+        @DisplayName("직접 업로드 확정 실패 - 다른 사용자의 업로드는 삭제하지 않고 거부")
+        void testConfirmUpload_OtherUploader() {
+                // given
+                when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(head(8L, "image/jpeg", 2048L));
+
+                // when & then
+                assertThatThrownBy(() -> s3Service.confirmUpload(
+                                "profile/x.jpg", "profile", FileType.FileTypeEnum.PROFILE, 7L))
+                                .isInstanceOf(S3UploadException.class)
+                                .extracting("reason")
+                                .isEqualTo(S3UploadException.FailureReason.VALIDATION_ERROR);
+                verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+        }
+
+        @Test
+        @DisplayName("직접 업로드 확정 실패 - 정책을 벗어난 객체는 삭제")
+        void testConfirmUpload_PolicyViolationDeletes() {
+                // given
+                when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(head(7L, "text/html", 2048L));
+
+                // when & then
+                assertThatThrownBy(() -> s3Service.confirmUpload(
+                                "profile/x.jpg", "profile", FileType.FileTypeEnum.PROFILE, 7L))
+                                .isInstanceOf(S3UploadException.class)
+                                .extracting("reason")
+                                .isEqualTo(S3UploadException.FailureReason.INVALID_FILE_TYPE);
+                verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
+        }
+
+        @Test
+        @DisplayName("직접 업로드 확정 실패 - 업로드되지 않은 객체(404)")
+        void testConfirmUpload_NotFound() {
+                // given
+                when(s3Client.headObject(any(HeadObjectRequest.class)))
+                                .thenThrow(NoSuchKeyException.builder().statusCode(404).build());
+
+                // when & then
+                assertThatThrownBy(() -> s3Service.confirmUpload(
+                                "profile/x.jpg", "profile", FileType.FileTypeEnum.PROFILE, 7L))
+                                .isInstanceOf(S3UploadException.class)
+                                .extracting("reason")
+                                .isEqualTo(S3UploadException.FailureReason.RESOURCE_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("직접 업로드 확정 실패 - 허용 폴더 밖의 키")
+        void testConfirmUpload_WrongFolder() {
+                // when & then
+                assertThatThrownBy(() -> s3Service.confirmUpload(
+                                "board/x.jpg", "profile", FileType.FileTypeEnum.PROFILE, 7L))
+                                .isInstanceOf(S3UploadException.class)
+                                .extracting("reason")
+                                .isEqualTo(S3UploadException.FailureReason.VALIDATION_ERROR);
+                verifyNoInteractions(s3Client);
+        }
+
         @Test
         @DisplayName("S3 키 검증 - 정상 키")
         void testValidateS3Key_Valid() throws Exception {
@@ -411,4 +791,23 @@ class S3ServiceTest {
                                 .isInstanceOf(S3UploadException.class)
                                 .hasMessageContaining("S3 키가 비어있습니다");
         }
+
+        private HeadObjectResponse head(Long uploaderId, String contentType, long contentLength) {
+                return HeadObjectResponse.builder()
+                                .contentType(contentType)
+                                .contentLength(contentLength)
+                                .metadata(Map.of(
+                                                "uploader-id", String.valueOf(uploaderId),
+                                                "file-type", "PROFILE",
+                                                "original-filename", URLEncoder.encode("내 사진.jpg", StandardCharsets.UTF_8)))
+                                .build();
+        }
+
+        // 실제 클라이언트처럼 요청 본문을 끝까지 읽음 (전송 중 해시 계산 검증용)
+        private PutObjectResponse consume(RequestBody body, String eTag) throws IOException {
+                try (var in = body.contentStreamProvider().newStream()) {
+                        in.readAllBytes();
+                }
+                return PutObjectResponse.builder().eTag(eTag).build();
+        }
 }
@@ -0,0 +1,90 @@
+package com.softwarecampus.backend.service.course;
+
+import com.softwarecampus.backend.dto.course.CourseSearchDocumentDTO;
+import com.softwarecampus.backend.repository.course.CourseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseSearchIndexTest {
+
+    @InjectMocks
+    private CourseSearchIndex courseSearchIndex;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(courseSearchIndex, "maxStalenessSeconds", 600L);
+        courseSearchIndex.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        courseSearchIndex.stop();
+    }
+
+    @Test
+    @DisplayName("기동 직후 전용 스레드에서 전체 빌드하고, 이후 검색은 빌드를 다시 하지 않는다")
+    void buildOnStartup_buildsInBackground() {
+        when(courseRepository.findSearchDocuments())
+                .thenReturn(List.of(new CourseSearchDocumentDTO(1L, "자바 백엔드", "캠퍼스", "웹개발", "서울")));
+
+        courseSearchIndex.buildOnStartup();
+
+        verify(courseRepository, timeout(5000)).findSearchDocuments();
+        assertThat(courseSearchIndex.search("백엔드")).containsExactly(1L);
+        verify(courseRepository, times(1)).findSearchDocuments();
+    }
+
+    @Test
+    @DisplayName("색인이 만료되면 재빌드는 백그라운드에서 한 번만 하고, 그동안 검색은 기존 색인으로 즉시 처리한다")
+    void search_servesOldIndexWhileRebuilding() throws InterruptedException {
+        CountDownLatch rebuildStarted = new CountDownLatch(1);
+        CountDownLatch releaseRebuild = new CountDownLatch(1);
+        when(courseRepository.findSearchDocuments())
+                .thenReturn(List.of(new CourseSearchDocumentDTO(1L, "자바 백엔드", "캠퍼스", "웹개발", "서울")))
+                .thenAnswer(invocation -> {
+                    rebuildStarted.countDown();
+                    releaseRebuild.await(5, TimeUnit.SECONDS);
+                    return List.of(new CourseSearchDocumentDTO(2L, "파이썬 백엔드", "캠퍼스", "웹개발", "부산"));
+                });
+        assertThat(courseSearchIndex.search("백엔드")).containsExactly(1L);
+
+        ReflectionTestUtils.setField(courseSearchIndex, "maxStalenessSeconds", 0L);
+        assertThat(courseSearchIndex.search("백엔드")).containsExactly(1L);
+        assertThat(rebuildStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        // 재빌드가 끝나지 않아도 검색은 기존 색인으로 응답하고 재빌드를 추가로 예약하지 않음
+        assertThat(courseSearchIndex.search("백엔드")).containsExactly(1L);
+        verify(courseRepository, times(2)).findSearchDocuments();
+
+        ReflectionTestUtils.setField(courseSearchIndex, "maxStalenessSeconds", 600L);
+        releaseRebuild.countDown();
+        verify(courseRepository, timeout(5000).times(2)).findSearchDocuments();
+        await(() -> courseSearchIndex.search("백엔드").equals(List.of(2L)));
+        assertThat(courseSearchIndex.search("백엔드")).containsExactly(2L);
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.softwarecampus.backend.service.course;
+
+import com.softwarecampus.backend.domain.course.Course;
+import com.softwarecampus.backend.domain.course.CourseReview;
+import com.softwarecampus.backend.domain.course.CourseStats;
+import com.softwarecampus.backend.domain.course.ReviewSection;
+import com.softwarecampus.backend.domain.course.ReviewSectionType;
+import com.softwarecampus.backend.repository.course.CourseRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseStatsServiceImplTest {
+
+    @InjectMocks
+    private CourseStatsServiceImpl courseStatsService;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Test
+    @DisplayName("찜 추가/취소 시 찜 수만 1씩 증감한다")
+    void favoriteCount_delta() {
+        when(courseRepository.addStats(eq(1L), any())).thenReturn(1);
+        ArgumentCaptor<CourseStats> captor = ArgumentCaptor.forClass(CourseStats.class);
+
+        courseStatsService.increaseFavoriteCount(1L);
+        courseStatsService.decreaseFavoriteCount(1L);
+
+        verify(courseRepository, times(2)).addStats(eq(1L), captor.capture());
+        assertThat(captor.getAllValues()).extracting(CourseStats::getFavoriteCount)
+                .containsExactly(1L, -1L);
+        assertThat(captor.getAllValues()).extracting(CourseStats::getApprovedReviewCount)
+                .containsOnly(0L);
+    }
+
+    @Test
+    @DisplayName("승인 리뷰 반영 시 리뷰 수, 평균 점수 합, 섹션별 합계/개수를 증가시킨다")
+    void addApprovedReview_delta() {
+        CourseReview review = review(4, 2);
+        when(courseRepository.addStats(eq(1L), any())).thenReturn(1);
+        ArgumentCaptor<CourseStats> captor = ArgumentCaptor.forClass(CourseStats.class);
+
+        courseStatsService.addApprovedReview(review);
+
+        verify(courseRepository).addStats(eq(1L), captor.capture());
+        CourseStats delta = captor.getValue();
+        assertThat(delta.getApprovedReviewCount()).isEqualTo(1L);
+        assertThat(delta.getRatingSum()).isEqualTo(3.0);
+        assertThat(delta.getCurriculumScoreSum()).isEqualTo(4L);
+        assertThat(delta.getCurriculumScoreCount()).isEqualTo(1L);
+        assertThat(delta.getInstructorScoreSum()).isEqualTo(2L);
+        assertThat(delta.getInstructorScoreCount()).isEqualTo(1L);
+        assertThat(delta.getFavoriteCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("승인 리뷰 제외 시 반영했던 값과 같은 크기로 감소시킨다")
+    void removeApprovedReview_negatedDelta() {
+        CourseReview review = review(5, 3);
+        when(courseRepository.addStats(eq(1L), any())).thenReturn(1);
+        ArgumentCaptor<CourseStats> captor = ArgumentCaptor.forClass(CourseStats.class);
+
+        courseStatsService.removeApprovedReview(review);
+
+        verify(courseRepository).addStats(eq(1L), captor.capture());
+        CourseStats delta = captor.getValue();
+        assertThat(delta.getApprovedReviewCount()).isEqualTo(-1L);
+        assertThat(delta.getRatingSum()).isEqualTo(-4.0);
+        assertThat(delta.getCurriculumScoreSum()).isEqualTo(-5L);
+        assertThat(delta.getInstructorScoreCount()).isEqualTo(-1L);
+    }
+
+    private CourseReview review(int curriculumScore, int instructorScore) {
+        CourseReview review = CourseReview.builder()
+                .id(10L)
+                .course(Course.builder().id(1L).build())
+                .sections(new ArrayList<>())
+                .build();
+        review.getSections().addAll(List.of(
+                ReviewSection.builder().review(review)
+                        .sectionType(ReviewSectionType.CURRICULUM).score(curriculumScore).build(),
+                ReviewSection.builder().review(review)
+                        .sectionType(ReviewSectionType.INSTRUCTOR).score(instructorScore).build()));
+        return review;
+    }
+}
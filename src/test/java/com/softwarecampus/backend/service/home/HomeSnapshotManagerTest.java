@@ -0,0 +1,147 @@
+package com.softwarecampus.backend.service.home;
+
+import com.softwarecampus.backend.domain.course.CategoryType;
+import com.softwarecampus.backend.domain.course.Course;
+import com.softwarecampus.backend.domain.course.CourseCategory;
+import com.softwarecampus.backend.dto.home.HomeCourseDTO;
+import com.softwarecampus.backend.dto.home.HomeCourseRankDTO;
+import com.softwarecampus.backend.dto.home.HomeResponseDTO;
+import com.softwarecampus.backend.repository.course.CourseRepository;
+import com.softwarecampus.backend.service.course.event.CourseChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HomeSnapshotManagerTest {
+
+        @Mock
+        private CourseRepository courseRepository;
+
+        @InjectMocks
+        private HomeSnapshotManager homeSnapshotManager;
+
+        @BeforeEach
+        void setUp() {
+                ReflectionTestUtils.setField(homeSnapshotManager, "maxStalenessSeconds", 300L);
+                lenient().when(courseRepository.findByIdIn(anyCollection()))
+                                .thenAnswer(invocation -> {
+                                        Collection<Long> ids = invocation.getArgument(0);
+                                        return ids.stream().map(this::course).toList();
+                                });
+        }
+
+        @Test
+        @DisplayName("베스트 과정은 (찜 + 리뷰 수), 리뷰 수, ID 순으로 정렬된다")
+        void getHomePageData_sortsBestCourses() {
+                when(courseRepository.findHomeCourseRanks()).thenReturn(List.of(
+                                rank(1L, CategoryType.EMPLOYEE, null, 1, 1),
+                                rank(2L, CategoryType.EMPLOYEE, null, 0, 2),
+                                rank(3L, CategoryType.EMPLOYEE, null, 5, 0),
+                                rank(4L, CategoryType.JOB_SEEKER, null, 9, 9)));
+
+                HomeResponseDTO response = homeSnapshotManager.getHomePageData();
+
+                assertThat(response.getEmployeeBest()).extracting(HomeCourseDTO::getId)
+                                .containsExactly(3L, 2L, 1L);
+                assertThat(response.getJobSeekerBest()).extracting(HomeCourseDTO::getId)
+                                .containsExactly(4L);
+        }
+
+        @Test
+        @DisplayName("마감 임박 과정은 7일 이내 모집 종료 과정만 종료일 순으로 포함된다")
+        void getHomePageData_closingSoon() {
+                LocalDate today = LocalDate.now();
+                when(courseRepository.findHomeCourseRanks()).thenReturn(List.of(
+                                rank(1L, CategoryType.EMPLOYEE, today.plusDays(5), 0, 0),
+                                rank(2L, CategoryType.JOB_SEEKER, today.plusDays(1), 0, 0),
+                                rank(3L, CategoryType.EMPLOYEE, today.plusDays(8), 0, 0),
+                                rank(4L, CategoryType.EMPLOYEE, today.minusDays(1), 0, 0)));
+
+                HomeResponseDTO response = homeSnapshotManager.getHomePageData();
+
+                assertThat(response.getClosingSoon()).extracting(HomeCourseDTO::getId)
+                                .containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("변경이 없으면 두 번째 조회는 DB를 조회하지 않고 스냅샷을 반환한다")
+        void getHomePageData_servesFromMemory() {
+                when(courseRepository.findHomeCourseRanks()).thenReturn(List.of(
+                                rank(1L, CategoryType.EMPLOYEE, null, 1, 0)));
+
+                HomeResponseDTO first = homeSnapshotManager.getHomePageData();
+                HomeResponseDTO second = homeSnapshotManager.getHomePageData();
+
+                assertThat(second).isSameAs(first);
+                verify(courseRepository, times(1)).findHomeCourseRanks();
+                verify(courseRepository, times(1)).findByIdIn(anyCollection());
+        }
+
+        @Test
+        @DisplayName("과정 변경 이벤트 수신 시 해당 과정의 지표만 다시 조회하여 반영한다")
+        void onCourseChanged_refreshesOnlyChangedCourse() {
+                when(courseRepository.findHomeCourseRanks()).thenReturn(List.of(
+                                rank(1L, CategoryType.EMPLOYEE, null, 3, 0),
+                                rank(2L, CategoryType.EMPLOYEE, null, 1, 0)));
+                homeSnapshotManager.getHomePageData();
+
+                when(courseRepository.findHomeCourseRanksByIdIn(List.of(2L))).thenReturn(List.of(
+                                rank(2L, CategoryType.EMPLOYEE, null, 10, 0)));
+                homeSnapshotManager.onCourseChanged(CourseChangedEvent.of(2L, CourseChangedEvent.Type.FAVORITE));
+
+                HomeResponseDTO response = homeSnapshotManager.getHomePageData();
+
+                assertThat(response.getEmployeeBest()).extracting(HomeCourseDTO::getId)
+                                .containsExactly(2L, 1L);
+                verify(courseRepository, times(1)).findHomeCourseRanks();
+                verify(courseRepository).findHomeCourseRanksByIdIn(List.of(2L));
+        }
+
+        @Test
+        @DisplayName("승인 취소/삭제된 과정은 부분 갱신 시 스냅샷에서 제거된다")
+        void onCourseChanged_removesUnavailableCourse() {
+                when(courseRepository.findHomeCourseRanks()).thenReturn(List.of(
+                                rank(1L, CategoryType.EMPLOYEE, null, 3, 0),
+                                rank(2L, CategoryType.EMPLOYEE, null, 1, 0)));
+                homeSnapshotManager.getHomePageData();
+
+                when(courseRepository.findHomeCourseRanksByIdIn(List.of(1L))).thenReturn(List.of());
+                homeSnapshotManager.onCourseChanged(CourseChangedEvent.of(1L, CourseChangedEvent.Type.DELETED));
+
+                HomeResponseDTO response = homeSnapshotManager.getHomePageData();
+
+                assertThat(response.getEmployeeBest()).extracting(HomeCourseDTO::getId)
+                                .containsExactly(2L);
+        }
+
+        private HomeCourseRankDTO rank(Long id, CategoryType type, LocalDate recruitEnd, long favorites,
+                        long reviews) {
+                return new HomeCourseRankDTO(id, type, recruitEnd, favorites, reviews);
+        }
+
+        private Course course(Long id) {
+                return Course.builder()
+                                .id(id)
+                                .name("과정 " + id)
+                                .category(CourseCategory.builder()
+                                                .id(1L)
+                                                .categoryName("백엔드")
+                                                .categoryType(CategoryType.EMPLOYEE)
+                                                .build())
+                                .build();
+        }
+}
@@ -8,6 +8,7 @@ import com.softwarecampus.backend.dto.user.LoginResponse;
 import com.softwarecampus.backend.exception.user.InvalidCredentialsException;
 import com.softwarecampus.backend.repository.user.AccountRepository;
 import com.softwarecampus.backend.security.jwt.JwtTokenProvider;
+import com.softwarecampus.backend.service.auth.TokenVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -62,6 +63,9 @@ class LoginServiceImplTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private TokenVersionService tokenVersionService;
+
     @InjectMocks
     private LoginServiceImpl loginService;
 
@@ -114,7 +118,7 @@ class LoginServiceImplTest {
                 .thenReturn(Optional.of(activeUserAccount));
         when(passwordEncoder.matches(validRequest.password(), activeUserAccount.getPassword()))
                 .thenReturn(true);
-        when(jwtTokenProvider.generateToken(activeUserAccount.getEmail(), "USER"))
+        when(jwtTokenProvider.generateToken(eq(activeUserAccount.getEmail()), eq("USER"), eq(1L), eq("APPROVED"), anyLong()))
                 .thenReturn("access-token-123");
         when(jwtTokenProvider.getExpiration())
                 .thenReturn(180000L); // 3분 = 180,000 밀리초
@@ -134,7 +138,7 @@ class LoginServiceImplTest {
         // verify
         verify(accountRepository).findByEmailAndIsDeletedFalse(validRequest.email());
         verify(passwordEncoder).matches(validRequest.password(), activeUserAccount.getPassword());
-        verify(jwtTokenProvider).generateToken(activeUserAccount.getEmail(), "USER");
+        verify(jwtTokenProvider).generateToken(eq(activeUserAccount.getEmail()), eq("USER"), eq(1L), eq("APPROVED"), anyLong());
         verify(valueOperations).set(
                 eq("refresh:user@example.com"),
                 anyString(),
@@ -154,7 +158,7 @@ class LoginServiceImplTest {
                 .thenReturn(Optional.of(activeAcademyAccount));
         when(passwordEncoder.matches(academyRequest.password(), activeAcademyAccount.getPassword()))
                 .thenReturn(true);
-        when(jwtTokenProvider.generateToken(activeAcademyAccount.getEmail(), "ACADEMY"))
+        when(jwtTokenProvider.generateToken(eq(activeAcademyAccount.getEmail()), eq("ACADEMY"), eq(2L), eq("APPROVED"), anyLong()))
                 .thenReturn("access-token-academy");
         when(jwtTokenProvider.getExpiration())
                 .thenReturn(180000L);
@@ -188,7 +192,7 @@ class LoginServiceImplTest {
 
         verify(accountRepository).findByEmailAndIsDeletedFalse(validRequest.email());
         verify(passwordEncoder, never()).matches(anyString(), anyString());
-        verify(jwtTokenProvider, never()).generateToken(anyString(), anyString());
+        verify(jwtTokenProvider, never()).generateToken(anyString(), anyString(), anyLong(), anyString(), anyLong());
     }
 
     @Test
@@ -206,7 +210,7 @@ class LoginServiceImplTest {
                 .hasMessage("이메일 또는 비밀번호가 올바르지 않습니다");
 
         verify(passwordEncoder).matches(validRequest.password(), activeUserAccount.getPassword());
-        verify(jwtTokenProvider, never()).generateToken(anyString(), anyString());
+        verify(jwtTokenProvider, never()).generateToken(anyString(), anyString(), anyLong(), anyString(), anyLong());
     }
 
     @Test
@@ -228,7 +232,7 @@ class LoginServiceImplTest {
 
         // 비밀번호 체크 전에 예외 발생하므로 호출되지 않음
         verify(passwordEncoder, never()).matches(anyString(), anyString());
-        verify(jwtTokenProvider, never()).generateToken(anyString(), anyString());
+        verify(jwtTokenProvider, never()).generateToken(anyString(), anyString(), anyLong(), anyString(), anyLong());
     }
 
     @Test
@@ -260,7 +264,7 @@ class LoginServiceImplTest {
                 .isInstanceOf(InvalidCredentialsException.class)
                 .hasMessage("승인 대기 중인 계정입니다");
 
-        verify(jwtTokenProvider, never()).generateToken(anyString(), anyString());
+        verify(jwtTokenProvider, never()).generateToken(anyString(), anyString(), anyLong(), anyString(), anyLong());
     }
 
     @Test
@@ -292,18 +296,20 @@ class LoginServiceImplTest {
                 .isInstanceOf(InvalidCredentialsException.class)
                 .hasMessage("승인이 거부된 계정입니다");
 
-        verify(jwtTokenProvider, never()).generateToken(anyString(), anyString());
+        verify(jwtTokenProvider, never()).generateToken(anyString(), anyString(), anyLong(), anyString(), anyLong());
     }
 
     @Test
     @DisplayName("JWT 토큰 발급 검증")
     void login_VerifyJwtTokenGeneration() {
         // given
+        when(tokenVersionService.currentVersion(activeUserAccount.getEmail()))
+                .thenReturn(3L);
         when(accountRepository.findByEmailAndIsDeletedFalse(validRequest.email()))
                 .thenReturn(Optional.of(activeUserAccount));
         when(passwordEncoder.matches(validRequest.password(), activeUserAccount.getPassword()))
                 .thenReturn(true);
-        when(jwtTokenProvider.generateToken(activeUserAccount.getEmail(), "USER"))
+        when(jwtTokenProvider.generateToken(eq(activeUserAccount.getEmail()), eq("USER"), eq(1L), eq("APPROVED"), anyLong()))
                 .thenReturn("access-token");
         when(jwtTokenProvider.getExpiration())
                 .thenReturn(180000L);
@@ -314,7 +320,10 @@ class LoginServiceImplTest {
         // then
         verify(jwtTokenProvider).generateToken(
                 eq(activeUserAccount.getEmail()),
-                eq("USER"));
+                eq("USER"),
+                eq(1L),
+                eq("APPROVED"),
+                eq(3L));
     }
 
     @Test
@@ -325,7 +334,7 @@ class LoginServiceImplTest {
                 .thenReturn(Optional.of(activeUserAccount));
         when(passwordEncoder.matches(validRequest.password(), activeUserAccount.getPassword()))
                 .thenReturn(true);
-        when(jwtTokenProvider.generateToken(anyString(), anyString()))
+        when(jwtTokenProvider.generateToken(anyString(), anyString(), anyLong(), anyString(), anyLong()))
                 .thenReturn("access-token");
         when(jwtTokenProvider.getExpiration())
                 .thenReturn(180000L);
@@ -349,7 +358,7 @@ class LoginServiceImplTest {
                 .thenReturn(Optional.of(activeUserAccount));
         when(passwordEncoder.matches(validRequest.password(), activeUserAccount.getPassword()))
                 .thenReturn(true);
-        when(jwtTokenProvider.generateToken(anyString(), anyString()))
+        when(jwtTokenProvider.generateToken(anyString(), anyString(), anyLong(), anyString(), anyLong()))
                 .thenReturn("access-token");
         when(jwtTokenProvider.getExpiration())
                 .thenReturn(180000L); // 밀리초
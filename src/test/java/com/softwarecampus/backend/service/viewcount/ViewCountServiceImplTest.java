@@ -0,0 +1,86 @@
+package com.softwarecampus.backend.service.viewcount;
+
+import com.softwarecampus.backend.repository.board.BoardRepository;
+import com.softwarecampus.backend.repository.course.CourseRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountServiceImplTest {
+
+    @InjectMocks
+    private ViewCountServiceImpl viewCountService;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Test
+    @DisplayName("누적된 조회수를 같은 증가량끼리 묶어 한 번에 반영한다")
+    void flush_groupsByDelta() {
+        viewCountService.increase(ViewCountTarget.COURSE, 1L);
+        viewCountService.increase(ViewCountTarget.COURSE, 2L);
+        viewCountService.increase(ViewCountTarget.COURSE, 3L);
+        viewCountService.increase(ViewCountTarget.COURSE, 3L);
+        when(courseRepository.increaseViewCount(anyCollection(), anyLong()))
+                .thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+
+        int updated = viewCountService.flush();
+
+        assertThat(updated).isEqualTo(3);
+        verify(courseRepository).increaseViewCount(
+                argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))), eq(1L));
+        verify(courseRepository).increaseViewCount(List.of(3L), 2L);
+        verifyNoInteractions(boardRepository);
+        assertThat(viewCountService.getPendingCount(ViewCountTarget.COURSE, 3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 전까지 누적분을 조회할 수 있고, 대상별로 분리된다")
+    void getPendingCount() {
+        viewCountService.increase(ViewCountTarget.BOARD, 10L);
+        viewCountService.increase(ViewCountTarget.BOARD, 10L);
+
+        assertThat(viewCountService.getPendingCount(ViewCountTarget.BOARD, 10L)).isEqualTo(2L);
+        assertThat(viewCountService.getPendingCount(ViewCountTarget.COURSE, 10L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 누적분을 복구하여 다음 주기에 재시도한다")
+    void flush_restoresOnFailure() {
+        viewCountService.increase(ViewCountTarget.BOARD, 10L);
+        when(boardRepository.increaseHits(anyCollection(), anyLong()))
+                .thenThrow(new RuntimeException("db down"))
+                .thenReturn(1);
+
+        assertThat(viewCountService.flush()).isZero();
+        assertThat(viewCountService.getPendingCount(ViewCountTarget.BOARD, 10L)).isEqualTo(1L);
+
+        assertThat(viewCountService.flush()).isEqualTo(1);
+        assertThat(viewCountService.getPendingCount(ViewCountTarget.BOARD, 10L)).isZero();
+        verify(boardRepository, times(2)).increaseHits(List.of(10L), 1L);
+    }
+
+    @Test
+    @DisplayName("누적분이 없으면 UPDATE 를 실행하지 않는다")
+    void flush_nothingPending() {
+        assertThat(viewCountService.flush()).isZero();
+        verifyNoInteractions(courseRepository, boardRepository);
+    }
+}
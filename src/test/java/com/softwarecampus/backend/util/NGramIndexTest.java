@@ -0,0 +1,111 @@
+package com.softwarecampus.backend.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * NGramIndex 단위 테스트
+ *
+ * 테스트 대상:
+ * - search(String keyword, int maxResults): 부분 일치 검색 및 순위
+ * - search(String keyword, int maxResults, int... fields): 필드 지정 검색
+ * - search(String keyword, int maxResults, LongPredicate filter, int... fields): 문서 조건 적용 검색
+ * - put/remove: 문서 교체 및 삭제
+ */
+@DisplayName("NGramIndex 단위 테스트")
+class NGramIndexTest {
+
+    private NGramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // 필드: 과정명, 기관명, 카테고리명, 지역
+        index = new NGramIndex(4, 2, 1, 1);
+        index.put(1L, "자바 스프링부트 백엔드 개발자 양성과정", "소프트웨어캠퍼스", "백엔드", "서울 강남구");
+        index.put(2L, "React 프론트엔드 부트캠프", "코딩아카데미", "프론트엔드", "부산");
+        index.put(3L, "AI 데이터 분석", "스프링아카데미", "데이터", "서울 마포구");
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열로 검색된다 (띄어쓰기 무시)")
+    void search_한글부분일치() {
+        assertThat(index.search("스프링부트", 10)).containsExactly(1L);
+        assertThat(index.search("양성", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("대소문자/전각 문자를 구분하지 않는다")
+    void search_정규화() {
+        assertThat(index.search("react", 10)).containsExactly(2L);
+        assertThat(index.search("ＲＥＡＣＴ", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("공백으로 구분된 토큰은 모두 포함되어야 한다 (AND)")
+    void search_토큰AND() {
+        assertThat(index.search("서울 데이터", 10)).containsExactly(3L);
+        assertThat(index.search("서울 프론트", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("과정명 일치가 기관명 일치보다 우선한다")
+    void search_필드가중치() {
+        assertThat(index.search("스프링", 10)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("검색 대상 필드를 지정하면 해당 필드에서만 일치를 찾는다")
+    void search_필드지정() {
+        // "스프링": 1번은 과정명, 3번은 기관명에 포함
+        assertThat(index.search("스프링", 10, 1)).containsExactly(3L);
+        assertThat(index.search("스프링", 10, 0, 1)).containsExactly(1L, 3L);
+        assertThat(index.search("서울", 10, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("문서 조건은 최대 결과 수로 자르기 전에 적용된다")
+    void search_조건필터() {
+        // "스프링" 순위: 1번(과정명) > 3번(기관명), 최대 1건이어도 조건에 맞는 3번이 반환됨
+        assertThat(index.search("스프링", 1, id -> id != 1L)).containsExactly(3L);
+        assertThat(index.search("스프링", 10, id -> false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("n-gram 은 모두 존재하지만 연속되지 않으면 일치하지 않는다")
+    void search_오탐제거() {
+        index.put(4L, "가나다 나다라", "", "", "");
+
+        // "가나다", "나다라" trigram 은 모두 존재하지만 "가나다라" 는 부분 문자열이 아님
+        assertThat(index.search("가나다라", 10)).isEmpty();
+        assertThat(index.search("다나다", 10)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("문서 교체/삭제 시 이전 내용으로는 검색되지 않는다")
+    void putAndRemove() {
+        index.put(2L, "Vue 프론트엔드 과정", "코딩아카데미", "프론트엔드", "부산");
+        assertThat(index.search("react", 10)).isEmpty();
+        assertThat(index.search("vue", 10)).containsExactly(2L);
+
+        index.remove(2L);
+        assertThat(index.search("vue", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("빈 검색어, 기호만 있는 검색어는 빈 결과를 반환한다")
+    void search_빈검색어() {
+        assertThat(index.search("   ", 10)).isEmpty();
+        assertThat(index.search("!!", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 결과 수를 넘지 않는다")
+    void search_최대결과수() {
+        assertThat(index.search("서울", 1)).hasSize(1);
+    }
+}
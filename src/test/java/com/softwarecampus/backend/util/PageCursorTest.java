@@ -0,0 +1,66 @@
+package com.softwarecampus.backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PageCursor 단위 테스트
+ *
+ * 테스트 대상:
+ * - encode/decode: 정렬 키 + ID 왕복 변환
+ * - 잘못된 커서 거부 (IllegalArgumentException → 400)
+ * - pageRequest: 페이지 크기 범위 제한
+ */
+@DisplayName("PageCursor 단위 테스트")
+class PageCursorTest {
+
+    @Test
+    @DisplayName("정렬 키와 ID 를 인코딩한 커서는 그대로 복원된다")
+    void encodeDecode() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 16, 12, 30, 15, 123_456_000);
+
+        String cursor = PageCursor.encode("latest", createdAt, 42L);
+        PageCursor decoded = PageCursor.decode(cursor, 3);
+
+        assertThat(cursor).doesNotContain("|", "=", "+", "/");
+        assertThat(decoded.getString(0)).isEqualTo("latest");
+        assertThat(decoded.getDateTime(1)).isEqualTo(createdAt);
+        assertThat(decoded.getLong(2)).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지(null)로 처리한다")
+    void decode_빈커서() {
+        assertThat(PageCursor.decode(null, 1)).isNull();
+        assertThat(PageCursor.decode(" ", 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException 을 던진다")
+    void decode_잘못된커서() {
+        assertThatThrownBy(() -> PageCursor.decode("***", 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(PageCursor.encode(1L, 2L), 3))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(PageCursor.encode("abc"), 1).getLong(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PageCursor.decode(PageCursor.encode("abc", 1L), 2).getDateTime(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 1 ~ MAX_SIZE 로 제한된다")
+    void pageRequest_크기제한() {
+        Pageable tooSmall = PageCursor.pageRequest(0);
+        Pageable tooLarge = PageCursor.pageRequest(1000);
+
+        assertThat(tooSmall.getPageSize()).isEqualTo(1);
+        assertThat(tooLarge.getPageSize()).isEqualTo(PageCursor.MAX_SIZE);
+        assertThat(tooLarge.getPageNumber()).isZero();
+    }
+}